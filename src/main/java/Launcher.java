@@ -1,11 +1,20 @@
 
+import duke.component.Console;
 import javafx.application.Application;
 
+import java.io.IOException;
+import java.util.Arrays;
+
 /**
  * A launcher class to workaround classpath issues.
+ * With --cli as the first argument, Duke runs in the console instead, and JavaFX is never loaded.
  */
 public class Launcher {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--cli")) {
+            Console.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         Application.launch(Main.class, args);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 import duke.component.Duke;
 import duke.component.Ui;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
@@ -90,5 +91,9 @@ public class MainWindow extends AnchorPane {
         Ui ui = new Ui();
         DialogBox welcomeDialog = DialogBox.getDukeDialog(ui.showWelcome(), dukeImage);
         dialogContainer.getChildren().addAll(welcomeDialog);
+
+        //Reminders arrive on a background thread, so they are added on the JavaFX thread
+        duke.addReminderListener(reminder -> Platform.runLater(() ->
+                dialogContainer.getChildren().add(DialogBox.getDukeDialog(reminder, dukeImage))));
     }
 }
\ No newline at end of file
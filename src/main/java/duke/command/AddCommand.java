@@ -3,10 +3,11 @@ package duke.command;
 import duke.component.Storage;
 import duke.component.TaskList;
 import duke.component.Ui;
-import duke.component.Statistics;
 import duke.exception.DukeException;
 import duke.task.Deadline;
 import duke.task.Event;
+import duke.task.Recurrence;
+import duke.task.Recurring;
 import duke.task.Task;
 import duke.task.Todo;
 
@@ -42,6 +43,16 @@ public class AddCommand extends Command {
      */
     private String type;
 
+    /**
+     * Rule of a recurring task, or null for other tasks.
+     */
+    private Recurrence recurrence;
+
+    /**
+     * Task number of the added task, or 0 if the command has not been executed.
+     */
+    private int addedTaskNum;
+
     /**
      * Initializes a new instance of DeadlineCommand.
      *
@@ -68,6 +79,24 @@ public class AddCommand extends Command {
         }
     }
 
+    /**
+     * Initializes a new instance of AddCommand for a recurring task.
+     *
+     * @param description Description of task.
+     * @param start       Date of the first occurrence, or null to start now.
+     * @param recurrence  Rule that gives the dates of the occurrences.
+     */
+    public AddCommand(String description, String start, Recurrence recurrence) {
+        this("R", false, description, start);
+        this.recurrence = recurrence;
+
+        if (start == null) {
+            //occurrences fall on whole minutes
+            long now = System.currentTimeMillis();
+            this.deadline = new Date(now - now % 60_000);
+        }
+    }
+
     /**
      * Adds Task object to TaskList and adds inputs to the File in Storage, and
      * prints response.
@@ -78,19 +107,23 @@ public class AddCommand extends Command {
      * @throws DukeException IOException if there is an error writing or reading file.
      */
     public String execute(TaskList taskList, Ui ui, Storage storage) throws DukeException {
-        storage.appendToFile(this.type, this.deadline, this.description);
+        storage.appendToFile(this.type, this.deadline, this.description, this.recurrence);
+        String sharedDescription = storage.internDescription(this.description);
         Task newTask = null;
 
         switch (this.type) {
         case ("D"):
-            newTask = new Deadline(this.description, this.deadline);
+            newTask = new Deadline(sharedDescription, this.deadline);
             break;
         case ("E"):
 
-            newTask = new Event(this.description, this.deadline);
+            newTask = new Event(sharedDescription, this.deadline);
             break;
         case ("T"):
-            newTask = new Todo(this.description);
+            newTask = new Todo(sharedDescription);
+            break;
+        case ("R"):
+            newTask = new Recurring(sharedDescription, this.deadline, this.recurrence);
             break;
         default:
             throw new AssertionError("Invalid task type");
@@ -103,14 +136,23 @@ public class AddCommand extends Command {
         //Assert that size of taskList increased by 1
         assert numTask == oldSize + 1 : "Task is not added to task list";
 
-        Statistics.incrementUncompleted();
+        storage.getStatistics().incrementUncompleted();
         storage.updateStatistics();
+        addedTaskNum = numTask;
 
         return ("Got it. I've added this task: \n" + "  "
                 + newTask + "Now you have "
                 + numTask + " tasks in the list.");
     }
 
+    /**
+     * Returns a DeleteCommand that deletes the added task.
+     *
+     * @return Inverse command, or null if the command has not been executed.
+     */
+    public Command getInverse() {
+        return addedTaskNum == 0 ? null : new DeleteCommand(addedTaskNum);
+    }
 
     /**
      * Returns a false to indicate program has not exited.
@@ -0,0 +1,109 @@
+package duke.command;
+
+import duke.component.Storage;
+import duke.component.TaskList;
+import duke.component.Ui;
+import duke.exception.DukeException;
+import duke.task.Task;
+
+import java.util.List;
+
+/**
+ * Represents user's delete commmand to chatbot for many tasks at once, such as 'delete 3,7,9-20'.
+ * The tasks are removed in one pass over the task list, so later tasks are renumbered once,
+ * and the text file and statistics are written once.
+ * The 'BulkDeleteCommand' class supports operators (i) executing the command,
+ * (ii) checking if the bot has exited its conversation with the user and
+ * (iii) giving the BulkRestoreCommand that reverses it.
+ */
+public class BulkDeleteCommand extends Command {
+
+    /**
+     * First and last task number of each range of tasks to be deleted, in increasing order.
+     */
+    private int[] taskNumRanges;
+
+    /**
+     * Task numbers of the tasks removed by the last execution, in increasing order.
+     */
+    private int[] removedTaskNums;
+
+    /**
+     * Tasks removed by the last execution, or null if the command has not been executed.
+     */
+    private List<Task> removedTasks;
+
+    /**
+     * Initializes a new instance of BulkDeleteCommand.
+     *
+     * @param taskNumRanges First and last task number of each range, in increasing order and not overlapping
+     */
+    public BulkDeleteCommand(int[] taskNumRanges) {
+        this.taskNumRanges = taskNumRanges;
+    }
+
+    /**
+     * Deletes the tasks from taskList and from text file.
+     *
+     * @param taskList List of the things user needs to do.
+     * @param ui       Interface that interacts with the user.
+     * @param storage  Stores the user input in a file.
+     * @throws DukeException If a task number is not in the list, or IOException when writing the file.
+     */
+    public String execute(TaskList taskList, Ui ui, Storage storage) throws DukeException {
+        int[] taskNums = expandTaskNums(taskNumRanges, taskList);
+
+        int numDone = 0;
+        for (int taskNum : taskNums) {
+            if (taskList.isTaskDone(taskNum)) {
+                numDone++;
+            }
+        }
+        int numNotDone = taskNums.length - numDone;
+
+        storage.getStatistics().add(-numDone, -numNotDone);
+        try {
+            storage.deleteTexts(taskNums);
+        } catch (DukeException e) {
+            storage.getStatistics().add(numDone, numNotDone);
+            throw e;
+        }
+        removedTasks = taskList.deleteTasks(taskNums);
+        removedTaskNums = taskNums;
+
+        StringBuilder result = new StringBuilder("Noted. I've removed ")
+                .append(taskNums.length)
+                .append(taskNums.length == 1 ? " task:\n" : " tasks:\n");
+        appendTasks(result, removedTasks);
+        result.append("Now you have ").append(taskList.size()).append(" tasks in the list.");
+
+        return result.toString();
+    }
+
+    /**
+     * Returns a BulkRestoreCommand that puts the removed tasks back at their positions.
+     *
+     * @return Inverse command, or null if the command has not been executed.
+     */
+    public Command getInverse() {
+        return removedTasks == null ? null : new BulkRestoreCommand(removedTaskNums, removedTasks);
+    }
+
+    /**
+     * Returns the approximate number of bytes the command takes, including its ranges of task numbers.
+     *
+     * @return Approximate size in bytes.
+     */
+    public int getSizeEstimate() {
+        return BASE_SIZE_ESTIMATE + 4 * taskNumRanges.length;
+    }
+
+    /**
+     * Returns a false to indicate program has not exited.
+     *
+     * @return false Program has not exited.
+     */
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -0,0 +1,149 @@
+package duke.command;
+
+import duke.component.Storage;
+import duke.component.TaskList;
+import duke.component.Ui;
+import duke.exception.DukeException;
+import duke.task.Recurring;
+import duke.task.Task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents user's "done" commmand to chatbot for many tasks at once, such as 'done 1-500' or 'done 3,7,9-20'.
+ * The tasks are marked in one pass over the task list, and the text file and statistics are written once.
+ * Recurring tasks are left as they are, since their occurrences are marked one at a time.
+ * The same command marks the tasks as not done again when it undoes itself.
+ * The 'BulkDoneCommand' class supports operators (i) executing the command,
+ * (ii) checking if the bot has exited its conversation with the user and
+ * (iii) giving the BulkDoneCommand that reverses it.
+ */
+public class BulkDoneCommand extends Command {
+
+    /**
+     * First and last task number of each range of tasks to be marked, in increasing order.
+     */
+    private int[] taskNumRanges;
+
+    /**
+     * Whether the tasks are marked as done, or as not done.
+     */
+    private boolean isDone;
+
+    /**
+     * Task numbers of the tasks the last execution changed, or null if the command has not been executed.
+     */
+    private int[] changedTaskNums;
+
+    /**
+     * Initializes a new instance of BulkDoneCommand.
+     *
+     * @param taskNumRanges First and last task number of each range, in increasing order and not overlapping
+     * @param isDone        Whether the tasks are marked as done, or as not done
+     */
+    public BulkDoneCommand(int[] taskNumRanges, boolean isDone) {
+        this.taskNumRanges = taskNumRanges;
+        this.isDone = isDone;
+    }
+
+    /**
+     * Marks the tasks in taskList, and their lines in text file, as done or not done.
+     *
+     * @param taskList List of the things user needs to do.
+     * @param ui       Interface that interacts with the user.
+     * @param storage  Stores the user input in a file.
+     * @throws DukeException If a task number is not in the list, or IOException when writing the file.
+     */
+    public String execute(TaskList taskList, Ui ui, Storage storage) throws DukeException {
+        int[] taskNums = expandTaskNums(taskNumRanges, taskList);
+
+        int[] changed = new int[taskNums.length];
+        int numChanged = 0;
+        int numRecurring = 0;
+        for (int taskNum : taskNums) {
+            if (taskList.isTaskDone(taskNum) == isDone) {
+                continue;
+            }
+            if (isDone && taskList.getTask(taskNum) instanceof Recurring) {
+                numRecurring++;
+                continue;
+            }
+            changed[numChanged++] = taskNum;
+        }
+        changed = Arrays.copyOf(changed, numChanged);
+
+        if (numChanged > 0) {
+            int change = isDone ? numChanged : -numChanged;
+            storage.getStatistics().add(change, -change);
+            try {
+                storage.updateTexts(changed, isDone);
+            } catch (DukeException e) {
+                storage.getStatistics().add(-change, change);
+                throw e;
+            }
+        }
+
+        List<Task> changedTasks = new ArrayList<>(numChanged);
+        //holding the list keeps snapshots from seeing only some of the tasks marked
+        synchronized (taskList) {
+            for (int taskNum : changed) {
+                if (isDone) {
+                    taskList.markTaskDone(taskNum);
+                } else {
+                    taskList.markTaskNotDone(taskNum);
+                }
+                changedTasks.add(taskList.getTask(taskNum));
+            }
+        }
+        changedTaskNums = changed;
+
+        StringBuilder result = new StringBuilder();
+        result.append(isDone ? "Nice! I've marked " : "OK, I've marked ")
+                .append(numChanged)
+                .append(numChanged == 1 ? " task as " : " tasks as ")
+                .append(isDone ? "done:\n" : "not done yet:\n");
+        appendTasks(result, changedTasks);
+        if (taskNums.length - numChanged - numRecurring > 0) {
+            result.append(taskNums.length - numChanged - numRecurring)
+                    .append(isDone ? " were already done.\n" : " were not done yet.\n");
+        }
+        if (numRecurring > 0) {
+            result.append(numRecurring).append(" recurring tasks were left as they are; "
+                    + "mark their occurrences one task at a time.\n");
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns a BulkDoneCommand that marks the changed tasks the other way.
+     *
+     * @return Inverse command, or null if the last execution changed nothing.
+     */
+    public Command getInverse() {
+        if (changedTaskNums == null || changedTaskNums.length == 0) {
+            return null;
+        }
+        return new BulkDoneCommand(toTaskNumRanges(changedTaskNums), !isDone);
+    }
+
+    /**
+     * Returns the approximate number of bytes the command takes, including its ranges of task numbers.
+     *
+     * @return Approximate size in bytes.
+     */
+    public int getSizeEstimate() {
+        return BASE_SIZE_ESTIMATE + 4 * taskNumRanges.length;
+    }
+
+    /**
+     * Returns a false to indicate program has not exited.
+     *
+     * @return false Program has not exited.
+     */
+    public boolean isExit() {
+        return false;
+    }
+}
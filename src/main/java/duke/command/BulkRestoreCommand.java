@@ -0,0 +1,107 @@
+package duke.command;
+
+import duke.component.Storage;
+import duke.component.TaskList;
+import duke.component.Ui;
+import duke.exception.DukeException;
+import duke.task.Task;
+
+import java.util.List;
+
+/**
+ * Represents the reverse of a "delete" command for many tasks, used by undo and redo.
+ * The tasks are put back at their old positions, and the text file and statistics are written once.
+ * The 'BulkRestoreCommand' class supports operators (i) executing the command,
+ * (ii) checking if the bot has exited its conversation with the user and
+ * (iii) giving the BulkDeleteCommand that reverses it.
+ */
+public class BulkRestoreCommand extends Command {
+
+    /**
+     * Task numbers the tasks are restored to, in increasing order.
+     */
+    private int[] taskNums;
+
+    /**
+     * Tasks to be restored, in the order of their task numbers.
+     */
+    private List<Task> tasks;
+
+    /**
+     * Initializes a new instance of BulkRestoreCommand.
+     *
+     * @param taskNums Task numbers the tasks are restored to, in increasing order
+     * @param tasks    Tasks to be restored, in the order of their task numbers
+     */
+    public BulkRestoreCommand(int[] taskNums, List<Task> tasks) {
+        this.taskNums = taskNums;
+        this.tasks = tasks;
+    }
+
+    /**
+     * Inserts the tasks back into taskList and text file.
+     *
+     * @param taskList List of the things user needs to do.
+     * @param ui       Interface that interacts with the user.
+     * @param storage  Stores the user input in a file.
+     * @throws DukeException IOException if there is an error writing or reading file.
+     */
+    public String execute(TaskList taskList, Ui ui, Storage storage) throws DukeException {
+        int numDone = 0;
+        for (Task task : tasks) {
+            if (task.isDone()) {
+                numDone++;
+            }
+        }
+        int numNotDone = tasks.size() - numDone;
+
+        storage.getStatistics().add(numDone, numNotDone);
+        try {
+            storage.insertTexts(taskNums, tasks);
+        } catch (DukeException e) {
+            storage.getStatistics().add(-numDone, -numNotDone);
+            throw e;
+        }
+        taskList.insertTasks(taskNums, tasks);
+
+        StringBuilder result = new StringBuilder("OK, I've put ")
+                .append(tasks.size())
+                .append(tasks.size() == 1 ? " task back:\n" : " tasks back:\n");
+        appendTasks(result, tasks);
+        result.append("Now you have ").append(taskList.size()).append(" tasks in the list.");
+
+        return result.toString();
+    }
+
+    /**
+     * Returns a BulkDeleteCommand that removes the tasks again.
+     *
+     * @return Inverse command.
+     */
+    public Command getInverse() {
+        return new BulkDeleteCommand(toTaskNumRanges(taskNums));
+    }
+
+    /**
+     * Returns the approximate number of bytes the command takes, including its tasks.
+     *
+     * @return Approximate size in bytes.
+     */
+    public int getSizeEstimate() {
+        //a task holds a few objects plus two bytes per character of its description
+        int size = BASE_SIZE_ESTIMATE + 4 * taskNums.length;
+        for (Task task : tasks) {
+            size += 64 + 2 * task.getDescription().length();
+        }
+        return size;
+    }
+
+    /**
+     * Returns a false to indicate program has not exited.
+     *
+     * @return false Program has not exited.
+     */
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -3,15 +3,33 @@ package duke.command;
 import duke.component.Storage;
 import duke.component.TaskList;
 import duke.component.Ui;
+import duke.component.Workspace;
+import duke.component.WorkspaceManager;
 import duke.exception.DukeException;
+import duke.task.Task;
+
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Represents user commmands to chatbot.
- * The 'Command' class supports operators (i) executing the command
- * and (ii) checking if the bot has exited its conversation with the user.
+ * The 'Command' class supports operators (i) executing the command on a list, or on the current list of a user,
+ * (ii) checking if the bot has exited its conversation with the user,
+ * (iii) checking if it only reads the list, or only a snapshot of it, and
+ * (iv) giving the command that reverses its last execution, for undo.
  */
 public abstract class Command {
 
+    /**
+     * Approximate number of bytes taken by a command that holds no task.
+     */
+    protected static final int BASE_SIZE_ESTIMATE = 32;
+
+    /**
+     * Number of tasks shown in full in the response of a command that changes many tasks.
+     */
+    protected static final int MAX_TASKS_SHOWN = 10;
+
     /**
      * Executes the command and print out respecive reponse.
      *
@@ -22,10 +40,148 @@ public abstract class Command {
      */
     public abstract String execute(TaskList taskList, Ui ui, Storage storage) throws DukeException;
 
+    /**
+     * Executes the command on the current list of a user and records the change for undo.
+     * Commands that choose the list or use its history, such as "switch" and "undo", override this.
+     *
+     * @param workspaces Lists of the user
+     * @param ui         Interface that interacts with the user
+     * @return Response to the user
+     * @throws DukeException IOException if there is an error writing or reading file
+     */
+    public String execute(WorkspaceManager workspaces, Ui ui) throws DukeException {
+        Workspace workspace = workspaces.getCurrent();
+        String response = execute(workspace.getTaskList(), ui, workspace.getStorage());
+        workspace.getUndoHistory().record(this);
+        return response;
+    }
+
     /**
      * Returns a boolean value on whether the program has exited.
      *
      * @return boolean of whether program has exited
      */
     public abstract boolean isExit();
-}
\ No newline at end of file
+
+    /**
+     * Returns whether the command only reads the list, so it can run on the read-only copy kept by a follower.
+     *
+     * @return true if the command changes no list.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Returns whether the command only reads a snapshot of the list, so it can run while changes are
+     * applied to the list on another thread. Such a command must also be read-only.
+     *
+     * @return true if the command reads the tasks from a TaskSnapshot.
+     */
+    public boolean readsSnapshot() {
+        return false;
+    }
+
+    /**
+     * Returns the command that reverses the last execution of this command.
+     * Commands that change nothing, or have not been executed, return null.
+     *
+     * @return Inverse command, or null if there is nothing to undo.
+     */
+    public Command getInverse() {
+        return null;
+    }
+
+    /**
+     * Returns the approximate number of bytes the command takes while it is kept for undo.
+     *
+     * @return Approximate size in bytes.
+     */
+    public int getSizeEstimate() {
+        return BASE_SIZE_ESTIMATE;
+    }
+
+    /**
+     * Checks that ranges of task numbers, in increasing order, are all in a list.
+     *
+     * @param taskNumRanges First and last task number of each range.
+     * @param taskList      List of the things user needs to do.
+     * @throws DukeException If a task number is not in the list.
+     */
+    protected static void checkTaskNums(int[] taskNumRanges, TaskList taskList) throws DukeException {
+        for (int i = 0; i < taskNumRanges.length; i += 2) {
+            int first = taskNumRanges[i];
+            int last = taskNumRanges[i + 1];
+            if (first < 1) {
+                throw new DukeException(" OOPS!!! There is no task " + first + " in your list.");
+            }
+            if (last > taskList.size()) {
+                throw new DukeException(" OOPS!!! There is no task " + Math.max(first, taskList.size() + 1)
+                        + " in your list.");
+            }
+        }
+    }
+
+    /**
+     * Returns every task number in ranges of task numbers, once they are known to be in a list.
+     * Ranges are only expanded after the check, so a range far past the end of the list costs nothing.
+     *
+     * @param taskNumRanges First and last task number of each range, in increasing order and not overlapping.
+     * @param taskList      List of the things user needs to do.
+     * @return Task numbers in increasing order.
+     * @throws DukeException If a task number is not in the list.
+     */
+    protected static int[] expandTaskNums(int[] taskNumRanges, TaskList taskList) throws DukeException {
+        checkTaskNums(taskNumRanges, taskList);
+
+        int numTaskNums = 0;
+        for (int i = 0; i < taskNumRanges.length; i += 2) {
+            numTaskNums += taskNumRanges[i + 1] - taskNumRanges[i] + 1;
+        }
+        int[] taskNums = new int[numTaskNums];
+        int next = 0;
+        for (int i = 0; i < taskNumRanges.length; i += 2) {
+            for (int taskNum = taskNumRanges[i]; taskNum <= taskNumRanges[i + 1]; taskNum++) {
+                taskNums[next++] = taskNum;
+            }
+        }
+        return taskNums;
+    }
+
+    /**
+     * Returns the ranges of consecutive task numbers in task numbers given in increasing order.
+     *
+     * @param taskNums Task numbers in increasing order.
+     * @return First and last task number of each range.
+     */
+    protected static int[] toTaskNumRanges(int[] taskNums) {
+        int[] ranges = new int[2 * taskNums.length];
+        int numRanges = 0;
+        for (int i = 0; i < taskNums.length; i++) {
+            if (i > 0 && taskNums[i] == taskNums[i - 1] + 1) {
+                ranges[2 * numRanges - 1] = taskNums[i];
+            } else {
+                ranges[2 * numRanges] = taskNums[i];
+                ranges[2 * numRanges + 1] = taskNums[i];
+                numRanges++;
+            }
+        }
+        return Arrays.copyOf(ranges, 2 * numRanges);
+    }
+
+    /**
+     * Appends the first few of many tasks to a response, and how many more there are.
+     *
+     * @param result Response the tasks are appended to.
+     * @param tasks  Tasks.
+     */
+    protected static void appendTasks(StringBuilder result, List<Task> tasks) {
+        for (int i = 0; i < Math.min(tasks.size(), MAX_TASKS_SHOWN); i++) {
+            result.append(' ');
+            tasks.get(i).appendTo(result);
+        }
+        if (tasks.size() > MAX_TASKS_SHOWN) {
+            result.append(" ... and ").append(tasks.size() - MAX_TASKS_SHOWN).append(" more.\n");
+        }
+    }
+}
@@ -2,7 +2,6 @@ package duke.command;
 
 import duke.component.Storage;
 import duke.component.TaskList;
-import duke.component.Statistics;
 import duke.component.Ui;
 import duke.exception.DukeException;
 import duke.task.Task;
@@ -19,6 +18,11 @@ public class DeleteCommand extends Command {
      */
     int taskNum;
 
+    /**
+     * Task removed by the last execution, or null if the command has not been executed.
+     */
+    private Task removedTask;
+
     /**
      * Initializes a new instance of DeleteCommand, with the task number to delete.
      *
@@ -35,21 +39,18 @@ public class DeleteCommand extends Command {
      * @param taskList List of the things user needs to do.
      * @param ui       Interface that interacts with the user.
      * @param storage  Stores the user input in a file.
-     * @throws DukeException IOException if there is an error writing or reading file.
+     * @throws DukeException If the task number is not in the list, or there is an error writing or reading file.
      */
     public String execute(TaskList taskList, Ui ui, Storage storage) throws DukeException {
+        checkTaskNums(new int[] {taskNum, taskNum}, taskList);
         storage.deleteText(taskNum);
 
-        Task removedTask = taskList.deleteTask(taskNum);
+        removedTask = taskList.deleteTask(taskNum);
 
-        boolean isCompleted = removedTask.getStatusIcon().equals("v");
-
-        if(isCompleted) {
-            Statistics.decrementCompleted();
-        } else if(!isCompleted){
-            Statistics.decrementUncompleted();
+        if (removedTask.isDone()) {
+            storage.getStatistics().decrementCompleted();
         } else {
-            throw new DukeException("Deleted task is not properly marked as completed or not");
+            storage.getStatistics().decrementUncompleted();
         }
         storage.updateStatistics();
 
@@ -61,6 +62,15 @@ public class DeleteCommand extends Command {
 
     }
 
+    /**
+     * Returns a RestoreCommand that puts the removed task back at its position.
+     *
+     * @return Inverse command, or null if the command has not been executed.
+     */
+    public Command getInverse() {
+        return removedTask == null ? null : new RestoreCommand(taskNum, removedTask);
+    }
+
     /**
      * Returns a false to indicate program has not exited.
      *
@@ -1,12 +1,15 @@
 package duke.command;
 
-import duke.component.Statistics;
 import duke.component.Storage;
 import duke.component.TaskList;
 import duke.component.Ui;
 import duke.exception.DukeException;
+import duke.task.Recurring;
 import duke.task.Task;
 
+import java.util.Calendar;
+import java.util.Date;
+
 /**
  * Represents user's "done" commmand to chatbot.
  * The 'DoneCommand' class supports operators (i) executing the command
@@ -19,6 +22,16 @@ public class DoneCommand extends Command {
      */
     int taskNum;
 
+    /**
+     * Occurrence of a recurring task to be marked done, or null for the next pending occurrence.
+     */
+    private Date occurrence;
+
+    /**
+     * Whether the last execution changed the task.
+     */
+    private boolean isChanged;
+
     /**
      * Initializes a new instance of DoneCommand, with the task number to be marked done.
      *
@@ -28,6 +41,17 @@ public class DoneCommand extends Command {
         this.taskNum = taskNum;
     }
 
+    /**
+     * Initializes a new instance of DoneCommand that marks one occurrence of a recurring task as done.
+     *
+     * @param taskNum    Task number
+     * @param occurrence Date of the occurrence
+     */
+    public DoneCommand(int taskNum, Date occurrence) {
+        this.taskNum = taskNum;
+        this.occurrence = occurrence;
+    }
+
     /**
      * Marks respective task in taskList as done and task from text file to be 0.
      * Prints response in console.
@@ -35,14 +59,18 @@ public class DoneCommand extends Command {
      * @param taskList List of the things user needs to do.
      * @param ui       Interface that interacts with the user.
      * @param storage  Stores the user input in a file.
-     * @throws DukeException IOException if there is an error writing or reading file.
+     * @throws DukeException If the task number is not in the list, or there is an error writing or reading file.
      */
     public String execute(TaskList taskList, Ui ui, Storage storage) throws DukeException {
+        isChanged = false;
+        checkTaskNums(new int[] {taskNum, taskNum}, taskList);
+        if (taskList.getTask(taskNum) instanceof Recurring) {
+            return markOccurrenceDone(taskList, storage);
+        }
 
-        //Getting the original status icon of task
+        //Checking the done index of task
         //To check if task is already done before 'done' command is entered
-        String originalStatusIcon = taskList.getTask(taskNum).getStatusIcon();
-        boolean isAlreadyCompleted = originalStatusIcon.equals("v");
+        boolean isAlreadyCompleted = taskList.isTaskDone(taskNum);
 
         if (isAlreadyCompleted) {
             Task updatedTask = taskList.getTask(taskNum);
@@ -55,21 +83,63 @@ public class DoneCommand extends Command {
         Task updatedTask = taskList.getTask(taskNum);
 
         //Assert post condition
-        assert updatedTask.getStatusIcon().equals("v") : "Task is not marked as done";
+        assert updatedTask.isDone() : "Task is not marked as done";
 
 
         storage.updateText(taskNum);
 
 
-        Statistics.decrementUncompleted();
-        Statistics.incrementCompleted();
+        storage.getStatistics().decrementUncompleted();
+        storage.getStatistics().incrementCompleted();
         storage.updateStatistics();
+        isChanged = true;
 
         return ("Nice! I've marked this task as done: \n" + updatedTask);
 
 
     }
 
+    /**
+     * Marks an occurrence of a recurring task as done, by default the next pending one from the start of today.
+     * The occurrence is stored with the rule record; the series itself and the statistics are unchanged.
+     */
+    private String markOccurrenceDone(TaskList taskList, Storage storage) throws DukeException {
+        Recurring task = (Recurring) taskList.getTask(taskNum);
+
+        Calendar startOfToday = Calendar.getInstance();
+        startOfToday.set(Calendar.HOUR_OF_DAY, 0);
+        startOfToday.set(Calendar.MINUTE, 0);
+        startOfToday.set(Calendar.SECOND, 0);
+        startOfToday.set(Calendar.MILLISECOND, 0);
+        Calendar searchEnd = (Calendar) startOfToday.clone();
+        searchEnd.add(Calendar.YEAR, 1);
+
+        if (occurrence == null) {
+            occurrence = task.getNextPendingOccurrence(startOfToday.getTime(), searchEnd.getTime());
+        }
+        if (occurrence == null) {
+            return ("There is no pending occurrence of this task in the next year: \n" + task);
+        }
+
+        if (task.isOccurrenceDone(occurrence)) {
+            return ("Nice! I've marked this occurrence as done: \n" + task.toOccurrenceString(occurrence));
+        }
+        task = taskList.markOccurrenceDone(taskNum, occurrence);
+        storage.updateRecurring(taskNum, task);
+        isChanged = true;
+
+        return ("Nice! I've marked this occurrence as done: \n" + task.toOccurrenceString(occurrence));
+    }
+
+    /**
+     * Returns a NotDoneCommand that marks the task, or the occurrence, as not done again.
+     *
+     * @return Inverse command, or null if the last execution changed nothing.
+     */
+    public Command getInverse() {
+        return isChanged ? new NotDoneCommand(taskNum, occurrence) : null;
+    }
+
     /**
      * Returns a false to indicate program has not exited.
      *
@@ -0,0 +1,99 @@
+package duke.command;
+
+import duke.component.Storage;
+import duke.component.TaskList;
+import duke.component.Ui;
+
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Recurring;
+import duke.task.Task;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Represents user's 'due' commmand to chatbot.
+ * Lists the pending deadlines, events and occurrences of recurring tasks with a date in a range, in order of date.
+ * The 'DueCommand' class supports operators (i) executing the command
+ * and (ii) checking if the bot has exited its conversation with the user.
+ */
+public class DueCommand extends Command {
+
+    /**
+     * Earliest date of the range, inclusive.
+     */
+    private Date from;
+
+    /**
+     * Latest date of the range, inclusive.
+     */
+    private Date to;
+
+    /**
+     * Initializes a new instance of DueCommand.
+     *
+     * @param from Earliest date of the range, inclusive.
+     * @param to   Latest date of the range, inclusive.
+     */
+    public DueCommand(Date from, Date to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns the pending deadlines and events due in the range, found from the time index of the TaskList,
+     * merged with the occurrences of recurring tasks, which are expanded only within the range.
+     *
+     * @param taskList List of the things user needs to do.
+     * @param ui       Interface that interacts with the user.
+     * @param storage  Stores the user input in a file.
+     */
+    public String execute(TaskList taskList, Ui ui, Storage storage) {
+        TreeMap<Date, List<String>> rowsByDate = new TreeMap<>();
+
+        for (int taskNum : taskList.getTaskNumsDueBetween(this.from, this.to)) {
+            Task task = taskList.getTask(taskNum);
+            Date date = task instanceof Deadline ? ((Deadline) task).getDeadline() : ((Event) task).getTime();
+            rowsByDate.computeIfAbsent(date, d -> new ArrayList<>())
+                    .add(String.format("\n %d . %s", taskNum, task));
+        }
+
+        for (int taskNum : taskList.getRecurringTaskNums()) {
+            Recurring task = (Recurring) taskList.getTask(taskNum);
+            for (Date occurrence : task.getOccurrencesBetween(this.from, this.to)) {
+                if (!task.isOccurrenceDone(occurrence)) {
+                    rowsByDate.computeIfAbsent(occurrence, d -> new ArrayList<>())
+                            .add(String.format("\n %d . %s", taskNum, task.toOccurrenceString(occurrence)));
+                }
+            }
+        }
+
+        StringBuilder result = new StringBuilder("Here are the tasks due from " + this.from
+                + " to " + this.to + ":\n");
+        rowsByDate.values().forEach(rows -> rows.forEach(result::append));
+
+        return result.toString();
+    }
+
+    /**
+     * Returns a false to indicate program has not exited.
+     *
+     * @return false Program has not exited.
+     */
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Returns true as the command only reads the list.
+     *
+     * @return true Command changes no list
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -34,4 +34,14 @@ public class ExitCommand extends Command {
     public boolean isExit() {
         return true;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns true as the command only reads the list.
+     *
+     * @return true Command changes no list
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
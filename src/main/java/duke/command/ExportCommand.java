@@ -0,0 +1,94 @@
+package duke.command;
+
+import duke.component.Storage;
+import duke.component.TaskFormat;
+import duke.component.TaskList;
+import duke.component.TaskSnapshot;
+import duke.component.Ui;
+import duke.exception.DukeException;
+import duke.task.Task;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Represents user's 'export' commmand to chatbot.
+ * Writes every task to a CSV or JSON Lines file next to the text file, one task at a time,
+ * so the list is never held in memory as text. The tasks are read from a snapshot of the list,
+ * so the file holds one version of it even while the list is changed on another thread.
+ * The 'ExportCommand' class supports operators (i) executing the command
+ * and (ii) checking if the bot has exited its conversation with the user.
+ */
+public class ExportCommand extends Command {
+
+    /**
+     * Name of the file to export to.
+     */
+    private String fileName;
+
+    /**
+     * Initializes a new instance of ExportCommand.
+     *
+     * @param fileName Name of the file, ending in .csv or .jsonl.
+     */
+    public ExportCommand(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Writes every task in taskList to the file.
+     *
+     * @param taskList List of the things user needs to do.
+     * @param ui       Interface that interacts with the user.
+     * @param storage  Stores the user input in a file.
+     * @throws DukeException If the format is unknown or the file cannot be written.
+     */
+    public String execute(TaskList taskList, Ui ui, Storage storage) throws DukeException {
+        TaskFormat format = TaskFormat.of(fileName);
+        Path path = storage.getPath().resolveSibling(fileName);
+        TaskSnapshot snapshot = taskList.snapshot();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            format.writeHeader(writer);
+            for (Task task : snapshot.getTasks()) {
+                format.write(writer, task);
+            }
+        } catch (IOException e) {
+            throw new DukeException(" OOPS!!! " + fileName + " cannot be written.");
+        }
+
+        return ("Exported " + snapshot.size() + " tasks to " + fileName + ".");
+    }
+
+    /**
+     * Returns a false to indicate program has not exited.
+     *
+     * @return false Program has not exited.
+     */
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Returns true as the tasks are read from a snapshot of the list.
+     *
+     * @return true Command reads a snapshot
+     */
+    @Override
+    public boolean readsSnapshot() {
+        return true;
+    }
+
+    /**
+     * Returns true as the command only reads the list.
+     *
+     * @return true Command changes no list
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -6,11 +6,12 @@ import duke.component.Ui;
 import duke.exception.DukeException;
 
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Locale;
 
 /**
  * Represents user's 'find' commmand to chatbot.
  * Finds tasks with keyword in it, in the list of tasks.
+ * A fuzzy find instead finds tasks with words close to the words of the keyword, nearest first.
  * The 'findCommand' class supports operators (i) executing the command
  * and (ii) checking if the bot has exited its conversation with the user(in superclass).
  */
@@ -21,6 +22,16 @@ public class FindCommand extends Command {
      */
     String keyword;
 
+    /**
+     * Whether words close to the words of the keyword are found too.
+     */
+    private boolean isFuzzy;
+
+    /**
+     * Largest edit distance of a word found by a fuzzy find, or -1 to choose it from the length of each word.
+     */
+    private int maxDistance;
+
     /**
      * Initializes a new instance of FindCommand.
      *
@@ -30,9 +41,21 @@ public class FindCommand extends Command {
         this.keyword = keyword;
     }
 
+    /**
+     * Initializes a new instance of FindCommand that finds tasks with words close to the words of the keyword.
+     *
+     * @param keyword     Keyword to help find the task.
+     * @param maxDistance Largest edit distance of a matching word, or -1 to choose it from the length of each word.
+     */
+    public FindCommand(String keyword, int maxDistance) {
+        this.keyword = keyword;
+        this.isFuzzy = true;
+        this.maxDistance = maxDistance;
+    }
+
     /**
      * Finds a specific task with keyowrd from list of tasks,
-     * and prints result.
+     * and prints result. The result is reused if the list has not changed since the same find.
      *
      * @param taskList Stores the list of the tasks.
      * @param ui       Interface that interacts with the user.
@@ -40,22 +63,46 @@ public class FindCommand extends Command {
      * @throws DukeException IOException if there is an error writing or reading file.
      */
     public String execute(TaskList taskList, Ui ui, Storage storage) throws DukeException {
+        if (isFuzzy) {
+            //fuzzy finds ignore case and the spaces between words
+            String words = String.join(" ", this.keyword.trim().toLowerCase(Locale.ROOT).split("\\s+"));
+            return taskList.getCachedResult("find~" + this.maxDistance + " " + words, () -> findFuzzy(taskList));
+        }
+        return taskList.getCachedResult("find " + this.keyword, () -> findExact(taskList));
+    }
 
+    /**
+     * Returns the tasks that contain the keyword, numbered from 1.
+     */
+    private String findExact(TaskList taskList) {
         List<String> foundTasks = taskList.findTask(this.keyword);
 
         StringBuilder result = new StringBuilder("Here are the matching tasks in your list:\n");
 
-        //Solution adapted from https://stackoverflow.com/questions/18552005/is-there-a-concise-way-to-iterate-over-a-stream-with-indices-in-java-8
-        IntStream.rangeClosed(1, foundTasks.size())
-                .mapToObj(index -> String.format("\n %d . %s",
-                                           index, foundTasks.get(index - 1)))
-                .forEach(result::append);
+        for (int index = 1; index <= foundTasks.size(); index++) {
+            result.append("\n ").append(index).append(" . ").append(foundTasks.get(index - 1));
+        }
 
         return result.toString();
 
 
     }
 
+    /**
+     * Returns the tasks with words close to the keyword, nearest first, with their task numbers in the full list.
+     */
+    private String findFuzzy(TaskList taskList) {
+        List<Integer> taskNums = taskList.findTaskFuzzy(this.keyword, this.maxDistance);
+
+        StringBuilder result = new StringBuilder("Here are the closest matching tasks in your list:\n");
+        for (int taskNum : taskNums) {
+            result.append("\n ").append(taskNum).append(" . ");
+            taskList.getTask(taskNum).appendTo(result);
+        }
+
+        return result.toString();
+    }
+
     /**
      * Returns a false to indicate program has not exited.
      *
@@ -64,6 +111,14 @@ public class FindCommand extends Command {
     public boolean isExit() {
         return false;
     }
-}
-
 
+    /**
+     * Returns true as the command only reads the list.
+     *
+     * @return true Command changes no list
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
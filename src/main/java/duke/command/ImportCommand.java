@@ -0,0 +1,89 @@
+package duke.command;
+
+import duke.component.Storage;
+import duke.component.TaskFormat;
+import duke.component.TaskList;
+import duke.component.Ui;
+import duke.exception.DukeException;
+import duke.task.Task;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+
+/**
+ * Represents user's 'import' commmand to chatbot.
+ * Reads tasks from a CSV or JSON Lines file next to the text file, one line at a time, and adds them to the
+ * end of the list. The tasks are written to the text file through one Storage.Appender, so the whole import
+ * costs one sequential write and one update of the statistics.
+ * The 'ImportCommand' class supports operators (i) executing the command
+ * and (ii) checking if the bot has exited its conversation with the user.
+ */
+public class ImportCommand extends Command {
+
+    /**
+     * Name of the file to import from.
+     */
+    private String fileName;
+
+    /**
+     * Initializes a new instance of ImportCommand.
+     *
+     * @param fileName Name of the file, ending in .csv or .jsonl.
+     */
+    public ImportCommand(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Adds every task in the file to taskList and text file.
+     * If a line is not a valid task, the tasks before it are kept and the rest of the file is skipped.
+     *
+     * @param taskList List of the things user needs to do.
+     * @param ui       Interface that interacts with the user.
+     * @param storage  Stores the user input in a file.
+     * @throws DukeException If the format is unknown or the file cannot be read.
+     */
+    public String execute(TaskList taskList, Ui ui, Storage storage) throws DukeException {
+        TaskFormat format = TaskFormat.of(fileName);
+        int numImported = 0;
+        int lineNumber = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(storage.getPath().resolveSibling(fileName),
+                StandardCharsets.UTF_8);
+             Storage.Appender appender = storage.openAppender()) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                Task task = format.read(line);
+                if (task == null) {
+                    continue;
+                }
+                appender.append(task);
+                taskList.addTask(task);
+                numImported++;
+            }
+        } catch (NoSuchFileException e) {
+            throw new DukeException(" OOPS!!! " + fileName + " does not exist.");
+        } catch (IOException e) {
+            throw new DukeException(" OOPS!!! " + fileName + " cannot be read.");
+        } catch (DukeException e) {
+            return ("Imported " + numImported + " tasks, then stopped at line " + lineNumber + ":"
+                    + e.getMessage() + "\nNow you have " + taskList.size() + " tasks in the list.");
+        }
+
+        return ("Imported " + numImported + " tasks from " + fileName + ".\nNow you have "
+                + taskList.size() + " tasks in the list.");
+    }
+
+    /**
+     * Returns a false to indicate program has not exited.
+     *
+     * @return false Program has not exited.
+     */
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -1,42 +1,178 @@
 package duke.command;
 
+import duke.component.Statistics;
 import duke.component.Storage;
 import duke.component.TaskList;
-import duke.component.Statistics;
+import duke.component.TaskQuery;
+import duke.component.TaskSnapshot;
 import duke.component.Ui;
+import duke.task.Task;
 
-import java.util.stream.IntStream;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Represents user's list commmand to chatbot.
+ * The tasks can be sorted on a field and cut to the first few, which keeps only those few in a bounded
+ * heap instead of sorting the whole list.
  * The 'ListCommand' class supports operators (i) executing the command
  * and (ii) checking if the bot has exited its conversation with the user.
  */
 public class ListCommand extends Command {
 
+    /**
+     * Whether only done or only not done tasks are listed.
+     */
+    private boolean isFiltered;
+
+    /**
+     * Whether the done tasks are listed, when filtered.
+     */
+    private boolean isDone;
+
+    /**
+     * Query that sorts the tasks and keeps the first of them, or null to list them in order.
+     */
+    private TaskQuery query;
+
+    /**
+     * Heading of the sorted tasks, such as 'top 10 pending tasks in your list, sorted by due'.
+     */
+    private String heading;
+
+    /**
+     * Initializes a new instance of ListCommand that lists every task.
+     */
+    public ListCommand() {
+        this.isFiltered = false;
+    }
+
+    /**
+     * Initializes a new instance of ListCommand that lists only done or only not done tasks.
+     *
+     * @param isDone Whether to list the done tasks instead of the pending ones.
+     */
+    public ListCommand(boolean isDone) {
+        this.isFiltered = true;
+        this.isDone = isDone;
+    }
+
+    /**
+     * Initializes a new instance of ListCommand that lists the first tasks sorted on a field.
+     *
+     * @param isDone       Whether to list the done tasks, the pending ones, or all of them if null.
+     * @param sortField    Field the tasks are sorted on.
+     * @param isDescending Whether the tasks are sorted from the largest value.
+     * @param limit        Maximum number of tasks listed.
+     */
+    public ListCommand(Boolean isDone, TaskQuery.Field sortField, boolean isDescending, int limit) {
+        this.query = TaskQuery.sorted(isDone, sortField, isDescending, limit);
+
+        StringBuilder heading = new StringBuilder();
+        if (limit != Integer.MAX_VALUE) {
+            heading.append("top ").append(limit).append(' ');
+        }
+        if (isDone != null) {
+            heading.append(isDone ? "done " : "pending ");
+        }
+        heading.append("tasks in your list");
+        if (sortField != TaskQuery.Field.NUM || isDescending) {
+            heading.append(", sorted by ")
+                    .append(isDescending ? "-" : "")
+                    .append(sortField.name().toLowerCase(Locale.ROOT));
+        }
+        this.heading = heading.toString();
+    }
+
     /**
      * Prints out all the task that user has to do or has done.
-     * Tasks are retrieved from TaskList
+     * Tasks are retrieved from TaskList, or the response is reused if the list has not changed since.
      *
      * @param taskList List of the things user needs to do
      * @param ui       Interface that interacts with the user
      * @param storage  Stores the user input in a file
      */
     public String execute(TaskList taskList, Ui ui, Storage storage) {
+        if (query != null) {
+            return taskList.getCachedResult("list " + heading, () -> listSorted(taskList));
+        }
+        if (isFiltered) {
+            return taskList.getCachedResult(isDone ? "list done" : "list pending", () -> listFiltered(taskList));
+        }
+        TaskSnapshot snapshot = taskList.snapshot();
+        return taskList.getResultCache().get("list", snapshot.getVersion(), () -> listAll(snapshot));
+    }
 
+    /**
+     * Returns the statistics and every task with its task number, from a snapshot of the list,
+     * so every line is of the same version even while the list is changed on another thread.
+     */
+    private String listAll(TaskSnapshot snapshot) {
         StringBuilder result = new StringBuilder();
 
-        result.append(Statistics.toStatisticsString());
+        int numDone = snapshot.countDone();
+        result.append(new Statistics(numDone, snapshot.size() - numDone).toStatisticsString());
 
         result.append("Here are the tasks in your list:\n");
-        IntStream.rangeClosed(1, taskList.size())
-                .mapToObj(index -> String.format("\n %d . %s",
-                        index, taskList.getTask(index)))
-                .forEach(result::append);
+        int taskNum = 1;
+        for (Task task : snapshot.getTasks()) {
+            result.append("\n ").append(taskNum++).append(" . ");
+            task.appendTo(result);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns the first tasks of the sort with their task numbers in the full list.
+     */
+    private String listSorted(TaskList taskList) {
+        List<Integer> taskNums = query.run(taskList);
+
+        StringBuilder result = new StringBuilder();
+        result.append("Here are the ").append(heading).append(":\n");
+        for (int taskNum : taskNums) {
+            appendTask(result, taskNum, taskList);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns the done or pending tasks with their task numbers in the full list.
+     * The tasks are found from the done bitset of the TaskList, without reading every task.
+     */
+    private String listFiltered(TaskList taskList) {
+        int[] taskNums = taskList.getTaskNums(isDone);
+
+        StringBuilder result = new StringBuilder();
+        result.append("Here are the ")
+                .append(taskNums.length)
+                .append(isDone ? " done" : " pending")
+                .append(" tasks in your list:\n");
+        for (int taskNum : taskNums) {
+            appendTask(result, taskNum, taskList);
+        }
 
         return result.toString();
+    }
 
+    /**
+     * Appends a row of the list for a task straight to the result, without formatting it on its own first.
+     */
+    private static void appendTask(StringBuilder result, int taskNum, TaskList taskList) {
+        result.append("\n ").append(taskNum).append(" . ");
+        taskList.getTask(taskNum).appendTo(result);
+    }
 
+    /**
+     * Returns true when every task is listed, as the tasks are then read from a snapshot of the list.
+     *
+     * @return true if the command lists every task.
+     */
+    @Override
+    public boolean readsSnapshot() {
+        return query == null && !isFiltered;
     }
 
     /**
@@ -47,4 +183,14 @@ public class ListCommand extends Command {
     public boolean isExit() {
         return false;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns true as the command only reads the list.
+     *
+     * @return true Command changes no list
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
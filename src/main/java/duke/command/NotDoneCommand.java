@@ -0,0 +1,92 @@
+package duke.command;
+
+import duke.component.Storage;
+import duke.component.TaskList;
+import duke.component.Ui;
+import duke.exception.DukeException;
+import duke.task.Recurring;
+import duke.task.Task;
+
+import java.util.Date;
+
+/**
+ * Represents the reverse of a "done" command, used by undo and redo.
+ * The 'NotDoneCommand' class supports operators (i) executing the command,
+ * (ii) checking if the bot has exited its conversation with the user and
+ * (iii) giving the DoneCommand that reverses it.
+ */
+public class NotDoneCommand extends Command {
+
+    /**
+     * The task number to be marked not done.
+     */
+    private int taskNum;
+
+    /**
+     * Occurrence of a recurring task to be marked not done, or null to mark the whole task.
+     */
+    private Date occurrence;
+
+    /**
+     * Initializes a new instance of NotDoneCommand.
+     *
+     * @param taskNum    Task number
+     * @param occurrence Date of the occurrence of a recurring task, or null to mark the whole task
+     */
+    public NotDoneCommand(int taskNum, Date occurrence) {
+        this.taskNum = taskNum;
+        this.occurrence = occurrence;
+    }
+
+    /**
+     * Marks respective task in taskList as not done and task from text file to be 1.
+     *
+     * @param taskList List of the things user needs to do.
+     * @param ui       Interface that interacts with the user.
+     * @param storage  Stores the user input in a file.
+     * @throws DukeException If the task number is not in the list, or there is an error writing or reading file.
+     */
+    public String execute(TaskList taskList, Ui ui, Storage storage) throws DukeException {
+        if (occurrence != null) {
+            Recurring task = taskList.markOccurrenceNotDone(taskNum, occurrence);
+            storage.updateRecurring(taskNum, task);
+
+            return ("OK, I've marked this occurrence as not done yet: \n" + task.toOccurrenceString(occurrence));
+        }
+
+        checkTaskNums(new int[] {taskNum, taskNum}, taskList);
+        //an undo that failed part way is tried again, so a task already not done is left as it is
+        if (!taskList.isTaskDone(taskNum)) {
+            return ("OK, I've marked this task as not done yet: \n" + taskList.getTask(taskNum));
+        }
+
+        //the text file is written first, so a failed write leaves the list as it was
+        storage.updateText(taskNum, false);
+        taskList.markTaskNotDone(taskNum);
+
+        storage.getStatistics().decrementCompleted();
+        storage.getStatistics().incrementUncompleted();
+        storage.updateStatistics();
+
+        Task updatedTask = taskList.getTask(taskNum);
+        return ("OK, I've marked this task as not done yet: \n" + updatedTask);
+    }
+
+    /**
+     * Returns a DoneCommand that marks the task, or the occurrence, as done again.
+     *
+     * @return Inverse command.
+     */
+    public Command getInverse() {
+        return occurrence == null ? new DoneCommand(taskNum) : new DoneCommand(taskNum, occurrence);
+    }
+
+    /**
+     * Returns a false to indicate program has not exited.
+     *
+     * @return false Program has not exited.
+     */
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -0,0 +1,69 @@
+package duke.command;
+
+import duke.component.Storage;
+import duke.component.TaskList;
+import duke.component.TaskQuery;
+import duke.component.Ui;
+
+import java.util.List;
+
+/**
+ * Represents user's 'query' commmand to chatbot.
+ * Lists the tasks that match a query, in the order of the query, showing the fields it asks for.
+ * The 'QueryCommand' class supports operators (i) executing the command
+ * and (ii) checking if the bot has exited its conversation with the user.
+ */
+public class QueryCommand extends Command {
+
+    /**
+     * Compiled query.
+     */
+    private TaskQuery query;
+
+    /**
+     * Initializes a new instance of QueryCommand.
+     *
+     * @param query Compiled query.
+     */
+    public QueryCommand(TaskQuery query) {
+        this.query = query;
+    }
+
+    /**
+     * Returns the tasks that match the query.
+     *
+     * @param taskList List of the things user needs to do.
+     * @param ui       Interface that interacts with the user.
+     * @param storage  Stores the user input in a file.
+     */
+    public String execute(TaskList taskList, Ui ui, Storage storage) {
+        List<Integer> taskNums = query.run(taskList);
+
+        StringBuilder result = new StringBuilder("Here are the tasks matching your query:\n");
+        for (int taskNum : taskNums) {
+            result.append("\n ");
+            query.appendRow(result, taskNum, taskList.getTask(taskNum));
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns a false to indicate program has not exited.
+     *
+     * @return false Program has not exited.
+     */
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Returns true as the command only reads the list.
+     *
+     * @return true Command changes no list
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,90 @@
+package duke.command;
+
+import duke.component.Storage;
+import duke.component.TaskList;
+import duke.component.Ui;
+import duke.exception.DukeException;
+import duke.task.Task;
+
+/**
+ * Represents the reverse of a "delete" command, used by undo and redo.
+ * The task is put back at its old position, in the task list and in the text file, without reloading either.
+ * The 'RestoreCommand' class supports operators (i) executing the command,
+ * (ii) checking if the bot has exited its conversation with the user and
+ * (iii) giving the DeleteCommand that reverses it.
+ */
+public class RestoreCommand extends Command {
+
+    /**
+     * The task number the task is restored to.
+     */
+    private int taskNum;
+
+    /**
+     * The task to be restored.
+     */
+    private Task task;
+
+    /**
+     * Initializes a new instance of RestoreCommand.
+     *
+     * @param taskNum Task number the task is restored to
+     * @param task    Task to be restored
+     */
+    public RestoreCommand(int taskNum, Task task) {
+        this.taskNum = taskNum;
+        this.task = task;
+    }
+
+    /**
+     * Inserts the task back into taskList and text file.
+     *
+     * @param taskList List of the things user needs to do.
+     * @param ui       Interface that interacts with the user.
+     * @param storage  Stores the user input in a file.
+     * @throws DukeException IOException if there is an error writing or reading file.
+     */
+    public String execute(TaskList taskList, Ui ui, Storage storage) throws DukeException {
+        storage.insertText(taskNum, task);
+        taskList.insertTask(taskNum, task);
+
+        if (task.isDone()) {
+            storage.getStatistics().incrementCompleted();
+        } else {
+            storage.getStatistics().incrementUncompleted();
+        }
+        storage.updateStatistics();
+
+        return ("OK, I've put this task back:\n" + task
+                + "Now you have " + taskList.size()
+                + " tasks in the list.");
+    }
+
+    /**
+     * Returns a DeleteCommand that removes the task again.
+     *
+     * @return Inverse command.
+     */
+    public Command getInverse() {
+        return new DeleteCommand(taskNum);
+    }
+
+    /**
+     * Returns the approximate number of bytes the command takes, including its task.
+     *
+     * @return Approximate size in bytes.
+     */
+    public int getSizeEstimate() {
+        //a task holds a few objects plus two bytes per character of its description
+        return BASE_SIZE_ESTIMATE + 64 + 2 * task.getDescription().length();
+    }
+
+    /**
+     * Returns a false to indicate program has not exited.
+     *
+     * @return false Program has not exited.
+     */
+    public boolean isExit() {
+        return false;
+    }
+}
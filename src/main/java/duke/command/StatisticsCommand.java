@@ -0,0 +1,47 @@
+package duke.command;
+
+import duke.component.Storage;
+import duke.component.TaskList;
+import duke.component.Ui;
+
+/**
+ * Represents user's 'stats' commmand to chatbot.
+ * Shows the task statistics, how much memory is saved by sharing descriptions and how often
+ * responses are reused from the result cache.
+ * The 'StatisticsCommand' class supports operators (i) executing the command
+ * and (ii) checking if the bot has exited its conversation with the user.
+ */
+public class StatisticsCommand extends Command {
+
+    /**
+     * Returns the task statistics, description pool statistics and result cache statistics.
+     *
+     * @param taskList List of the things user needs to do.
+     * @param ui       Interface that interacts with the user.
+     * @param storage  Stores the user input in a file.
+     */
+    public String execute(TaskList taskList, Ui ui, Storage storage) {
+        return storage.getStatistics().toStatisticsString()
+                + storage.getDescriptionPool().toStatisticsString()
+                + taskList.getResultCache().toStatisticsString();
+    }
+
+    /**
+     * Returns a false to indicate program has not exited.
+     *
+     * @return false Program has not exited.
+     */
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Returns true as the command only reads the list.
+     *
+     * @return true Command changes no list
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,65 @@
+package duke.command;
+
+import duke.component.Storage;
+import duke.component.TaskList;
+import duke.component.Ui;
+import duke.component.Workspace;
+import duke.component.WorkspaceManager;
+import duke.exception.DukeException;
+
+/**
+ * Represents user's "switch" commmand to chatbot, which chooses the list that later commands work on.
+ * The 'SwitchCommand' class supports operators (i) executing the command
+ * and (ii) checking if the bot has exited its conversation with the user.
+ */
+public class SwitchCommand extends Command {
+
+    /**
+     * Name of the list to switch to.
+     */
+    private String name;
+
+    /**
+     * Initializes a new instance of SwitchCommand, with the name of the list to switch to.
+     *
+     * @param name Name of the list
+     */
+    public SwitchCommand(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Makes the named list the current list of the user, loading it if it is not in memory.
+     *
+     * @param workspaces Lists of the user.
+     * @param ui         Interface that interacts with the user.
+     * @throws DukeException If the name cannot be used as a file name.
+     */
+    @Override
+    public String execute(WorkspaceManager workspaces, Ui ui) throws DukeException {
+        Workspace workspace = workspaces.switchTo(name);
+        return ("Switched to list " + workspace.getName() + ". Now you have "
+                + workspace.getTaskList().size() + " tasks in the list.");
+    }
+
+    /**
+     * Throws an exception, as a list on its own cannot switch to another list.
+     *
+     * @param taskList List of the things user needs to do.
+     * @param ui       Interface that interacts with the user.
+     * @param storage  Stores the user input in a file.
+     * @throws DukeException Always.
+     */
+    public String execute(TaskList taskList, Ui ui, Storage storage) throws DukeException {
+        throw new DukeException(" OOPS!!! There is no other list to switch to.");
+    }
+
+    /**
+     * Returns a false to indicate program has not exited.
+     *
+     * @return false Program has not exited.
+     */
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+package duke.command;
+
+import duke.component.Storage;
+import duke.component.TaskList;
+import duke.component.Ui;
+import duke.component.Workspace;
+import duke.component.WorkspaceManager;
+import duke.exception.DukeException;
+
+/**
+ * Represents user's "undo" commmand to chatbot.
+ * The 'UndoCommand' class supports operators (i) executing the command
+ * and (ii) checking if the bot has exited its conversation with the user.
+ */
+public class UndoCommand extends Command {
+
+    /**
+     * Reverses the last change to the current list of the user, in taskList and text file.
+     *
+     * @param workspaces Lists of the user.
+     * @param ui         Interface that interacts with the user.
+     * @throws DukeException IOException if there is an error writing or reading file.
+     */
+    @Override
+    public String execute(WorkspaceManager workspaces, Ui ui) throws DukeException {
+        Workspace workspace = workspaces.getCurrent();
+        return workspace.getUndoHistory().undo(workspace.getTaskList(), ui, workspace.getStorage());
+    }
+
+    /**
+     * Returns a message that there is nothing to undo, as a list on its own keeps no history of changes.
+     *
+     * @param taskList List of the things user needs to do.
+     * @param ui       Interface that interacts with the user.
+     * @param storage  Stores the user input in a file.
+     */
+    public String execute(TaskList taskList, Ui ui, Storage storage) {
+        return "There is nothing to undo.";
+    }
+
+    /**
+     * Returns a false to indicate program has not exited.
+     *
+     * @return false Program has not exited.
+     */
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -0,0 +1,68 @@
+package duke.command;
+
+import duke.component.Storage;
+import duke.component.TaskList;
+import duke.component.Ui;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Represents user's 'upcoming' commmand to chatbot.
+ * Lists the next pending deadlines and events from now, in order of date.
+ * The 'UpcomingCommand' class supports operators (i) executing the command
+ * and (ii) checking if the bot has exited its conversation with the user.
+ */
+public class UpcomingCommand extends Command {
+
+    /**
+     * Maximum number of tasks to list.
+     */
+    private int limit;
+
+    /**
+     * Initializes a new instance of UpcomingCommand.
+     *
+     * @param limit Maximum number of tasks to list.
+     */
+    public UpcomingCommand(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the next pending deadlines and events, found from the time index of the TaskList.
+     *
+     * @param taskList List of the things user needs to do.
+     * @param ui       Interface that interacts with the user.
+     * @param storage  Stores the user input in a file.
+     */
+    public String execute(TaskList taskList, Ui ui, Storage storage) {
+        List<Integer> taskNums = taskList.getUpcomingTaskNums(new Date(), this.limit);
+
+        StringBuilder result = new StringBuilder("Here are your next " + taskNums.size() + " tasks:\n");
+        for (int taskNum : taskNums) {
+            result.append(String.format("\n %d . %s", taskNum, taskList.getTask(taskNum)));
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns a false to indicate program has not exited.
+     *
+     * @return false Program has not exited.
+     */
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Returns true as the command only reads the list.
+     *
+     * @return true Command changes no list
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,101 @@
+package duke.component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Represents the writes of files that survive a crash at any point.
+ * A file is either replaced as a whole, through a temporary file that is flushed to disk and then renamed
+ * over it, or appended to and flushed before the write returns.
+ * The 'AtomicFiles' class supports operators (i) replacing the lines of a file,
+ * (ii) renaming a finished temporary file over a file and
+ * (iii) appending text to a file.
+ */
+final class AtomicFiles {
+
+    /**
+     * Suffix added to the name of a file to name its temporary file.
+     */
+    static final String TEMP_SUFFIX = ".tmp";
+
+    private AtomicFiles() {
+    }
+
+    /**
+     * Returns the temporary file that is written before it replaces a file.
+     *
+     * @param path Path of the file.
+     * @return Path of the temporary file, in the same directory.
+     */
+    static Path tempPath(Path path) {
+        return path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+    }
+
+    /**
+     * Replaces the lines of a file. After a crash the file has either all its old lines or all the new ones.
+     *
+     * @param path  Path of the file.
+     * @param lines Lines of the file, each written with a '\n'.
+     * @throws IOException If the file cannot be written.
+     */
+    static void write(Path path, List<String> lines) throws IOException {
+        Path tempPath = tempPath(path);
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8))) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.write('\n');
+            }
+            writer.flush();
+            channel.force(false);
+        }
+        replace(tempPath, path);
+    }
+
+    /**
+     * Renames a temporary file, already flushed to disk, over a file, and flushes the rename.
+     *
+     * @param tempPath Path of the temporary file.
+     * @param path     Path of the file.
+     * @throws IOException If the file cannot be renamed.
+     */
+    static void replace(Path tempPath, Path path) throws IOException {
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        //the rename is only durable once the directory is flushed too
+        Path directory = path.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            //some platforms cannot open a directory; their renames are flushed with the file system journal
+        }
+    }
+
+    /**
+     * Appends text to a file, creating it if needed, and flushes it to disk.
+     * A crash can at worst leave the end of the text missing.
+     *
+     * @param path Path of the file.
+     * @param text Text to append.
+     * @throws IOException If the file cannot be written.
+     */
+    static void append(Path path, String text) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
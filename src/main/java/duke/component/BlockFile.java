@@ -0,0 +1,859 @@
+package duke.component;
+
+import duke.task.Task;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.UnaryOperator;
+import java.util.zip.CRC32C;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Represents a task file that keeps its task lines in blocks, each compressed on its own with Deflate.
+ * An index at the end of the file holds the offset, lengths and number of lines of every block, so a
+ * single line is read or changed by inflating and rewriting only the block that holds it. Changed blocks
+ * are appended after the old index together with a new index; the space of the old ones is reclaimed
+ * by copying the live blocks to a new file once it outgrows them.
+ * Every block and index carries a checksum, and blocks are flushed to disk before the index that refers to
+ * them, so after a crash the last intact index is found again and the torn end of the file is cut off.
+ * The 'BlockFile' class supports operators (i) loading every task, inflating blocks in parallel,
+ * (ii) changing, inserting, removing and appending task lines, one at a time or many in one pass, and
+ * (iii) reading and writing the statistics kept in the index.
+ */
+class BlockFile {
+
+    /**
+     * Approximate number of uncompressed bytes of task lines in each block.
+     */
+    static final int BLOCK_SIZE = 1 << 16;
+
+    /**
+     * Bytes at the start of the file.
+     */
+    private static final byte[] FILE_MAGIC = "DUKEBLK1".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Bytes at the end of the file, just after the offset of the index.
+     */
+    private static final byte[] INDEX_MAGIC = "DUKEIDX1".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Bytes of the index taken by each block: offset, compressed length, uncompressed length, lines and checksum.
+     */
+    private static final int INDEX_ENTRY_SIZE = 24;
+
+    /**
+     * Bytes at the end of the index: its offset, its checksum and the index magic.
+     */
+    private static final int TRAILER_SIZE = 8 + 4 + 8;
+
+    /**
+     * Bytes of the index besides its entries: number of blocks, statistics and trailer.
+     */
+    private static final int INDEX_FIXED_SIZE = 4 + 8 + TRAILER_SIZE;
+
+    /**
+     * Number of bytes searched at a time for an intact index, from the end of a torn file.
+     */
+    private static final int RECOVERY_WINDOW = 1 << 16;
+
+    /**
+     * Bytes of superseded blocks and indexes below which the file is never compacted.
+     */
+    private static final long COMPACTION_THRESHOLD = 1 << 20;
+
+    /**
+     * Path of the file.
+     */
+    private final Path path;
+
+    /**
+     * Blocks of the file in line order, or null before the index is read.
+     */
+    private List<Block> blocks;
+
+    /**
+     * Number of completed tasks, as kept in the index.
+     */
+    private int numCompleted;
+
+    /**
+     * Number of uncompleted tasks, as kept in the index.
+     */
+    private int numUncompleted;
+
+    /**
+     * Number of bytes of the file.
+     */
+    private long fileSize;
+
+    /**
+     * Initialises a new BlockFile. The file is created or its index read on first use.
+     *
+     * @param path Path of the file.
+     */
+    BlockFile(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Returns the path of the file.
+     *
+     * @return Path of the file.
+     */
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the number of completed and uncompleted tasks kept in the index.
+     *
+     * @return Statistics of the file.
+     * @throws IOException If the file cannot be read.
+     */
+    Statistics readStatistics() throws IOException {
+        open();
+        return new Statistics(numCompleted, numUncompleted);
+    }
+
+    /**
+     * Writes the number of completed and uncompleted tasks to the index.
+     *
+     * @param statistics Statistics of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    void writeStatistics(Statistics statistics) throws IOException {
+        open();
+        replaceBlocks(0, 0, List.of(), statistics);
+    }
+
+    /**
+     * Returns the task of every line, in file order.
+     * Blocks are read and inflated in parallel on the given pool.
+     *
+     * @param pool    Fork/join pool that inflates and parses the blocks.
+     * @param storage Storage that converts each line to a Task.
+     * @return Tasks of the file.
+     * @throws IOException If the file cannot be read or a block is corrupt.
+     */
+    ArrayList<Task> load(ForkJoinPool pool, Storage storage) throws IOException {
+        open();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            List<ForkJoinTask<List<Task>>> parsers = new ArrayList<>();
+            for (Block block : blocks) {
+                parsers.add(ForkJoinTask.adapt(() -> {
+                    byte[] text = readBlock(channel, block);
+                    return new ChunkParser(text, 0, text.length, storage).compute();
+                }));
+            }
+
+            //a single block is not worth the cost of forking
+            if (parsers.size() > 1) {
+                pool.submit(() -> ForkJoinTask.invokeAll(parsers)).join();
+            } else {
+                parsers.forEach(ForkJoinTask::invoke);
+            }
+
+            ArrayList<Task> tasks = new ArrayList<>(countLines());
+            parsers.forEach(parser -> tasks.addAll(parser.join()));
+            return tasks;
+        } catch (RuntimeException e) {
+            //fork/join may rethrow a copy of the exception of another thread, with the original as cause
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces a line with the result of a function of it, rewriting only the block that holds it.
+     *
+     * @param index  Index of the line, from 0.
+     * @param update Function from the old line to the new line.
+     * @throws IOException If the file cannot be read or written.
+     */
+    void updateLine(int index, UnaryOperator<String> update) throws IOException {
+        open();
+        int blockIndex = findBlock(index);
+        List<String> lines = readLines(blockIndex);
+        int lineIndex = index - countLinesBefore(blockIndex);
+
+        lines.set(lineIndex, update.apply(lines.get(lineIndex)));
+        replaceBlocks(blockIndex, blockIndex + 1, List.of(lines), readStatistics());
+    }
+
+    /**
+     * Inserts a line before the line that has the index now, rewriting only the block that holds it.
+     * A block that grows to twice the block size is split in two.
+     *
+     * @param index Index the line will have, from 0.
+     * @param line  Line to insert.
+     * @throws IOException If the file cannot be read or written.
+     */
+    void insertLine(int index, String line) throws IOException {
+        open();
+        if (index == countLines()) {
+            appendLines(List.of(line));
+            return;
+        }
+
+        int blockIndex = findBlock(index);
+        List<String> lines = readLines(blockIndex);
+        lines.add(index - countLinesBefore(blockIndex), line);
+
+        List<List<String>> groups = List.of(lines);
+        int lineSize = line.getBytes(StandardCharsets.UTF_8).length + 1;
+        if (blocks.get(blockIndex).uncompressedLength + lineSize >= 2 * BLOCK_SIZE) {
+            groups = List.of(lines.subList(0, lines.size() / 2), lines.subList(lines.size() / 2, lines.size()));
+        }
+        replaceBlocks(blockIndex, blockIndex + 1, groups, readStatistics());
+    }
+
+    /**
+     * Removes a line, rewriting only the block that holds it. A block left without lines is dropped.
+     *
+     * @param index Index of the line, from 0.
+     * @throws IOException If the file cannot be read or written.
+     */
+    void removeLine(int index) throws IOException {
+        open();
+        int blockIndex = findBlock(index);
+        List<String> lines = readLines(blockIndex);
+        lines.remove(index - countLinesBefore(blockIndex));
+
+        replaceBlocks(blockIndex, blockIndex + 1, lines.isEmpty() ? List.of() : List.of(lines), readStatistics());
+    }
+
+    /**
+     * Replaces many lines at once with the result of a function of each, and writes new statistics.
+     * Each block holding one of the lines is rewritten once, and a single index is written.
+     *
+     * @param indexes    Indexes of the lines, from 0, in increasing order.
+     * @param update     Function from the old line to the new line.
+     * @param statistics Statistics of the file after the change.
+     * @throws IOException If the file cannot be read or written.
+     */
+    void updateLines(int[] indexes, UnaryOperator<String> update, Statistics statistics) throws IOException {
+        open();
+        SortedMap<Integer, List<List<String>>> replacements = new TreeMap<>();
+        for (Map.Entry<Integer, List<Integer>> blockLines : groupByBlock(indexes).entrySet()) {
+            List<String> lines = readLines(blockLines.getKey());
+            for (int lineIndex : blockLines.getValue()) {
+                lines.set(lineIndex, update.apply(lines.get(lineIndex)));
+            }
+            replacements.put(blockLines.getKey(), List.of(lines));
+        }
+
+        replaceEachBlock(replacements, statistics);
+    }
+
+    /**
+     * Removes many lines at once and writes new statistics. Each block holding one of the lines is
+     * rewritten once, blocks left without lines are dropped, and a single index is written.
+     *
+     * @param indexes    Indexes of the lines, from 0, in increasing order.
+     * @param statistics Statistics of the file after the change.
+     * @throws IOException If the file cannot be read or written.
+     */
+    void removeLines(int[] indexes, Statistics statistics) throws IOException {
+        open();
+        SortedMap<Integer, List<List<String>>> replacements = new TreeMap<>();
+        for (Map.Entry<Integer, List<Integer>> blockLines : groupByBlock(indexes).entrySet()) {
+            List<String> lines = readLines(blockLines.getKey());
+            List<String> keptLines = new ArrayList<>(lines.size() - blockLines.getValue().size());
+            int next = 0;
+            for (int i = 0; i < lines.size(); i++) {
+                if (next < blockLines.getValue().size() && blockLines.getValue().get(next) == i) {
+                    next++;
+                } else {
+                    keptLines.add(lines.get(i));
+                }
+            }
+            replacements.put(blockLines.getKey(), keptLines.isEmpty() ? List.of() : List.of(keptLines));
+        }
+
+        replaceEachBlock(replacements, statistics);
+    }
+
+    /**
+     * Inserts many lines at once and writes new statistics. Each block that receives lines is rewritten once,
+     * split into blocks of about the block size if it grows to twice that, and a single index is written.
+     *
+     * @param indexes    Indexes the lines will have, from 0, in increasing order.
+     * @param newLines   Lines to insert, in the order of their indexes.
+     * @param statistics Statistics of the file after the change.
+     * @throws IOException If the file cannot be read or written.
+     */
+    void insertLines(int[] indexes, List<String> newLines, Statistics statistics) throws IOException {
+        open();
+        if (blocks.isEmpty()) {
+            replaceBlocks(0, 0, newLines.isEmpty() ? List.of() : splitLines(newLines), statistics);
+            return;
+        }
+
+        int numLines = countLines();
+        SortedMap<Integer, List<String>> grownBlocks = new TreeMap<>();
+        Map<Integer, Integer> numInserted = new HashMap<>();
+        int blockIndex = 0;
+        int linesBefore = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            //number of lines already in the file that come before the new line
+            int oldLinesBefore = indexes[i] - i;
+            if (oldLinesBefore < 0 || oldLinesBefore > numLines || (i > 0 && indexes[i] <= indexes[i - 1])) {
+                throw new IndexOutOfBoundsException("Line " + indexes[i] + " cannot be inserted into " + path);
+            }
+            while (blockIndex < blocks.size() - 1 && oldLinesBefore >= linesBefore + blocks.get(blockIndex).numLines) {
+                linesBefore += blocks.get(blockIndex).numLines;
+                blockIndex++;
+            }
+
+            if (!grownBlocks.containsKey(blockIndex)) {
+                grownBlocks.put(blockIndex, readLines(blockIndex));
+            }
+            int offset = numInserted.getOrDefault(blockIndex, 0);
+            grownBlocks.get(blockIndex).add(oldLinesBefore - linesBefore + offset, newLines.get(i));
+            numInserted.put(blockIndex, offset + 1);
+        }
+
+        SortedMap<Integer, List<List<String>>> replacements = new TreeMap<>();
+        for (Map.Entry<Integer, List<String>> grownBlock : grownBlocks.entrySet()) {
+            List<String> lines = grownBlock.getValue();
+            long size = 0;
+            for (String line : lines) {
+                size += line.getBytes(StandardCharsets.UTF_8).length + 1;
+            }
+            replacements.put(grownBlock.getKey(), size >= 2 * BLOCK_SIZE ? splitLines(lines) : List.of(lines));
+        }
+        replaceEachBlock(replacements, statistics);
+    }
+
+    /**
+     * Returns the indexes of lines within their block, grouped by the index of the block that holds them.
+     */
+    private SortedMap<Integer, List<Integer>> groupByBlock(int[] indexes) {
+        SortedMap<Integer, List<Integer>> groups = new TreeMap<>();
+        int blockIndex = 0;
+        int linesBefore = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            if (i > 0 && indexes[i] <= indexes[i - 1]) {
+                throw new IllegalArgumentException("Line indexes are not in increasing order");
+            }
+            while (blockIndex < blocks.size() && indexes[i] >= linesBefore + blocks.get(blockIndex).numLines) {
+                linesBefore += blocks.get(blockIndex).numLines;
+                blockIndex++;
+            }
+            if (blockIndex == blocks.size()) {
+                throw new IndexOutOfBoundsException("Line " + indexes[i] + " is not in " + path);
+            }
+            groups.computeIfAbsent(blockIndex, block -> new ArrayList<>()).add(indexes[i] - linesBefore);
+        }
+        return groups;
+    }
+
+    /**
+     * Returns lines split into groups of about the block size.
+     */
+    private static List<List<String>> splitLines(List<String> lines) {
+        List<List<String>> groups = new ArrayList<>();
+        List<String> group = new ArrayList<>();
+        int size = 0;
+        for (String line : lines) {
+            int lineSize = line.getBytes(StandardCharsets.UTF_8).length + 1;
+            if (size + lineSize > BLOCK_SIZE && !group.isEmpty()) {
+                groups.add(group);
+                group = new ArrayList<>();
+                size = 0;
+            }
+            group.add(line);
+            size += lineSize;
+        }
+        groups.add(group);
+        return groups;
+    }
+
+    /**
+     * Appends lines to the end of the file. They fill up the last block before new blocks are started.
+     *
+     * @param newLines Lines to append.
+     * @throws IOException If the file cannot be read or written.
+     */
+    void appendLines(List<String> newLines) throws IOException {
+        open();
+        if (newLines.isEmpty()) {
+            return;
+        }
+
+        int from = blocks.size();
+        List<String> lines = new ArrayList<>();
+        int size = 0;
+
+        if (from > 0 && blocks.get(from - 1).uncompressedLength < BLOCK_SIZE) {
+            from--;
+            lines = readLines(from);
+            size = blocks.get(from).uncompressedLength;
+        }
+
+        List<List<String>> groups = new ArrayList<>();
+        for (String line : newLines) {
+            int lineSize = line.getBytes(StandardCharsets.UTF_8).length + 1;
+            if (size + lineSize > BLOCK_SIZE && !lines.isEmpty()) {
+                groups.add(lines);
+                lines = new ArrayList<>();
+                size = 0;
+            }
+            lines.add(line);
+            size += lineSize;
+        }
+        groups.add(lines);
+
+        replaceBlocks(from, blocks.size(), groups, readStatistics());
+    }
+
+    /**
+     * Reads the index of the file, creating an empty file first if there is none.
+     * If the file ends in a torn write, the last intact index is used and the rest of the file is cut off.
+     */
+    private void open() throws IOException {
+        if (blocks != null) {
+            return;
+        }
+
+        if (!Files.exists(path)) {
+            Path tempPath = AtomicFiles.tempPath(path);
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeFully(channel, ByteBuffer.wrap(FILE_MAGIC), 0);
+                fileSize = FILE_MAGIC.length;
+                writeIndex(channel, List.of(), 0, 0);
+                channel.force(false);
+            }
+            AtomicFiles.replace(tempPath, path);
+            blocks = new ArrayList<>();
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            ByteBuffer magic = readFully(channel, 0, (int) Math.min(size, FILE_MAGIC.length));
+            if (!magic.equals(ByteBuffer.wrap(FILE_MAGIC))) {
+                throw new IOException("Not a block file: " + path);
+            }
+
+            if (!readIndex(channel, size) && !recoverIndex(channel)) {
+                throw new IOException("Block file has no intact index: " + path);
+            }
+            if (fileSize < size) {
+                channel.truncate(fileSize);
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Searches backwards from the end of the file for the last index that is intact.
+     */
+    private boolean recoverIndex(FileChannel channel) throws IOException {
+        long windowEnd = channel.size();
+        while (windowEnd - FILE_MAGIC.length >= INDEX_MAGIC.length) {
+            long windowStart = Math.max(FILE_MAGIC.length, windowEnd - RECOVERY_WINDOW);
+            byte[] window = readFully(channel, windowStart, (int) (windowEnd - windowStart)).array();
+
+            for (int i = window.length - INDEX_MAGIC.length; i >= 0; i--) {
+                if (Arrays.equals(window, i, i + INDEX_MAGIC.length, INDEX_MAGIC, 0, INDEX_MAGIC.length)
+                        && readIndex(channel, windowStart + i + INDEX_MAGIC.length)) {
+                    return true;
+                }
+            }
+            //windows overlap so that a magic across their boundary is still found
+            windowEnd = windowStart + INDEX_MAGIC.length - 1;
+        }
+        return false;
+    }
+
+    /**
+     * Reads the index that ends at the given offset, if it is intact.
+     *
+     * @return Whether the index was intact and has been read.
+     */
+    private boolean readIndex(FileChannel channel, long indexEnd) throws IOException {
+        if (indexEnd < FILE_MAGIC.length + INDEX_FIXED_SIZE) {
+            return false;
+        }
+
+        ByteBuffer trailer = readFully(channel, indexEnd - TRAILER_SIZE, TRAILER_SIZE);
+        long indexOffset = trailer.getLong();
+        int checksum = trailer.getInt();
+        if (!trailer.equals(ByteBuffer.wrap(INDEX_MAGIC)) || indexOffset < FILE_MAGIC.length
+                || indexOffset > indexEnd - INDEX_FIXED_SIZE) {
+            return false;
+        }
+
+        //the checksum covers the whole index up to and including its offset
+        int checkedLength = (int) (indexEnd - indexOffset - TRAILER_SIZE + 8);
+        ByteBuffer index = readFully(channel, indexOffset, checkedLength);
+        if (checksum(index.array(), 0, checkedLength) != checksum) {
+            return false;
+        }
+
+        int numBlocks = index.getInt();
+        if (numBlocks < 0 || checkedLength != numBlocks * INDEX_ENTRY_SIZE + INDEX_FIXED_SIZE - TRAILER_SIZE + 8) {
+            return false;
+        }
+        List<Block> readBlocks = new ArrayList<>(numBlocks);
+        for (int i = 0; i < numBlocks; i++) {
+            readBlocks.add(new Block(index.getLong(), index.getInt(), index.getInt(), index.getInt(),
+                    index.getInt()));
+        }
+        numCompleted = index.getInt();
+        numUncompleted = index.getInt();
+        blocks = readBlocks;
+        fileSize = indexEnd;
+        return true;
+    }
+
+    /**
+     * Replaces blocks[from, to) with one new block for each group of lines, appended to the file
+     * together with a new index holding the statistics. The blocks and statistics in memory change only
+     * once the index is on disk. The file is compacted once superseded bytes outweigh live ones.
+     */
+    private void replaceBlocks(int from, int to, List<List<String>> groups, Statistics statistics)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            List<Block> newBlocks = writeBlocks(channel, groups);
+
+            //the blocks must be on disk before an index that refers to them
+            if (!newBlocks.isEmpty()) {
+                channel.force(false);
+            }
+            List<Block> allBlocks = new ArrayList<>(blocks.size() - (to - from) + newBlocks.size());
+            allBlocks.addAll(blocks.subList(0, from));
+            allBlocks.addAll(newBlocks);
+            allBlocks.addAll(blocks.subList(to, blocks.size()));
+            writeIndex(channel, allBlocks, statistics.getNumCompleted(), statistics.getNumUncompleted());
+            channel.force(false);
+
+            blocks = allBlocks;
+            numCompleted = statistics.getNumCompleted();
+            numUncompleted = statistics.getNumUncompleted();
+        }
+        compactIfWasteful();
+    }
+
+    /**
+     * Replaces each of several blocks, by block index, with one new block for each of its groups of lines,
+     * appended to the file together with a single new index holding the statistics. The blocks and statistics
+     * in memory change only once the index is on disk.
+     */
+    private void replaceEachBlock(SortedMap<Integer, List<List<String>>> replacements, Statistics statistics)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            Map<Integer, List<Block>> newBlocks = new HashMap<>();
+            boolean isWritten = false;
+            for (Map.Entry<Integer, List<List<String>>> replacement : replacements.entrySet()) {
+                newBlocks.put(replacement.getKey(), writeBlocks(channel, replacement.getValue()));
+                isWritten |= !replacement.getValue().isEmpty();
+            }
+
+            //the blocks must be on disk before an index that refers to them
+            if (isWritten) {
+                channel.force(false);
+            }
+            List<Block> allBlocks = new ArrayList<>(blocks.size());
+            for (int i = 0; i < blocks.size(); i++) {
+                if (newBlocks.containsKey(i)) {
+                    allBlocks.addAll(newBlocks.get(i));
+                } else {
+                    allBlocks.add(blocks.get(i));
+                }
+            }
+            writeIndex(channel, allBlocks, statistics.getNumCompleted(), statistics.getNumUncompleted());
+            channel.force(false);
+
+            blocks = allBlocks;
+            numCompleted = statistics.getNumCompleted();
+            numUncompleted = statistics.getNumUncompleted();
+        }
+        compactIfWasteful();
+    }
+
+    /**
+     * Appends one compressed block for each group of lines to the file. The caller flushes them to disk.
+     */
+    private List<Block> writeBlocks(FileChannel channel, List<List<String>> groups) throws IOException {
+        List<Block> newBlocks = new ArrayList<>(groups.size());
+        for (List<String> lines : groups) {
+            byte[] text = joinLines(lines);
+            byte[] compressed = deflate(text);
+
+            writeFully(channel, ByteBuffer.wrap(compressed), fileSize);
+            newBlocks.add(new Block(fileSize, compressed.length, text.length, lines.size(),
+                    checksum(compressed, 0, compressed.length)));
+            fileSize += compressed.length;
+        }
+        return newBlocks;
+    }
+
+    /**
+     * Compacts the file once superseded bytes outweigh live ones.
+     */
+    private void compactIfWasteful() throws IOException {
+        long liveSize = FILE_MAGIC.length + indexSize(blocks.size());
+        for (Block block : blocks) {
+            liveSize += block.compressedLength;
+        }
+        if (fileSize - liveSize > Math.max(liveSize, COMPACTION_THRESHOLD)) {
+            compact();
+        }
+    }
+
+    /**
+     * Copies the live blocks, still compressed, to a new file with a new index and replaces the file with it.
+     */
+    private void compact() throws IOException {
+        Path tempPath = AtomicFiles.tempPath(path);
+        List<Block> compactedBlocks = new ArrayList<>(blocks.size());
+        long liveFileSize = fileSize;
+        fileSize = FILE_MAGIC.length;
+
+        try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ);
+                FileChannel target = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(target, ByteBuffer.wrap(FILE_MAGIC), 0);
+            for (Block block : blocks) {
+                ByteBuffer compressed = readFully(source, block.offset, block.compressedLength);
+                writeFully(target, compressed, fileSize);
+                compactedBlocks.add(new Block(fileSize, block.compressedLength, block.uncompressedLength,
+                        block.numLines, block.checksum));
+                fileSize += block.compressedLength;
+            }
+            writeIndex(target, compactedBlocks, numCompleted, numUncompleted);
+            target.force(false);
+
+            AtomicFiles.replace(tempPath, path);
+            blocks = compactedBlocks;
+        } catch (IOException e) {
+            fileSize = liveFileSize;
+            throw e;
+        }
+    }
+
+    /**
+     * Writes an index of the given blocks and statistics at the end of the file. The caller flushes it to disk.
+     */
+    private void writeIndex(FileChannel channel, List<Block> indexBlocks, int indexNumCompleted,
+            int indexNumUncompleted) throws IOException {
+        ByteBuffer index = ByteBuffer.allocate(indexSize(indexBlocks.size()));
+        index.putInt(indexBlocks.size());
+        for (Block block : indexBlocks) {
+            index.putLong(block.offset).putInt(block.compressedLength).putInt(block.uncompressedLength)
+                    .putInt(block.numLines).putInt(block.checksum);
+        }
+        index.putInt(indexNumCompleted).putInt(indexNumUncompleted).putLong(fileSize);
+        index.putInt(checksum(index.array(), 0, index.position())).put(INDEX_MAGIC);
+        index.flip();
+
+        writeFully(channel, index, fileSize);
+        fileSize += index.limit();
+        channel.truncate(fileSize);
+    }
+
+    private static int indexSize(int numBlocks) {
+        return numBlocks * INDEX_ENTRY_SIZE + INDEX_FIXED_SIZE;
+    }
+
+    /**
+     * Returns the index of the block holding a line.
+     */
+    private int findBlock(int index) {
+        int linesBefore = 0;
+        for (int i = 0; i < blocks.size(); i++) {
+            linesBefore += blocks.get(i).numLines;
+            if (index < linesBefore) {
+                return i;
+            }
+        }
+        throw new IndexOutOfBoundsException("Line " + index + " is not in " + path);
+    }
+
+    private int countLinesBefore(int blockIndex) {
+        int count = 0;
+        for (int i = 0; i < blockIndex; i++) {
+            count += blocks.get(i).numLines;
+        }
+        return count;
+    }
+
+    private int countLines() {
+        return countLinesBefore(blocks.size());
+    }
+
+    /**
+     * Returns the lines of a block, in a list that can be changed.
+     */
+    private List<String> readLines(int blockIndex) throws IOException {
+        byte[] text;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            text = readBlock(channel, blocks.get(blockIndex));
+        }
+
+        List<String> lines = new ArrayList<>(blocks.get(blockIndex).numLines);
+        int lineStart = 0;
+        while (lineStart < text.length) {
+            int lineEnd = ChunkParser.indexOfNewline(text, lineStart, text.length);
+            lines.add(new String(text, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8));
+            lineStart = lineEnd + 1;
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the uncompressed bytes of a block. Safe to call from several threads on one channel.
+     */
+    private static byte[] readBlock(FileChannel channel, Block block) {
+        try {
+            byte[] compressed = readFully(channel, block.offset, block.compressedLength).array();
+            if (checksum(compressed, 0, compressed.length) != block.checksum) {
+                throw new IOException("Block at " + block.offset + " is damaged");
+            }
+            return inflate(compressed, block.uncompressedLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int checksum(byte[] bytes, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] joinLines(List<String> lines) {
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        for (String line : lines) {
+            text.writeBytes(line.getBytes(StandardCharsets.UTF_8));
+            text.write('\n');
+        }
+        return text.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] text) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(text);
+            deflater.finish();
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(text.length / 4 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                compressed.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed, int uncompressedLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] text = new byte[uncompressedLength];
+            int length = 0;
+            while (length < uncompressedLength && !inflater.finished()) {
+                int inflated = inflater.inflate(text, length, uncompressedLength - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+
+            if (length != uncompressedLength) {
+                throw new IOException("Block is shorter than its index entry");
+            }
+            return text;
+        } catch (DataFormatException e) {
+            throw new IOException("Block is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of block file");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+
+    /**
+     * Represents the index entry of one compressed block.
+     */
+    private static class Block {
+
+        /**
+         * Offset of the compressed bytes in the file.
+         */
+        private final long offset;
+
+        /**
+         * Number of compressed bytes.
+         */
+        private final int compressedLength;
+
+        /**
+         * Number of bytes of the lines once inflated.
+         */
+        private final int uncompressedLength;
+
+        /**
+         * Number of lines in the block.
+         */
+        private final int numLines;
+
+        /**
+         * Checksum of the compressed bytes.
+         */
+        private final int checksum;
+
+        Block(long offset, int compressedLength, int uncompressedLength, int numLines, int checksum) {
+            this.offset = offset;
+            this.compressedLength = compressedLength;
+            this.uncompressedLength = uncompressedLength;
+            this.numLines = numLines;
+            this.checksum = checksum;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package duke.component;
+
+import duke.task.Task;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Represents a fork/join task that parses one newline-aligned byte range of the text file.
+ * The 'ChunkParser' class supports operators (i) splitting the task lines of a file into chunks
+ * and (ii) converting the lines of a single chunk into Task objects.
+ */
+class ChunkParser extends RecursiveTask<List<Task>> {
+
+    /**
+     * Version of the serialized form, which RecursiveTask inherits from Serializable.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Bytes of the whole text file.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Inclusive start offset of the chunk.
+     */
+    private final int start;
+
+    /**
+     * Exclusive end offset of the chunk.
+     */
+    private final int end;
+
+    /**
+     * Storage that converts each line to a Task.
+     */
+    private final Storage storage;
+
+    /**
+     * Initialises a new ChunkParser over bytes[start, end).
+     *
+     * @param bytes   Bytes of the whole text file.
+     * @param start   Offset of the first byte of the chunk, at the start of a line.
+     * @param end     Offset just past the last byte of the chunk, at the start of a line or end of file.
+     * @param storage Storage that converts each line to a Task.
+     */
+    ChunkParser(byte[] bytes, int start, int end, Storage storage) {
+        this.bytes = bytes;
+        this.start = start;
+        this.end = end;
+        this.storage = storage;
+    }
+
+    /**
+     * Returns the tasks of every intact line in the chunk, in file order.
+     *
+     * @return Tasks parsed from the chunk.
+     */
+    @Override
+    protected List<Task> compute() {
+        List<Task> tasks = new ArrayList<>();
+        int lineStart = start;
+
+        while (lineStart < end) {
+            int lineEnd = indexOfNewline(bytes, lineStart, end);
+            int textEnd = lineEnd;
+
+            //ignore the carriage return of files saved with windows line endings
+            if (textEnd > lineStart && bytes[textEnd - 1] == '\r') {
+                textEnd--;
+            }
+
+            if (textEnd > lineStart) {
+                String record = new String(bytes, lineStart, textEnd - lineStart, StandardCharsets.UTF_8);
+                Task task = storage.recordToTask(record);
+
+                //damaged records are skipped and counted by storage
+                if (task != null) {
+                    tasks.add(task);
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Returns the boundaries of newline-aligned chunks covering bytes[from, to).
+     * Boundary i and i + 1 delimit chunk i.
+     *
+     * @param bytes     Bytes of the whole text file.
+     * @param from      Offset of the first task line.
+     * @param to        Offset just past the last byte.
+     * @param chunkSize Approximate number of bytes in each chunk.
+     * @return Offsets where the chunks start, followed by the end offset.
+     */
+    static int[] split(byte[] bytes, int from, int to, int chunkSize) {
+        int maxChunks = (to - from) / chunkSize + 2;
+        int[] boundaries = new int[maxChunks];
+        int count = 0;
+
+        boundaries[count++] = from;
+        int offset = from;
+        while (offset < to) {
+            int target = Math.min(offset + chunkSize, to);
+            int next = target >= to ? to : indexOfNewline(bytes, target, to) + 1;
+
+            boundaries[count++] = Math.min(next, to);
+            offset = next;
+        }
+
+        int[] result = new int[count];
+        System.arraycopy(boundaries, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Returns the offset of the next newline in bytes[from, to), or to if there is none.
+     */
+    static int indexOfNewline(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return to;
+    }
+}
@@ -0,0 +1,41 @@
+package duke.component;
+
+import duke.task.Task;
+
+import java.util.List;
+
+/**
+ * Represents a TaskList that keeps its tasks in columns of primitive arrays.
+ * Uses several times less heap per task than the default TaskList, at the cost of
+ * building a new Task view every time a task is read.
+ * Changes made directly to a returned Task are not written back; use the TaskList operators instead.
+ */
+public class ColumnarTaskList extends TaskList {
+
+    /**
+     * Approximate heap taken by each task, as measured by TaskListMemoryBenchmark.
+     */
+    private static final int ESTIMATED_BYTES_PER_TASK = 44;
+
+    /**
+     * Initialises a new empty ColumnarTaskList.
+     */
+    public ColumnarTaskList() {
+        super(new ColumnarTaskStore());
+    }
+
+    /**
+     * Initialises a new ColumnarTaskList holding a copy of existing tasks.
+     *
+     * @param tasks Tasks to be copied into the columns.
+     */
+    public ColumnarTaskList(List<Task> tasks) {
+        this();
+        tasks.forEach(this::addTask);
+    }
+
+    @Override
+    public long estimateHeapBytes() {
+        return (long) this.size() * ESTIMATED_BYTES_PER_TASK;
+    }
+}
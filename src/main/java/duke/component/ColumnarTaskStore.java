@@ -0,0 +1,351 @@
+package duke.component;
+
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.Todo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Represents a TaskStore that keeps tasks in parallel primitive arrays instead of Task objects.
+ * Each task takes a type byte, a done bit, an epoch time and an offset and length into a shared
+ * UTF-8 byte arena, so a million tasks cost about 21 megabytes plus their text.
+ * Task objects returned by get are fresh views built from the columns, except for rare task types
+ * such as recurring tasks, which are kept as objects.
+ */
+class ColumnarTaskStore implements TaskStore {
+
+    private static final byte TYPE_TODO = 0;
+    private static final byte TYPE_DEADLINE = 1;
+    private static final byte TYPE_EVENT = 2;
+
+    /**
+     * Type of tasks, such as recurring tasks, that are kept as objects in otherTasks.
+     */
+    private static final byte TYPE_OTHER = 3;
+
+    /**
+     * Time stored for tasks without a date.
+     */
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Type of each task.
+     */
+    private byte[] types = new byte[INITIAL_CAPACITY];
+
+    /**
+     * Done state of each task, one bit per task.
+     */
+    private DoneBitSet doneBits = new DoneBitSet();
+
+    /**
+     * Deadline or event time of each task in epoch milliseconds.
+     */
+    private long[] times = new long[INITIAL_CAPACITY];
+
+    /**
+     * Offset of each task's description in the arena.
+     */
+    private int[] descStarts = new int[INITIAL_CAPACITY];
+
+    /**
+     * Length of each task's description in bytes.
+     */
+    private int[] descLengths = new int[INITIAL_CAPACITY];
+
+    /**
+     * UTF-8 bytes of every description, back to back.
+     */
+    private byte[] arena = new byte[INITIAL_CAPACITY * 16];
+
+    /**
+     * Number of bytes used in the arena.
+     */
+    private int arenaSize = 0;
+
+    /**
+     * Number of bytes in the arena that belong to removed tasks.
+     */
+    private int arenaGarbage = 0;
+
+    /**
+     * Tasks that do not fit the columns. Their descStarts entry holds their position in this list.
+     */
+    private ArrayList<Task> otherTasks = new ArrayList<>();
+
+    /**
+     * Number of positions in otherTasks that belong to removed tasks.
+     */
+    private int otherGarbage = 0;
+
+    /**
+     * Number of tasks.
+     */
+    private int size = 0;
+
+    /**
+     * Initialises an empty ColumnarTaskStore.
+     */
+    ColumnarTaskStore() {
+    }
+
+    @Override
+    public void add(Task task) {
+        ensureCapacity(size + 1);
+
+        if (!(task instanceof Todo || task instanceof Deadline || task instanceof Event)) {
+            types[size] = TYPE_OTHER;
+            descStarts[size] = otherTasks.size();
+            descLengths[size] = 0;
+            otherTasks.add(task);
+            doneBits.add(task.isDone());
+            size++;
+            return;
+        }
+
+        long time = NO_TIME;
+        if (task instanceof Deadline) {
+            types[size] = TYPE_DEADLINE;
+            time = toEpoch(((Deadline) task).getDeadline());
+        } else if (task instanceof Event) {
+            types[size] = TYPE_EVENT;
+            time = toEpoch(((Event) task).getTime());
+        } else {
+            types[size] = TYPE_TODO;
+        }
+        times[size] = time;
+
+        byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+        ensureArenaCapacity(arenaSize + description.length);
+        System.arraycopy(description, 0, arena, arenaSize, description.length);
+        descStarts[size] = arenaSize;
+        descLengths[size] = description.length;
+        arenaSize += description.length;
+
+        doneBits.add(task.isDone());
+        size++;
+    }
+
+    @Override
+    public void insert(int index, Task task) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        add(task);
+
+        //move the appended task from the end of the columns into place
+        int last = size - 1;
+        byte type = types[last];
+        long time = times[last];
+        int descStart = descStarts[last];
+        int descLength = descLengths[last];
+        boolean isDone = doneBits.remove(last);
+
+        int numMoved = last - index;
+        System.arraycopy(types, index, types, index + 1, numMoved);
+        System.arraycopy(times, index, times, index + 1, numMoved);
+        System.arraycopy(descStarts, index, descStarts, index + 1, numMoved);
+        System.arraycopy(descLengths, index, descLengths, index + 1, numMoved);
+
+        types[index] = type;
+        times[index] = time;
+        descStarts[index] = descStart;
+        descLengths[index] = descLength;
+        doneBits.insert(index, isDone);
+    }
+
+    @Override
+    public Task remove(int index) {
+        Task removedTask = get(index);
+        arenaGarbage += descLengths[index];
+        if (types[index] == TYPE_OTHER) {
+            //leave a hole so that the positions held by other tasks stay valid until the next compaction
+            otherTasks.set(descStarts[index], null);
+            otherGarbage++;
+        }
+
+        int numMoved = size - index - 1;
+        System.arraycopy(types, index + 1, types, index, numMoved);
+        System.arraycopy(times, index + 1, times, index, numMoved);
+        System.arraycopy(descStarts, index + 1, descStarts, index, numMoved);
+        System.arraycopy(descLengths, index + 1, descLengths, index, numMoved);
+        doneBits.remove(index);
+
+        size--;
+
+        //reclaim removed tasks once they make up most of the arena or of otherTasks
+        if (arenaGarbage > arenaSize / 2 || otherGarbage > otherTasks.size() / 2) {
+            compactArena();
+        }
+        return removedTask;
+    }
+
+    @Override
+    public List<Task> removeAll(int[] indexes) {
+        List<Task> removedTasks = new ArrayList<>(indexes.length);
+        if (indexes.length == 0) {
+            return removedTasks;
+        }
+
+        int write = indexes[0];
+        int next = 0;
+        for (int read = indexes[0]; read < size; read++) {
+            if (next < indexes.length && indexes[next] == read) {
+                removedTasks.add(get(read));
+                arenaGarbage += descLengths[read];
+                if (types[read] == TYPE_OTHER) {
+                    //leave a hole so that the positions held by other tasks stay valid until the next compaction
+                    otherTasks.set(descStarts[read], null);
+                    otherGarbage++;
+                }
+                next++;
+                continue;
+            }
+            types[write] = types[read];
+            times[write] = times[read];
+            descStarts[write] = descStarts[read];
+            descLengths[write] = descLengths[read];
+            write++;
+        }
+        doneBits.removeAll(indexes);
+        size = write;
+
+        //reclaim removed tasks once they make up most of the arena or of otherTasks
+        if (arenaGarbage > arenaSize / 2 || otherGarbage > otherTasks.size() / 2) {
+            compactArena();
+        }
+        return removedTasks;
+    }
+
+    @Override
+    public Task get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+
+        if (types[index] == TYPE_OTHER) {
+            return otherTasks.get(descStarts[index]);
+        }
+
+        String description = new String(arena, descStarts[index], descLengths[index], StandardCharsets.UTF_8);
+        Task task;
+        switch (types[index]) {
+        case TYPE_DEADLINE:
+            task = new Deadline(description, toDate(times[index]));
+            break;
+        case TYPE_EVENT:
+            task = new Event(description, toDate(times[index]));
+            break;
+        default:
+            task = new Todo(description);
+            break;
+        }
+
+        if (doneBits.get(index)) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    /**
+     * Returns the task at a position. Only tasks kept as objects, such as recurring tasks,
+     * can be changed in place; snapshots hold copies of them, so they are never shared.
+     */
+    @Override
+    public Task getWritable(int index) {
+        return get(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void markDone(int index) {
+        doneBits.set(index, true);
+        if (types[index] == TYPE_OTHER) {
+            otherTasks.get(descStarts[index]).markAsDone();
+        }
+    }
+
+    @Override
+    public void markNotDone(int index) {
+        doneBits.set(index, false);
+        if (types[index] == TYPE_OTHER) {
+            otherTasks.get(descStarts[index]).markAsNotDone();
+        }
+    }
+
+    /**
+     * Returns every task built from the columns. Unlike the default store, the columns cannot be shared,
+     * so the snapshot takes time and memory in proportion to the number of tasks.
+     */
+    @Override
+    public List<Task> snapshot() {
+        Task[] tasks = new Task[size];
+        for (int i = 0; i < size; i++) {
+            tasks[i] = types[i] == TYPE_OTHER ? otherTasks.get(descStarts[i]).copy() : get(i);
+        }
+        return Collections.unmodifiableList(Arrays.asList(tasks));
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > types.length) {
+            int newCapacity = Math.max(capacity, types.length + (types.length >> 1));
+            types = Arrays.copyOf(types, newCapacity);
+            times = Arrays.copyOf(times, newCapacity);
+            descStarts = Arrays.copyOf(descStarts, newCapacity);
+            descLengths = Arrays.copyOf(descLengths, newCapacity);
+        }
+    }
+
+    private void ensureArenaCapacity(int capacity) {
+        if (capacity > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(capacity, arena.length + (arena.length >> 1)));
+        }
+    }
+
+    /**
+     * Moves the descriptions of the remaining tasks to the front of the arena, and the remaining tasks
+     * kept as objects to the front of otherTasks, in one pass over the columns.
+     */
+    private void compactArena() {
+        byte[] compacted = new byte[Math.max(arenaSize - arenaGarbage, INITIAL_CAPACITY)];
+        ArrayList<Task> compactedOthers = new ArrayList<>(otherTasks.size() - otherGarbage);
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            if (types[i] == TYPE_OTHER) {
+                compactedOthers.add(otherTasks.get(descStarts[i]));
+                descStarts[i] = compactedOthers.size() - 1;
+                continue;
+            }
+            System.arraycopy(arena, descStarts[i], compacted, offset, descLengths[i]);
+            descStarts[i] = offset;
+            offset += descLengths[i];
+        }
+
+        arena = compacted;
+        arenaSize = offset;
+        arenaGarbage = 0;
+        otherTasks = compactedOthers;
+        otherGarbage = 0;
+    }
+
+    private static long toEpoch(Date date) {
+        return date == null ? NO_TIME : date.getTime();
+    }
+
+    private static Date toDate(long epoch) {
+        return epoch == NO_TIME ? null : new Date(epoch);
+    }
+}
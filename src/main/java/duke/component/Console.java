@@ -0,0 +1,221 @@
+package duke.component;
+
+import duke.exception.DukeException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Represents a console conversation with Duke that reads one command per line from standard input or a file,
+ * and writes the responses through a buffer. Output is only flushed when no more input is waiting,
+ * so a pipeline of many commands runs at the speed of its input, while a person typing still sees every response.
+ * In quiet mode only the commands that fail are reported, on the error stream with their line number.
+ * The console never touches JavaFX.
+ * The 'Console' class supports operators (i) running commands until the input ends or the user says bye,
+ * (ii) writing reminders between responses and
+ * (iii) starting Duke in the console from the command line.
+ */
+public class Console {
+
+    /**
+     * Size in characters of the input and output buffers.
+     */
+    public static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Chatbot that executes the commands.
+     */
+    private final Duke duke;
+
+    /**
+     * Reader of the commands.
+     */
+    private final BufferedReader in;
+
+    /**
+     * Writer of the responses, and of reminders.
+     */
+    private final Writer out;
+
+    /**
+     * Writer of the failed commands in quiet mode.
+     */
+    private final Writer err;
+
+    /**
+     * Whether only failed commands are reported.
+     */
+    private final boolean isQuiet;
+
+    /**
+     * Initialises a new Console.
+     *
+     * @param duke    Chatbot that executes the commands.
+     * @param in      Reader of the commands.
+     * @param out     Writer of the responses.
+     * @param err     Writer of the failed commands in quiet mode.
+     * @param isQuiet Whether only failed commands are reported.
+     */
+    public Console(Duke duke, BufferedReader in, Writer out, Writer err, boolean isQuiet) {
+        this.duke = duke;
+        this.in = in;
+        this.out = out;
+        this.err = err;
+        this.isQuiet = isQuiet;
+    }
+
+    /**
+     * Executes the commands, one per line, until the input ends or the user says bye.
+     * Blank lines are skipped.
+     *
+     * @return Number of commands that failed.
+     * @throws IOException If the input cannot be read or the output written.
+     */
+    public int run() throws IOException {
+        if (!isQuiet) {
+            write(out, new Ui().showWelcome());
+        }
+
+        int numFailed = 0;
+        int lineNum = 0;
+        try {
+            while (true) {
+                //flush only before waiting, so piped input is answered in large writes
+                if (!in.ready()) {
+                    flush();
+                }
+                String input = in.readLine();
+                if (input == null) {
+                    break;
+                }
+                lineNum++;
+                if (input.trim().isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    String response = duke.execute(input);
+                    if (!isQuiet) {
+                        write(out, response);
+                    }
+                } catch (DukeException e) {
+                    numFailed++;
+                    reportFailure(lineNum, e.getMessage());
+                } catch (RuntimeException e) {
+                    //one command that fails unexpectedly must not stop the rest of a script
+                    numFailed++;
+                    reportFailure(lineNum, " OOPS!!! This command failed: " + e);
+                }
+                if (duke.isExit()) {
+                    break;
+                }
+            }
+        } finally {
+            flush();
+        }
+        return numFailed;
+    }
+
+    /**
+     * Writes a reminder between two responses. Reminders arrive on a background thread,
+     * so they are flushed straight away.
+     *
+     * @param reminder Reminder of an approaching deadline or event.
+     */
+    public void showReminder(String reminder) {
+        try {
+            write(out, reminder);
+            synchronized (out) {
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the message of a failed command, with its line number in quiet mode.
+     */
+    private void reportFailure(int lineNum, String message) throws IOException {
+        if (isQuiet) {
+            write(err, "line " + lineNum + ":" + message);
+        } else {
+            write(out, message);
+        }
+    }
+
+    private void write(Writer writer, String text) throws IOException {
+        synchronized (writer) {
+            writer.write(text);
+            if (!text.endsWith("\n")) {
+                writer.write('\n');
+            }
+        }
+    }
+
+    private void flush() throws IOException {
+        synchronized (out) {
+            out.flush();
+        }
+        synchronized (err) {
+            err.flush();
+        }
+    }
+
+    /**
+     * Runs Duke in the console on the lists in the working directory.
+     * The arguments are an optional -q or --quiet, followed by an optional file of commands;
+     * without a file the commands are read from standard input.
+     * The program exits with status 1 if any command failed.
+     *
+     * @param args Command line arguments.
+     * @throws IOException If the input cannot be read or the output written.
+     */
+    public static void main(String[] args) throws IOException {
+        boolean isQuiet = false;
+        String fileName = null;
+        for (String arg : args) {
+            switch (arg) {
+            case "-q":
+            case "--quiet":
+                isQuiet = true;
+                break;
+            default:
+                fileName = arg;
+                break;
+            }
+        }
+
+        InputStream source = fileName == null ? System.in : Files.newInputStream(Paths.get(fileName));
+        BufferedReader in = new BufferedReader(new InputStreamReader(source, StandardCharsets.UTF_8), BUFFER_SIZE);
+        //write to the file descriptors directly, skipping the locking and flushing of System.out
+        Writer out = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), BUFFER_SIZE);
+        Writer err = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(FileDescriptor.err), StandardCharsets.UTF_8));
+
+        Duke duke = new Duke();
+        Console console = new Console(duke, in, out, err, isQuiet);
+        if (!isQuiet) {
+            duke.addReminderListener(console::showReminder);
+        }
+        int numFailed;
+        try {
+            numFailed = console.run();
+        } finally {
+            in.close();
+        }
+        System.exit(numFailed > 0 ? 1 : 0);
+    }
+}
@@ -0,0 +1,175 @@
+package duke.component;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents a bounded pool of task descriptions, so that tasks with the same description share one String.
+ * Entries are weakly referenced and disappear once no task uses the description any more.
+ * The pool is split into stripes so that parallel loading does not contend on a single lock.
+ * The 'DescriptionPool' class supports operators (i) interning a description and
+ * (ii) reporting how much memory the descriptions still in the pool save.
+ */
+public class DescriptionPool {
+
+    /**
+     * Default maximum number of distinct descriptions held by the pool.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static final int NUM_STRIPES = 16;
+
+    /**
+     * Approximate number of bytes taken by a String and its backing array, excluding the characters.
+     */
+    private static final int STRING_OVERHEAD = 40;
+
+    /**
+     * Descriptions in the pool, split by hash code.
+     */
+    private final WeakHashMap<String, Entry>[] stripes;
+
+    /**
+     * Maximum number of descriptions held by each stripe.
+     */
+    private final int stripeCapacity;
+
+    private final AtomicLong numLookups = new AtomicLong();
+    private final AtomicLong numHits = new AtomicLong();
+
+    /**
+     * Initialises a new DescriptionPool holding at most DEFAULT_CAPACITY descriptions.
+     */
+    public DescriptionPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Initialises a new DescriptionPool.
+     *
+     * @param capacity Maximum number of distinct descriptions held by the pool.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public DescriptionPool(int capacity) {
+        this.stripes = (WeakHashMap<String, Entry>[]) new WeakHashMap<?, ?>[NUM_STRIPES];
+        for (int i = 0; i < NUM_STRIPES; i++) {
+            stripes[i] = new WeakHashMap<>();
+        }
+        this.stripeCapacity = Math.max(1, capacity / NUM_STRIPES);
+    }
+
+    /**
+     * Returns the pooled String equal to the description, adding the description to the pool if there is room.
+     *
+     * @param description Description of task.
+     * @return Shared String equal to description.
+     */
+    public String intern(String description) {
+        if (description == null) {
+            return null;
+        }
+        numLookups.incrementAndGet();
+
+        WeakHashMap<String, Entry> stripe = stripeOf(description);
+        synchronized (stripe) {
+            Entry entry = stripe.get(description);
+            String pooled = entry == null ? null : entry.reference.get();
+
+            if (pooled != null) {
+                numHits.incrementAndGet();
+                entry.numShares++;
+                return pooled;
+            }
+
+            //a full pool still works, it just stops sharing new descriptions
+            if (stripe.size() < stripeCapacity) {
+                stripe.put(description, new Entry(description));
+            }
+            return description;
+        }
+    }
+
+    /**
+     * Returns whether an equal description is currently in the pool.
+     *
+     * @param description Description of task.
+     * @return true if the description is in the pool.
+     */
+    public boolean contains(String description) {
+        WeakHashMap<String, Entry> stripe = stripeOf(description);
+        synchronized (stripe) {
+            Entry entry = stripe.get(description);
+            return entry != null && entry.reference.get() != null;
+        }
+    }
+
+    private WeakHashMap<String, Entry> stripeOf(String description) {
+        return stripes[(description.hashCode() & 0x7fffffff) % NUM_STRIPES];
+    }
+
+    /**
+     * Returns the number of distinct descriptions in the pool.
+     *
+     * @return Number of pooled descriptions.
+     */
+    public int size() {
+        int size = 0;
+        for (WeakHashMap<String, Entry> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the approximate memory saved by the descriptions in the pool, counting a String for every time
+     * a description was shared. Descriptions no task uses any more have left the pool, and no longer count.
+     *
+     * @return Approximate size in bytes.
+     */
+    public long getBytesSaved() {
+        long bytes = 0;
+        for (WeakHashMap<String, Entry> stripe : stripes) {
+            synchronized (stripe) {
+                for (Map.Entry<String, Entry> pooled : stripe.entrySet()) {
+                    bytes += (long) pooled.getValue().numShares * (STRING_OVERHEAD + pooled.getKey().length());
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns a String representation of the pool's statistics.
+     *
+     * @return String representation of the number of lookups, hits and bytes saved.
+     */
+    public String toStatisticsString() {
+        return "Distinct descriptions pooled: " + size()
+                + "\nDescriptions shared: " + numHits.get() + " of " + numLookups.get()
+                + "\nMemory saved by sharing: " + (getBytesSaved() >> 10) + " KB\n";
+    }
+
+    /**
+     * Represents a description in the pool, and how many times it was shared since it was added.
+     */
+    private static class Entry {
+
+        /**
+         * Pooled description, weakly referenced so that it is not kept alive by the pool.
+         */
+        private final WeakReference<String> reference;
+
+        /**
+         * Number of times the pooled description was returned for an equal one. Guarded by the stripe.
+         */
+        private int numShares;
+
+        Entry(String description) {
+            this.reference = new WeakReference<>(description);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package duke.component;
+
+import java.util.Arrays;
+
+/**
+ * Represents the done state of a list of tasks, one bit per task.
+ * Counting and scanning work on 64 tasks at a time, and a cumulative count per word
+ * gives rank and select without scanning the whole list.
+ * The 'DoneBitSet' class supports operators (i) appending, inserting, removing, reading and setting a bit,
+ * and removing many bits in one pass,
+ * (ii) counting the done tasks before a position (rank),
+ * (iii) finding the position of the n-th done task (select), and
+ * (iv) scanning for the next done or not done task.
+ */
+public class DoneBitSet {
+
+    /**
+     * Bits of every task, 64 to a word.
+     */
+    private long[] words = new long[1];
+
+    /**
+     * Number of done tasks in all words before each word.
+     */
+    private int[] wordRanks = new int[1];
+
+    /**
+     * Index of the first word whose entry in wordRanks is out of date.
+     */
+    private int firstStaleWord = 0;
+
+    /**
+     * Number of bits.
+     */
+    private int size = 0;
+
+    /**
+     * Returns the number of bits.
+     *
+     * @return Number of tasks in the bitset.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a bit to the end of the bitset.
+     *
+     * @param isDone Whether the new task is done.
+     */
+    public void add(boolean isDone) {
+        int wordCount = (size >>> 6) + 1;
+        if (wordCount > words.length) {
+            words = Arrays.copyOf(words, words.length * 2);
+            wordRanks = Arrays.copyOf(wordRanks, words.length);
+        }
+        size++;
+        set(size - 1, isDone);
+    }
+
+    /**
+     * Returns whether the task at a position is done.
+     *
+     * @param index Zero-based position of the task.
+     * @return true if the task is done.
+     */
+    public boolean get(int index) {
+        checkIndex(index);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets whether the task at a position is done.
+     *
+     * @param index  Zero-based position of the task.
+     * @param isDone Whether the task is done.
+     */
+    public void set(int index, boolean isDone) {
+        checkIndex(index);
+        if (isDone) {
+            words[index >>> 6] |= 1L << index;
+        } else {
+            words[index >>> 6] &= ~(1L << index);
+        }
+        invalidateFrom(index >>> 6);
+    }
+
+    /**
+     * Inserts a bit at a position, shifting every later bit up by one.
+     *
+     * @param index  Zero-based position of the new task, from 0 to size inclusive.
+     * @param isDone Whether the new task is done.
+     */
+    public void insert(int index, boolean isDone) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        add(false);
+
+        int word = index >>> 6;
+        int lastWord = (size - 1) >>> 6;
+        for (int i = lastWord; i > word; i--) {
+            words[i] = (words[i] << 1) | (words[i - 1] >>> 63);
+        }
+        long lowMask = (1L << index) - 1;
+        long current = words[word];
+        words[word] = (current & lowMask) | ((current << 1) & ~lowMask);
+
+        set(index, isDone);
+    }
+
+    /**
+     * Removes the bit at a position, shifting every later bit down by one.
+     *
+     * @param index Zero-based position of the task.
+     * @return Whether the removed task was done.
+     */
+    public boolean remove(int index) {
+        boolean wasDone = get(index);
+
+        int word = index >>> 6;
+        long lowMask = (1L << index) - 1;
+        long current = words[word];
+        words[word] = (current & lowMask) | ((current >>> 1) & ~lowMask);
+
+        int lastWord = (size - 1) >>> 6;
+        for (int i = word; i < lastWord; i++) {
+            words[i] |= words[i + 1] << 63;
+            words[i + 1] >>>= 1;
+        }
+
+        size--;
+        invalidateFrom(word);
+        return wasDone;
+    }
+
+    /**
+     * Removes the bits at many positions in one pass, shifting every later bit down past the removed ones.
+     *
+     * @param indexes Zero-based positions of the tasks, in increasing order.
+     */
+    public void removeAll(int[] indexes) {
+        if (indexes.length == 0) {
+            return;
+        }
+        for (int i = 0; i < indexes.length; i++) {
+            checkIndex(indexes[i]);
+            if (i > 0 && indexes[i] <= indexes[i - 1]) {
+                throw new IllegalArgumentException("Positions are not in increasing order");
+            }
+        }
+
+        int write = indexes[0];
+        int next = 0;
+        for (int read = indexes[0]; read < size; read++) {
+            if (next < indexes.length && indexes[next] == read) {
+                next++;
+                continue;
+            }
+            long bit = 1L << write;
+            if ((words[read >>> 6] & (1L << read)) != 0) {
+                words[write >>> 6] |= bit;
+            } else {
+                words[write >>> 6] &= ~bit;
+            }
+            write++;
+        }
+
+        //bits past the end must be clear for counting whole words
+        for (int i = write; i < size; i++) {
+            words[i >>> 6] &= ~(1L << i);
+        }
+        size = write;
+        invalidateFrom(indexes[0] >>> 6);
+    }
+
+    /**
+     * Returns the number of done tasks before a position.
+     *
+     * @param index Zero-based position, from 0 to size inclusive.
+     * @return Number of done tasks in positions [0, index).
+     */
+    public int rank(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        int word = index >>> 6;
+        int bit = index & 63;
+        if (bit == 0) {
+            if (word == 0) {
+                return 0;
+            }
+            //rank at a word boundary is the rank of the previous word plus all of its bits
+            updateRanks(word - 1);
+            return wordRanks[word - 1] + Long.bitCount(words[word - 1]);
+        }
+        updateRanks(word);
+        return wordRanks[word] + Long.bitCount(words[word] & ((1L << bit) - 1));
+    }
+
+    /**
+     * Returns the position of the n-th done task.
+     *
+     * @param n Zero-based count of done tasks to skip.
+     * @return Zero-based position of the done task, or -1 if fewer than n + 1 tasks are done.
+     */
+    public int select(int n) {
+        if (n < 0 || n >= countDone()) {
+            return -1;
+        }
+
+        //find the last word with fewer than n + 1 done tasks before it
+        int low = 0;
+        int high = (size - 1) >>> 6;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (wordRanks[middle] <= n) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        long word = words[low];
+        for (int skipped = n - wordRanks[low]; skipped > 0; skipped--) {
+            word &= word - 1;
+        }
+        return (low << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Returns the number of done tasks.
+     *
+     * @return Number of done tasks.
+     */
+    public int countDone() {
+        return rank(size);
+    }
+
+    /**
+     * Returns the position of the next done task.
+     *
+     * @param from Zero-based position to start searching from.
+     * @return Position of the next done task at or after from, or -1 if there is none.
+     */
+    public int nextDone(int from) {
+        return nextBit(from, false);
+    }
+
+    /**
+     * Returns the position of the next task that is not done.
+     *
+     * @param from Zero-based position to start searching from.
+     * @return Position of the next task that is not done at or after from, or -1 if there is none.
+     */
+    public int nextNotDone(int from) {
+        return nextBit(from, true);
+    }
+
+    private int nextBit(int from, boolean isInverted) {
+        if (from >= size) {
+            return -1;
+        }
+        int word = from >>> 6;
+        long bits = (isInverted ? ~words[word] : words[word]) & (-1L << from);
+
+        int lastWord = (size - 1) >>> 6;
+        while (bits == 0 && word < lastWord) {
+            word++;
+            bits = isInverted ? ~words[word] : words[word];
+        }
+
+        int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+        return bits != 0 && index < size ? index : -1;
+    }
+
+    /**
+     * Brings the cumulative count of every word up to and including a word up to date.
+     */
+    private void updateRanks(int lastWord) {
+        for (int i = Math.max(firstStaleWord, 1); i <= lastWord; i++) {
+            wordRanks[i] = wordRanks[i - 1] + Long.bitCount(words[i - 1]);
+        }
+        firstStaleWord = Math.max(firstStaleWord, lastWord + 1);
+    }
+
+    private void invalidateFrom(int word) {
+        //the count before a word only depends on earlier words
+        firstStaleWord = Math.min(firstStaleWord, word + 1);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+}
@@ -2,64 +2,92 @@ package duke.component;
 
 import duke.command.Command;
 import duke.exception.DukeException;
-import javafx.scene.Scene;
-import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
-import javafx.scene.control.TextField;
-import javafx.scene.image.Image;
-import javafx.scene.layout.VBox;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.Consumer;
 
 
 /**
  * Represents chatbot Duke with main method.
- * The 'Duke' class supports operators (i) allows user interaction with chatbot.
+ * The 'Duke' class supports operators (i) allows user interaction with chatbot
+ * and (ii) executing one input at a time, telling whether the user said bye.
  */
 public class Duke {
 
     /**
-     * Store and load tasks from text in text file.
-     */
-    private Storage storage;
-
-    /**
-     * Task List of tasks.
+     * Named task lists, each stored in its own text file.
      */
-    private TaskList tasks;
+    private WorkspaceManager workspaces;
 
     /**
      * User Interface that takes care of user interaction with chatbot.
      */
     private Ui ui;
 
-    private ScrollPane scrollPane;
-    private VBox dialogContainer;
-    private TextField userInput;
-    private Button sendButton;
-    private Scene scene;
+    /**
+     * Parser to parse user inputs.
+     */
+    private Parser parser = new Parser();
 
+    /**
+     * Checks whether the last command ended the conversation.
+     */
+    private boolean isExit = false;
 
     /**
-     * Creates a new instance of Duke with file path of text file.
+     * Creates a new instance of Duke, with the default list loaded from duke.txt.
+     * Other lists are loaded from their own text files when the user switches to them.
      */
     public Duke() {
+        this(Paths.get(""));
+    }
+
+    /**
+     * Creates a new instance of Duke, with the default list loaded from duke.txt in the given directory.
+     *
+     * @param directory Directory holding the text file of every list.
+     */
+    public Duke(Path directory) {
         ui = new Ui();
-        storage = new Storage("duke.txt");
+        workspaces = new WorkspaceManager(directory, ui);
+        workspaces.getCurrent();
+        startReplication();
+    }
 
-        try {
-            tasks = new TaskList(storage.load());
-        } catch (DukeException e) {
-            ui.showLoadingError();
-            tasks = new TaskList();
+    /**
+     * Ships the changes of the default list to followers on the local port given by the system property
+     * duke.replication.lead, or keeps the default list a read-only copy of the leader on the local port
+     * given by duke.replication.follow.
+     */
+    private void startReplication() {
+        Integer leaderPort = Integer.getInteger("duke.replication.lead");
+        Integer followerPort = Integer.getInteger("duke.replication.follow");
+        if (leaderPort != null) {
+            try {
+                workspaces.lead(leaderPort);
+            } catch (IOException e) {
+                System.out.println("Changes cannot be shipped to followers on port " + leaderPort);
+            }
+        } else if (followerPort != null) {
+            workspaces.followLeader(followerPort);
         }
+    }
 
+    /**
+     * Registers a receiver of reminder messages, such as the GUI or the console.
+     * Reminders are delivered on a background thread.
+     *
+     * @param listener Receiver of reminder messages.
+     */
+    public void addReminderListener(Consumer<String> listener) {
+        workspaces.addReminderListener(listener);
     }
 
     public String getResponse(String input) {
         try {
-            Parser parser = new Parser();
-            Command c = parser.parse(input);
-
-            return c.execute(tasks, ui, storage);
+            return execute(input);
 
         } catch (DukeException e) {
             return (e.getMessage());
@@ -67,5 +95,28 @@ public class Duke {
 
     }
 
+    /**
+     * Parses and executes one user input.
+     *
+     * @param input User input.
+     * @return Response of the command.
+     * @throws DukeException If the input is not a valid command or the command fails.
+     */
+    public String execute(String input) throws DukeException {
+        Command c = parser.parse(input);
+        String response = workspaces.execute(c, ui);
+        isExit = c.isExit();
+        return response;
+    }
+
+    /**
+     * Returns whether the last command ended the conversation.
+     *
+     * @return true if the user said bye.
+     */
+    public boolean isExit() {
+        return isExit;
+    }
+
 
 }
@@ -0,0 +1,556 @@
+package duke.component;
+
+import duke.task.Recurring;
+import duke.task.Task;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a follower of the text files of the loaded lists, which notices when another program changes them.
+ * A background thread waits on a WatchService for the directory of the lists. When a text file grows in place,
+ * only the records after the part already read are parsed, as with 'tail -f'. When it is replaced or edited,
+ * the whole file is parsed, and compared with the list from both ends, so that only the run of tasks between
+ * the unchanged start and the unchanged end of the list is replaced.
+ * Files are read and parsed on the background thread. The changes are queued and applied to the TaskList and
+ * Statistics on the thread that executes commands, just before the next command, so they never race with a
+ * command and the UI thread never waits on a file. Files written by Duke itself are recognised and not read again.
+ * The 'FileFollower' class supports operators (i) following and unfollowing the text file of a list,
+ * (ii) reading appended records and changed files in the background,
+ * (iii) applying the queued changes to the lists and
+ * (iv) recognising the files written by Duke's own commands.
+ */
+public class FileFollower {
+
+    /**
+     * How long to wait after a change for more changes of the same write, in milliseconds.
+     */
+    private static final long SETTLE_MILLIS = 50;
+
+    /**
+     * How often the background thread looks for files that must be read again, in milliseconds.
+     */
+    private static final long RECHECK_MILLIS = 200;
+
+    /**
+     * Directory holding the text files.
+     */
+    private final Path directory;
+
+    /**
+     * Followed text files, by file name.
+     */
+    private final Map<Path, FollowedFile> files = new ConcurrentHashMap<>();
+
+    /**
+     * Changes read in the background and waiting to be applied, oldest first.
+     */
+    private final ConcurrentLinkedQueue<Change> changes = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Followed text files that must be read again in full.
+     */
+    private final ConcurrentLinkedQueue<FollowedFile> rechecks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Service that tells the background thread about changed files.
+     */
+    private WatchService watchService;
+
+    /**
+     * Thread that reads changed files.
+     */
+    private Thread thread;
+
+    /**
+     * Initialises a new FileFollower.
+     *
+     * @param directory Directory holding the text files of the lists.
+     */
+    public FileFollower(Path directory) {
+        this.directory = directory.toAbsolutePath();
+    }
+
+    /**
+     * Starts following the text file of a loaded list, starting the background thread if needed.
+     * The list must hold the tasks of the file as it is now.
+     *
+     * @param workspace Loaded list.
+     * @throws IOException If the directory cannot be watched.
+     */
+    public synchronized void follow(Workspace workspace) throws IOException {
+        if (thread == null) {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            thread = new Thread(this::watch, "duke-follower");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        Path path = workspace.getStorage().getPath().toAbsolutePath();
+        FollowedFile file = new FollowedFile(workspace, path);
+        FileState state = FileState.of(path);
+        file.verified = state;
+        file.moveCursor(state, workspace.getTaskList().size());
+        files.put(path.getFileName(), file);
+    }
+
+    /**
+     * Stops following the text file of a list, such as when the list is dropped from memory.
+     *
+     * @param workspace List that was followed.
+     */
+    public void unfollow(Workspace workspace) {
+        files.values().removeIf(file -> file.workspace == workspace);
+    }
+
+    /**
+     * Stops the background thread. Changes that are waiting are dropped.
+     */
+    public synchronized void stop() {
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            //the thread stops either way
+        }
+        thread = null;
+        changes.clear();
+    }
+
+    /**
+     * Returns the state of the text file of a list, to be passed to markWritten after a command.
+     *
+     * @param workspace List that a command is about to change.
+     * @return State of its text file, or null if it is not followed.
+     */
+    FileState getState(Workspace workspace) {
+        FollowedFile file = find(workspace);
+        return file == null ? null : FileState.of(file.path);
+    }
+
+    /**
+     * Recognises the text file of a list as written by Duke's own command, so that it is not read again.
+     * This is only done if the list matched its file before the command; otherwise the file is left to
+     * the background thread, which compares all of it with the list.
+     *
+     * @param workspace List that a command may have changed.
+     * @param before    State of its text file before the command.
+     */
+    void markWritten(Workspace workspace, FileState before) {
+        FollowedFile file = find(workspace);
+        if (file == null || before == null) {
+            return;
+        }
+        FileState after = FileState.of(file.path);
+        synchronized (file) {
+            if (before.equals(file.verified) && !before.equals(after)) {
+                file.generation++;
+                file.verified = after;
+                file.moveCursor(after, workspace.getTaskList().size());
+            }
+        }
+    }
+
+    /**
+     * Applies the changes read since the last call to the lists they belong to.
+     * Called on the thread that executes commands. A list that changes has its undo history cleared,
+     * since task numbers may have moved.
+     *
+     * @return One line for every list that changed, or an empty String.
+     */
+    public String applyChanges() {
+        StringBuilder notices = new StringBuilder();
+        Change change;
+        while ((change = changes.poll()) != null) {
+            if (files.get(change.file.path.getFileName()) == change.file) {
+                apply(change, notices);
+            }
+        }
+        return notices.toString();
+    }
+
+    private void apply(Change change, StringBuilder notices) {
+        FollowedFile file = change.file;
+        TaskList taskList = file.workspace.getTaskList();
+
+        synchronized (file) {
+            if (change.generation != file.generation) {
+                //Duke wrote the file since it was read, so the change may undo the newer write
+                return;
+            }
+            if (change.base != null && (!change.base.equals(file.verified) || taskList.size() != change.baseSize)) {
+                //appended records only fit a list that holds everything before them
+                file.cursor = null;
+                rechecks.add(file);
+                return;
+            }
+            file.verified = change.state;
+        }
+
+        int[] counts = change.base != null ? appendTasks(taskList, change.tasks) : replaceTasks(taskList, change.tasks);
+        if (counts[0] == 0 && counts[1] == 0) {
+            return;
+        }
+
+        Storage storage = file.workspace.getStorage();
+        storage.getStatistics().add(counts[2], counts[0] - counts[1] - counts[2]);
+        file.workspace.getUndoHistory().clear();
+        notices.append(file.path.getFileName()).append(" was changed by another program: ")
+                .append(counts[0]).append(counts[0] == 1 ? " task added, " : " tasks added, ")
+                .append(counts[1]).append(counts[1] == 1 ? " task removed.\n" : " tasks removed.\n");
+    }
+
+    /**
+     * Adds tasks to the end of a list.
+     *
+     * @return Number of tasks added, removed and the change in the number of completed tasks.
+     */
+    private static int[] appendTasks(TaskList taskList, List<Task> tasks) {
+        int numDone = 0;
+        for (Task task : tasks) {
+            taskList.addTask(task);
+            if (task.isDone()) {
+                numDone++;
+            }
+        }
+        return new int[]{tasks.size(), 0, numDone};
+    }
+
+    /**
+     * Makes a list hold the tasks read from its file, replacing only the tasks between the longest unchanged
+     * start and the longest unchanged end.
+     *
+     * @return Number of tasks added, removed and the change in the number of completed tasks.
+     */
+    private static int[] replaceTasks(TaskList taskList, List<Task> tasks) {
+        int oldSize = taskList.size();
+        int newSize = tasks.size();
+        int prefix = 0;
+        while (prefix < oldSize && prefix < newSize && isSame(taskList.getTask(prefix + 1), tasks.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < oldSize - prefix && suffix < newSize - prefix
+                && isSame(taskList.getTask(oldSize - suffix), tasks.get(newSize - 1 - suffix))) {
+            suffix++;
+        }
+
+        int[] removedNums = new int[oldSize - suffix - prefix];
+        for (int i = 0; i < removedNums.length; i++) {
+            removedNums[i] = prefix + 1 + i;
+        }
+        int[] addedNums = new int[newSize - suffix - prefix];
+        for (int i = 0; i < addedNums.length; i++) {
+            addedNums[i] = prefix + 1 + i;
+        }
+        List<Task> addedTasks = tasks.subList(prefix, prefix + addedNums.length);
+
+        int doneChange = 0;
+        for (Task task : taskList.deleteTasks(removedNums)) {
+            doneChange -= task.isDone() ? 1 : 0;
+        }
+        for (Task task : addedTasks) {
+            doneChange += task.isDone() ? 1 : 0;
+        }
+        taskList.insertTasks(addedNums, addedTasks);
+        return new int[]{addedNums.length, removedNums.length, doneChange};
+    }
+
+    /**
+     * Returns whether two tasks look the same, ignoring how the file padded their fields with spaces.
+     */
+    private static boolean isSame(Task first, Task second) {
+        String firstText = first.toString();
+        String secondText = second.toString();
+        if (!firstText.equals(secondText)
+                && !firstText.trim().replaceAll("\\s+", " ").equals(secondText.trim().replaceAll("\\s+", " "))) {
+            return false;
+        }
+        if (first instanceof Recurring && second instanceof Recurring) {
+            return ((Recurring) first).getDoneOccurrencesText().equals(((Recurring) second).getDoneOccurrencesText());
+        }
+        return true;
+    }
+
+    private FollowedFile find(Workspace workspace) {
+        FollowedFile file = files.get(workspace.getStorage().getPath().getFileName());
+        return file != null && file.workspace == workspace ? file : null;
+    }
+
+    /**
+     * Waits for changed files and reads them, until stopped.
+     */
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Set<FollowedFile> touched = new LinkedHashSet<>();
+                WatchKey key = watchService.poll(RECHECK_MILLIS, TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    //a writer often changes a file several times in a row, so let the burst settle first
+                    Thread.sleep(SETTLE_MILLIS);
+                    while (key != null) {
+                        collect(key, touched);
+                        key = watchService.poll();
+                    }
+                }
+                FollowedFile file;
+                while ((file = rechecks.poll()) != null) {
+                    touched.add(file);
+                }
+
+                for (FollowedFile touchedFile : touched) {
+                    try {
+                        read(touchedFile);
+                    } catch (NoSuchFileException e) {
+                        //the file is being replaced; its new version raises another event
+                    } catch (IOException e) {
+                        rechecks.add(touchedFile);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            //stopped
+        }
+    }
+
+    private void collect(WatchKey key, Set<FollowedFile> touched) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                touched.addAll(files.values());
+                continue;
+            }
+            FollowedFile file = files.get((Path) event.context());
+            if (file != null) {
+                touched.add(file);
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * Reads what changed in a followed file and queues it. Runs on the background thread.
+     */
+    private void read(FollowedFile file) throws IOException {
+        FileState state = FileState.of(file.path);
+        FileState cursor;
+        long cursorLength;
+        int cursorSize;
+        int generation;
+        synchronized (file) {
+            if (state == null || state.equals(file.cursor) || state.equals(file.verified)) {
+                return;
+            }
+            cursor = file.cursor;
+            cursorLength = file.cursorLength;
+            cursorSize = file.cursorSize;
+            generation = file.generation;
+        }
+        Storage storage = file.workspace.getStorage();
+
+        if (cursor != null && Objects.equals(cursor.fileKey, state.fileKey) && cursor.fileKey != null
+                && state.size > cursorLength) {
+            byte[] bytes = readFrom(file.path, cursorLength, state.size);
+            FileState after = FileState.of(file.path);
+            if (after == null || !Objects.equals(after.fileKey, state.fileKey)) {
+                //the file was replaced while it was read, so the bytes may not follow the cursor
+                rechecks.add(file);
+                return;
+            }
+            int end = lastLineEnd(bytes);
+            List<Task> tasks = storage.parseRecords(bytes, 0, end);
+            synchronized (file) {
+                if (file.cursor != cursor) {
+                    return;
+                }
+                file.cursor = state;
+                file.cursorLength = cursorLength + end;
+                file.cursorSize = cursorSize + tasks.size();
+            }
+            changes.add(new Change(file, generation, cursor, cursorSize, state, tasks));
+            return;
+        }
+
+        byte[] bytes = Files.readAllBytes(file.path);
+        int end = lastLineEnd(bytes);
+        List<Task> tasks = storage.parseRecords(bytes, Storage.indexOfFirstRecord(bytes, end), end);
+        synchronized (file) {
+            if (file.cursor != cursor) {
+                return;
+            }
+            file.cursor = state;
+            file.cursorLength = end;
+            file.cursorSize = tasks.size();
+        }
+        changes.add(new Change(file, generation, null, 0, state, tasks));
+    }
+
+    private static byte[] readFrom(Path path, long from, long to) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(to - from));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining() && channel.read(buffer, from + buffer.position()) >= 0) {
+                //keep reading until the buffer is full or the file ends
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Returns the offset just after the last newline; a line still being written is left for later.
+     */
+    private static int lastLineEnd(byte[] bytes) {
+        int end = bytes.length;
+        while (end > 0 && bytes[end - 1] != '\n') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Represents the identity, size and modification time of a file, which change whenever it is written.
+     */
+    static final class FileState {
+        private final Object fileKey;
+        private final long size;
+        private final FileTime modified;
+
+        private FileState(Object fileKey, long size, FileTime modified) {
+            this.fileKey = fileKey;
+            this.size = size;
+            this.modified = modified;
+        }
+
+        /**
+         * Returns the state of a file, or null if it cannot be read.
+         */
+        static FileState of(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new FileState(attributes.fileKey(), attributes.size(), attributes.lastModifiedTime());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof FileState)) {
+                return false;
+            }
+            FileState state = (FileState) other;
+            return Objects.equals(fileKey, state.fileKey) && size == state.size && modified.equals(state.modified);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fileKey, size, modified);
+        }
+    }
+
+    /**
+     * Represents a followed text file and how far it has been read.
+     */
+    private static final class FollowedFile {
+        private final Workspace workspace;
+        private final Path path;
+
+        /**
+         * Number of times Duke's own commands wrote the file; changes read before a write are dropped.
+         */
+        private int generation;
+
+        /**
+         * State of the file when the list last matched it, or null if that is unknown.
+         */
+        private FileState verified;
+
+        /**
+         * State of the file when it was last read or written by Duke, or null to read all of it next time.
+         */
+        private FileState cursor;
+
+        /**
+         * Offset just after the last record read.
+         */
+        private long cursorLength;
+
+        /**
+         * Number of tasks in the records read.
+         */
+        private int cursorSize;
+
+        private FollowedFile(Workspace workspace, Path path) {
+            this.workspace = workspace;
+            this.path = path;
+        }
+
+        private void moveCursor(FileState state, int size) {
+            cursor = state;
+            cursorLength = state == null ? 0 : state.size;
+            cursorSize = size;
+        }
+    }
+
+    /**
+     * Represents a change read from a followed file: records appended after a known state, or the whole file.
+     */
+    private static final class Change {
+        private final FollowedFile file;
+
+        /**
+         * Generation of the file when it was read.
+         */
+        private final int generation;
+
+        /**
+         * State the records were appended to, or null if tasks holds the whole file.
+         */
+        private final FileState base;
+
+        /**
+         * Number of tasks before the appended records.
+         */
+        private final int baseSize;
+
+        /**
+         * State of the file that was read.
+         */
+        private final FileState state;
+
+        private final List<Task> tasks;
+
+        private Change(FollowedFile file, int generation, FileState base, int baseSize, FileState state,
+                List<Task> tasks) {
+            this.file = file;
+            this.generation = generation;
+            this.base = base;
+            this.baseSize = baseSize;
+            this.state = state;
+            this.tasks = tasks;
+        }
+    }
+}
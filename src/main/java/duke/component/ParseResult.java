@@ -0,0 +1,81 @@
+package duke.component;
+
+import duke.command.Command;
+import duke.exception.DukeException;
+
+/**
+ * Represents the result of parsing a user input: either the command it asks for, or why it is not valid.
+ * Invalid inputs are returned as a value instead of being thrown, so rejecting them costs no more than
+ * accepting them.
+ * The 'ParseResult' class supports operators (i) checking whether the input was valid,
+ * (ii) getting the command, or throwing the error of an invalid input, and
+ * (iii) getting the message of the error.
+ */
+public class ParseResult {
+
+    /**
+     * Command asked for, or null if the input is not valid.
+     */
+    private final Command command;
+
+    /**
+     * Why the input is not valid, or null if it is.
+     */
+    private final DukeException error;
+
+    private ParseResult(Command command, DukeException error) {
+        this.command = command;
+        this.error = error;
+    }
+
+    /**
+     * Returns the result of a valid input.
+     *
+     * @param command Command asked for.
+     * @return Result holding the command.
+     */
+    static ParseResult of(Command command) {
+        return new ParseResult(command, null);
+    }
+
+    /**
+     * Returns the result of an invalid input. The error is kept to be thrown by getCommand, if ever.
+     *
+     * @param error Why the input is not valid.
+     * @return Result holding the error.
+     */
+    static ParseResult error(DukeException error) {
+        return new ParseResult(null, error);
+    }
+
+    /**
+     * Returns whether the input was a valid command.
+     *
+     * @return true if there is a command.
+     */
+    public boolean isValid() {
+        return error == null;
+    }
+
+    /**
+     * Returns the command asked for.
+     *
+     * @return Command of a valid input.
+     * @throws DukeException If the input is not valid.
+     */
+    public Command getCommand() throws DukeException {
+        if (error != null) {
+            throw error;
+        }
+        return command;
+    }
+
+    /**
+     * Returns the message telling the user why the input is not valid.
+     *
+     * @return Message of the error, or null if the input is valid.
+     */
+    public String getErrorMessage() {
+        return error == null ? null : error.getMessage();
+    }
+}
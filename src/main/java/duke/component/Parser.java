@@ -6,31 +6,81 @@ import duke.command.*;
 import duke.exception.DukeException;
 import duke.exception.EmptyDescException;
 import duke.exception.InvalidArgumentException;
+import duke.task.Recurrence;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Parser object that parses user inputs.
- * The 'Parser' class supports operators (i) parse out user inputs
+ * Inputs are checked before they are cut up, so an invalid input is returned as a ParseResult holding
+ * the error instead of being found by catching an exception.
+ * The 'Parser' class supports operators (i) parse out user inputs, either as a command or as a result
+ * that holds the command or the error,
  * and (ii) determine the input type, which helps parse out user inputs.
  */
 public class Parser {
 
+    /**
+     * Largest edit distance a fuzzy find can be given, beyond which almost every word matches.
+     */
+    private static final int MAX_FUZZY_DISTANCE = 3;
+
+    /**
+     * Pattern that splits an input into words, compiled once instead of on every input.
+     */
+    private static final Pattern SPACES = Pattern.compile("\\s+");
 
     /**
      * Parses out user inputs.
      *
      * @param input User input.
      * @return Command Type of command that user input in.
-     * @throws DukeException If there is IOException when reading or writing from text file.
+     * @throws DukeException If the input is not a valid command.
      */
     public Command parse(String input) throws DukeException {
+        return tryParse(input).getCommand();
+    }
+
+    /**
+     * Parses out user inputs without throwing for an invalid input.
+     *
+     * @param input User input.
+     * @return Result holding the command, or the error if the input is not a valid command.
+     */
+    public ParseResult tryParse(String input) {
         switch (input) {
 
         case "bye":
-            return new ExitCommand();
+            return ParseResult.of(new ExitCommand());
 
 
         case "list":
-            return new ListCommand();
+            return ParseResult.of(new ListCommand());
+
+        case "list done":
+            return ParseResult.of(new ListCommand(true));
+
+        case "list pending":
+            return ParseResult.of(new ListCommand(false));
+
+
+        case "stats":
+            return ParseResult.of(new StatisticsCommand());
+
+
+        case "undo":
+            return ParseResult.of(new UndoCommand());
+
+        case "redo":
+            return ParseResult.of(new RedoCommand());
 
 
         default:
@@ -40,16 +90,20 @@ public class Parser {
     }
 
     /**
-     * Returns Command object based on user input.
-     * Helper method to parse(String input) method.
+     * Returns the result of parsing a user input that is not a single word command.
+     * Helper method to tryParse(String input) method.
      *
      * @param input User input.
-     * @return Command Type o comand summoned by user.
-     * @throws DukeException If there is IOException when reading or writing from text file.
+     * @return Result holding the command summoned by user, or the error.
      */
-    private Command determineInputType(String input) throws DukeException {
+    private ParseResult determineInputType(String input) {
         String[] wordArray = this.splitBySpace(input);
 
+        //'find~' and 'find~2' are fuzzy finds, with the largest edit distance after the '~'
+        if (wordArray[0].startsWith("find~")) {
+            return createFuzzyFindCommand(input, wordArray[0]);
+        }
+
         switch (wordArray[0]) {
 
         case "done":
@@ -76,121 +130,408 @@ public class Parser {
 
             return createFindCommand(input);
 
+        case "recur":
+
+            return createRecurCommand(input);
+
+        case "due":
+
+            return createDueCommand(wordArray);
+
+        case "upcoming":
+
+            return createUpcomingCommand(wordArray);
+
+        case "switch":
+
+            return createSwitchCommand(wordArray);
+
+        case "query":
+
+            return createQueryCommand(input);
+
+        case "list":
+
+            return createListCommand(wordArray);
+
+        case "import":
+
+            return createFileCommand(wordArray, "import");
+
+        case "export":
+
+            return createFileCommand(wordArray, "export");
+
 
         default:
-            throw new InvalidArgumentException();
+            return ParseResult.error(new InvalidArgumentException());
 
         }
     }
 
 
     private String[] splitBySpace(String input) {
-        return input.split("\\s+", -1);
+        return SPACES.split(input, -1);
     }
 
 
-    private DoneCommand createDoneCommand(String input) throws EmptyDescException {
-        try {
+    private ParseResult createDoneCommand(String input) {
+        if (input.length() < "done ".length()) {
+            return ParseResult.error(new EmptyDescException("done"));
+        }
 
-            int taskNum = Integer.parseInt(input.substring(5));
-            DoneCommand resultCommand = new DoneCommand(taskNum);
+        String taskNums = input.substring(5);
+        if (isTaskNumList(taskNums)) {
+            return parseTaskNums(taskNums, nums -> new BulkDoneCommand(nums, true));
+        }
+        if (!isInteger(taskNums.trim())) {
+            return ParseResult.error(taskNums.isBlank() ? new EmptyDescException("done")
+                    : new InvalidArgumentException());
+        }
 
-            //Assert that result is an instance of DoneCommand
-            assert resultCommand instanceof DoneCommand : "Result is not an instance of DoneCommand";
+        int taskNum = Integer.parseInt(taskNums.trim());
+        if (taskNum < 1) {
+            return ParseResult.error(new DukeException(" OOPS!!! There is no task " + taskNum + " in your list."));
+        }
+        DoneCommand resultCommand = new DoneCommand(taskNum);
+
+        //Assert that result is an instance of DoneCommand
+        assert resultCommand instanceof DoneCommand : "Result is not an instance of DoneCommand";
 
-            return resultCommand;
+        return ParseResult.of(resultCommand);
+    }
 
-        } catch (StringIndexOutOfBoundsException e1) {
-            throw new EmptyDescException("done");
+
+    private ParseResult createTodoCommand(String input) {
+        if (input.length() < "todo ".length()) {
+            return ParseResult.error(new EmptyDescException("todo"));
         }
+
+        AddCommand resultCommand = new AddCommand("T", false, input.substring(5), null);
+
+        //Assert that result is an instance of DoneCommand
+        assert resultCommand instanceof AddCommand : "Result is not an instance of AddCommand";
+
+        return ParseResult.of(resultCommand);
     }
 
 
-    private AddCommand createTodoCommand(String input) throws EmptyDescException {
-        try {
-            AddCommand resultCommand = new AddCommand("T", false, input.substring(5), null);
+    private ParseResult createDeadlineCommand(String input) {
+        String[] parts = input.split("/by");
+        if (parts.length < 2 || parts[0].length() < "deadline ".length()) {
+            return ParseResult.error(new EmptyDescException("deadline"));
+        }
+
+        AddCommand resultCommand = new AddCommand("D", false, parts[0].substring(9), parts[1]);
 
-            //Assert that result is an instance of DoneCommand
-            assert resultCommand instanceof AddCommand : "Result is not an instance of AddCommand";
+        //Assert that result is an instance of DoneCommand
+        assert resultCommand instanceof AddCommand : "Result is not an instance of AddCommand";
+
+        return ParseResult.of(resultCommand);
+    }
 
-            return resultCommand;
 
-        } catch (StringIndexOutOfBoundsException e) {
-            throw new EmptyDescException("todo");
+    private ParseResult createEventCommand(String input) {
+        String[] parts = input.split("/at");
+        if (parts.length < 2 || parts[0].length() < "event".length()) {
+            return ParseResult.error(new EmptyDescException("event"));
         }
 
+        AddCommand resultCommand = new AddCommand("E", false, parts[0].substring(5), parts[1]);
+        //Assert that result is an instance of DoneCommand
+        assert resultCommand instanceof AddCommand : "Result is not an instance of AddCommand";
+
+        return ParseResult.of(resultCommand);
     }
 
 
-    private AddCommand createDeadlineCommand(String input) throws EmptyDescException {
-        try {
+    private ParseResult createDeleteCommand(String input) {
+        if (input.length() < "delete ".length()) {
+            return ParseResult.error(new EmptyDescException("delete"));
+        }
 
-            String[] parts = input.split("/by");
+        String taskNums = input.substring(7);
+        if (isTaskNumList(taskNums)) {
+            return parseTaskNums(taskNums, BulkDeleteCommand::new);
+        }
+        if (!isInteger(taskNums.trim())) {
+            return ParseResult.error(taskNums.isBlank() ? new EmptyDescException("delete")
+                    : new InvalidArgumentException());
+        }
 
-            AddCommand resultCommand = new AddCommand("D", false, parts[0].substring(9), parts[1]);
+        int taskNum = Integer.parseInt(taskNums.trim());
+        if (taskNum < 1) {
+            return ParseResult.error(new DukeException(" OOPS!!! There is no task " + taskNum + " in your list."));
+        }
+        DeleteCommand resultCommand = new DeleteCommand(taskNum);
+
+        //Assert that result is an instance of DoneCommand
+        assert resultCommand instanceof DeleteCommand : "Result is not an instance of AddCommand";
+
+        return ParseResult.of(resultCommand);
+    }
 
-            //Assert that result is an instance of DoneCommand
-            assert resultCommand instanceof AddCommand : "Result is not an instance of AddCommand";
 
-            return resultCommand;
-        } catch (StringIndexOutOfBoundsException | ArrayIndexOutOfBoundsException e) {
-            throw new EmptyDescException("deadline");
+    /**
+     * Returns whether the task numbers of a command are a list or a range, such as '3,7,9-20', rather than one number.
+     */
+    private boolean isTaskNumList(String taskNums) {
+        return taskNums.contains(",") || taskNums.trim().indexOf('-') > 0;
+    }
 
+    /**
+     * Returns the command for the task numbers in a list of numbers and ranges, such as '3,7,9-20'.
+     * The command is given the first and last task number of each range, sorted and merged where they
+     * overlap; the ranges are only expanded once the command has checked them against the list.
+     */
+    private ParseResult parseTaskNums(String taskNums, Function<int[], Command> createCommand) {
+        List<int[]> ranges = new ArrayList<>();
+        for (String part : taskNums.replace(" ", "").split(",", -1)) {
+            String[] bounds = part.split("-", -1);
+            if (bounds.length > 2 || !isInteger(bounds[0]) || (bounds.length == 2 && !isInteger(bounds[1]))) {
+                return ParseResult.error(new DukeException(" OOPS!!! Task numbers look like 3,7,9-20."));
+            }
+
+            int first = Integer.parseInt(bounds[0]);
+            int last = bounds.length == 2 ? Integer.parseInt(bounds[1]) : first;
+            if (first < 1 || last < first) {
+                return ParseResult.error(new DukeException(" OOPS!!! Task numbers look like 3,7,9-20."));
+            }
+            ranges.add(new int[] {first, last});
         }
 
+        ranges.sort(Comparator.comparingInt(range -> range[0]));
+        int[] result = new int[2 * ranges.size()];
+        int numRanges = 0;
+        for (int[] range : ranges) {
+            //long, so that a range ending at Integer.MAX_VALUE does not overflow
+            if (numRanges > 0 && range[0] <= (long) result[2 * numRanges - 1] + 1) {
+                result[2 * numRanges - 1] = Math.max(result[2 * numRanges - 1], range[1]);
+            } else {
+                result[2 * numRanges] = range[0];
+                result[2 * numRanges + 1] = range[1];
+                numRanges++;
+            }
+        }
+        return ParseResult.of(createCommand.apply(Arrays.copyOf(result, 2 * numRanges)));
     }
 
+    /**
+     * Returns whether Integer.parseInt accepts a string, so it can be parsed without catching NumberFormatException.
+     */
+    private static boolean isInteger(String text) {
+        int start = !text.isEmpty() && (text.charAt(0) == '-' || text.charAt(0) == '+') ? 1 : 0;
+        if (start == text.length()) {
+            return false;
+        }
+
+        int significant = 0;
+        for (int i = start; i < text.length(); i++) {
+            int digit = Character.digit(text.charAt(i), 10);
+            if (digit < 0) {
+                return false;
+            }
+            if (digit > 0 || significant > 0) {
+                significant++;
+            }
+        }
 
-    private AddCommand createEventCommand(String input) throws EmptyDescException {
+        //ten digits may still be too large for an int, but not for a long
+        if (significant < 10) {
+            return true;
+        }
+        if (significant > 10) {
+            return false;
+        }
+        long value = Long.parseLong(text);
+        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+    }
+
+
+    private ParseResult createRecurCommand(String input) {
+        String[] parts = input.split("/every");
+        if (parts.length < 2 || parts[0].length() < "recur ".length()) {
+            return ParseResult.error(new EmptyDescException("recur"));
+        }
+        String description = parts[0].substring(6);
+
+        //the first occurrence is optional and defaults to now
+        String[] ruleParts = parts[1].split("/from");
+        if (ruleParts.length == 0) {
+            return ParseResult.error(new EmptyDescException("recur"));
+        }
+        String start = ruleParts.length > 1 ? ruleParts[1].trim() : null;
+
+        //rules are checked by Recurrence itself, which is only reached by recur inputs
+        Recurrence recurrence;
         try {
+            recurrence = Recurrence.parse(ruleParts[0]);
+        } catch (IndexOutOfBoundsException e) {
+            return ParseResult.error(new EmptyDescException("recur"));
+        } catch (IllegalArgumentException e) {
+            return ParseResult.error(new InvalidArgumentException());
+        }
+        return ParseResult.of(new AddCommand(description, start, recurrence));
+    }
 
-            String[] parts = input.split("/at");
 
-            AddCommand resultCommand = new AddCommand("E", false, parts[0].substring(5), parts[1]);
-            //Assert that result is an instance of DoneCommand
-            assert resultCommand instanceof AddCommand : "Result is not an instance of AddCommand";
+    private ParseResult createDueCommand(String[] wordArray) {
+        Date from;
+        Date to;
 
-            return resultCommand;
-        } catch (StringIndexOutOfBoundsException | ArrayIndexOutOfBoundsException e) {
-            throw new EmptyDescException("event");
+        //dates alone cover whole days, dates with times are exact
+        if (wordArray.length == 3) {
+            from = parseDate(wordArray[1] + " 0000");
+            to = parseDate(wordArray[2] + " 2359");
+        } else if (wordArray.length == 5) {
+            from = parseDate(wordArray[1] + " " + wordArray[2]);
+            to = parseDate(wordArray[3] + " " + wordArray[4]);
+        } else {
+            return ParseResult.error(new EmptyDescException("due"));
         }
+
+        if (from == null || to == null) {
+            return ParseResult.error(new InvalidArgumentException());
+        }
+        return ParseResult.of(new DueCommand(from, to));
     }
 
+    /**
+     * Returns the date in a string such as '01/10/2026 1800', or null if it is not one.
+     * Parsing from a position returns null instead of throwing ParseException.
+     */
+    private static Date parseDate(String text) {
+        return new SimpleDateFormat("dd/MM/yyyy HHmm").parse(text, new ParsePosition(0));
+    }
 
-    private DeleteCommand createDeleteCommand(String input) throws EmptyDescException {
-        int taskNum;
-        try {
-            taskNum = Integer.parseInt(input.substring(7));
-            DeleteCommand resultCommand = new DeleteCommand(taskNum);
 
-            //Assert that result is an instance of DoneCommand
-            assert resultCommand instanceof DeleteCommand : "Result is not an instance of AddCommand";
+    private ParseResult createUpcomingCommand(String[] wordArray) {
+        if (wordArray.length < 2) {
+            return ParseResult.error(new EmptyDescException("upcoming"));
+        }
+        if (!isInteger(wordArray[1]) || Integer.parseInt(wordArray[1]) < 0) {
+            return ParseResult.error(new InvalidArgumentException());
+        }
+        return ParseResult.of(new UpcomingCommand(Integer.parseInt(wordArray[1])));
+    }
 
-            return resultCommand;
 
-        } catch (StringIndexOutOfBoundsException e) {
-            throw new EmptyDescException("delete");
+    private ParseResult createSwitchCommand(String[] wordArray) {
+        if (wordArray.length < 2 || wordArray[1].isEmpty()) {
+            return ParseResult.error(new EmptyDescException("switch"));
+        }
+        if (wordArray.length > 2) {
+            return ParseResult.error(new InvalidArgumentException());
         }
+        return ParseResult.of(new SwitchCommand(wordArray[1]));
+    }
 
 
+    private ParseResult createFileCommand(String[] wordArray, String type) {
+        if (wordArray.length < 2 || wordArray[1].isEmpty()) {
+            return ParseResult.error(new EmptyDescException(type));
+        }
+        if (wordArray.length > 2) {
+            return ParseResult.error(new InvalidArgumentException());
+        }
+        //files are kept next to the list's text file
+        if (wordArray[1].contains("/") || wordArray[1].contains("\\")) {
+            return ParseResult.error(new DukeException(" OOPS!!! Give only the name of the file, without a folder."));
+        }
+        return ParseResult.of(type.equals("import") ? new ImportCommand(wordArray[1])
+                : new ExportCommand(wordArray[1]));
     }
 
 
-    private FindCommand createFindCommand(String input) throws EmptyDescException {
-        String keyword;
+    private ParseResult createQueryCommand(String input) {
+        String text = input.substring("query".length()).trim();
+        if (text.isEmpty()) {
+            return ParseResult.error(new EmptyDescException("query"));
+        }
+
+        //the query language reports its own errors, which are rarer than mistyped commands
         try {
-            keyword = input.substring(5);
-            return new FindCommand(keyword);
-        } catch (StringIndexOutOfBoundsException e) {
-            throw new EmptyDescException("find");
+            return ParseResult.of(new QueryCommand(TaskQuery.compile(text)));
+        } catch (DukeException e) {
+            return ParseResult.error(e);
         }
     }
 
 
-}
+    private ParseResult createListCommand(String[] wordArray) {
+        Boolean isDone = null;
+        TaskQuery.Field sortField = TaskQuery.Field.NUM;
+        boolean isDescending = false;
+        int limit = Integer.MAX_VALUE;
 
+        int index = 1;
+        if (index < wordArray.length && (wordArray[index].equals("done") || wordArray[index].equals("pending"))) {
+            isDone = wordArray[index].equals("done");
+            index++;
+        }
+
+        while (index < wordArray.length) {
+            if (wordArray[index].isEmpty()) {
+                index++;
+                continue;
+            }
+            if (index + 1 >= wordArray.length) {
+                return ParseResult.error(new DukeException(" OOPS!!! '" + wordArray[index] + "' needs a value."));
+            }
+
+            String value = wordArray[index + 1];
+            switch (wordArray[index]) {
+            case "sort":
+                isDescending = value.startsWith("-");
+                try {
+                    sortField = TaskQuery.parseField(isDescending ? value.substring(1) : value);
+                } catch (DukeException e) {
+                    return ParseResult.error(e);
+                }
+                break;
+
+            case "top":
+                if (!isInteger(value) || Integer.parseInt(value) < 0) {
+                    return ParseResult.error(new DukeException(" OOPS!!! 'top' is a number of tasks."));
+                }
+                limit = Integer.parseInt(value);
+                break;
+
+            default:
+                return ParseResult.error(new DukeException(" OOPS!!! A list is filtered with done or pending, "
+                        + "and ordered with sort and top."));
+            }
+            index += 2;
+        }
+
+        return ParseResult.of(new ListCommand(isDone, sortField, isDescending, limit));
+    }
+
+
+    private ParseResult createFuzzyFindCommand(String input, String command) {
+        String keyword = input.substring(command.length()).trim();
+        if (keyword.isEmpty()) {
+            return ParseResult.error(new EmptyDescException("find~"));
+        }
 
+        String distance = command.substring("find~".length());
+        if (distance.isEmpty()) {
+            return ParseResult.of(new FindCommand(keyword, -1));
+        }
+        if (distance.length() != 1 || distance.charAt(0) < '0' || distance.charAt(0) > '0' + MAX_FUZZY_DISTANCE) {
+            return ParseResult.error(new DukeException(" OOPS!!! The distance of 'find~' is a number from 0 to "
+                    + MAX_FUZZY_DISTANCE + "."));
+        }
+        return ParseResult.of(new FindCommand(keyword, distance.charAt(0) - '0'));
+    }
 
 
+    private ParseResult createFindCommand(String input) {
+        if (input.length() < "find ".length()) {
+            return ParseResult.error(new EmptyDescException("find"));
+        }
+        return ParseResult.of(new FindCommand(input.substring(5)));
+    }
 
 
+}
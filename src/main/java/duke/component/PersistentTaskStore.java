@@ -0,0 +1,431 @@
+package duke.component;
+
+import duke.task.Task;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Represents a TaskStore that keeps tasks in chunks of up to CHUNK_CAPACITY tasks, so a snapshot of the
+ * tasks can be taken without copying them.
+ * A snapshot freezes every chunk it holds: a chunk is copied the first time it is changed after a snapshot,
+ * and a task is copied before it is marked, so the snapshot and the store share everything that has not
+ * changed since. Taking a snapshot costs the same whatever the number of tasks, and each later change copies
+ * at most one chunk and the index of the chunks.
+ */
+class PersistentTaskStore implements TaskStore {
+
+    /**
+     * Maximum number of tasks in a chunk.
+     */
+    static final int CHUNK_CAPACITY = 64;
+
+    /**
+     * Chunks of tasks, in order; only the first numChunks are used and none of them is empty.
+     */
+    private Chunk[] chunks = new Chunk[4];
+
+    /**
+     * Position of the first task of every chunk, followed by the number of tasks.
+     */
+    private int[] starts = new int[5];
+
+    /**
+     * Number of chunks in use.
+     */
+    private int numChunks = 0;
+
+    /**
+     * Number of tasks in the store.
+     */
+    private int size = 0;
+
+    /**
+     * Number of snapshots taken. Chunks made before the last snapshot are frozen and copied before a change.
+     */
+    private long generation = 0;
+
+    /**
+     * Whether the last snapshot holds the arrays chunks and starts, which are then copied before a change.
+     */
+    private boolean isShared = false;
+
+    /**
+     * Chunk of the last task found, which the next task is usually in.
+     */
+    private int lastChunk = 0;
+
+    /**
+     * Initialises a new PersistentTaskStore holding existing tasks.
+     *
+     * @param tasks Tasks in order.
+     */
+    PersistentTaskStore(List<Task> tasks) {
+        for (Task task : tasks) {
+            add(task);
+        }
+    }
+
+    @Override
+    public void add(Task task) {
+        Chunk last = numChunks == 0 ? null : chunks[numChunks - 1];
+        if (last == null || last.size == CHUNK_CAPACITY) {
+            last = new Chunk(new Task[CHUNK_CAPACITY], 0, generation);
+            insertChunk(numChunks, last);
+        } else {
+            last = getWritableChunk(numChunks - 1);
+        }
+
+        last.tasks[last.size++] = task;
+        size++;
+        starts[numChunks] = size;
+    }
+
+    @Override
+    public void insert(int index, Task task) {
+        if (index == size) {
+            add(task);
+            return;
+        }
+
+        int chunkIndex = findChunk(index);
+        Chunk chunk = getWritableChunk(chunkIndex);
+        if (chunk.size == CHUNK_CAPACITY) {
+            //split the full chunk in two halves, and insert into the half the position falls in
+            int half = CHUNK_CAPACITY / 2;
+            Task[] upper = new Task[CHUNK_CAPACITY];
+            System.arraycopy(chunk.tasks, half, upper, 0, CHUNK_CAPACITY - half);
+            Arrays.fill(chunk.tasks, half, CHUNK_CAPACITY, null);
+            chunk.size = half;
+            insertChunk(chunkIndex + 1, new Chunk(upper, CHUNK_CAPACITY - half, generation));
+            starts[chunkIndex + 1] = starts[chunkIndex] + half;
+            if (index >= starts[chunkIndex + 1]) {
+                chunkIndex++;
+                chunk = chunks[chunkIndex];
+            }
+        }
+
+        int offset = index - starts[chunkIndex];
+        System.arraycopy(chunk.tasks, offset, chunk.tasks, offset + 1, chunk.size - offset);
+        chunk.tasks[offset] = task;
+        chunk.size++;
+        for (int i = chunkIndex + 1; i <= numChunks; i++) {
+            starts[i]++;
+        }
+        size++;
+    }
+
+    @Override
+    public Task remove(int index) {
+        int chunkIndex = findChunk(index);
+        Chunk chunk = getWritableChunk(chunkIndex);
+        int offset = index - starts[chunkIndex];
+        Task removedTask = chunk.tasks[offset];
+
+        System.arraycopy(chunk.tasks, offset + 1, chunk.tasks, offset, chunk.size - offset - 1);
+        chunk.tasks[--chunk.size] = null;
+        for (int i = chunkIndex + 1; i <= numChunks; i++) {
+            starts[i]--;
+        }
+        size--;
+
+        if (chunk.size == 0) {
+            System.arraycopy(chunks, chunkIndex + 1, chunks, chunkIndex, numChunks - chunkIndex - 1);
+            System.arraycopy(starts, chunkIndex + 1, starts, chunkIndex, numChunks - chunkIndex);
+            numChunks--;
+            chunks[numChunks] = null;
+        }
+        return removedTask;
+    }
+
+    /**
+     * Removes the tasks at many positions in one pass.
+     * The chunks before the first position are kept; the tasks after it are packed into new chunks.
+     */
+    @Override
+    public List<Task> removeAll(int[] indexes) {
+        List<Task> removedTasks = new ArrayList<>(indexes.length);
+        if (indexes.length == 0) {
+            return removedTasks;
+        }
+
+        int firstChunk = findChunk(indexes[0]);
+        int newSize = size - indexes.length;
+        int maxChunks = firstChunk + (newSize - starts[firstChunk] + CHUNK_CAPACITY - 1) / CHUNK_CAPACITY;
+        Chunk[] newChunks = new Chunk[Math.max(maxChunks, 4)];
+        int[] newStarts = new int[newChunks.length + 1];
+        System.arraycopy(chunks, 0, newChunks, 0, firstChunk);
+        System.arraycopy(starts, 0, newStarts, 0, firstChunk + 1);
+
+        int newNumChunks = firstChunk;
+        Chunk chunk = null;
+        int next = 0;
+        for (int c = firstChunk; c < numChunks; c++) {
+            Chunk oldChunk = chunks[c];
+            for (int offset = 0; offset < oldChunk.size; offset++) {
+                if (next < indexes.length && indexes[next] == starts[c] + offset) {
+                    removedTasks.add(oldChunk.tasks[offset]);
+                    next++;
+                    continue;
+                }
+                if (chunk == null || chunk.size == CHUNK_CAPACITY) {
+                    chunk = new Chunk(new Task[CHUNK_CAPACITY], 0, generation);
+                    newChunks[newNumChunks] = chunk;
+                    newStarts[newNumChunks + 1] = newStarts[newNumChunks];
+                    newNumChunks++;
+                }
+                chunk.tasks[chunk.size++] = oldChunk.tasks[offset];
+                newStarts[newNumChunks]++;
+            }
+        }
+
+        //Assert that every position was in the store and in increasing order
+        assert next == indexes.length : "Some positions are not in the store";
+
+        chunks = newChunks;
+        starts = newStarts;
+        numChunks = newNumChunks;
+        size = newSize;
+        isShared = false;
+        lastChunk = 0;
+        return removedTasks;
+    }
+
+    @Override
+    public Task get(int index) {
+        int chunkIndex = findChunk(index);
+        return chunks[chunkIndex].tasks[index - starts[chunkIndex]];
+    }
+
+    @Override
+    public Task getWritable(int index) {
+        int chunkIndex = findChunk(index);
+        Chunk chunk = getWritableChunk(chunkIndex);
+        int offset = index - starts[chunkIndex];
+        Task task = chunk.tasks[offset];
+
+        //a snapshot may still hold the task, even in a chunk copied since
+        if (generation > 0) {
+            task = task.copy();
+            chunk.tasks[offset] = task;
+        }
+        return task;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void markDone(int index) {
+        getWritable(index).markAsDone();
+    }
+
+    @Override
+    public void markNotDone(int index) {
+        getWritable(index).markAsNotDone();
+    }
+
+    /**
+     * Returns a view of the chunks as they are now, and freezes them.
+     */
+    @Override
+    public List<Task> snapshot() {
+        generation++;
+        isShared = true;
+        return new Snapshot(chunks, starts, numChunks, size);
+    }
+
+    /**
+     * Returns the chunk the task at a position is in, trying the chunk of the last task found first.
+     */
+    private int findChunk(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+
+        int chunkIndex = lastChunk;
+        if (chunkIndex < numChunks && starts[chunkIndex] <= index) {
+            if (index < starts[chunkIndex + 1]) {
+                return chunkIndex;
+            }
+            if (chunkIndex + 1 < numChunks && index < starts[chunkIndex + 2]) {
+                lastChunk = chunkIndex + 1;
+                return chunkIndex + 1;
+            }
+        }
+
+        chunkIndex = findChunk(starts, numChunks, index);
+        lastChunk = chunkIndex;
+        return chunkIndex;
+    }
+
+    /**
+     * Returns the last chunk whose first task is at or before a position, by binary search.
+     */
+    private static int findChunk(int[] starts, int numChunks, int index) {
+        int low = 0;
+        int high = numChunks - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (starts[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns a chunk that can be changed, copying it first if a snapshot holds it.
+     */
+    private Chunk getWritableChunk(int chunkIndex) {
+        Chunk chunk = chunks[chunkIndex];
+        if (chunk.generation != generation) {
+            unshare();
+            chunk = new Chunk(chunk.tasks.clone(), chunk.size, generation);
+            chunks[chunkIndex] = chunk;
+        }
+        return chunk;
+    }
+
+    /**
+     * Inserts a chunk, growing the arrays if they are full. Its start is set by the caller.
+     */
+    private void insertChunk(int chunkIndex, Chunk chunk) {
+        if (numChunks == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+            starts = Arrays.copyOf(starts, chunks.length + 1);
+            isShared = false;
+        } else {
+            unshare();
+        }
+
+        System.arraycopy(chunks, chunkIndex, chunks, chunkIndex + 1, numChunks - chunkIndex);
+        System.arraycopy(starts, chunkIndex, starts, chunkIndex + 1, numChunks - chunkIndex + 1);
+        chunks[chunkIndex] = chunk;
+        numChunks++;
+    }
+
+    /**
+     * Copies the arrays chunks and starts if the last snapshot holds them.
+     */
+    private void unshare() {
+        if (isShared) {
+            chunks = chunks.clone();
+            starts = starts.clone();
+            isShared = false;
+        }
+    }
+
+    /**
+     * Represents up to CHUNK_CAPACITY consecutive tasks, which are never changed once a snapshot holds them.
+     */
+    private static class Chunk {
+
+        /**
+         * Tasks of the chunk, followed by unused slots.
+         */
+        private final Task[] tasks;
+
+        /**
+         * Number of tasks in the chunk.
+         */
+        private int size;
+
+        /**
+         * Number of snapshots taken before the chunk was made; the chunk can only be changed until the next one.
+         */
+        private final long generation;
+
+        private Chunk(Task[] tasks, int size, long generation) {
+            this.tasks = tasks;
+            this.size = size;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * Represents the tasks of the store at the moment a snapshot was taken, read from the frozen chunks.
+     */
+    private static class Snapshot extends AbstractList<Task> implements RandomAccess {
+
+        /**
+         * Frozen chunks.
+         */
+        private final Chunk[] chunks;
+
+        /**
+         * Position of the first task of every chunk.
+         */
+        private final int[] starts;
+
+        /**
+         * Number of frozen chunks.
+         */
+        private final int numChunks;
+
+        /**
+         * Number of tasks.
+         */
+        private final int size;
+
+        private Snapshot(Chunk[] chunks, int[] starts, int numChunks, int size) {
+            this.chunks = chunks;
+            this.starts = starts;
+            this.numChunks = numChunks;
+            this.size = size;
+        }
+
+        @Override
+        public Task get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+            int chunkIndex = findChunk(starts, numChunks, index);
+            return chunks[chunkIndex].tasks[index - starts[chunkIndex]];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns an iterator that walks the chunks in order, without searching for each task.
+         */
+        @Override
+        public Iterator<Task> iterator() {
+            return new Iterator<>() {
+                private int chunkIndex = 0;
+                private int offset = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return chunkIndex < numChunks;
+                }
+
+                @Override
+                public Task next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Chunk chunk = chunks[chunkIndex];
+                    Task task = chunk.tasks[offset++];
+                    if (offset == chunk.size) {
+                        chunkIndex++;
+                        offset = 0;
+                    }
+                    return task;
+                }
+            };
+        }
+    }
+}
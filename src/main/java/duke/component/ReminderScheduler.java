@@ -0,0 +1,163 @@
+package duke.component;
+
+import duke.task.Task;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Represents a scheduler that reminds the user of deadlines that are approaching and events that are starting.
+ * Reminders wait on a TimingWheel that a single background thread advances once per tick,
+ * so adding or cancelling a reminder takes constant time however many tasks are dated.
+ * The 'ReminderScheduler' class supports operators (i) scheduling and cancelling the reminder of a task,
+ * (ii) registering listeners that receive reminders, and
+ * (iii) starting and stopping the background thread.
+ */
+public class ReminderScheduler {
+
+    /**
+     * Length of a tick of the timing wheel in milliseconds.
+     */
+    private static final long TICK_MILLIS = 1000;
+
+    /**
+     * How long before a task's date it is reminded of, in milliseconds.
+     */
+    private final long leadMillis;
+
+    /**
+     * Reminders waiting to be delivered, each holding the task id and task.
+     */
+    private final TimingWheel<Map.Entry<Integer, Task>> wheel;
+
+    /**
+     * Scheduled reminder of every task, by task id.
+     */
+    private final HashMap<Integer, TimingWheel.Timeout<Map.Entry<Integer, Task>>> timeouts = new HashMap<>();
+
+    /**
+     * Receivers of reminder messages.
+     */
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Thread that advances the wheel and delivers reminders.
+     */
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Initialises a new ReminderScheduler.
+     *
+     * @param leadMillis How long before a task's date it is reminded of, in milliseconds.
+     */
+    public ReminderScheduler(long leadMillis) {
+        this.leadMillis = leadMillis;
+        this.wheel = new TimingWheel<>(System.currentTimeMillis() / TICK_MILLIS);
+    }
+
+    /**
+     * Registers a listener that receives every reminder message.
+     * Listeners are called on the scheduler's background thread.
+     *
+     * @param listener Receiver of reminder messages.
+     */
+    public void addListener(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Schedules the reminder of a task, replacing any earlier reminder of the same task.
+     * Tasks whose date has already passed are not reminded of.
+     *
+     * @param taskId Stable id of the task.
+     * @param date   Date the task is due or happens.
+     * @param task   Task to remind of.
+     */
+    public synchronized void schedule(int taskId, Date date, Task task) {
+        cancel(taskId);
+        if (date == null || date.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+
+        long remindTick = (date.getTime() - leadMillis) / TICK_MILLIS;
+        timeouts.put(taskId, wheel.schedule(remindTick, new AbstractMap.SimpleImmutableEntry<>(taskId, task)));
+    }
+
+    /**
+     * Cancels the reminder of a task, if it has one.
+     *
+     * @param taskId Stable id of the task.
+     */
+    public synchronized void cancel(int taskId) {
+        wheel.cancel(timeouts.remove(taskId));
+    }
+
+    /**
+     * Returns the number of reminders waiting to be delivered.
+     *
+     * @return Number of scheduled reminders.
+     */
+    public synchronized int size() {
+        return wheel.size();
+    }
+
+    /**
+     * Starts the background thread that delivers reminders.
+     */
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "duke-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background thread. Scheduled reminders are kept.
+     */
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    /**
+     * Advances the wheel to the current time and delivers the reminders that are due.
+     */
+    void tick() {
+        List<Task> dueTasks = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceTo(System.currentTimeMillis() / TICK_MILLIS, reminder -> {
+                timeouts.remove(reminder.getKey());
+                dueTasks.add(reminder.getValue());
+            });
+        }
+
+        //listeners are called outside the lock so that they can schedule or cancel reminders
+        for (Task task : dueTasks) {
+            String message = "Reminder: " + task;
+            for (Consumer<String> listener : listeners) {
+                try {
+                    listener.accept(message);
+                } catch (RuntimeException e) {
+                    //a failing listener must not stop the other reminders from being delivered
+                    System.out.println(e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package duke.component;
+
+import duke.exception.DukeException;
+import duke.task.Recurring;
+import duke.task.Task;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Represents a follower that keeps a hot-standby copy of the list of a ReplicationLeader in another Duke
+ * on the same machine. The changes shipped by the leader are applied to the follower's own TaskList and
+ * text file on a background thread, so its text file can take over as soon as the leader is gone.
+ * A follower that loses the connection keeps retrying, and resumes from the last change it applied;
+ * if a change cannot be applied, the copy is thrown away and the whole list is copied again.
+ * The 'ReplicationFollower' class supports operators (i) connecting to a leader on a local port,
+ * (ii) applying snapshots and changes to a workspace and
+ * (iii) telling how far it is behind the leader.
+ */
+public class ReplicationFollower {
+
+    /**
+     * How long to wait before connecting again after the connection is lost, in milliseconds.
+     */
+    static final long RETRY_MILLIS = 500;
+
+    /**
+     * Maximum number of changes that are applied together.
+     */
+    private static final int MAX_BATCH = 4096;
+
+    /**
+     * Local port of the leader.
+     */
+    private final int port;
+
+    /**
+     * Workspace that holds the copy of the list; changes are applied while holding it.
+     */
+    private final Workspace workspace;
+
+    /**
+     * Thread that receives and applies the changes.
+     */
+    private final Thread thread;
+
+    /**
+     * Run of the leader the applied changes were numbered by, or 0 if there is no copy yet.
+     */
+    private long epoch = 0;
+
+    /**
+     * Number of the last change applied, or -1 if there is no copy yet.
+     */
+    private volatile long appliedSequence = -1;
+
+    /**
+     * Number of the last change the leader said it shipped.
+     */
+    private volatile long leaderSequence = -1;
+
+    /**
+     * Milliseconds between the leader writing the last applied change and the follower applying it.
+     */
+    private volatile long lagMillis = 0;
+
+    private volatile Socket socket;
+    private volatile boolean isConnected = false;
+    private volatile boolean isStopped = false;
+
+    /**
+     * Initialises a new ReplicationFollower.
+     *
+     * @param workspace Workspace that holds the copy of the list.
+     * @param port      Local port of the leader.
+     */
+    public ReplicationFollower(Workspace workspace, int port) {
+        this.workspace = workspace;
+        this.port = port;
+        this.thread = new Thread(this::run, "duke-replication-follower");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts following the leader on a background thread.
+     */
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Stops following the leader. The copy stays as it is.
+     */
+    public void stop() {
+        isStopped = true;
+        Socket oldSocket = socket;
+        if (oldSocket != null) {
+            try {
+                oldSocket.close();
+            } catch (IOException e) {
+                //the connection is closed anyway
+            }
+        }
+        thread.interrupt();
+    }
+
+    /**
+     * Returns whether the follower is connected to the leader.
+     *
+     * @return true if changes are being received.
+     */
+    public boolean isConnected() {
+        return isConnected;
+    }
+
+    /**
+     * Returns the number of the last change applied to the copy.
+     *
+     * @return Number of the change, or -1 if there is no copy yet.
+     */
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    /**
+     * Returns how many changes the leader has shipped that are not applied yet.
+     *
+     * @return Number of changes the copy is behind.
+     */
+    public long getLag() {
+        return Math.max(0, leaderSequence - appliedSequence);
+    }
+
+    /**
+     * Returns how long it took the last applied change to get from the leader's text file to the copy.
+     *
+     * @return Delay in milliseconds.
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    private void run() {
+        while (!isStopped) {
+            try (Socket newSocket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                socket = newSocket;
+                follow(newSocket);
+            } catch (IOException e) {
+                //the leader is not there yet, or has gone; the copy is kept to resume from
+            } catch (DukeException | RuntimeException e) {
+                //the copy no longer matches the leader, so it is copied again
+                epoch = 0;
+                appliedSequence = -1;
+            }
+            isConnected = false;
+
+            try {
+                Thread.sleep(RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void follow(Socket newSocket) throws IOException, DukeException {
+        BufferedReader in = new BufferedReader(
+                new InputStreamReader(newSocket.getInputStream(), StandardCharsets.UTF_8), Console.BUFFER_SIZE);
+        Writer out = new BufferedWriter(new OutputStreamWriter(newSocket.getOutputStream(), StandardCharsets.UTF_8));
+        out.write("FOLLOW " + epoch + " " + appliedSequence + "\n");
+        out.flush();
+        isConnected = true;
+
+        List<String> changes = new ArrayList<>();
+        String message;
+        while ((message = in.readLine()) != null && !isStopped) {
+            if (message.startsWith("C ")) {
+                changes.add(message);
+                //changes that have already arrived are applied together, one append batch at a time
+                if (changes.size() < MAX_BATCH && in.ready()) {
+                    continue;
+                }
+                applyChanges(changes);
+                changes.clear();
+                continue;
+            }
+            if (!changes.isEmpty()) {
+                applyChanges(changes);
+                changes.clear();
+            }
+
+            String[] fields = message.split(" ");
+            switch (fields[0]) {
+            case "H":
+                leaderSequence = Long.parseLong(fields[1]);
+                break;
+            case "RESUME":
+                leaderSequence = Long.parseLong(fields[2]);
+                break;
+            case "SNAPSHOT":
+                applySnapshot(in, Long.parseLong(fields[2]), Integer.parseInt(fields[3]));
+                epoch = Long.parseLong(fields[1]);
+                break;
+            default:
+                throw new IOException("Unknown message from leader: " + fields[0]);
+            }
+        }
+    }
+
+    /**
+     * Replaces the copy with the tasks of a snapshot, once every line of it has arrived.
+     */
+    private void applySnapshot(BufferedReader in, long sequence, int count) throws IOException, DukeException {
+        Storage storage = workspace.getStorage();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String line = in.readLine();
+            if (line == null) {
+                throw new IOException("Snapshot ended after " + i + " of " + count + " tasks");
+            }
+            tasks.add(storage.lineToTask(line));
+        }
+
+        synchronized (workspace) {
+            TaskList taskList = workspace.getTaskList();
+            storage.replaceTasks(tasks);
+            //holding the list keeps snapshots from seeing it empty in between
+            synchronized (taskList) {
+                taskList.deleteTasks(IntStream.rangeClosed(1, taskList.size()).toArray());
+                taskList.insertTasks(IntStream.rangeClosed(1, tasks.size()).toArray(), tasks);
+            }
+            appliedSequence = sequence;
+            leaderSequence = Math.max(leaderSequence, sequence);
+        }
+    }
+
+    /**
+     * Applies changes, each as "C number millis change", in order.
+     * Consecutive appended tasks are written through one Appender.
+     */
+    private void applyChanges(List<String> changes) throws DukeException {
+        synchronized (workspace) {
+            TaskList taskList = workspace.getTaskList();
+            Storage storage = workspace.getStorage();
+            Storage.Appender appender = null;
+            long sequence = appliedSequence;
+            long publishedMillis = 0;
+            try {
+                for (String message : changes) {
+                    int sequenceEnd = message.indexOf(' ', 2);
+                    int millisEnd = message.indexOf(' ', sequenceEnd + 1);
+                    long nextSequence = Long.parseLong(message.substring(2, sequenceEnd));
+                    if (nextSequence != sequence + 1) {
+                        throw new DukeException(" OOPS!!! Change " + nextSequence + " arrived after change "
+                                + sequence + ".");
+                    }
+                    String change = message.substring(millisEnd + 1);
+
+                    if (change.startsWith("A ")) {
+                        if (appender == null) {
+                            appender = storage.openAppender();
+                        }
+                        Task task = storage.lineToTask(change.substring(2));
+                        appender.append(task);
+                        taskList.addTask(task);
+                    } else {
+                        if (appender != null) {
+                            appender.close();
+                            appender = null;
+                        }
+                        applyChange(change, taskList, storage);
+                    }
+                    sequence = nextSequence;
+                    publishedMillis = Long.parseLong(message.substring(sequenceEnd + 1, millisEnd));
+                }
+            } finally {
+                if (appender != null) {
+                    appender.close();
+                }
+            }
+            //the changes only count as applied once the appended tasks are written out
+            appliedSequence = sequence;
+            lagMillis = Math.max(0, System.currentTimeMillis() - publishedMillis);
+        }
+    }
+
+    /**
+     * Applies a change other than an appended task, keeping the statistics in step.
+     */
+    private void applyChange(String change, TaskList taskList, Storage storage) throws DukeException {
+        String[] fields = change.split(" ", 3);
+        Statistics statistics = storage.getStatistics();
+        switch (fields[0]) {
+        case "U": {
+            //status 0 is done, as written in text file
+            boolean isDone = fields[1].equals("0");
+            int[] taskNums = parseTaskNums(fields[2]);
+            int numChanged = 0;
+            for (int taskNum : taskNums) {
+                if (taskList.isTaskDone(taskNum) != isDone) {
+                    numChanged++;
+                }
+            }
+            int doneChange = isDone ? numChanged : -numChanged;
+            statistics.add(doneChange, -doneChange);
+            storage.updateTexts(taskNums, isDone);
+            synchronized (taskList) {
+                for (int taskNum : taskNums) {
+                    if (taskList.isTaskDone(taskNum) == isDone) {
+                        continue;
+                    }
+                    if (isDone) {
+                        taskList.markTaskDone(taskNum);
+                    } else {
+                        taskList.markTaskNotDone(taskNum);
+                    }
+                }
+            }
+            break;
+        }
+        case "D": {
+            int[] taskNums = parseTaskNums(fields[1]);
+            List<Task> removedTasks = taskList.deleteTasks(taskNums);
+            int numDone = (int) removedTasks.stream().filter(Task::isDone).count();
+            statistics.add(-numDone, numDone - removedTasks.size());
+            storage.deleteTexts(taskNums);
+            break;
+        }
+        case "I": {
+            int taskNum = Integer.parseInt(fields[1]);
+            Task task = storage.lineToTask(fields[2]);
+            statistics.add(task.isDone() ? 1 : 0, task.isDone() ? 0 : 1);
+            storage.insertTexts(new int[] {taskNum}, List.of(task));
+            taskList.insertTask(taskNum, task);
+            break;
+        }
+        case "R": {
+            int taskNum = Integer.parseInt(fields[1]);
+            Recurring task = (Recurring) storage.lineToTask(fields[2]);
+            storage.updateRecurring(taskNum, task);
+            synchronized (taskList) {
+                taskList.deleteTasks(new int[] {taskNum});
+                taskList.insertTask(taskNum, task);
+            }
+            break;
+        }
+        default:
+            throw new DukeException(" OOPS!!! The leader shipped a change that cannot be applied.");
+        }
+    }
+
+    private static int[] parseTaskNums(String text) {
+        String[] parts = text.split(",");
+        int[] taskNums = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            taskNums[i] = Integer.parseInt(parts[i]);
+        }
+        return taskNums;
+    }
+}
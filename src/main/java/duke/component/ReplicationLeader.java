@@ -0,0 +1,312 @@
+package duke.component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Represents the leader of follower Duke instances that keep a hot-standby copy of a list.
+ * Every change Storage writes to text file is numbered and shipped to each follower over a local socket,
+ * as one line holding the change: "A line" appends a task, "I n line" inserts a task as task n,
+ * "R n line" replaces recurring task n, "U s n,m" sets the done status of tasks to s as written in
+ * text file, and "D n,m" deletes tasks. The last changes are kept in a ring buffer, so a follower that
+ * reconnects resumes where it left off; a new follower, or one that fell behind the ring buffer,
+ * is first sent a snapshot of the whole list.
+ * The 'ReplicationLeader' class supports operators (i) accepting followers on a local port,
+ * (ii) numbering and shipping the changes of a Storage and
+ * (iii) sending a snapshot to a follower that cannot resume.
+ */
+public class ReplicationLeader {
+
+    /**
+     * Default number of changes kept for followers that reconnect.
+     */
+    public static final int DEFAULT_BACKLOG = 1 << 16;
+
+    /**
+     * How long a follower waits for a change before it is told the leader is still there, in milliseconds.
+     */
+    static final long HEARTBEAT_MILLIS = 1000;
+
+    /**
+     * Maximum number of changes copied out of the ring buffer at a time.
+     */
+    private static final int MAX_BATCH = 4096;
+
+    /**
+     * Socket that accepts followers on the loopback interface.
+     */
+    private final ServerSocket serverSocket;
+
+    /**
+     * Random number naming this run of the leader, so a follower never resumes from the numbers of another run.
+     */
+    private final long epoch = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+
+    /**
+     * Last changes, each as "number millis change", where the change numbered n is at n modulo the length.
+     */
+    private final String[] backlog;
+
+    /**
+     * Sockets of the connected followers.
+     */
+    private final List<Socket> followers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Number of the last change shipped, or 0 before the first change.
+     */
+    private long lastSequence = 0;
+
+    /**
+     * Storage whose changes are shipped.
+     */
+    private volatile Storage storage;
+
+    private volatile boolean isStopped = false;
+
+    /**
+     * Initialises a new ReplicationLeader that keeps the number of changes given by the system property
+     * duke.replication.backlog, or the default.
+     *
+     * @param port Local port followers connect to, or 0 for any free port.
+     * @throws IOException If the port cannot be opened.
+     */
+    public ReplicationLeader(int port) throws IOException {
+        this(port, Integer.getInteger("duke.replication.backlog", DEFAULT_BACKLOG));
+    }
+
+    /**
+     * Initialises a new ReplicationLeader.
+     *
+     * @param port        Local port followers connect to, or 0 for any free port.
+     * @param backlogSize Number of changes kept for followers that reconnect.
+     * @throws IOException If the port cannot be opened.
+     */
+    public ReplicationLeader(int port, int backlogSize) throws IOException {
+        assert backlogSize > 0 : "Backlog cannot be empty";
+        this.backlog = new String[backlogSize];
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Ships every later change of a Storage. Used again when the list is loaded into a new Storage.
+     *
+     * @param storage Storage whose changes are shipped.
+     */
+    public void lead(Storage storage) {
+        Storage oldStorage = this.storage;
+        if (oldStorage != null) {
+            oldStorage.setReplicationLeader(null);
+        }
+        this.storage = storage;
+        storage.setReplicationLeader(this);
+    }
+
+    /**
+     * Starts accepting followers on a background thread.
+     */
+    public void start() {
+        Thread thread = new Thread(this::acceptFollowers, "duke-replication-leader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops shipping changes and disconnects every follower.
+     */
+    public void stop() {
+        isStopped = true;
+        Storage oldStorage = storage;
+        if (oldStorage != null) {
+            oldStorage.setReplicationLeader(null);
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            //the socket is closed anyway
+        }
+        for (Socket socket : followers) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                //the follower is disconnected anyway
+            }
+        }
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Returns the local port followers connect to.
+     *
+     * @return Port number.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the number of the last change shipped.
+     *
+     * @return Number of changes shipped since the leader started.
+     */
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Returns the number of followers connected.
+     *
+     * @return Number of followers.
+     */
+    public int countFollowers() {
+        return followers.size();
+    }
+
+    /**
+     * Numbers a change that has just been written to text file and wakes the followers up.
+     * Called by Storage while it holds itself, so changes are numbered in the order they were written.
+     *
+     * @param change Change in the format of the class description.
+     */
+    synchronized void publish(String change) {
+        lastSequence++;
+        backlog[(int) (lastSequence % backlog.length)] = lastSequence + " " + System.currentTimeMillis() + " " + change;
+        notifyAll();
+    }
+
+    /**
+     * Returns task numbers separated by commas, as they are written in a change.
+     *
+     * @param taskNums Task numbers.
+     * @return Task numbers separated by commas.
+     */
+    static String joinTaskNums(int[] taskNums) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < taskNums.length; i++) {
+            if (i > 0) {
+                result.append(',');
+            }
+            result.append(taskNums[i]);
+        }
+        return result.toString();
+    }
+
+    private void acceptFollowers() {
+        while (!isStopped) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread thread = new Thread(() -> serve(socket), "duke-replication-sender");
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                //the socket was closed by stop, or the follower gave up connecting
+            }
+        }
+    }
+
+    /**
+     * Ships changes to one follower until it disconnects.
+     * The follower says "FOLLOW epoch number" with the last change it has, and is answered with
+     * "RESUME epoch number" or with "SNAPSHOT epoch number count" followed by the line of every task.
+     * Changes follow as "C number millis change", and after each batch "H number millis" tells
+     * the follower the number of the last change shipped, also when there is nothing new.
+     */
+    private void serve(Socket socket) {
+        followers.add(socket);
+        try (socket;
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                Writer out = new BufferedWriter(new OutputStreamWriter(
+                        socket.getOutputStream(), StandardCharsets.UTF_8), Console.BUFFER_SIZE)) {
+            String[] request = String.valueOf(in.readLine()).split(" ");
+            long sent = -1;
+            if (request.length == 3 && request[0].equals("FOLLOW") && Long.parseLong(request[1]) == epoch) {
+                sent = Long.parseLong(request[2]);
+            }
+            if (sent >= 0 && canResume(sent)) {
+                out.write("RESUME " + epoch + " " + sent + "\n");
+            } else {
+                sent = sendSnapshot(out);
+            }
+
+            List<String> changes = new ArrayList<>();
+            while (!isStopped) {
+                long last;
+                synchronized (this) {
+                    if (lastSequence == sent) {
+                        wait(HEARTBEAT_MILLIS);
+                    }
+                    if (!canResume(sent)) {
+                        last = -1;
+                    } else {
+                        last = Math.min(lastSequence, sent + MAX_BATCH);
+                        for (long sequence = sent + 1; sequence <= last; sequence++) {
+                            changes.add(backlog[(int) (sequence % backlog.length)]);
+                        }
+                    }
+                }
+
+                //a follower that fell behind the ring buffer starts again from a snapshot
+                if (last < 0) {
+                    sent = sendSnapshot(out);
+                    continue;
+                }
+                for (String change : changes) {
+                    out.write("C ");
+                    out.write(change);
+                    out.write('\n');
+                }
+                changes.clear();
+                sent = last;
+                out.write("H " + sent + " " + System.currentTimeMillis() + "\n");
+                out.flush();
+            }
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            //the follower disconnected, or sent something that is not a request
+        } finally {
+            followers.remove(socket);
+        }
+    }
+
+    /**
+     * Returns whether every change after a number is still in the ring buffer.
+     */
+    private synchronized boolean canResume(long sent) {
+        return sent <= lastSequence && lastSequence - sent <= backlog.length;
+    }
+
+    /**
+     * Sends the line of every task and returns the number of the last change they include.
+     */
+    private long sendSnapshot(Writer out) throws IOException {
+        Storage source = storage;
+        List<String> lines;
+        long sequence;
+        synchronized (source) {
+            lines = source.readReplicaLines();
+            sequence = getLastSequence();
+        }
+
+        out.write("SNAPSHOT " + epoch + " " + sequence + " " + lines.size() + "\n");
+        for (String line : lines) {
+            out.write(line);
+            out.write('\n');
+        }
+        out.flush();
+        return sequence;
+    }
+}
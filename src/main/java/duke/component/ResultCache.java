@@ -0,0 +1,157 @@
+package duke.component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Represents a cache of the responses of read-only commands, such as 'list' and 'find', by their normalized query.
+ * The responses are only valid for one version of the task list; the first lookup after the list changes
+ * empties the cache. The cache is bounded by a number of responses and an approximate number of characters,
+ * and the least recently used response is forgotten first.
+ * The 'ResultCache' class supports operators (i) returning the cached response of a query or computing it,
+ * (ii) counting hits and misses and
+ * (iii) estimating the heap taken by the responses.
+ */
+public class ResultCache {
+
+    /**
+     * Default maximum number of responses kept.
+     */
+    public static final int DEFAULT_ENTRIES = 64;
+
+    /**
+     * Default maximum number of characters of the responses kept.
+     */
+    public static final long DEFAULT_CHAR_BUDGET = 1 << 22;
+
+    /**
+     * Maximum number of responses kept.
+     */
+    private final int maxEntries;
+
+    /**
+     * Maximum number of characters of the responses kept.
+     */
+    private final long charBudget;
+
+    /**
+     * Responses by query, the least recently used first.
+     */
+    private final LinkedHashMap<String, String> results = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Version of the task list the responses were computed for.
+     */
+    private long version = -1;
+
+    /**
+     * Number of characters of the responses kept.
+     */
+    private long chars = 0;
+
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * Initialises a new ResultCache with the bounds given by the system properties
+     * duke.cache.entries and duke.cache.chars, or the defaults.
+     */
+    public ResultCache() {
+        this(Integer.getInteger("duke.cache.entries", DEFAULT_ENTRIES),
+                Long.getLong("duke.cache.chars", DEFAULT_CHAR_BUDGET));
+    }
+
+    /**
+     * Initialises a new ResultCache.
+     *
+     * @param maxEntries Maximum number of responses kept.
+     * @param charBudget Maximum number of characters of the responses kept.
+     */
+    public ResultCache(int maxEntries, long charBudget) {
+        this.maxEntries = maxEntries;
+        this.charBudget = charBudget;
+    }
+
+    /**
+     * Returns the response to a query for a version of the task list, computing and keeping it if it is not cached.
+     * A response larger than the whole budget is computed every time.
+     *
+     * @param query   Normalized query; equal queries have equal responses.
+     * @param version Version of the task list.
+     * @param compute Computes the response.
+     * @return Response to the query.
+     */
+    public synchronized String get(String query, long version, Supplier<String> compute) {
+        if (version != this.version) {
+            results.clear();
+            chars = 0;
+            this.version = version;
+        }
+
+        String result = results.get(query);
+        if (result != null) {
+            hits++;
+            return result;
+        }
+
+        misses++;
+        result = compute.get();
+        if (result.length() <= charBudget && maxEntries > 0) {
+            results.put(query, result);
+            chars += result.length();
+            evict();
+        }
+        return result;
+    }
+
+    /**
+     * Forgets the least recently used responses until the cache is within its bounds.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, String>> eldest = results.entrySet().iterator();
+        while (results.size() > maxEntries || chars > charBudget) {
+            chars -= eldest.next().getValue().length();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Returns the number of queries answered from the cache.
+     *
+     * @return Number of hits.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of queries that had to be computed.
+     *
+     * @return Number of misses.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the approximate heap taken by the responses kept.
+     *
+     * @return Approximate size in bytes.
+     */
+    public synchronized long estimateHeapBytes() {
+        return chars * 2;
+    }
+
+    /**
+     * Returns the hits and misses of the cache, one per line.
+     *
+     * @return Statistics of the cache.
+     */
+    public synchronized String toStatisticsString() {
+        return "Cached results: " + results.size() + "\n"
+                + "Result cache hits: " + hits + "\n"
+                + "Result cache misses: " + misses + "\n";
+    }
+}
@@ -1,40 +1,62 @@
 package duke.component;
 
+/**
+ * Represents the number of completed and uncompleted tasks in one text file.
+ * Each Storage keeps its own Statistics, so lists stored in different files are counted separately.
+ * The 'Statistics' class supports operators (i) counting tasks as they are added, completed and deleted,
+ * one or many at a time, and
+ * (ii) toStatisticsString that returns the header lines of the text file.
+ */
 public class Statistics {
-    private static int numCompleted = 0;
-    private static int numUncompleted = 0;
+    private int numCompleted = 0;
+    private int numUncompleted = 0;
+
+    public Statistics() {
+        this(0, 0);
+    }
 
     public Statistics(int numCompleted, int numUncompleted){
         this.numCompleted = numCompleted;
         this.numUncompleted = numUncompleted;
     }
 
-    public static int getNumCompleted() {
+    public int getNumCompleted() {
         return numCompleted;
     }
 
-    public static int getNumUncompleted(){
+    public int getNumUncompleted(){
         return numUncompleted;
     }
 
-    public static void incrementCompleted(){
+    public void incrementCompleted(){
         numCompleted++;
     }
 
-    public static void decrementCompleted(){
+    public void decrementCompleted(){
         numCompleted--;
     }
 
-    public static void decrementUncompleted(){
+    public void decrementUncompleted(){
         numUncompleted--;
     }
 
-    public static void incrementUncompleted(){
+    public void incrementUncompleted(){
         numUncompleted++;
     }
 
+    /**
+     * Adds to both counts at once, for commands that change many tasks.
+     *
+     * @param completedChange   Change in the number of completed tasks.
+     * @param uncompletedChange Change in the number of uncompleted tasks.
+     */
+    public void add(int completedChange, int uncompletedChange) {
+        numCompleted += completedChange;
+        numUncompleted += uncompletedChange;
+    }
+
 
-    public static String toStatisticsString(){
+    public String toStatisticsString(){
         return "Number of tasks completed: " + getNumCompleted()
                         + "\nNumber of tasks not completed: "
                         + getNumUncompleted() + "\n";
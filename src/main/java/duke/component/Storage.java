@@ -3,19 +3,32 @@ package duke.component;
 import duke.exception.DukeException;
 import duke.task.Deadline;
 import duke.task.Event;
+import duke.task.Recurrence;
+import duke.task.Recurring;
 import duke.task.Task;
 import duke.task.Todo;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
 
 /**
  * Represents Storage object that stores tasks user need to do.
@@ -23,8 +36,9 @@ import java.util.List;
  * The 'Storage' class supports operators (i) loading TaskList object from text file,
  * (ii) converting a line of text to Task object,
  * (iii) adding text to text file,
- * (iv) changig text in text file and
- * (v) amending text in text file.
+ * (iv) changig text in text file,
+ * (v) amending text in text file and
+ * (vi) shipping every change of text file to follower Duke instances.
  */
 public class Storage {
 
@@ -38,22 +52,167 @@ public class Storage {
      */
     private File textFile;
 
+    /**
+     * File holding descriptions that are shared by several task lines, one per line.
+     */
+    private File dictionaryFile;
+
+    /**
+     * Whether repeated descriptions are written to the dictionary file once and referenced by id.
+     */
+    private boolean isDeduplicating;
+
+    /**
+     * Descriptions in the dictionary file, indexed by id.
+     */
+    private ArrayList<String> dictionary = new ArrayList<>();
+
+    /**
+     * Ids of the descriptions in the dictionary file.
+     */
+    private HashMap<String, Integer> dictionaryIds = new HashMap<>();
+
+    /**
+     * Whether the text file may contain references to the dictionary file.
+     */
+    private boolean hasDictionary;
+
+    /**
+     * Pool that shares equal descriptions between tasks.
+     */
+    private DescriptionPool descriptionPool = new DescriptionPool();
+
+    /**
+     * Number of completed and uncompleted tasks in the text file, as kept in its first two lines.
+     */
+    private Statistics statistics = new Statistics();
+
+    /**
+     * File of compressed blocks that holds the tasks instead of text file, or null if text file holds them.
+     */
+    private BlockFile blockFile;
+
+    /**
+     * Whether each record of text file ends with the checksum of its line.
+     */
+    private boolean hasChecksums = true;
+
+    /**
+     * Number of records skipped by the last load because their checksum did not match.
+     */
+    private final AtomicInteger numDamagedRecords = new AtomicInteger();
+
+    /**
+     * Leader that ships every change of text file to follower Duke instances, or null if changes are not shipped.
+     */
+    private ReplicationLeader replicationLeader;
+
+    /**
+     * Appender that has not been closed, whose buffered lines are written out before a follower copies the tasks.
+     */
+    private Appender openAppender;
+
     private static final int COMMAND_IND = 0;
     private static final int DONE_STATUS_IND = 1;
     private static final int DESCRIPTION_IND = 2;
     private static final int TIME_IND = 3;
+    private static final int RULE_IND = 4;
+    private static final int DONE_OCCURRENCES_IND = 5;
 
     private static final int STATUS_DONE = 0;
     private static final int STATUS_NOT_DONE = 1;
 
+    /**
+     * Number of bytes of task lines below which the file is parsed on the calling thread.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    /**
+     * Approximate number of bytes of task lines parsed by each fork/join chunk.
+     */
+    private static final int CHUNK_SIZE = 1 << 18;
+
+    /**
+     * Prefix of a description field that refers to a description in the dictionary file.
+     */
+    private static final String REFERENCE_PREFIX = "@";
+
+    /**
+     * Suffix added to the file path to name the file of compressed blocks.
+     */
+    private static final String BLOCK_FILE_SUFFIX = ".dz";
+
+    /**
+     * Number of task lines that are buffered before they are written as compressed blocks.
+     */
+    private static final int APPEND_BATCH = 8192;
+
+    /**
+     * Separator between the line of a record of text file and the checksum of the line.
+     */
+    private static final String CHECKSUM_SEPARATOR = "|#";
+
+    /**
+     * Number of hexadecimal digits of the checksum of a record.
+     */
+    private static final int CHECKSUM_LENGTH = 8;
+
     /**
      * Initialises a new Storage object.
+     * Repeated descriptions are stored once when the system property duke.dedupe is true.
      *
      * @param filePath File path where text file is stored in.
      */
     public Storage(String filePath) {
+        this(filePath, Boolean.getBoolean("duke.dedupe"));
+    }
+
+    /**
+     * Initialises a new Storage object.
+     *
+     * @param filePath        File path where text file is stored in.
+     * @param isDeduplicating Whether repeated descriptions are stored once in a dictionary file.
+     */
+    public Storage(String filePath, boolean isDeduplicating) {
+        this(filePath, isDeduplicating, Boolean.getBoolean("duke.compress"));
+    }
+
+    /**
+     * Initialises a new Storage object.
+     * A compressed Storage keeps its tasks in blocks compressed with Deflate, in a file named after the
+     * file path with ".dz" added. The first time, the tasks of an existing text file are copied into it.
+     *
+     * @param filePath        File path where text file is stored in.
+     * @param isDeduplicating Whether repeated descriptions are stored once in a dictionary file.
+     * @param isCompressed    Whether tasks are stored in compressed blocks instead of plain text.
+     */
+    public Storage(String filePath, boolean isDeduplicating, boolean isCompressed) {
         this.filePath = filePath;
         this.textFile = new File(filePath);
+        this.dictionaryFile = new File(filePath + ".dict");
+        this.isDeduplicating = isDeduplicating;
+
+        //an existing dictionary file marks the text file as using description references
+        if (isDeduplicating && !dictionaryFile.exists()) {
+            try {
+                dictionaryFile.createNewFile();
+            } catch (IOException ex) {
+                System.out.println("Dictionary file cannot be created");
+            }
+        }
+        this.hasDictionary = dictionaryFile.exists();
+
+        if (isCompressed) {
+            this.blockFile = new BlockFile(Paths.get(filePath + BLOCK_FILE_SUFFIX));
+            if (!Files.exists(blockFile.getPath()) && textFile.length() > 0) {
+                try {
+                    copyToBlockFile();
+                } catch (IOException ex) {
+                    System.out.println("Text file cannot be compressed");
+                }
+            }
+            return;
+        }
 
         //if file is empty or does not exist
         //initialise statisitics in first line of file
@@ -61,7 +220,7 @@ public class Storage {
         boolean isEmpty = !textFile.exists() || textFile.length() == 0;
         if (isEmpty) {
             try {
-                this.writeToFile(Statistics.toStatisticsString());
+                this.writeToFile(String.join("\n", statisticsRecords()) + "\n");
             } catch (DukeException ex) {
                 System.out.println("File does not exist");
             }
@@ -72,27 +231,290 @@ public class Storage {
 
     /**
      * Returns ArrayList of Tasks converted from tasks in text file.
+     * Large files are parsed in parallel on the common fork/join pool.
      *
      * @return ArrayList of Tasks.
      * @throws DukeException If there is IOException when reading or writing from text file.
      */
     public ArrayList<Task> load() throws DukeException {
+        return load(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns ArrayList of Tasks converted from tasks in text file.
+     * The task lines are split into newline-aligned chunks that are parsed in parallel on the given pool,
+     * and the results are stitched back together in file order.
+     *
+     * @param pool Fork/join pool that parses the chunks.
+     * @return ArrayList of Tasks.
+     * @throws DukeException If there is IOException when reading or writing from text file.
+     */
+    public ArrayList<Task> load(ForkJoinPool pool) throws DukeException {
 
         try {
-            Path path = this.textFile.toPath();
+            loadDictionary();
+            if (blockFile == null) {
+                return loadTextFile(pool);
+            }
 
-            List<String> lines = Files.readAllLines(path);
+            //the lines of compressed blocks are checked by the checksum of their block instead
+            hasChecksums = false;
+            ArrayList<Task> tasks = blockFile.load(pool, this);
 
-            initialiseStatistics(lines.get(0), lines.get(1));
+            //a crash between writing a task and writing the statistics leaves the statistics behind
+            statistics = countStatistics(tasks);
+            if (!isSameStatistics(blockFile.readStatistics(), statistics)) {
+                blockFile.writeStatistics(statistics);
+            }
+            return tasks;
+        } catch (IOException e) {
+            throw new DukeException();
+        }
+    }
 
-            ArrayList<Task> tasks = new ArrayList<>();
+    /**
+     * Returns the tasks of text file, skipping records that were torn or damaged by a crash.
+     * Statistics are counted from the tasks. If anything was skipped, the statistics were behind, or the
+     * records have no checksums yet, text file is rewritten atomically with only its intact records.
+     */
+    private ArrayList<Task> loadTextFile(ForkJoinPool pool) throws IOException {
+        Path path = this.textFile.toPath();
 
-            initialiseTasks(tasks, lines);
+        byte[] bytes = Files.readAllBytes(path);
 
+        //a crash while appending can leave the last line without its newline; that line is dropped
+        int end = bytes.length;
+        while (end > 0 && bytes[end - 1] != '\n') {
+            end--;
+        }
 
-            return tasks;
-        } catch (IOException e) {
-            throw new DukeException();
+        //first two lines of the file contain the statistics
+        int firstLineEnd = ChunkParser.indexOfNewline(bytes, 0, end);
+        int secondLineStart = Math.min(firstLineEnd + 1, end);
+        int secondLineEnd = ChunkParser.indexOfNewline(bytes, secondLineStart, end);
+        String completedRecord = headerLine(bytes, 0, firstLineEnd);
+        String uncompletedRecord = headerLine(bytes, secondLineStart, secondLineEnd);
+
+        //text files written before records had checksums are upgraded below
+        hasChecksums = isSealed(completedRecord);
+        numDamagedRecords.set(0);
+
+        int from = Math.min(secondLineEnd + 1, end);
+        ArrayList<Task> tasks = initialiseTasks(bytes, from, end, pool);
+        Statistics fileStatistics = readStatistics(completedRecord, uncompletedRecord);
+        statistics = countStatistics(tasks);
+
+        int numSkipped = numDamagedRecords.get() + (end < bytes.length ? 1 : 0);
+        if (numSkipped > 0) {
+            System.out.println("Skipped " + numSkipped + " damaged task lines in text file");
+        }
+        if (numSkipped > 0 || !hasChecksums || !isSameStatistics(fileStatistics, statistics)) {
+            repairTextFile(bytes, from, end);
+        }
+        hasChecksums = true;
+
+        return tasks;
+    }
+
+    /**
+     * Returns whether changes made to text file by another program can be followed.
+     * Compressed blocks and description references are only written by Duke itself, so they are not followed.
+     *
+     * @return true if tasks are stored as plain text records.
+     */
+    public boolean isFollowable() {
+        return blockFile == null && !hasDictionary;
+    }
+
+    /**
+     * Returns the offset of the first task record in the contents of text file, after the two statistics lines.
+     *
+     * @param bytes Contents of text file.
+     * @param end   Offset just after the last complete line.
+     * @return Offset of the first task record.
+     */
+    public static int indexOfFirstRecord(byte[] bytes, int end) {
+        int firstLineEnd = ChunkParser.indexOfNewline(bytes, 0, end);
+        int secondLineEnd = ChunkParser.indexOfNewline(bytes, Math.min(firstLineEnd + 1, end), end);
+        return Math.min(secondLineEnd + 1, end);
+    }
+
+    /**
+     * Returns the tasks of the complete records in bytes[from, to) of text file, skipping damaged records
+     * as load does. Nothing is repaired and no field of Storage is changed, so changes made to text file by
+     * another program can be read on a background thread.
+     *
+     * @param bytes Contents of text file, or of its end.
+     * @param from  Offset of the first record.
+     * @param to    Offset just after the newline of the last complete record.
+     * @return Tasks of the records, in file order.
+     */
+    public List<Task> parseRecords(byte[] bytes, int from, int to) {
+        return initialiseTasks(bytes, from, to, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Rewrites text file atomically with the statistics and the intact records of bytes[from, end).
+     */
+    private void repairTextFile(byte[] bytes, int from, int end) throws IOException {
+        List<String> lines = new ArrayList<>(statisticsRecords());
+        int lineStart = from;
+        while (lineStart < end) {
+            int lineEnd = ChunkParser.indexOfNewline(bytes, lineStart, end);
+            String record = headerLine(bytes, lineStart, lineEnd);
+            String line = hasChecksums ? unseal(record) : record;
+            if (!record.isEmpty() && line != null) {
+                lines.add(seal(line));
+            }
+            lineStart = lineEnd + 1;
+        }
+        AtomicFiles.write(textFile.toPath(), lines);
+    }
+
+    /**
+     * Returns the statistics in the first two records of text file, or null if they are damaged.
+     */
+    private Statistics readStatistics(String completedRecord, String uncompletedRecord) {
+        String completedStatistics = hasChecksums ? unseal(completedRecord) : completedRecord;
+        String uncompletedStatistics = hasChecksums ? unseal(uncompletedRecord) : uncompletedRecord;
+        try {
+            return initialiseStatistics(completedStatistics, uncompletedStatistics);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Statistics countStatistics(List<Task> tasks) {
+        int numCompleted = 0;
+        for (Task task : tasks) {
+            if (task.isDone()) {
+                numCompleted++;
+            }
+        }
+        return new Statistics(numCompleted, tasks.size() - numCompleted);
+    }
+
+    private static boolean isSameStatistics(Statistics first, Statistics second) {
+        return first != null && first.getNumCompleted() == second.getNumCompleted()
+                && first.getNumUncompleted() == second.getNumUncompleted();
+    }
+
+    /**
+     * Copies the statistics and task lines of text file into the file of compressed blocks.
+     * Text file is loaded first so that damaged records are dropped, then read one line at a time into
+     * a temporary file that replaces the file of compressed blocks once it is complete.
+     */
+    private void copyToBlockFile() throws IOException {
+        loadDictionary();
+        loadTextFile(ForkJoinPool.commonPool());
+
+        BlockFile tempFile = new BlockFile(AtomicFiles.tempPath(blockFile.getPath()));
+        Files.deleteIfExists(tempFile.getPath());
+        try (BufferedReader reader = Files.newBufferedReader(textFile.toPath(), StandardCharsets.UTF_8)) {
+            //skip the statistics, which were counted when loading
+            reader.readLine();
+            reader.readLine();
+
+            List<String> lines = new ArrayList<>();
+            for (String record = reader.readLine(); record != null; record = reader.readLine()) {
+                if (!record.isEmpty()) {
+                    lines.add(unseal(record));
+                }
+                if (lines.size() == APPEND_BATCH) {
+                    tempFile.appendLines(lines);
+                    lines.clear();
+                }
+            }
+            tempFile.appendLines(lines);
+            tempFile.writeStatistics(statistics);
+        }
+        AtomicFiles.replace(tempFile.getPath(), blockFile.getPath());
+    }
+
+    /**
+     * Returns the record of text file that holds a line: the line followed by its checksum.
+     *
+     * @param line Line of text file.
+     * @return Line with its checksum.
+     */
+    static String seal(String line) {
+        String checksum = Integer.toHexString(checksum(line));
+        return line + CHECKSUM_SEPARATOR + "00000000".substring(checksum.length()) + checksum;
+    }
+
+    /**
+     * Returns the line held by a record of text file, or null if the record is torn or damaged.
+     *
+     * @param record Line of text file, followed by its checksum.
+     * @return Line without its checksum.
+     */
+    static String unseal(String record) {
+        if (!isSealed(record)) {
+            return null;
+        }
+
+        int separatorIndex = record.length() - CHECKSUM_LENGTH - CHECKSUM_SEPARATOR.length();
+        String line = record.substring(0, separatorIndex);
+        try {
+            String checksum = record.substring(separatorIndex + CHECKSUM_SEPARATOR.length());
+            return Integer.parseUnsignedInt(checksum, 16) == checksum(line) ? line : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean isSealed(String record) {
+        int separatorIndex = record.length() - CHECKSUM_LENGTH - CHECKSUM_SEPARATOR.length();
+        return separatorIndex >= 0 && record.startsWith(CHECKSUM_SEPARATOR, separatorIndex);
+    }
+
+    private static int checksum(String line) {
+        CRC32C crc = new CRC32C();
+        crc.update(line.getBytes(StandardCharsets.UTF_8));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Returns the two records of text file that hold the statistics.
+     */
+    private List<String> statisticsRecords() {
+        return List.of(seal("Number of tasks completed: " + statistics.getNumCompleted()),
+                seal("Number of tasks not completed: " + statistics.getNumUncompleted()));
+    }
+
+    private String headerLine(byte[] bytes, int start, int end) {
+        String line = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+
+    /**
+     * Reads the descriptions in the dictionary file, if there is one, so that references can be resolved.
+     */
+    private void loadDictionary() throws IOException {
+        dictionary = new ArrayList<>();
+        dictionaryIds = new HashMap<>();
+        hasDictionary = dictionaryFile.exists();
+
+        if (!hasDictionary) {
+            return;
+        }
+
+        //a description torn by a crash is cut off; no task line can refer to it yet
+        byte[] bytes = Files.readAllBytes(dictionaryFile.toPath());
+        int end = bytes.length;
+        while (end > 0 && bytes[end - 1] != '\n') {
+            end--;
+        }
+        if (end < bytes.length) {
+            try (FileChannel channel = FileChannel.open(dictionaryFile.toPath(), StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+            }
+        }
+
+        String text = new String(bytes, 0, end, StandardCharsets.UTF_8);
+        for (String description : text.lines().collect(Collectors.toList())) {
+            dictionaryIds.put(description, dictionary.size());
+            dictionary.add(descriptionPool.intern(description));
         }
     }
 
@@ -105,18 +527,64 @@ public class Storage {
         int numCompleted = Integer.parseInt(numCompletedString);
         int numUncompleted = Integer.parseInt(numUncompletedString);
 
-        return new Statistics(numCompleted, numUncompleted);
+        statistics = new Statistics(numCompleted, numUncompleted);
+        return statistics;
     }
 
-    private void initialiseTasks(ArrayList<Task> tasks, List<String> lines) {
-        for (int i = 2; i < lines.size(); i++) {
-            tasks.add(this.lineToTask(lines.get(i)));
+    /**
+     * Returns the number of completed and uncompleted tasks in the text file.
+     *
+     * @return Statistics of the text file.
+     */
+    public Statistics getStatistics() {
+        return statistics;
+    }
 
+    private ArrayList<Task> initialiseTasks(byte[] bytes, int from, int to, ForkJoinPool pool) {
+        //small files are not worth the cost of forking
+        if (to - from < PARALLEL_THRESHOLD) {
+            return new ArrayList<>(new ChunkParser(bytes, from, to, this).compute());
+        }
 
+        int[] boundaries = ChunkParser.split(bytes, from, to, CHUNK_SIZE);
+        List<ChunkParser> chunks = new ArrayList<>();
+        for (int i = 0; i + 1 < boundaries.length; i++) {
+            chunks.add(new ChunkParser(bytes, boundaries[i], boundaries[i + 1], this));
         }
+
+        List<List<Task>> parsedChunks = pool.submit(() -> {
+            ForkJoinTask.invokeAll(chunks);
+            return chunks.stream().map(ForkJoinTask::join).collect(Collectors.toList());
+        }).join();
+
+        int numTasks = parsedChunks.stream().mapToInt(List::size).sum();
+        ArrayList<Task> tasks = new ArrayList<>(numTasks);
+        parsedChunks.forEach(tasks::addAll);
+
+        return tasks;
     }
 
 
+    /**
+     * Returns the task held by a record of text file, or null if its checksum shows it is damaged.
+     * Damaged records are counted so that load can report them.
+     *
+     * @param record Line of text file, followed by its checksum if records have checksums.
+     * @return Task, or null.
+     */
+    Task recordToTask(String record) {
+        if (!hasChecksums) {
+            return lineToTask(record);
+        }
+
+        String line = unseal(record);
+        if (line == null) {
+            numDamagedRecords.incrementAndGet();
+            return null;
+        }
+        return lineToTask(line);
+    }
+
     /**
      * Returns task converted from String representation of text in text file.
      *
@@ -129,16 +597,23 @@ public class Storage {
         switch (lineArray[COMMAND_IND].trim()) {
         case "T":
             //return a new toDo task with "whether it is done" and description
-            return new Todo(lineArray[DONE_STATUS_IND], lineArray[DESCRIPTION_IND].trim());
+            return new Todo(lineArray[DONE_STATUS_IND], readDescription(lineArray[DESCRIPTION_IND].trim()));
 
         case "E":
             //return a new toDo task with "whether it is done" and description and event time
-            return new Event(lineArray[DONE_STATUS_IND], lineArray[DESCRIPTION_IND], lineArray[TIME_IND]);
+            return new Event(lineArray[DONE_STATUS_IND], readDescription(lineArray[DESCRIPTION_IND]),
+                    lineArray[TIME_IND]);
 
         case "D":
-            assert false : lineArray[TIME_IND];
             //return a new deadline task with "whether it is done" and description and deadline
-            return new Deadline(lineArray[DONE_STATUS_IND], lineArray[DESCRIPTION_IND], lineArray[TIME_IND]);
+            return new Deadline(lineArray[DONE_STATUS_IND], readDescription(lineArray[DESCRIPTION_IND]),
+                    lineArray[TIME_IND]);
+
+        case "R":
+            //return a new recurring task with "whether it is done", description, start, rule and done occurrences
+            return new Recurring(lineArray[DONE_STATUS_IND], readDescription(lineArray[DESCRIPTION_IND].trim()),
+                    lineArray[TIME_IND], lineArray[RULE_IND],
+                    lineArray.length > DONE_OCCURRENCES_IND ? lineArray[DONE_OCCURRENCES_IND] : "");
 
         default:
             assert false : "text line from text file is not a valid task";
@@ -148,6 +623,99 @@ public class Storage {
     }
 
 
+    /**
+     * Returns the description of a description field in the text file.
+     * Resolves references to the dictionary file and shares the result through the description pool.
+     *
+     * @param field Description field of a line in the text file.
+     * @return Description of task.
+     */
+    private String readDescription(String field) {
+        String trimmedField = field.trim();
+
+        //references are only written, and literal "@" escaped, when there is a dictionary file
+        if (hasDictionary) {
+            if (trimmedField.startsWith(REFERENCE_PREFIX + REFERENCE_PREFIX)) {
+                return descriptionPool.intern(trimmedField.substring(1));
+            } else if (isReference(trimmedField)) {
+                return descriptionPool.intern(dictionary.get(Integer.parseInt(trimmedField.substring(1))));
+            }
+        }
+        return descriptionPool.intern(field);
+    }
+
+    private boolean isReference(String field) {
+        if (field.length() < 2 || !field.startsWith(REFERENCE_PREFIX)) {
+            return false;
+        }
+        for (int i = 1; i < field.length(); i++) {
+            if (!Character.isDigit(field.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the description field to write for a description.
+     * When deduplicating, a description that is already used by another task is written to the
+     * dictionary file once and referenced by id.
+     *
+     * @param description Description of task.
+     * @return Description field of a line in the text file.
+     * @throws DukeException If there is IOException when writing to the dictionary file.
+     */
+    private String writeDescription(String description) throws DukeException {
+        if (!isDeduplicating) {
+            return description;
+        }
+
+        Integer id = dictionaryIds.get(description);
+        if (id == null && descriptionPool.contains(description)) {
+            try {
+                AtomicFiles.append(dictionaryFile.toPath(), description + "\n");
+            } catch (IOException e) {
+                throw new DukeException();
+            }
+            id = dictionary.size();
+            dictionaryIds.put(description, id);
+            dictionary.add(description);
+        }
+
+        if (id != null) {
+            return REFERENCE_PREFIX + id;
+        }
+        return description.startsWith(REFERENCE_PREFIX) ? REFERENCE_PREFIX + description : description;
+    }
+
+    /**
+     * Returns the description shared by every task with an equal description.
+     *
+     * @param description Description of task.
+     * @return Pooled description.
+     */
+    public String internDescription(String description) {
+        return descriptionPool.intern(description);
+    }
+
+    /**
+     * Returns the path of the text file.
+     *
+     * @return Path of the text file.
+     */
+    public Path getPath() {
+        return Paths.get(filePath);
+    }
+
+    /**
+     * Returns the pool that shares equal descriptions between tasks.
+     *
+     * @return Description pool.
+     */
+    public DescriptionPool getDescriptionPool() {
+        return descriptionPool;
+    }
+
     /**
      * Adds text to text file.
      *
@@ -155,10 +723,8 @@ public class Storage {
      * @throws DukeException If there is IOException when reading or writing from text file.
      */
     public void writeToFile(String textToAdd) throws DukeException {
-        try { //Create a file writer object to represent the hard disk
-            FileWriter fw = new FileWriter(filePath, true);
-            fw.write(textToAdd);
-            fw.close();
+        try {
+            AtomicFiles.append(textFile.toPath(), textToAdd);
         } catch (IOException e) {
             throw new DukeException();
         }
@@ -174,15 +740,256 @@ public class Storage {
      * @throws DukeException If IOException is thrown when reading or writing from file.
      */
     public void appendToFile(String type, Date date, String desc) throws DukeException {
+        appendToFile(type, date, desc, null);
+    }
 
+    /**
+     * Appends task into text file.
+     * A recurring task is written as one rule record, followed by its completed occurrences (none yet).
+     *
+     * @param type Type of task.
+     * @param date Date the task is due on, or the first occurrence of a recurring task.
+     * @param desc Description of task.
+     * @param rule Rule of a recurring task, or null for other tasks.
+     * @throws DukeException If IOException is thrown when reading or writing from file.
+     */
+    public synchronized void appendToFile(String type, Date date, String desc, Recurrence rule)
+            throws DukeException {
+        appendLine(newTaskLine(type, date, writeDescription(desc), rule));
+        if (replicationLeader != null) {
+            replicationLeader.publish("A " + newTaskLine(type, date, desc, rule));
+        }
+    }
+
+    /**
+     * Returns the line of a task that is not done yet.
+     */
+    private static String newTaskLine(String type, Date date, String desc, Recurrence rule) {
         if (date == null) {
-            writeToFile(type + " | " + STATUS_NOT_DONE + " | " + desc + "\n");
-        } else {
-            writeToFile(type + " | " + STATUS_NOT_DONE + " | " + desc + " | " + date + "\n");
+            return type + " | " + STATUS_NOT_DONE + " | " + desc;
+        } else if (rule == null) {
+            return type + " | " + STATUS_NOT_DONE + " | " + desc + " | " + date;
+        }
+        return type + " | " + STATUS_NOT_DONE + " | " + desc + " | " + date + " | " + rule + " | ";
+    }
+
+    /**
+     * Appends the line of a task to the end of text file, or to the last compressed block.
+     */
+    private void appendLine(String line) throws DukeException {
+        if (blockFile == null) {
+            writeToFile(seal(line) + "\n");
+            return;
+        }
+
+        try {
+            blockFile.appendLines(List.of(line));
+        } catch (IOException e) {
+            throw new DukeException();
+        }
+    }
+
+    /**
+     * Opens an Appender that writes many tasks to the end of text file through one buffered writer.
+     * The statistics lines are rewritten once, when the Appender is closed.
+     *
+     * @return Appender of tasks.
+     * @throws DukeException If there is IOException when opening the text file.
+     */
+    public synchronized Appender openAppender() throws DukeException {
+        if (blockFile != null) {
+            openAppender = new Appender(null);
+            return openAppender;
+        }
+
+        try {
+            openAppender = new Appender(FileChannel.open(textFile.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND));
+            return openAppender;
+        } catch (IOException e) {
+            throw new DukeException();
+        }
+    }
+
+    /**
+     * Represents a bulk writer of tasks to the end of text file.
+     * Lines are buffered and the statistics are counted in memory, so adding many tasks costs one
+     * sequential write and one rewrite of the statistics lines, instead of both for every task.
+     * With compressed blocks, lines are collected in batches that are compressed into new blocks.
+     */
+    public class Appender implements AutoCloseable {
+
+        /**
+         * Channel to the end of text file, or null if tasks are stored in compressed blocks.
+         */
+        private final FileChannel channel;
+
+        /**
+         * Writer of the end of text file, or null if tasks are stored in compressed blocks.
+         */
+        private final BufferedWriter writer;
+
+        /**
+         * Lines not yet compressed into blocks.
+         */
+        private final List<String> pendingLines = new ArrayList<>();
+
+        private Appender(FileChannel channel) {
+            this.channel = channel;
+            this.writer = channel == null ? null
+                    : new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Writes the line of a task to the end of text file and counts it in the statistics.
+         *
+         * @param task Task to be written.
+         * @throws DukeException If there is IOException when writing to text file.
+         */
+        public void append(Task task) throws DukeException {
+            synchronized (Storage.this) {
+                try {
+                    if (writer == null) {
+                        pendingLines.add(taskToLine(task));
+                        if (pendingLines.size() == APPEND_BATCH) {
+                            flush();
+                        }
+                    } else {
+                        writer.write(seal(taskToLine(task)));
+                        writer.write('\n');
+                    }
+                } catch (IOException e) {
+                    throw new DukeException();
+                }
+
+                if (task.isDone()) {
+                    statistics.incrementCompleted();
+                } else {
+                    statistics.incrementUncompleted();
+                }
+                if (replicationLeader != null) {
+                    replicationLeader.publish("A " + plainLine(task));
+                }
+            }
+        }
+
+        /**
+         * Writes the buffered lines to text file, or compresses them into new blocks.
+         */
+        private void flush() throws IOException {
+            if (writer == null) {
+                blockFile.appendLines(pendingLines);
+                pendingLines.clear();
+            } else {
+                writer.flush();
+            }
+        }
+
+        /**
+         * Flushes the written lines to disk and rewrites the statistics lines once.
+         *
+         * @throws DukeException If there is IOException when writing to text file.
+         */
+        @Override
+        public void close() throws DukeException {
+            synchronized (Storage.this) {
+                try {
+                    flush();
+                    if (writer != null) {
+                        channel.force(false);
+                        writer.close();
+                    }
+                } catch (IOException e) {
+                    throw new DukeException();
+                } finally {
+                    openAppender = null;
+                }
+                updateStatistics();
+            }
+        }
+    }
+
+    /**
+     * Updates the completed occurrences of a recurring task that is already in text file.
+     * Only the last field of the rule record changes; no line is added for the occurrence.
+     *
+     * @param taskNum Task Number of the recurring task.
+     * @param task    Recurring task with its completed occurrences.
+     * @throws DukeException If there is IOException when reading or writing from text file.
+     */
+    public synchronized void updateRecurring(int taskNum, Recurring task) throws DukeException {
+        updateLine(taskNum, oldText -> oldText.substring(0, oldText.lastIndexOf('|') + 1) + " "
+                + task.getDoneOccurrencesText());
+        if (replicationLeader != null) {
+            replicationLeader.publish("R " + taskNum + " " + plainLine(task));
         }
     }
 
 
+    /**
+     * Inserts the line of a task into text file, before the line of the task that has its task number now.
+     * Used to put a deleted task back where it was.
+     *
+     * @param taskNum Task Number the task will have.
+     * @param task    Task to be inserted.
+     * @throws DukeException If there is IOException when reading or writing from text file.
+     */
+    public synchronized void insertText(int taskNum, Task task) throws DukeException {
+        String line = taskToLine(task);
+        try {
+            if (blockFile != null) {
+                blockFile.insertLine(taskNum - 1, line);
+            } else {
+                //adding offset of 2 lines as first two lines contain statistics
+                final int STATISTICS_OFFSET = 2;
+                //adding index offset from taskNum, as line 0 is also a line
+                final int INDEX_OFFSET = -1;
+                int lineNumber = taskNum + INDEX_OFFSET + STATISTICS_OFFSET;
+                Path path = Paths.get(filePath);
+
+                //read all the line in the files
+                List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+
+                lines.add(lineNumber, seal(line));
+                AtomicFiles.write(path, lines);
+            }
+        } catch (IOException e) {
+            throw new DukeException();
+        }
+        if (replicationLeader != null) {
+            replicationLeader.publish("I " + taskNum + " " + plainLine(task));
+        }
+    }
+
+    /**
+     * Returns the line of text file that represents a task.
+     */
+    private String taskToLine(Task task) throws DukeException {
+        return taskToLine(task, writeDescription(task.getDescription()));
+    }
+
+    /**
+     * Returns the line of a task with its description written out, as it is shipped to followers.
+     */
+    private String plainLine(Task task) {
+        return taskToLine(task, task.getDescription());
+    }
+
+    private static String taskToLine(Task task, String desc) {
+        int status = task.isDone() ? STATUS_DONE : STATUS_NOT_DONE;
+
+        if (task instanceof Deadline) {
+            return "D | " + status + " | " + desc + " | " + ((Deadline) task).getDeadline();
+        } else if (task instanceof Event) {
+            return "E | " + status + " | " + desc + " | " + ((Event) task).getTime();
+        } else if (task instanceof Recurring) {
+            Recurring recurring = (Recurring) task;
+            return "R | " + status + " | " + desc + " | " + recurring.getStart() + " | "
+                    + recurring.getRecurrence() + " | " + recurring.getDoneOccurrencesText();
+        }
+        return "T | " + status + " | " + desc;
+    }
+
     /**
      * Updates text that is already in text file.
      *
@@ -190,7 +997,39 @@ public class Storage {
      * @throws DukeException If there is IOException when reading or writing from text file.
      */
     public void updateText(int taskNum) throws DukeException {
+        updateText(taskNum, true);
+    }
+
+    /**
+     * Updates the done status of a task that is already in text file.
+     *
+     * @param taskNum Task Number of the task to be updated.
+     * @param isDone  Whether the task is done.
+     * @throws DukeException If there is IOException when reading or writing from text file.
+     */
+    public synchronized void updateText(int taskNum, boolean isDone) throws DukeException {
+        int status = isDone ? STATUS_DONE : STATUS_NOT_DONE;
+        updateLine(taskNum, oldText -> oldText.substring(0, 3) + " " + status + " " + oldText.substring(6));
+        if (replicationLeader != null) {
+            replicationLeader.publish("U " + status + " " + taskNum);
+        }
+    }
+
+    /**
+     * Replaces the line of a task that is already in text file with the result of a function of it.
+     * With compressed blocks, only the block holding the line is rewritten.
+     *
+     * @param taskNum Task Number of the task to be updated.
+     * @param update  Function from the old line to the new line.
+     * @throws DukeException If there is IOException when reading or writing from text file.
+     */
+    private void updateLine(int taskNum, UnaryOperator<String> update) throws DukeException {
         try {
+            if (blockFile != null) {
+                blockFile.updateLine(taskNum - 1, update);
+                return;
+            }
+
             //adding offset of 2 lines as first two lines contain statistics
             final int STATISTICS_OFFSET = 2;
             //adding index offset from taskNum, as line 0 is also a line
@@ -200,29 +1039,249 @@ public class Storage {
 
             //read all the line in the files
             List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
-            String oldText = lines.get(lineNumber);
+            String line = unseal(lines.get(lineNumber));
+            if (line == null) {
+                throw new IOException("Record of task " + taskNum + " is damaged");
+            }
+            lines.set(lineNumber, seal(update.apply(line)));
+
+            AtomicFiles.write(path, lines);
+        } catch (IOException e) {
+            throw new DukeException();
+        }
+    }
 
-            lines.set(lineNumber, oldText.substring(0, 3) + " " + STATUS_DONE + " " + oldText.substring(6));
+    /**
+     * Updates the done status of many tasks that are already in text file, together with the statistics,
+     * in one rewrite of the file. With compressed blocks, each block holding one of the tasks is rewritten once.
+     *
+     * @param taskNums Task Numbers of the tasks to be updated, in increasing order.
+     * @param isDone   Whether the tasks are done.
+     * @throws DukeException If there is IOException when reading or writing from text file.
+     */
+    public synchronized void updateTexts(int[] taskNums, boolean isDone) throws DukeException {
+        int status = isDone ? STATUS_DONE : STATUS_NOT_DONE;
+        UnaryOperator<String> update = oldText -> oldText.substring(0, 3) + " " + status + " " + oldText.substring(6);
+        try {
+            if (blockFile != null) {
+                blockFile.updateLines(toLineIndexes(taskNums), update, statistics);
+            } else {
+                Path path = Paths.get(filePath);
+                List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+                for (int taskNum : taskNums) {
+                    //adding offset of 2 lines as first two lines contain statistics
+                    int lineNumber = taskNum + 1;
+                    String line = unseal(lines.get(lineNumber));
+                    if (line == null) {
+                        throw new IOException("Record of task " + taskNum + " is damaged");
+                    }
+                    lines.set(lineNumber, seal(update.apply(line)));
+                }
+                List<String> records = statisticsRecords();
+                lines.set(0, records.get(0));
+                lines.set(1, records.get(1));
 
-            Files.write(path, lines, StandardCharsets.UTF_8);
+                AtomicFiles.write(path, lines);
+            }
         } catch (IOException e) {
             throw new DukeException();
         }
+        if (replicationLeader != null) {
+            replicationLeader.publish("U " + status + " " + ReplicationLeader.joinTaskNums(taskNums));
+        }
     }
 
-    public void updateStatistics() throws DukeException {
+    /**
+     * Deletes the text of many tasks, together with updating the statistics, in one rewrite of the file.
+     * With compressed blocks, each block holding one of the tasks is rewritten once.
+     *
+     * @param taskNums Task Numbers of the tasks to delete, in increasing order.
+     * @throws DukeException If there is IOException when reading or writing from text file.
+     */
+    public synchronized void deleteTexts(int[] taskNums) throws DukeException {
+        try {
+            if (blockFile != null) {
+                blockFile.removeLines(toLineIndexes(taskNums), statistics);
+            } else {
+                Path path = Paths.get(filePath);
+                List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+                List<String> keptLines = new ArrayList<>(statisticsRecords());
+                int next = 0;
+                for (int lineNumber = 2; lineNumber < lines.size(); lineNumber++) {
+                    //adding offset of 2 lines as first two lines contain statistics
+                    if (next < taskNums.length && taskNums[next] + 1 == lineNumber) {
+                        next++;
+                    } else {
+                        keptLines.add(lines.get(lineNumber));
+                    }
+                }
+                if (next < taskNums.length) {
+                    throw new IOException("Task " + taskNums[next] + " is not in text file");
+                }
+
+                AtomicFiles.write(path, keptLines);
+            }
+        } catch (IOException e) {
+            throw new DukeException();
+        }
+        if (replicationLeader != null) {
+            replicationLeader.publish("D " + ReplicationLeader.joinTaskNums(taskNums));
+        }
+    }
+
+    /**
+     * Inserts the lines of many tasks into text file, together with updating the statistics, in one rewrite
+     * of the file. Used to put deleted tasks back where they were.
+     *
+     * @param taskNums Task Numbers the tasks will have, in increasing order.
+     * @param tasks    Tasks to be inserted, in the order of their task numbers.
+     * @throws DukeException If there is IOException when reading or writing from text file.
+     */
+    public synchronized void insertTexts(int[] taskNums, List<Task> tasks) throws DukeException {
+        List<String> newLines = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            newLines.add(taskToLine(task));
+        }
+
         try {
+            if (blockFile != null) {
+                blockFile.insertLines(toLineIndexes(taskNums), newLines, statistics);
+            } else {
+                Path path = Paths.get(filePath);
+                List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+                List<String> allLines = new ArrayList<>(statisticsRecords());
+                int oldLineNumber = 2;
+                for (int i = 0; i < taskNums.length; i++) {
+                    //the new task has every line before it that is not one of the new tasks
+                    while (allLines.size() < taskNums[i] + 1) {
+                        allLines.add(lines.get(oldLineNumber++));
+                    }
+                    allLines.add(seal(newLines.get(i)));
+                }
+                allLines.addAll(lines.subList(oldLineNumber, lines.size()));
+
+                AtomicFiles.write(path, allLines);
+            }
+        } catch (IOException | IndexOutOfBoundsException e) {
+            throw new DukeException();
+        }
+        if (replicationLeader != null) {
+            //inserting in increasing order of task number puts every task where it ends up
+            for (int i = 0; i < taskNums.length; i++) {
+                replicationLeader.publish("I " + taskNums[i] + " " + plainLine(tasks.get(i)));
+            }
+        }
+    }
+
+    /**
+     * Ships every later change of text file to the followers of a leader.
+     *
+     * @param replicationLeader Leader of the followers, or null to stop shipping changes.
+     */
+    void setReplicationLeader(ReplicationLeader replicationLeader) {
+        this.replicationLeader = replicationLeader;
+    }
+
+    /**
+     * Returns the line of every task in text file, with its description written out, for a follower that
+     * starts from a copy of the whole list. The lines of an open Appender are written out first.
+     * Every change is written and shipped while holding this Storage, so a leader that holds it too
+     * reads the lines and the number of the last change shipped as of the same moment.
+     *
+     * @return Lines of the tasks, in file order.
+     * @throws IOException If text file cannot be read.
+     */
+    synchronized List<String> readReplicaLines() throws IOException {
+        if (openAppender != null) {
+            openAppender.flush();
+        }
+
+        List<Task> tasks;
+        if (blockFile != null) {
+            tasks = blockFile.load(ForkJoinPool.commonPool(), this);
+        } else {
+            byte[] bytes = Files.readAllBytes(textFile.toPath());
+            int end = bytes.length;
+            while (end > 0 && bytes[end - 1] != '\n') {
+                end--;
+            }
+            tasks = parseRecords(bytes, indexOfFirstRecord(bytes, end), end);
+        }
+
+        List<String> lines = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            lines.add(plainLine(task));
+        }
+        return lines;
+    }
+
+    /**
+     * Replaces every task in text file, together with the statistics, in one atomic rewrite.
+     * Used by a follower that copies the whole list of its leader; the replacement is not shipped.
+     *
+     * @param tasks Tasks that text file holds afterwards.
+     * @throws DukeException If there is IOException when writing to text file.
+     */
+    public synchronized void replaceTasks(List<Task> tasks) throws DukeException {
+        statistics = countStatistics(tasks);
+        try {
+            if (blockFile != null) {
+                BlockFile tempFile = new BlockFile(AtomicFiles.tempPath(blockFile.getPath()));
+                Files.deleteIfExists(tempFile.getPath());
+                List<String> lines = new ArrayList<>();
+                for (Task task : tasks) {
+                    lines.add(taskToLine(task));
+                    if (lines.size() == APPEND_BATCH) {
+                        tempFile.appendLines(lines);
+                        lines.clear();
+                    }
+                }
+                tempFile.appendLines(lines);
+                tempFile.writeStatistics(statistics);
+                AtomicFiles.replace(tempFile.getPath(), blockFile.getPath());
+                blockFile = new BlockFile(blockFile.getPath());
+            } else {
+                List<String> lines = new ArrayList<>(statisticsRecords());
+                for (Task task : tasks) {
+                    lines.add(seal(taskToLine(task)));
+                }
+                AtomicFiles.write(textFile.toPath(), lines);
+            }
+        } catch (IOException e) {
+            throw new DukeException();
+        }
+    }
+
+    /**
+     * Returns the zero-based line indexes of task numbers, not counting the statistics.
+     */
+    private static int[] toLineIndexes(int[] taskNums) {
+        int[] indexes = new int[taskNums.length];
+        for (int i = 0; i < taskNums.length; i++) {
+            indexes[i] = taskNums[i] - 1;
+        }
+        return indexes;
+    }
+
+    public synchronized void updateStatistics() throws DukeException {
+        try {
+            if (blockFile != null) {
+                blockFile.writeStatistics(statistics);
+                return;
+            }
+
              final int FIRST_LINE_INDEX = 0;
              final int SECOND_LINE_INDEX= 1;
             Path path = Paths.get(filePath);
 
             //read all the line in the files
             List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+            List<String> records = statisticsRecords();
 
-            lines.set(FIRST_LINE_INDEX,"Number of tasks completed: " + Statistics.getNumCompleted() );
-            lines.set(SECOND_LINE_INDEX,"Number of tasks not completed: " + Statistics.getNumUncompleted() );
+            lines.set(FIRST_LINE_INDEX, records.get(0));
+            lines.set(SECOND_LINE_INDEX, records.get(1));
 
-            Files.write(path, lines, StandardCharsets.UTF_8);
+            AtomicFiles.write(path, lines);
         } catch (IOException e) {
             throw new DukeException();
         }
@@ -234,24 +1293,30 @@ public class Storage {
      * @param taskNum Task Number of the task to delete.
      * @throws DukeException If there is IOException when reading or writing from text file.
      */
-    public void deleteText(int taskNum) throws DukeException {
+    public synchronized void deleteText(int taskNum) throws DukeException {
         try {
-            //adding offset of 2 lines as first two lines contain statistics
-            final int STATISTICS_OFFSET = 2;
-            //adding index offset from taskNum, as line 0 is also a line
-            final int INDEX_OFFSET = -1;
-            int lineNumber = taskNum + STATISTICS_OFFSET + INDEX_OFFSET;
-            Path path = Paths.get(filePath);
-
-            //read all the line in the files
-            List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+            if (blockFile != null) {
+                blockFile.removeLine(taskNum - 1);
+            } else {
+                //adding offset of 2 lines as first two lines contain statistics
+                final int STATISTICS_OFFSET = 2;
+                //adding index offset from taskNum, as line 0 is also a line
+                final int INDEX_OFFSET = -1;
+                int lineNumber = taskNum + STATISTICS_OFFSET + INDEX_OFFSET;
+                Path path = Paths.get(filePath);
 
-            lines.remove(lineNumber);
-            Files.write(path, lines, StandardCharsets.UTF_8);
+                //read all the line in the files
+                List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
 
+                lines.remove(lineNumber);
+                AtomicFiles.write(path, lines);
+            }
         } catch (IOException e) {
             throw new DukeException();
         }
+        if (replicationLeader != null) {
+            replicationLeader.publish("D " + taskNum);
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,473 @@
+package duke.component;
+
+import duke.exception.DukeException;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Recurrence;
+import duke.task.Recurring;
+import duke.task.Task;
+import duke.task.Todo;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a file format that tasks are exported to and imported from, one task per line.
+ * Each task has the fields type (T, D, E or R), done, description, date, rule and doneOccurrences;
+ * dates are ISO-8601 instants such as 2026-10-19T09:00:00Z, and the completed occurrences of a
+ * recurring task are dates separated by spaces.
+ * The 'TaskFormat' class supports operators (i) choosing a format from a file name,
+ * (ii) writing a task as one line, and
+ * (iii) reading a task from one line.
+ */
+public enum TaskFormat {
+
+    /**
+     * Comma separated values with a header line. Fields with commas or quotes are quoted.
+     */
+    CSV {
+        @Override
+        public void writeHeader(Appendable out) throws IOException {
+            out.append(String.join(",", FIELD_NAMES)).append('\n');
+        }
+
+        @Override
+        public void write(Appendable out, Task task) throws IOException {
+            String[] fields = toFields(task);
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                appendCsvField(out, fields[i]);
+            }
+            out.append('\n');
+        }
+
+        @Override
+        public Task read(String line) throws DukeException {
+            if (line.isBlank() || line.startsWith(FIELD_NAMES[0] + ",")) {
+                return null;
+            }
+            return fromFields(parseCsvLine(line));
+        }
+    },
+
+    /**
+     * JSON Lines: one JSON object per line, without the fields that a task does not have.
+     */
+    JSON_LINES {
+        @Override
+        public void writeHeader(Appendable out) {
+        }
+
+        @Override
+        public void write(Appendable out, Task task) throws IOException {
+            String[] fields = toFields(task);
+            out.append('{');
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i].isEmpty()) {
+                    continue;
+                }
+                if (i > 0) {
+                    out.append(',');
+                }
+                out.append('"').append(FIELD_NAMES[i]).append("\":");
+                if (i == DONE_FIELD) {
+                    out.append(fields[i]);
+                } else {
+                    appendJsonString(out, fields[i]);
+                }
+            }
+            out.append("}\n");
+        }
+
+        @Override
+        public Task read(String line) throws DukeException {
+            if (line.isBlank()) {
+                return null;
+            }
+            Map<String, String> object = parseJsonObject(line);
+            String[] fields = new String[FIELD_NAMES.length];
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = object.getOrDefault(FIELD_NAMES[i], "");
+            }
+            return fromFields(fields);
+        }
+    };
+
+    private static final String[] FIELD_NAMES = {"type", "done", "description", "date", "rule", "doneOccurrences"};
+
+    private static final int TYPE_FIELD = 0;
+    private static final int DONE_FIELD = 1;
+    private static final int DESCRIPTION_FIELD = 2;
+    private static final int DATE_FIELD = 3;
+    private static final int RULE_FIELD = 4;
+    private static final int DONE_OCCURRENCES_FIELD = 5;
+
+    /**
+     * Returns the format of a file, from the extension of its name.
+     *
+     * @param fileName Name of the file, ending in .csv, .jsonl or .json.
+     * @return Format of the file.
+     * @throws DukeException If the extension is not one of these.
+     */
+    public static TaskFormat of(String fileName) throws DukeException {
+        String lowerCaseName = fileName.toLowerCase();
+        if (lowerCaseName.endsWith(".csv")) {
+            return CSV;
+        } else if (lowerCaseName.endsWith(".jsonl") || lowerCaseName.endsWith(".json")) {
+            return JSON_LINES;
+        }
+        throw new DukeException(" OOPS!!! Only .csv and .jsonl files can be imported or exported.");
+    }
+
+    /**
+     * Writes the line that comes before the tasks, if the format has one.
+     *
+     * @param out Destination of the line.
+     * @throws IOException If the line cannot be written.
+     */
+    public abstract void writeHeader(Appendable out) throws IOException;
+
+    /**
+     * Writes a task as one line.
+     *
+     * @param out  Destination of the line.
+     * @param task Task to be written.
+     * @throws IOException If the line cannot be written.
+     */
+    public abstract void write(Appendable out, Task task) throws IOException;
+
+    /**
+     * Reads a task from one line.
+     *
+     * @param line Line of the file.
+     * @return Task of the line, or null if the line is a header or blank.
+     * @throws DukeException If the line is not a valid task.
+     */
+    public abstract Task read(String line) throws DukeException;
+
+    private static String[] toFields(Task task) {
+        String[] fields = new String[FIELD_NAMES.length];
+        fields[DONE_FIELD] = String.valueOf(task.isDone());
+        fields[DESCRIPTION_FIELD] = task.getDescription();
+        fields[DATE_FIELD] = "";
+        fields[RULE_FIELD] = "";
+        fields[DONE_OCCURRENCES_FIELD] = "";
+
+        if (task instanceof Deadline) {
+            fields[TYPE_FIELD] = "D";
+            fields[DATE_FIELD] = toIsoString(((Deadline) task).getDeadline());
+        } else if (task instanceof Event) {
+            fields[TYPE_FIELD] = "E";
+            fields[DATE_FIELD] = toIsoString(((Event) task).getTime());
+        } else if (task instanceof Recurring) {
+            Recurring recurring = (Recurring) task;
+            fields[TYPE_FIELD] = "R";
+            fields[DATE_FIELD] = toIsoString(recurring.getStart());
+            fields[RULE_FIELD] = recurring.getRecurrence().toString();
+
+            StringBuilder occurrences = new StringBuilder();
+            for (Date occurrence : recurring.getDoneOccurrences()) {
+                if (occurrences.length() > 0) {
+                    occurrences.append(' ');
+                }
+                occurrences.append(toIsoString(occurrence));
+            }
+            fields[DONE_OCCURRENCES_FIELD] = occurrences.toString();
+        } else {
+            fields[TYPE_FIELD] = "T";
+        }
+        return fields;
+    }
+
+    private static Task fromFields(String[] fields) throws DukeException {
+        String description = fields[DESCRIPTION_FIELD];
+        if (description.isBlank()) {
+            throw new DukeException(" OOPS!!! A task has no description.");
+        }
+        //the text file separates fields with '|' and tasks with line breaks
+        if (description.contains("|") || description.contains("\n")) {
+            throw new DukeException(" OOPS!!! A description cannot contain '|' or a line break.");
+        }
+
+        try {
+            Task task;
+            switch (fields[TYPE_FIELD]) {
+            case "T":
+                task = new Todo(description);
+                break;
+            case "D":
+                task = new Deadline(description, fromRequiredIsoString(fields[DATE_FIELD], "a deadline"));
+                break;
+            case "E":
+                task = new Event(description, fromRequiredIsoString(fields[DATE_FIELD], "an event"));
+                break;
+            case "R":
+                Recurring recurring = new Recurring(description,
+                        fromRequiredIsoString(fields[DATE_FIELD], "a recurring task"),
+                        Recurrence.parse(fields[RULE_FIELD]));
+                for (String occurrence : fields[DONE_OCCURRENCES_FIELD].trim().split("\\s+")) {
+                    if (!occurrence.isEmpty()) {
+                        recurring.markOccurrenceDone(fromIsoString(occurrence));
+                    }
+                }
+                task = recurring;
+                break;
+            default:
+                throw new DukeException(" OOPS!!! Unknown task type: " + fields[TYPE_FIELD]);
+            }
+
+            if (Boolean.parseBoolean(fields[DONE_FIELD].trim())) {
+                task.markAsDone();
+            }
+            return task;
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new DukeException(" OOPS!!! " + e.getMessage());
+        }
+    }
+
+    private static String toIsoString(Date date) {
+        return date == null ? "" : date.toInstant().toString();
+    }
+
+    private static Date fromIsoString(String text) {
+        return text.isBlank() ? null : Date.from(Instant.parse(text.trim()));
+    }
+
+    /**
+     * Returns the date of a task that must have one, since a missing date would be stored as "null".
+     */
+    private static Date fromRequiredIsoString(String text, String taskName) throws DukeException {
+        if (text.isBlank()) {
+            throw new DukeException(" OOPS!!! The date of " + taskName + " cannot be empty.");
+        }
+        return fromIsoString(text);
+    }
+
+    private static void appendCsvField(Appendable out, String field) throws IOException {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0) {
+            out.append(field);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    private static String[] parseCsvLine(String line) throws DukeException {
+        String[] fields = new String[FIELD_NAMES.length];
+        StringBuilder field = new StringBuilder();
+        int count = 0;
+        boolean isQuoted = false;
+
+        for (int i = 0; i <= line.length(); i++) {
+            char c = i < line.length() ? line.charAt(i) : ',';
+            if (isQuoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    isQuoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                if (count == fields.length) {
+                    throw new DukeException(" OOPS!!! A line has more than " + fields.length + " fields.");
+                }
+                fields[count++] = field.toString();
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (isQuoted) {
+            throw new DukeException(" OOPS!!! A quoted field is not closed.");
+        }
+        for (int i = count; i < fields.length; i++) {
+            fields[i] = "";
+        }
+        return fields;
+    }
+
+    private static void appendJsonString(Appendable out, String text) throws IOException {
+        out.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '"':
+                out.append("\\\"");
+                break;
+            case '\\':
+                out.append("\\\\");
+                break;
+            case '\n':
+                out.append("\\n");
+                break;
+            case '\r':
+                out.append("\\r");
+                break;
+            case '\t':
+                out.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    out.append(String.format("\\u%04x", (int) c));
+                } else {
+                    out.append(c);
+                }
+                break;
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Parses a JSON object whose values are strings, booleans or null, into text values by name.
+     */
+    private static Map<String, String> parseJsonObject(String line) throws DukeException {
+        Map<String, String> object = new HashMap<>();
+        JsonCursor cursor = new JsonCursor(line);
+
+        cursor.expect('{');
+        if (cursor.peek() == '}') {
+            cursor.expect('}');
+            return object;
+        }
+        do {
+            String name = cursor.readString();
+            cursor.expect(':');
+            object.put(name, cursor.readValue());
+        } while (cursor.skipComma());
+        cursor.expect('}');
+        return object;
+    }
+
+    /**
+     * Represents a position in a line of JSON being parsed.
+     */
+    private static class JsonCursor {
+
+        /**
+         * Line being parsed.
+         */
+        private final String line;
+
+        /**
+         * Index of the next character to read.
+         */
+        private int position = 0;
+
+        JsonCursor(String line) {
+            this.line = line;
+        }
+
+        char peek() throws DukeException {
+            skipWhitespace();
+            if (position >= line.length()) {
+                throw new DukeException(" OOPS!!! A JSON line ends too early.");
+            }
+            return line.charAt(position);
+        }
+
+        void expect(char expected) throws DukeException {
+            if (peek() != expected) {
+                throw new DukeException(" OOPS!!! Expected '" + expected + "' at column " + (position + 1) + ".");
+            }
+            position++;
+        }
+
+        boolean skipComma() throws DukeException {
+            if (peek() == ',') {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        String readValue() throws DukeException {
+            if (peek() == '"') {
+                return readString();
+            }
+            for (String literal : List.of("true", "false", "null")) {
+                if (line.startsWith(literal, position)) {
+                    position += literal.length();
+                    return literal.equals("null") ? "" : literal;
+                }
+            }
+            throw new DukeException(" OOPS!!! Unsupported JSON value at column " + (position + 1) + ".");
+        }
+
+        String readString() throws DukeException {
+            expect('"');
+            StringBuilder result = new StringBuilder();
+            while (position < line.length()) {
+                char c = line.charAt(position++);
+                if (c == '"') {
+                    return result.toString();
+                }
+                if (c != '\\') {
+                    result.append(c);
+                    continue;
+                }
+                if (position >= line.length()) {
+                    break;
+                }
+                char escaped = line.charAt(position++);
+                switch (escaped) {
+                case 'n':
+                    result.append('\n');
+                    break;
+                case 'r':
+                    result.append('\r');
+                    break;
+                case 't':
+                    result.append('\t');
+                    break;
+                case 'b':
+                    result.append('\b');
+                    break;
+                case 'f':
+                    result.append('\f');
+                    break;
+                case 'u':
+                    if (position + 4 > line.length()) {
+                        throw new DukeException(" OOPS!!! A JSON escape is cut short.");
+                    }
+                    try {
+                        result.append((char) Integer.parseInt(line.substring(position, position + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw new DukeException(" OOPS!!! A JSON escape is not valid.");
+                    }
+                    position += 4;
+                    break;
+                default:
+                    result.append(escaped);
+                    break;
+                }
+            }
+            throw new DukeException(" OOPS!!! A JSON string is not closed.");
+        }
+
+        private void skipWhitespace() {
+            while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -1,25 +1,92 @@
 package duke.component;
 
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Recurring;
 import duke.task.Task;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Represents a TaskList object that stores all task in a list.
  * The 'TaskList' class supports operators (i) adding a task to list,
- * (ii) deleting a task from list,
+ * (ii) deleting a task, or many tasks in one pass, from list,
  * (iii) getting a specific task from list,
- * (iv) finding size of list, and
- * (v) marking a task in list as done.
+ * (iv) finding size of list,
+ * (v) marking a task in list as done or not done, and putting a deleted task back,
+ * (vi) counting and listing done or not done tasks from a bitset of done state,
+ * (vii) finding pending deadlines and events by time from a time-ordered index,
+ * (viii) finding recurring tasks and marking their occurrences as done,
+ * (ix) finding tasks by mistyped words from an index of the description words,
+ * (x) caching the responses of read-only commands until the list changes, and
+ * (xi) taking a snapshot of the tasks that can be read while the list is changed on another thread.
+ * Every operator that changes the list holds the TaskList, so a snapshot never sees half a change.
  */
 public class TaskList {
 
     /**
-     * List of tasks.
+     * Approximate heap taken by each task, as measured by TaskListMemoryBenchmark.
      */
-    private ArrayList<Task> todoList;
+    private static final int ESTIMATED_BYTES_PER_TASK = 106;
+
+    /**
+     * Container that holds the tasks.
+     */
+    private TaskStore todoList;
+
+    /**
+     * Done state of every task, in the same order as todoList.
+     */
+    private DoneBitSet doneIndex = new DoneBitSet();
+
+    /**
+     * Stable id of every task, in the same order as todoList.
+     * Ids are handed out in increasing order, so the array stays sorted as tasks are deleted.
+     */
+    private int[] taskIds = new int[16];
+
+    /**
+     * Id of the next task to be added.
+     */
+    private int nextTaskId = 0;
+
+    /**
+     * Deadlines and events that are not done, ordered by time and id.
+     */
+    private TimeIndex timeIndex = new TimeIndex();
+
+    /**
+     * Ids of recurring tasks, whose occurrences are worked out only when a query asks for them.
+     */
+    private TreeSet<Integer> recurringIds = new TreeSet<>();
+
+    /**
+     * Words of the descriptions of every task, or null until a fuzzy find first needs them.
+     */
+    private WordIndex wordIndex;
+
+    /**
+     * Version of the list, which every change to a task or to the order of the tasks increases.
+     */
+    private long version = 0;
+
+    /**
+     * Responses of read-only commands for the current version of the list.
+     */
+    private final ResultCache resultCache = new ResultCache();
+
+    /**
+     * Scheduler that reminds the user of the tasks in the time index, if there is one.
+     */
+    private ReminderScheduler reminderScheduler;
 
     /**
      * Initialises a new TaskList object with existing ArrayList of Tasks.
@@ -28,7 +95,7 @@ public class TaskList {
      */
     public TaskList(ArrayList<Task> todoList) {
 
-        this.todoList = todoList;
+        this(new PersistentTaskStore(todoList));
     }
 
     /**
@@ -36,7 +103,20 @@ public class TaskList {
      * no existing list of Tasks.
      */
     public TaskList() {
-        this.todoList = new ArrayList<>();
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Initialises a new TaskList object that keeps its tasks in the given store.
+     *
+     * @param todoList Container that holds the tasks.
+     */
+    TaskList(TaskStore todoList) {
+        this.todoList = todoList;
+
+        for (int i = 0; i < todoList.size(); i++) {
+            indexTask(todoList.get(i));
+        }
     }
 
     /**
@@ -44,11 +124,14 @@ public class TaskList {
      *
      * @param newTask Task to be added.
      */
-    public void addTask(Task newTask) {
+    public synchronized void addTask(Task newTask) {
+        version++;
+        int oldSize = todoList.size();
         todoList.add(newTask);
+        indexTask(newTask);
 
-        //Assert that the last element added is newTask
-        assert todoList.get(todoList.size() - 1).equals(newTask) : "new task is not added to task list";
+        //Assert that newTask is added at the end of the list
+        assert todoList.size() == oldSize + 1 : "new task is not added to task list";
     }
 
     /**
@@ -57,9 +140,219 @@ public class TaskList {
      * @param index Task number of task to be deleted.
      * @return Deleted task.
      */
-    public Task deleteTask(int index) {
+    public synchronized Task deleteTask(int index) {
+        version++;
+        Task removedTask = todoList.remove(index - 1);
+        doneIndex.remove(index - 1);
+
+        int id = taskIds[index - 1];
+        System.arraycopy(taskIds, index, taskIds, index - 1, todoList.size() - index + 1);
+        unindexTime(removedTask, id);
+        recurringIds.remove(id);
+        if (wordIndex != null) {
+            wordIndex.remove(removedTask.getDescription(), id);
+        }
+
+        return removedTask;
+    }
+
+    /**
+     * Deletes many tasks from list of tasks in one pass.
+     * Later tasks move down past all the deleted tasks at once, instead of once for each deleted task.
+     *
+     * @param taskNums Task numbers of tasks to be deleted, in increasing order.
+     * @return Deleted tasks, in the order of their task numbers.
+     */
+    public synchronized List<Task> deleteTasks(int[] taskNums) {
+        version++;
+        int oldSize = todoList.size();
+        int[] positions = new int[taskNums.length];
+        for (int i = 0; i < taskNums.length; i++) {
+            positions[i] = taskNums[i] - 1;
+
+            //Assert that the task numbers can be deleted in one pass
+            assert positions[i] >= 0 && positions[i] < oldSize : "Task number is not in the list";
+            assert i == 0 || positions[i] > positions[i - 1] : "Task numbers are not in increasing order";
+        }
+
+        List<Task> removedTasks = todoList.removeAll(positions);
+        doneIndex.removeAll(positions);
+        if (positions.length == 0) {
+            return removedTasks;
+        }
+
+        int write = positions[0];
+        int next = 0;
+        for (int read = positions[0]; read < oldSize; read++) {
+            if (next < positions.length && positions[next] == read) {
+                Task removedTask = removedTasks.get(next);
+                unindexTime(removedTask, taskIds[read]);
+                recurringIds.remove(taskIds[read]);
+                if (wordIndex != null) {
+                    wordIndex.remove(removedTask.getDescription(), taskIds[read]);
+                }
+                next++;
+            } else {
+                taskIds[write++] = taskIds[read];
+            }
+        }
+
+        //Assert that every task number has been deleted
+        assert todoList.size() == oldSize - taskNums.length : "Some tasks are not deleted from task list";
+
+        return removedTasks;
+    }
+
+    /**
+     * Inserts many tasks at their positions in list of tasks. Used to put deleted tasks back where they were.
+     *
+     * @param taskNums Task numbers the tasks will have, in increasing order.
+     * @param tasks    Tasks to be inserted, in the order of their task numbers.
+     */
+    public synchronized void insertTasks(int[] taskNums, List<Task> tasks) {
+        for (int i = 0; i < taskNums.length; i++) {
+            insertTask(taskNums[i], tasks.get(i));
+        }
+    }
+
+    /**
+     * Inserts a task at a position in list of tasks, shifting later tasks down by one.
+     * Used to put a deleted task back where it was.
+     *
+     * @param taskNum Task number the task will have, from 1 to size + 1.
+     * @param task    Task to be inserted.
+     */
+    public synchronized void insertTask(int taskNum, Task task) {
+        version++;
+        int position = taskNum - 1;
+        int size = todoList.size();
+
+        //the new id must fall between its neighbours' ids to keep taskIds sorted
+        int id;
+        if (position == size) {
+            id = nextTaskId++;
+        } else {
+            if (taskIds[position] - (position == 0 ? -1 : taskIds[position - 1]) < 2) {
+                renumberTaskIds();
+            }
+            id = (position == 0 ? -1 : taskIds[position - 1]) + 1;
+        }
+
+        todoList.insert(position, task);
+        doneIndex.insert(position, task.isDone());
+        if (size + 1 > taskIds.length) {
+            taskIds = Arrays.copyOf(taskIds, taskIds.length * 2);
+        }
+        System.arraycopy(taskIds, position, taskIds, position + 1, size - position);
+        taskIds[position] = id;
+        indexId(task, id);
+
+        //Assert that the task is inserted at the requested position
+        assert todoList.size() == size + 1 : "Task is not inserted into task list";
+    }
+
+    /**
+     * Adds the last task of the list to the done bitset and time index, under a new id.
+     */
+    private void indexTask(Task task) {
+        doneIndex.add(task.isDone());
 
-        return todoList.remove(index - 1);
+        int position = doneIndex.size() - 1;
+        if (position >= taskIds.length) {
+            taskIds = Arrays.copyOf(taskIds, taskIds.length * 2);
+        }
+        int id = nextTaskId++;
+        taskIds[position] = id;
+        indexId(task, id);
+    }
+
+    /**
+     * Adds a task to the recurring ids and, if it is a pending deadline or event, the time index.
+     */
+    private void indexId(Task task, int id) {
+        if (task instanceof Recurring) {
+            recurringIds.add(id);
+        }
+        if (wordIndex != null) {
+            wordIndex.add(task.getDescription(), id);
+        }
+
+        Date date = getDate(task);
+        if (date != null && !task.isDone()) {
+            timeIndex.add(date.getTime(), id);
+            if (reminderScheduler != null) {
+                reminderScheduler.schedule(id, date, task);
+            }
+        }
+    }
+
+    /**
+     * Gives every task a new id, leaving a free id between each pair of neighbours.
+     * Only needed when a task is inserted between two tasks whose ids are consecutive,
+     * which does not happen when deletions are undone in reverse order.
+     */
+    private void renumberTaskIds() {
+        timeIndex = new TimeIndex();
+        recurringIds.clear();
+        wordIndex = null;
+        for (int i = 0; i < todoList.size(); i++) {
+            if (reminderScheduler != null) {
+                reminderScheduler.cancel(taskIds[i]);
+            }
+            taskIds[i] = 2 * i + 1;
+            indexId(todoList.get(i), taskIds[i]);
+        }
+        nextTaskId = 2 * todoList.size() + 1;
+    }
+
+    private void unindexTime(Task task, int id) {
+        Date date = getDate(task);
+        if (date != null) {
+            timeIndex.remove(date.getTime(), id);
+            if (reminderScheduler != null) {
+                reminderScheduler.cancel(id);
+            }
+        }
+    }
+
+    /**
+     * Sets the scheduler that reminds the user of pending deadlines and events,
+     * and schedules the reminders of the tasks already in the list.
+     * Adding, deleting and marking tasks as done keeps the reminders up to date.
+     *
+     * @param reminderScheduler Scheduler of reminders.
+     */
+    public void setReminderScheduler(ReminderScheduler reminderScheduler) {
+        this.reminderScheduler = reminderScheduler;
+
+        for (int id : timeIndex.idsFrom(Long.MIN_VALUE, Integer.MAX_VALUE)) {
+            Task task = getTask(getTaskNum(id));
+            reminderScheduler.schedule(id, getDate(task), task);
+        }
+    }
+
+    /**
+     * Returns the date of a deadline or event, or null for other tasks.
+     */
+    private static Date getDate(Task task) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getDeadline();
+        } else if (task instanceof Event) {
+            return ((Event) task).getTime();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the task number of the task with an id, found by binary search over the sorted ids.
+     */
+    private int getTaskNum(int id) {
+        int position = Arrays.binarySearch(taskIds, 0, todoList.size(), id);
+
+        //Assert that indexed ids belong to tasks in the list
+        assert position >= 0 : "Time index refers to a task that is not in the list";
+
+        return position + 1;
     }
 
 
@@ -83,17 +376,230 @@ public class TaskList {
         return this.todoList.size();
     }
 
+    /**
+     * Returns the approximate heap taken by the tasks in list of task.
+     *
+     * @return Approximate size in bytes.
+     */
+    public long estimateHeapBytes() {
+        return (long) this.size() * ESTIMATED_BYTES_PER_TASK + resultCache.estimateHeapBytes();
+    }
+
+    /**
+     * Returns the version of the list, which increases whenever a task is added, deleted or marked.
+     *
+     * @return Version of the list.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the response of a read-only command, from the cache if the list has not changed since it was computed.
+     *
+     * @param query   Normalized query of the command; equal queries have equal responses.
+     * @param compute Computes the response.
+     * @return Response of the command.
+     */
+    public String getCachedResult(String query, Supplier<String> compute) {
+        return resultCache.get(query, version, compute);
+    }
+
+    /**
+     * Returns the tasks as they are now. The snapshot shares the tasks with the list, so taking one
+     * costs the same whatever the size of the list, and later changes to the list do not show up in it.
+     *
+     * @return Snapshot of the tasks.
+     */
+    public synchronized TaskSnapshot snapshot() {
+        return new TaskSnapshot(todoList.snapshot(), doneIndex.countDone(), version);
+    }
+
+    /**
+     * Returns the cache of the responses of read-only commands.
+     *
+     * @return Result cache.
+     */
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
     /**
      * Marks a specific task in list of task as done.
      *
      * @param taskNum Task number of task that user wants to mark as done.
      */
-    public void markTaskDone(int taskNum) {
-        Task updatedTask = this.getTask(taskNum);
-        updatedTask.markAsDone();
+    public synchronized void markTaskDone(int taskNum) {
+        version++;
+        this.todoList.markDone(taskNum - 1);
+        this.doneIndex.set(taskNum - 1, true);
+        unindexTime(this.getTask(taskNum), taskIds[taskNum - 1]);
 
         //Assert that the correct task is marked as done
-        assert this.getTask(taskNum).getStatusIcon().equals("v") : "The task is not marked as done or the wrong task is marked as done";
+        assert this.getTask(taskNum).isDone() : "The task is not marked as done or the wrong task is marked as done";
+    }
+
+    /**
+     * Marks a specific task in list of task as not done.
+     *
+     * @param taskNum Task number of task that user wants to mark as not done.
+     */
+    public synchronized void markTaskNotDone(int taskNum) {
+        version++;
+        this.todoList.markNotDone(taskNum - 1);
+        this.doneIndex.set(taskNum - 1, false);
+        indexId(this.getTask(taskNum), taskIds[taskNum - 1]);
+
+        //Assert that the correct task is marked as not done
+        assert !this.getTask(taskNum).isDone() : "The task is not marked as not done";
+    }
+
+    /**
+     * Returns whether a specific task in list of task is done, without reading the task.
+     *
+     * @param taskNum Task number of task.
+     * @return true if the task is done.
+     */
+    public boolean isTaskDone(int taskNum) {
+        return this.doneIndex.get(taskNum - 1);
+    }
+
+    /**
+     * Returns number of done tasks in list of task.
+     *
+     * @return Number of done tasks.
+     */
+    public int countDone() {
+        return this.doneIndex.countDone();
+    }
+
+    /**
+     * Returns number of tasks in list of task that are not done.
+     *
+     * @return Number of tasks that are not done.
+     */
+    public int countNotDone() {
+        return this.doneIndex.size() - this.doneIndex.countDone();
+    }
+
+    /**
+     * Returns the task numbers of every done task, or of every task that is not done.
+     *
+     * @param isDone Whether to return the done tasks.
+     * @return Task numbers in ascending order.
+     */
+    public int[] getTaskNums(boolean isDone) {
+        int[] taskNums = new int[isDone ? countDone() : countNotDone()];
+
+        int count = 0;
+        int index = isDone ? doneIndex.nextDone(0) : doneIndex.nextNotDone(0);
+        while (index >= 0) {
+            taskNums[count++] = index + 1;
+            index = isDone ? doneIndex.nextDone(index + 1) : doneIndex.nextNotDone(index + 1);
+        }
+
+        //Assert that the bitset counts agree with the scan
+        assert count == taskNums.length : "Done index count does not match the done tasks found";
+
+        return taskNums;
+    }
+
+    /**
+     * Returns the task numbers of every done task, or of every task that is not done.
+     * The done bitset is only scanned as far as the stream is consumed.
+     *
+     * @param isDone Whether to return the done tasks.
+     * @return Lazy stream of task numbers in ascending order.
+     */
+    public IntStream streamTaskNums(boolean isDone) {
+        int first = isDone ? doneIndex.nextDone(0) : doneIndex.nextNotDone(0);
+        return IntStream.iterate(first, index -> index >= 0,
+                index -> isDone ? doneIndex.nextDone(index + 1) : doneIndex.nextNotDone(index + 1))
+                .map(index -> index + 1);
+    }
+
+    /**
+     * Returns the task numbers of pending deadlines and events with a date in a range.
+     * The time index is only read as far as the stream is consumed.
+     *
+     * @param from Earliest date, inclusive.
+     * @param to   Latest date, inclusive.
+     * @return Lazy stream of task numbers in order of date.
+     */
+    public IntStream streamTaskNumsDueBetween(Date from, Date to) {
+        return this.timeIndex.streamIdsBetween(from.getTime(), to.getTime()).map(this::getTaskNum);
+    }
+
+    /**
+     * Returns the task numbers of pending deadlines and events with a date in a range.
+     *
+     * @param from Earliest date, inclusive.
+     * @param to   Latest date, inclusive.
+     * @return Task numbers in order of date.
+     */
+    public List<Integer> getTaskNumsDueBetween(Date from, Date to) {
+        return this.timeIndex.idsBetween(from.getTime(), to.getTime())
+                .stream()
+                .map(this::getTaskNum)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the task numbers of the first pending deadlines and events at or after a date.
+     *
+     * @param from  Earliest date, inclusive.
+     * @param limit Maximum number of tasks to return.
+     * @return Task numbers in order of date.
+     */
+    public List<Integer> getUpcomingTaskNums(Date from, int limit) {
+        return this.timeIndex.idsFrom(from.getTime(), limit)
+                .stream()
+                .map(this::getTaskNum)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the task numbers of every recurring task.
+     *
+     * @return Task numbers in ascending order.
+     */
+    public List<Integer> getRecurringTaskNums() {
+        return this.recurringIds
+                .stream()
+                .map(this::getTaskNum)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Marks one occurrence of a recurring task as done. The rest of the series stays pending.
+     *
+     * @param taskNum    Task number of the recurring task.
+     * @param occurrence Date of the occurrence.
+     * @return Recurring task held by the list, which is a copy if a snapshot holds the task.
+     */
+    public synchronized Recurring markOccurrenceDone(int taskNum, Date occurrence) {
+        version++;
+        Recurring task = (Recurring) this.todoList.getWritable(taskNum - 1);
+        task.markOccurrenceDone(occurrence);
+
+        //Assert that the occurrence is recorded on the task held by the list
+        assert ((Recurring) this.getTask(taskNum)).isOccurrenceDone(occurrence) : "Occurrence is not marked as done";
+
+        return task;
+    }
+
+    /**
+     * Marks one occurrence of a recurring task as not done.
+     *
+     * @param taskNum    Task number of the recurring task.
+     * @param occurrence Date of the occurrence.
+     * @return Recurring task held by the list, which is a copy if a snapshot holds the task.
+     */
+    public synchronized Recurring markOccurrenceNotDone(int taskNum, Date occurrence) {
+        version++;
+        Recurring task = (Recurring) this.todoList.getWritable(taskNum - 1);
+        task.markOccurrenceNotDone(occurrence);
+        return task;
     }
 
     /**
@@ -104,9 +610,8 @@ public class TaskList {
      */
     public List<String> findTask(String keyword) {
 
-        List<String> result = this.todoList
-                .stream()
-                .map(x -> x.toString())
+        List<String> result = IntStream.range(0, this.todoList.size())
+                .mapToObj(i -> this.todoList.get(i).toString())
                 .filter(y -> y.contains(keyword))
                 .collect(Collectors.toList());
 
@@ -115,10 +620,28 @@ public class TaskList {
 
         return result;
     }
-}
-
-
-
-
 
+    /**
+     * Finds the tasks with words within an edit distance of every word of a keyword, nearest first.
+     * The words of the descriptions are indexed the first time, and kept up to date after that.
+     *
+     * @param keyword     Words to look for.
+     * @param maxDistance Largest edit distance of a matching word, or -1 to choose it from the length of each word.
+     * @return Task numbers of the matching tasks, by sum of distances and then by task number.
+     */
+    public List<Integer> findTaskFuzzy(String keyword, int maxDistance) {
+        if (wordIndex == null) {
+            wordIndex = new WordIndex();
+            for (int i = 0; i < todoList.size(); i++) {
+                wordIndex.add(todoList.get(i).getDescription(), taskIds[i]);
+            }
+        }
 
+        Map<Integer, Integer> distances = wordIndex.findIds(keyword, maxDistance);
+        return distances.entrySet()
+                .stream()
+                .sorted(Map.Entry.<Integer, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .map(entry -> getTaskNum(entry.getKey()))
+                .collect(Collectors.toList());
+    }
+}
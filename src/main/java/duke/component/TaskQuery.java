@@ -0,0 +1,532 @@
+package duke.component;
+
+import duke.exception.DukeException;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Recurring;
+import duke.task.Task;
+import duke.task.Todo;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Represents a compiled query over a TaskList, such as
+ * 'type:D done:false due&lt;2026-12-01 text:"report" sort:due limit:20'.
+ * The terms are compiled once into a predicate, an order, a limit and the fields to show.
+ * Running the query reads candidates from the cheapest source that covers them (the time index,
+ * the done bitset, the recurring tasks or the whole list) and filters them lazily. When that source
+ * is already in the requested order, it stops reading at the limit; otherwise only the first
+ * 'limit' matches are kept, in a bounded heap.
+ * The 'TaskQuery' class supports operators (i) compiling the text of a query,
+ * (ii) running it over a TaskList and
+ * (iii) showing the chosen fields of a matching task.
+ */
+public class TaskQuery {
+
+    /**
+     * Represents a field of a task that can be sorted on and shown.
+     */
+    public enum Field {
+        NUM, TYPE, DONE, TEXT, DUE
+    }
+
+    /**
+     * Formats of the dates in a query, which cover whole days.
+     */
+    private static final String[] DATE_PATTERNS = {"yyyy-MM-dd", "dd/MM/yyyy"};
+
+    /**
+     * Types of the tasks that the time index holds when they are pending.
+     */
+    private static final Set<Character> DATED_TYPES = Set.of('D', 'E');
+
+    /**
+     * Conditions that every matching task meets.
+     */
+    private final List<Predicate<Task>> conditions = new ArrayList<>();
+
+    /**
+     * Types a matching task has, or null for any type.
+     */
+    private Set<Character> types;
+
+    /**
+     * Whether a matching task is done, or null for either.
+     */
+    private Boolean isDone;
+
+    /**
+     * Earliest due time of a matching task in epoch milliseconds, inclusive.
+     */
+    private long dueFrom = Long.MIN_VALUE;
+
+    /**
+     * Latest due time of a matching task in epoch milliseconds, inclusive.
+     */
+    private long dueTo = Long.MAX_VALUE;
+
+    /**
+     * Whether the query has a due term.
+     */
+    private boolean hasDueTerm;
+
+    /**
+     * Field the matching tasks are sorted on.
+     */
+    private Field sortField = Field.NUM;
+
+    /**
+     * Whether the matching tasks are sorted from the largest value.
+     */
+    private boolean isDescending;
+
+    /**
+     * Maximum number of matching tasks returned.
+     */
+    private int limit = Integer.MAX_VALUE;
+
+    /**
+     * Fields shown for each matching task, or null to show the whole task.
+     */
+    private List<Field> shownFields;
+
+    private TaskQuery() {
+    }
+
+    /**
+     * Returns a query that sorts the done, pending or all tasks on a field and keeps the first of them.
+     *
+     * @param isDone       Whether the matching tasks are done, or null for all tasks.
+     * @param sortField    Field the tasks are sorted on.
+     * @param isDescending Whether the tasks are sorted from the largest value.
+     * @param limit        Maximum number of tasks returned.
+     * @return Query over the tasks.
+     */
+    public static TaskQuery sorted(Boolean isDone, Field sortField, boolean isDescending, int limit) {
+        assert limit >= 0 : "Limit of a query is negative";
+
+        TaskQuery query = new TaskQuery();
+        if (isDone != null) {
+            boolean wantsDone = isDone;
+            query.isDone = wantsDone;
+            query.conditions.add(task -> task.isDone() == wantsDone);
+        }
+        query.sortField = sortField;
+        query.isDescending = isDescending;
+        query.limit = limit;
+        return query;
+    }
+
+    /**
+     * Returns the query compiled from its text.
+     * A term is a field, an operator and a value, as in 'done:false' or 'due&lt;=2026-12-01'. A value with
+     * spaces is quoted. A word that is not a term is searched for in the descriptions.
+     *
+     * @param text Text of the query.
+     * @return Compiled query.
+     * @throws DukeException If a term is unknown or its value is not valid.
+     */
+    public static TaskQuery compile(String text) throws DukeException {
+        TaskQuery query = new TaskQuery();
+        int index = 0;
+
+        while (index < text.length()) {
+            if (Character.isWhitespace(text.charAt(index))) {
+                index++;
+                continue;
+            }
+
+            int keyEnd = index;
+            while (keyEnd < text.length() && Character.isLetter(text.charAt(keyEnd))) {
+                keyEnd++;
+            }
+            String operator = readOperator(text, keyEnd);
+
+            //a word without an operator is searched for in the descriptions
+            if (keyEnd == index || operator == null) {
+                int valueEnd = findValueEnd(text, index);
+                query.addTerm("text", ":", unquote(text.substring(index, valueEnd)));
+                index = valueEnd;
+                continue;
+            }
+
+            int valueStart = keyEnd + operator.length();
+            int valueEnd = findValueEnd(text, valueStart);
+            query.addTerm(text.substring(index, keyEnd).toLowerCase(Locale.ROOT), operator,
+                    unquote(text.substring(valueStart, valueEnd)));
+            index = valueEnd;
+        }
+
+        return query;
+    }
+
+    private static String readOperator(String text, int index) {
+        for (String operator : new String[]{"<=", ">=", ":", "<", ">"}) {
+            if (text.startsWith(operator, index)) {
+                return operator;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the end of the value starting at index: its closing quote, or the next space.
+     */
+    private static int findValueEnd(String text, int index) throws DukeException {
+        if (index < text.length() && text.charAt(index) == '"') {
+            int closingQuote = text.indexOf('"', index + 1);
+            if (closingQuote < 0) {
+                throw new DukeException(" OOPS!!! A quote in the query is not closed.");
+            }
+            return closingQuote + 1;
+        }
+
+        int end = index;
+        while (end < text.length() && !Character.isWhitespace(text.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    private void addTerm(String key, String operator, String value) throws DukeException {
+        if (value.isEmpty()) {
+            throw new DukeException(" OOPS!!! The query term '" + key + "' needs a value.");
+        }
+        if (!key.equals("due") && !operator.equals(":")) {
+            throw new DukeException(" OOPS!!! Only dates can be compared with '" + operator + "'.");
+        }
+
+        switch (key) {
+        case "type":
+            addTypes(value);
+            break;
+
+        case "done":
+            if (!value.equals("true") && !value.equals("false")) {
+                throw new DukeException(" OOPS!!! 'done' is either true or false.");
+            }
+            boolean wantsDone = Boolean.parseBoolean(value);
+            isDone = wantsDone;
+            conditions.add(task -> task.isDone() == wantsDone);
+            break;
+
+        case "text":
+            String keyword = value.toLowerCase(Locale.ROOT);
+            conditions.add(task -> task.getDescription().toLowerCase(Locale.ROOT).contains(keyword));
+            break;
+
+        case "due":
+            addDueBound(operator, parseDay(value));
+            break;
+
+        case "sort":
+            isDescending = value.startsWith("-");
+            sortField = parseField(isDescending ? value.substring(1) : value);
+            break;
+
+        case "limit":
+            try {
+                limit = Math.min(limit, Integer.parseInt(value));
+            } catch (NumberFormatException e) {
+                throw new DukeException(" OOPS!!! 'limit' is a number of tasks.");
+            }
+            if (limit < 0) {
+                throw new DukeException(" OOPS!!! 'limit' is a number of tasks.");
+            }
+            break;
+
+        case "show":
+            shownFields = new ArrayList<>();
+            for (String field : value.split(",")) {
+                shownFields.add(parseField(field));
+            }
+            break;
+
+        default:
+            throw new DukeException(" OOPS!!! I don't know the query term '" + key + "'.");
+        }
+    }
+
+    private void addTypes(String value) throws DukeException {
+        Set<Character> termTypes = new HashSet<>();
+        for (String type : value.toUpperCase(Locale.ROOT).split(",")) {
+            if (type.length() != 1 || "TDER".indexOf(type.charAt(0)) < 0) {
+                throw new DukeException(" OOPS!!! A task type is one of T, D, E and R.");
+            }
+            termTypes.add(type.charAt(0));
+        }
+
+        //several type terms only match the types they have in common
+        if (types != null) {
+            termTypes.retainAll(types);
+        }
+        types = termTypes;
+        Set<Character> matchingTypes = termTypes;
+        conditions.add(task -> matchingTypes.contains(typeOf(task)));
+    }
+
+    private void addDueBound(String operator, Date day) {
+        long dayStart = day.getTime();
+        long nextDayStart = nextDay(day).getTime();
+        hasDueTerm = true;
+
+        switch (operator) {
+        case ":":
+            dueFrom = Math.max(dueFrom, dayStart);
+            dueTo = Math.min(dueTo, nextDayStart - 1);
+            break;
+        case "<":
+            dueTo = Math.min(dueTo, dayStart - 1);
+            break;
+        case "<=":
+            dueTo = Math.min(dueTo, nextDayStart - 1);
+            break;
+        case ">":
+            dueFrom = Math.max(dueFrom, nextDayStart);
+            break;
+        default:
+            dueFrom = Math.max(dueFrom, dayStart);
+            break;
+        }
+    }
+
+    private static Date parseDay(String value) throws DukeException {
+        for (String pattern : DATE_PATTERNS) {
+            SimpleDateFormat format = new SimpleDateFormat(pattern);
+            format.setLenient(false);
+            ParsePosition position = new ParsePosition(0);
+            Date day = format.parse(value, position);
+            if (day != null && position.getIndex() == value.length()) {
+                return day;
+            }
+        }
+        throw new DukeException(" OOPS!!! Dates in a query look like 2026-12-01 or 01/12/2026.");
+    }
+
+    private static Date nextDay(Date day) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(day);
+        calendar.add(Calendar.DAY_OF_MONTH, 1);
+        return calendar.getTime();
+    }
+
+    /**
+     * Returns the field with a name, in any case.
+     *
+     * @param value Name of the field.
+     * @return Field.
+     * @throws DukeException If no field has the name.
+     */
+    public static Field parseField(String value) throws DukeException {
+        try {
+            return Field.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new DukeException(" OOPS!!! A field is one of num, type, done, text and due.");
+        }
+    }
+
+    /**
+     * Returns the task numbers of the tasks that match the query, in the order of the query,
+     * up to its limit.
+     *
+     * @param taskList List of tasks.
+     * @return Task numbers of the matching tasks.
+     */
+    public List<Integer> run(TaskList taskList) {
+        IntStream candidates;
+        Field sourceOrder = Field.NUM;
+
+        //pending deadlines and events are in the time index, in order of due date
+        boolean isInTimeIndex = Boolean.FALSE.equals(isDone) && types != null && DATED_TYPES.containsAll(types);
+        if (isInTimeIndex && (hasDueTerm || sortField == Field.DUE)) {
+            candidates = taskList.streamTaskNumsDueBetween(new Date(dueFrom), new Date(dueTo));
+            sourceOrder = Field.DUE;
+        } else if (types != null && types.equals(Set.of('R'))) {
+            candidates = taskList.getRecurringTaskNums().stream().mapToInt(Integer::intValue);
+        } else if (isDone != null) {
+            candidates = taskList.streamTaskNums(isDone);
+        } else {
+            candidates = IntStream.rangeClosed(1, taskList.size());
+        }
+
+        Predicate<Task> predicate = conditions.stream().reduce(task -> true, Predicate::and);
+        if (hasDueTerm) {
+            predicate = predicate.and(task -> {
+                Date due = dueOf(task);
+                return due != null && due.getTime() >= dueFrom && due.getTime() <= dueTo;
+            });
+        }
+        Predicate<Task> matches = predicate;
+        IntStream matchingTaskNums = candidates.filter(taskNum -> matches.test(taskList.getTask(taskNum)));
+
+        //the source is already in order, so reading stops at the limit
+        if (sortField == sourceOrder && !isDescending) {
+            return matchingTaskNums.limit(limit).boxed().collect(Collectors.toList());
+        }
+
+        Comparator<Integer> order = getOrder(taskList);
+        if (limit == Integer.MAX_VALUE) {
+            return matchingTaskNums.boxed().sorted(order).collect(Collectors.toList());
+        }
+        return selectFirst(matchingTaskNums, order, limit);
+    }
+
+    /**
+     * Returns the first 'limit' task numbers in an order, keeping at most 'limit' of them at any time.
+     */
+    private static List<Integer> selectFirst(IntStream taskNums, Comparator<Integer> order, int limit) {
+        if (limit == 0) {
+            return new ArrayList<>();
+        }
+
+        //the head of the heap is the last of the task numbers kept so far
+        PriorityQueue<Integer> heap = new PriorityQueue<>(order.reversed());
+        taskNums.forEach(taskNum -> {
+            if (heap.size() < limit) {
+                heap.add(taskNum);
+            } else if (order.compare(taskNum, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(taskNum);
+            }
+        });
+
+        List<Integer> first = new ArrayList<>(heap);
+        first.sort(order);
+        return first;
+    }
+
+    /**
+     * Returns the order of the query over task numbers. Ties are broken by task number.
+     */
+    private Comparator<Integer> getOrder(TaskList taskList) {
+        Comparator<Integer> order;
+        switch (sortField) {
+        case TYPE:
+            order = Comparator.comparing(taskNum -> typeOf(taskList.getTask(taskNum)));
+            break;
+        case DONE:
+            order = Comparator.comparing(taskNum -> taskList.getTask(taskNum).isDone());
+            break;
+        case TEXT:
+            order = Comparator.comparing(taskNum -> taskList.getTask(taskNum).getDescription(),
+                    String.CASE_INSENSITIVE_ORDER);
+            break;
+        case DUE:
+            //tasks without a due date come last either way
+            Comparator<Date> byDate = isDescending ? Comparator.reverseOrder() : Comparator.naturalOrder();
+            return Comparator.comparing((Integer taskNum) -> dueOf(taskList.getTask(taskNum)),
+                    Comparator.nullsLast(byDate)).thenComparing(Comparator.naturalOrder());
+        default:
+            order = Comparator.naturalOrder();
+            break;
+        }
+
+        if (isDescending) {
+            order = order.reversed();
+        }
+        return order.thenComparing(Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns the fields of the query for a matching task, or its task number and the whole task if
+     * the query shows no fields.
+     *
+     * @param taskNum Task number of the task.
+     * @param task    Task.
+     * @return Row of the task.
+     */
+    public String project(int taskNum, Task task) {
+        if (shownFields == null) {
+            return taskNum + " . " + task;
+        }
+
+        List<String> values = new ArrayList<>();
+        for (Field field : shownFields) {
+            switch (field) {
+            case NUM:
+                values.add(String.valueOf(taskNum));
+                break;
+            case TYPE:
+                values.add(String.valueOf(typeOf(task)));
+                break;
+            case DONE:
+                values.add(task.getStatusIcon());
+                break;
+            case TEXT:
+                values.add(task.getDescription());
+                break;
+            default:
+                Date due = dueOf(task);
+                values.add(due == null ? "-" : due.toString());
+                break;
+            }
+        }
+        return String.join(" | ", values);
+    }
+
+    /**
+     * Appends the row of a matching task to a listing. A whole task is appended without copying its row first.
+     *
+     * @param out     Listing the row is appended to.
+     * @param taskNum Task number of the task.
+     * @param task    Task.
+     */
+    public void appendRow(StringBuilder out, int taskNum, Task task) {
+        if (shownFields == null) {
+            out.append(taskNum).append(" . ");
+            task.appendTo(out);
+            return;
+        }
+        out.append(project(taskNum, task));
+    }
+
+    /**
+     * Returns the letter of the type of a task, as in the text file.
+     */
+    private static char typeOf(Task task) {
+        if (task instanceof Deadline) {
+            return 'D';
+        } else if (task instanceof Event) {
+            return 'E';
+        } else if (task instanceof Recurring) {
+            return 'R';
+        }
+        assert task instanceof Todo : "Task has an unknown type";
+        return 'T';
+    }
+
+    /**
+     * Returns the due date of a task: the deadline, the time of an event or the first occurrence of
+     * a recurring task. Todos have none.
+     */
+    private static Date dueOf(Task task) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getDeadline();
+        } else if (task instanceof Event) {
+            return ((Event) task).getTime();
+        } else if (task instanceof Recurring) {
+            return ((Recurring) task).getStart();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,90 @@
+package duke.component;
+
+import duke.task.Task;
+
+import java.util.List;
+
+/**
+ * Represents the tasks of a TaskList at one version, which later adds, deletes and marks do not change.
+ * A snapshot shares its tasks with the TaskList instead of copying them, so it is cheap to take,
+ * and it can be read on one thread while commands change the list on another.
+ * The 'TaskSnapshot' class supports operators (i) getting a task by its task number at that version,
+ * (ii) finding the number of tasks and of done tasks, and
+ * (iii) getting the version of the list it was taken at.
+ */
+public class TaskSnapshot {
+
+    /**
+     * Tasks in order, which are never changed.
+     */
+    private final List<Task> tasks;
+
+    /**
+     * Number of done tasks.
+     */
+    private final int numDone;
+
+    /**
+     * Version of the list the snapshot was taken at.
+     */
+    private final long version;
+
+    /**
+     * Initialises a new TaskSnapshot.
+     *
+     * @param tasks   Tasks in order, which are never changed.
+     * @param numDone Number of done tasks.
+     * @param version Version of the list the snapshot was taken at.
+     */
+    TaskSnapshot(List<Task> tasks, int numDone, long version) {
+        this.tasks = tasks;
+        this.numDone = numDone;
+        this.version = version;
+    }
+
+    /**
+     * Returns a task as it was when the snapshot was taken.
+     *
+     * @param taskNum Task number of the task at that version.
+     * @return Task, which must not be changed.
+     */
+    public Task getTask(int taskNum) {
+        return tasks.get(taskNum - 1);
+    }
+
+    /**
+     * Returns every task as it was when the snapshot was taken.
+     *
+     * @return Unmodifiable list of the tasks, in order of task number.
+     */
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Returns the number of tasks.
+     *
+     * @return Number of tasks.
+     */
+    public int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Returns the number of done tasks.
+     *
+     * @return Number of done tasks.
+     */
+    public int countDone() {
+        return numDone;
+    }
+
+    /**
+     * Returns the version of the list the snapshot was taken at.
+     *
+     * @return Version of the list.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
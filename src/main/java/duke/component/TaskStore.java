@@ -0,0 +1,95 @@
+package duke.component;
+
+import duke.task.Task;
+
+import java.util.List;
+
+/**
+ * Represents the container that holds the tasks of a TaskList.
+ * Positions are zero-based; TaskList converts from the one-based task numbers shown to the user.
+ * The 'TaskStore' interface supports operators (i) adding a task,
+ * (ii) removing a task, or many tasks in one pass,
+ * (iii) getting a task,
+ * (iv) finding the number of tasks,
+ * (v) marking a task as done or not done, and
+ * (vi) taking a snapshot of the tasks that later changes do not show up in.
+ */
+interface TaskStore {
+
+    /**
+     * Appends a task to the end of the store.
+     *
+     * @param task Task to be added.
+     */
+    void add(Task task);
+
+    /**
+     * Inserts a task at a position, shifting later tasks up by one.
+     *
+     * @param index Zero-based position of the new task.
+     * @param task  Task to be inserted.
+     */
+    void insert(int index, Task task);
+
+    /**
+     * Removes the task at a position, shifting later tasks down by one.
+     *
+     * @param index Zero-based position of the task.
+     * @return Removed task.
+     */
+    Task remove(int index);
+
+    /**
+     * Removes the tasks at many positions in one pass, shifting later tasks down past the removed ones.
+     *
+     * @param indexes Zero-based positions of the tasks, in increasing order.
+     * @return Removed tasks, in the order of their positions.
+     */
+    List<Task> removeAll(int[] indexes);
+
+    /**
+     * Returns the task at a position.
+     *
+     * @param index Zero-based position of the task.
+     * @return Task at the position.
+     */
+    Task get(int index);
+
+    /**
+     * Returns the task at a position, to be changed in place.
+     * A task that a snapshot still holds is first replaced by a copy, so the snapshot keeps the old one.
+     *
+     * @param index Zero-based position of the task.
+     * @return Task at the position that can be changed.
+     */
+    Task getWritable(int index);
+
+    /**
+     * Returns the number of tasks in the store.
+     *
+     * @return Number of tasks.
+     */
+    int size();
+
+    /**
+     * Marks the task at a position as done.
+     *
+     * @param index Zero-based position of the task.
+     */
+    void markDone(int index);
+
+    /**
+     * Marks the task at a position as not done.
+     *
+     * @param index Zero-based position of the task.
+     */
+    void markNotDone(int index);
+
+    /**
+     * Returns the tasks as they are now. Later changes to the store, including marking a task,
+     * do not show up in the snapshot, so it can be read while the store is changed on another thread.
+     *
+     * @return Unmodifiable list of the tasks.
+     */
+    List<Task> snapshot();
+}
@@ -0,0 +1,349 @@
+package duke.component;
+
+import duke.exception.DukeException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents an engine that hosts the task lists of many users, called tenants, in one process.
+ * Every tenant has its own lists, statistics and text files, kept in a directory of one of several shards
+ * so that no single directory holds every tenant. All tenants share one Parser and one pool of threads:
+ * the inputs of a tenant are executed one at a time in the order they were submitted, while inputs of
+ * different tenants are executed in parallel. When the loaded lists of all tenants take more than the
+ * engine's heap budget, the tenants that have been idle the longest are dropped from memory; every change
+ * is already written to their text files, so a dropped tenant is simply loaded again by its next input.
+ * The 'TenantEngine' class supports operators (i) submitting an input for a tenant,
+ * (ii) finding the directory of a tenant,
+ * (iii) evicting the least recently used idle tenants, and
+ * (iv) shutting down the pool of threads.
+ */
+public class TenantEngine implements AutoCloseable {
+
+    /**
+     * Default number of shard directories.
+     */
+    public static final int DEFAULT_NUM_SHARDS = 64;
+
+    /**
+     * Directory holding the shard directories.
+     */
+    private final Path root;
+
+    /**
+     * Number of shard directories.
+     */
+    private final int numShards;
+
+    /**
+     * Maximum approximate heap taken by the loaded lists of each tenant, in bytes.
+     */
+    private final long tenantHeapBudget;
+
+    /**
+     * Maximum approximate heap taken by the loaded lists of all tenants, in bytes.
+     */
+    private final long engineHeapBudget;
+
+    /**
+     * Parser shared by every tenant; it keeps no state between inputs.
+     */
+    private final Parser parser = new Parser();
+
+    /**
+     * User Interface shared by every tenant, used to report text files that cannot be loaded.
+     */
+    private final Ui ui = new Ui();
+
+    /**
+     * Threads that execute the inputs of every tenant.
+     */
+    private final ExecutorService pool;
+
+    /**
+     * Tenants that have submitted an input, by tenant id.
+     */
+    private final ConcurrentHashMap<String, Tenant> tenants = new ConcurrentHashMap<>();
+
+    /**
+     * Approximate heap taken by each tenant whose lists are loaded, from least to most recently used.
+     * Guarded by itself.
+     */
+    private final LinkedHashMap<Tenant, Long> loadedTenants = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Sum of the approximate heap taken by the loaded tenants, in bytes. Guarded by loadedTenants.
+     */
+    private long loadedBytes;
+
+    /**
+     * Initialises a new TenantEngine with one thread per processor, that keeps the lists of all tenants
+     * within a quarter of the maximum heap.
+     *
+     * @param root Directory holding the shard directories.
+     */
+    public TenantEngine(Path root) {
+        this(root, DEFAULT_NUM_SHARDS, Runtime.getRuntime().availableProcessors(),
+                WorkspaceManager.DEFAULT_HEAP_BUDGET_MB << 20);
+    }
+
+    /**
+     * Initialises a new TenantEngine that keeps the lists of all tenants within a quarter of the maximum heap.
+     *
+     * @param root             Directory holding the shard directories.
+     * @param numShards        Number of shard directories.
+     * @param numThreads       Number of threads that execute inputs.
+     * @param tenantHeapBudget Maximum approximate heap taken by the loaded lists of each tenant, in bytes.
+     */
+    public TenantEngine(Path root, int numShards, int numThreads, long tenantHeapBudget) {
+        this(root, numShards, numThreads, tenantHeapBudget, Runtime.getRuntime().maxMemory() / 4);
+    }
+
+    /**
+     * Initialises a new TenantEngine.
+     *
+     * @param root             Directory holding the shard directories.
+     * @param numShards        Number of shard directories.
+     * @param numThreads       Number of threads that execute inputs.
+     * @param tenantHeapBudget Maximum approximate heap taken by the loaded lists of each tenant, in bytes.
+     * @param engineHeapBudget Maximum approximate heap taken by the loaded lists of all tenants, in bytes.
+     */
+    public TenantEngine(Path root, int numShards, int numThreads, long tenantHeapBudget, long engineHeapBudget) {
+        this.root = root;
+        this.numShards = numShards;
+        this.tenantHeapBudget = tenantHeapBudget;
+        this.engineHeapBudget = engineHeapBudget;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(numThreads, runnable -> {
+            Thread thread = new Thread(runnable, "duke-tenant-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits an input of a tenant, to be executed after every earlier input of the same tenant.
+     * The first input of a tenant loads its default list from its directory.
+     *
+     * @param tenantId Id of the tenant, made of letters, digits, '-' and '_'.
+     * @param input    User input.
+     * @return Response of the command, once it has been executed.
+     */
+    public CompletableFuture<String> submit(String tenantId, String input) {
+        if (!WorkspaceManager.isValidName(tenantId)) {
+            return CompletableFuture.failedFuture(
+                    new DukeException(" OOPS!!! A tenant id can only have letters, digits, '-' and '_'."));
+        }
+
+        Tenant tenant = tenants.computeIfAbsent(tenantId, Tenant::new);
+        return CompletableFuture.supplyAsync(() -> tenant.execute(input), tenant.queue);
+    }
+
+    /**
+     * Returns the directory that holds the text files of a tenant.
+     *
+     * @param tenantId Id of the tenant.
+     * @return Directory of the tenant.
+     */
+    public Path getTenantDirectory(String tenantId) {
+        //String.hashCode is the same in every run, so a tenant always maps to the same shard
+        int shard = Math.floorMod(tenantId.hashCode(), numShards);
+        return root.resolve(String.format("shard-%02d", shard)).resolve(tenantId);
+    }
+
+    /**
+     * Returns the number of tenants that have submitted an input.
+     *
+     * @return Number of tenants.
+     */
+    public int countTenants() {
+        return tenants.size();
+    }
+
+    /**
+     * Returns the number of tenants whose lists are in memory.
+     *
+     * @return Number of loaded tenants.
+     */
+    public int countLoadedTenants() {
+        synchronized (loadedTenants) {
+            return loadedTenants.size();
+        }
+    }
+
+    /**
+     * Records the heap taken by a tenant that has just executed an input, and drops the least recently used
+     * idle tenants from memory while all loaded tenants take more than the engine's heap budget.
+     * A tenant that still has inputs to execute is never dropped, nor is the tenant that was just used.
+     *
+     * @param usedTenant Tenant that has just executed an input.
+     * @param bytes      Approximate heap taken by its loaded lists.
+     */
+    private void evictIdle(Tenant usedTenant, long bytes) {
+        synchronized (loadedTenants) {
+            Long oldBytes = loadedTenants.put(usedTenant, bytes);
+            loadedBytes += bytes - (oldBytes == null ? 0 : oldBytes);
+
+            Iterator<Map.Entry<Tenant, Long>> iterator = loadedTenants.entrySet().iterator();
+            while (loadedBytes > engineHeapBudget && iterator.hasNext()) {
+                Map.Entry<Tenant, Long> entry = iterator.next();
+                Tenant tenant = entry.getKey();
+                if (tenant != usedTenant && tenant.queue.runIfIdle(tenant::unload)) {
+                    loadedBytes -= entry.getValue();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the threads once the inputs already submitted have been executed.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Represents one tenant: its lists, and the queue that executes its inputs one at a time.
+     */
+    private class Tenant {
+
+        /**
+         * Id of the tenant.
+         */
+        private final String tenantId;
+
+        /**
+         * Queue that executes the inputs of the tenant in order on the shared pool.
+         */
+        private final SerialExecutor queue = new SerialExecutor(pool);
+
+        /**
+         * Lists of the tenant, loaded by its first input, or null if they are not in memory.
+         */
+        private WorkspaceManager workspaces;
+
+        /**
+         * Name of the tenant's current list, kept so that it is current again after the lists are reloaded.
+         */
+        private String currentName = WorkspaceManager.DEFAULT_WORKSPACE;
+
+        Tenant(String tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        /**
+         * Executes an input on the tenant's current list. Only ever called from the tenant's queue.
+         */
+        private String execute(String input) {
+            try {
+                if (workspaces == null) {
+                    Path directory = getTenantDirectory(tenantId);
+                    Files.createDirectories(directory);
+                    //a shared process has no one to show reminders to
+                    workspaces = new WorkspaceManager(directory, ui, tenantHeapBudget, -1);
+                    workspaces.switchTo(currentName);
+                }
+
+                //inputs from many tenants are often mistyped, so they are rejected without throwing
+                ParseResult result = parser.tryParse(input);
+                if (!result.isValid()) {
+                    return result.getErrorMessage();
+                }
+                return result.getCommand().execute(workspaces, ui);
+            } catch (DukeException e) {
+                return e.getMessage();
+            } catch (IOException e) {
+                return " OOPS!!! The directory of this tenant cannot be created.";
+            } finally {
+                if (workspaces != null) {
+                    currentName = workspaces.getCurrent().getName();
+                    evictIdle(this, workspaces.estimateHeapBytes());
+                }
+            }
+        }
+
+        /**
+         * Drops the lists of the tenant from memory. Only ever called while the tenant's queue is idle.
+         */
+        private void unload() {
+            workspaces = null;
+        }
+    }
+
+    /**
+     * Represents an Executor that runs its tasks one at a time, in order, on another Executor.
+     * At most one task of the queue is on the other Executor at any time, so queues of different
+     * tenants share the pool's threads without any tenant holding a thread while it has no work.
+     */
+    private static class SerialExecutor implements Executor {
+
+        /**
+         * Tasks waiting to run.
+         */
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+        /**
+         * Executor that runs the tasks.
+         */
+        private final Executor executor;
+
+        /**
+         * Task on the executor, or null if the queue is idle.
+         */
+        private Runnable active;
+
+        SerialExecutor(Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public synchronized void execute(Runnable task) {
+            tasks.add(() -> {
+                try {
+                    task.run();
+                } finally {
+                    scheduleNext();
+                }
+            });
+            if (active == null) {
+                scheduleNext();
+            }
+        }
+
+        /**
+         * Runs a task on the calling thread if the queue has no task running or waiting, holding off
+         * tasks submitted meanwhile until it is done.
+         *
+         * @param task Task to run.
+         * @return true if the task was run.
+         */
+        synchronized boolean runIfIdle(Runnable task) {
+            if (active != null) {
+                return false;
+            }
+            task.run();
+            return true;
+        }
+
+        private synchronized void scheduleNext() {
+            active = tasks.poll();
+            if (active != null) {
+                executor.execute(active);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package duke.component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+/**
+ * Represents an index of dated tasks ordered by time, then by task id.
+ * The 'TimeIndex' class supports operators (i) adding and removing a task,
+ * (ii) finding the tasks with a time in a range, eagerly or lazily, and
+ * (iii) finding the first tasks at or after a time.
+ */
+class TimeIndex {
+
+    /**
+     * Entries of every indexed task, in time order.
+     */
+    private final TreeSet<Entry> entries = new TreeSet<>();
+
+    /**
+     * Adds a task to the index.
+     *
+     * @param time Time of task in epoch milliseconds.
+     * @param id   Id of task.
+     */
+    void add(long time, int id) {
+        entries.add(new Entry(time, id));
+    }
+
+    /**
+     * Removes a task from the index, if it is there.
+     *
+     * @param time Time of task in epoch milliseconds.
+     * @param id   Id of task.
+     */
+    void remove(long time, int id) {
+        entries.remove(new Entry(time, id));
+    }
+
+    /**
+     * Returns the number of indexed tasks.
+     *
+     * @return Number of tasks in the index.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the ids of the tasks with a time in a range, in time order.
+     *
+     * @param from Earliest time in epoch milliseconds, inclusive.
+     * @param to   Latest time in epoch milliseconds, inclusive.
+     * @return Ids of the tasks in the range.
+     */
+    List<Integer> idsBetween(long from, long to) {
+        List<Integer> ids = new ArrayList<>();
+        streamIdsBetween(from, to).forEach(ids::add);
+        return ids;
+    }
+
+    /**
+     * Returns the ids of the tasks with a time in a range, in time order.
+     * The ids are read from the index only as the stream is consumed.
+     *
+     * @param from Earliest time in epoch milliseconds, inclusive.
+     * @param to   Latest time in epoch milliseconds, inclusive.
+     * @return Lazy stream of the ids of the tasks in the range.
+     */
+    IntStream streamIdsBetween(long from, long to) {
+        if (from > to) {
+            return IntStream.empty();
+        }
+
+        NavigableSet<Entry> range = entries.subSet(
+                new Entry(from, Integer.MIN_VALUE), true, new Entry(to, Integer.MAX_VALUE), true);
+        return range.stream().mapToInt(entry -> entry.id);
+    }
+
+    /**
+     * Returns the ids of the first tasks with a time at or after a given time, in time order.
+     *
+     * @param from  Earliest time in epoch milliseconds, inclusive.
+     * @param limit Maximum number of ids to return.
+     * @return Ids of at most limit tasks.
+     */
+    List<Integer> idsFrom(long from, int limit) {
+        List<Integer> ids = new ArrayList<>();
+        for (Entry entry : entries.tailSet(new Entry(from, Integer.MIN_VALUE), true)) {
+            if (ids.size() >= limit) {
+                break;
+            }
+            ids.add(entry.id);
+        }
+        return ids;
+    }
+
+    /**
+     * Represents one indexed task.
+     */
+    private static final class Entry implements Comparable<Entry> {
+        private final long time;
+        private final int id;
+
+        private Entry(long time, int id) {
+            this.time = time;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Integer.compare(id, other.id);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Entry && compareTo((Entry) other) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(time) * 31 + id;
+        }
+    }
+}
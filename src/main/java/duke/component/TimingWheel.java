@@ -0,0 +1,204 @@
+package duke.component;
+
+import java.util.function.Consumer;
+
+/**
+ * Represents a hierarchical timing wheel that holds timeouts measured in ticks.
+ * Each level is a ring of 64 slots; a slot of level n spans 64^n ticks. A timeout is placed
+ * in the lowest level whose range reaches it, and is moved down a level each time the wheel turns
+ * into its slot. Scheduling and cancelling link or unlink one list node, so both take constant time.
+ * The 'TimingWheel' class supports operators (i) scheduling a timeout,
+ * (ii) cancelling a timeout, and
+ * (iii) advancing the wheel and expiring the timeouts that are due.
+ *
+ * @param <T> Type of value held by each timeout.
+ */
+public class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int NUM_SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = NUM_SLOTS - 1;
+    private static final int NUM_LEVELS = 4;
+
+    /**
+     * Number of ticks covered by the whole wheel. Later timeouts wait in the top level and are re-placed.
+     */
+    private static final long SPAN = 1L << (SLOT_BITS * NUM_LEVELS);
+
+    /**
+     * Sentinel node of the circular list of every slot, by level then slot.
+     */
+    private final Timeout<T>[][] slots;
+
+    /**
+     * Tick the wheel has advanced to.
+     */
+    private long currentTick;
+
+    /**
+     * Number of scheduled timeouts.
+     */
+    private int size = 0;
+
+    /**
+     * Initialises a new empty TimingWheel.
+     *
+     * @param startTick Tick the wheel starts at.
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long startTick) {
+        this.currentTick = startTick;
+        this.slots = (Timeout<T>[][]) new Timeout<?>[NUM_LEVELS][NUM_SLOTS];
+        for (int level = 0; level < NUM_LEVELS; level++) {
+            for (int slot = 0; slot < NUM_SLOTS; slot++) {
+                Timeout<T> sentinel = new Timeout<>(0, null);
+                sentinel.previous = sentinel;
+                sentinel.next = sentinel;
+                slots[level][slot] = sentinel;
+            }
+        }
+    }
+
+    /**
+     * Schedules a value to expire at a tick.
+     * A tick that has already passed expires on the next advance.
+     *
+     * @param expiryTick Tick at which the value expires.
+     * @param value      Value to be passed back when it expires.
+     * @return Timeout that can be cancelled.
+     */
+    public Timeout<T> schedule(long expiryTick, T value) {
+        Timeout<T> timeout = new Timeout<>(Math.max(expiryTick, currentTick + 1), value);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels a scheduled timeout.
+     *
+     * @param timeout Timeout returned by schedule.
+     * @return true if the timeout was still scheduled.
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout == null || timeout.next == null) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel one tick at a time up to a tick, passing every expired value to a consumer.
+     *
+     * @param tick      Tick to advance to.
+     * @param onExpired Consumer of expired values, in order of expiry.
+     */
+    public void advanceTo(long tick, Consumer<T> onExpired) {
+        while (currentTick < tick) {
+            currentTick++;
+
+            //move timeouts of higher levels down when the wheel turns into their slot,
+            //top level first so that they can keep moving down within the same tick
+            int topLevel = 0;
+            while (topLevel + 1 < NUM_LEVELS && (currentTick & ((1L << (SLOT_BITS * (topLevel + 1))) - 1)) == 0) {
+                topLevel++;
+            }
+            for (int level = topLevel; level >= 1; level--) {
+                cascade(slots[level][(int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK)]);
+            }
+
+            Timeout<T> sentinel = slots[0][(int) (currentTick & SLOT_MASK)];
+            while (sentinel.next != sentinel) {
+                Timeout<T> timeout = sentinel.next;
+                unlink(timeout);
+                size--;
+                onExpired.accept(timeout.value);
+            }
+        }
+    }
+
+    /**
+     * Returns the tick the wheel has advanced to.
+     *
+     * @return Current tick.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Returns the number of scheduled timeouts.
+     *
+     * @return Number of timeouts.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void cascade(Timeout<T> sentinel) {
+        Timeout<T> timeout = sentinel.next;
+        while (timeout != sentinel) {
+            Timeout<T> next = timeout.next;
+            unlink(timeout);
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.expiryTick - currentTick;
+        int level = 0;
+        long expiry = timeout.expiryTick;
+
+        if (delta >= SPAN) {
+            //wait in the farthest slot of the top level and be placed again when the wheel reaches it
+            level = NUM_LEVELS - 1;
+            expiry = currentTick + SPAN - 1;
+        } else {
+            while (level < NUM_LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+                level++;
+            }
+        }
+
+        Timeout<T> sentinel = slots[level][(int) ((expiry >>> (SLOT_BITS * level)) & SLOT_MASK)];
+        timeout.previous = sentinel.previous;
+        timeout.next = sentinel;
+        sentinel.previous.next = timeout;
+        sentinel.previous = timeout;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        timeout.previous.next = timeout.next;
+        timeout.next.previous = timeout.previous;
+        timeout.previous = null;
+        timeout.next = null;
+    }
+
+    /**
+     * Represents a value scheduled on the wheel, linked into the list of its slot.
+     *
+     * @param <T> Type of value.
+     */
+    public static final class Timeout<T> {
+        private final long expiryTick;
+        private final T value;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(long expiryTick, T value) {
+            this.expiryTick = expiryTick;
+            this.value = value;
+        }
+
+        /**
+         * Returns the value held by the timeout.
+         *
+         * @return Value of the timeout.
+         */
+        public T getValue() {
+            return value;
+        }
+    }
+}
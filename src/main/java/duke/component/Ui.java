@@ -1,6 +1,9 @@
 package duke.component;
 
-import java.util.Scanner;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 
 /**
  * Represents Ui object that is responsible for the User interface
@@ -21,9 +24,9 @@ public class Ui {
     private Parser inputParser = new Parser();
 
     /**
-     * Scanner to scan user inputs.
+     * Reader of user inputs, created on the first read so that a GUI never wraps System.in.
      */
-    private Scanner scanner = new Scanner(System.in);
+    private BufferedReader reader;
 
     /**
      * Checks whether Ui should close.
@@ -33,10 +36,17 @@ public class Ui {
     /**
      * Reads user inputs.
      *
-     * @return String that represents user inputs.
+     * @return String that represents user inputs, or null if there is no more input.
      */
     public String readCommand() {
-        return scanner.nextLine();
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(System.in), Console.BUFFER_SIZE);
+        }
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
@@ -56,6 +66,15 @@ public class Ui {
     }
 
 
+    /**
+     * Prints a reminder message.
+     *
+     * @param reminder Reminder of an approaching deadline or event.
+     */
+    public void showReminder(String reminder) {
+        System.out.println(reminder);
+    }
+
     /**
      * Prints loading error message.
      */
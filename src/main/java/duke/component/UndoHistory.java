@@ -0,0 +1,181 @@
+package duke.component;
+
+import duke.command.Command;
+import duke.exception.DukeException;
+
+import java.util.ArrayDeque;
+
+/**
+ * Represents the history of changes that can be undone and redone.
+ * Each change is kept as the inverse command that reverses it, so undoing a change applies one
+ * small edit to the task list and text file instead of reloading them.
+ * Both histories are ring buffers bounded by a number of commands and an approximate number of bytes;
+ * the oldest change is forgotten first.
+ * The 'UndoHistory' class supports operators (i) recording an executed command,
+ * (ii) undoing the last change,
+ * (iii) redoing the last undone change and
+ * (iv) forgetting every change.
+ */
+public class UndoHistory {
+
+    /**
+     * Default maximum number of changes that can be undone.
+     */
+    public static final int DEFAULT_DEPTH = 100;
+
+    /**
+     * Default maximum number of bytes taken by the changes that can be undone.
+     */
+    public static final long DEFAULT_BYTE_BUDGET = 1 << 20;
+
+    /**
+     * Maximum number of commands kept in each history.
+     */
+    private final int depth;
+
+    /**
+     * Maximum number of bytes taken by the commands kept in each history.
+     */
+    private final long byteBudget;
+
+    /**
+     * Inverses of the changes that can be undone, the latest last.
+     */
+    private final ArrayDeque<Command> undoCommands = new ArrayDeque<>();
+
+    /**
+     * Inverses of the undone changes that can be redone, the latest last.
+     */
+    private final ArrayDeque<Command> redoCommands = new ArrayDeque<>();
+
+    private long undoBytes = 0;
+    private long redoBytes = 0;
+
+    /**
+     * Initialises a new UndoHistory with the depth and byte budget given by the system properties
+     * duke.undo.depth and duke.undo.bytes, or the defaults.
+     */
+    public UndoHistory() {
+        this(Integer.getInteger("duke.undo.depth", DEFAULT_DEPTH),
+                Long.getLong("duke.undo.bytes", DEFAULT_BYTE_BUDGET));
+    }
+
+    /**
+     * Initialises a new UndoHistory.
+     *
+     * @param depth      Maximum number of changes that can be undone.
+     * @param byteBudget Maximum number of bytes taken by the changes that can be undone.
+     */
+    public UndoHistory(int depth, long byteBudget) {
+        this.depth = depth;
+        this.byteBudget = byteBudget;
+    }
+
+    /**
+     * Records a command that has just been executed, if it changed anything.
+     * A new change cannot be followed by redoing older undone changes, so they are forgotten.
+     *
+     * @param command Executed command.
+     */
+    public void record(Command command) {
+        Command inverse = command.getInverse();
+        if (inverse == null) {
+            return;
+        }
+        redoCommands.clear();
+        redoBytes = 0;
+        undoBytes = push(undoCommands, undoBytes, inverse);
+    }
+
+    /**
+     * Reverses the last change that has not been undone.
+     * If reversing it fails, the change stays in the history, so it can be undone once the failure is fixed.
+     *
+     * @param taskList List of the things user needs to do.
+     * @param ui       Interface that interacts with the user.
+     * @param storage  Stores the user input in a file.
+     * @return Response of the inverse command.
+     * @throws DukeException If there is IOException when reading or writing from text file.
+     */
+    public String undo(TaskList taskList, Ui ui, Storage storage) throws DukeException {
+        Command inverse = undoCommands.peekLast();
+        if (inverse == null) {
+            return "There is nothing to undo.";
+        }
+
+        String response = inverse.execute(taskList, ui, storage);
+        undoCommands.removeLast();
+        undoBytes -= inverse.getSizeEstimate();
+        redoBytes = push(redoCommands, redoBytes, inverse.getInverse());
+        return "Undone! " + response;
+    }
+
+    /**
+     * Applies the last undone change again.
+     * If applying it fails, the change stays in the history, so it can be redone once the failure is fixed.
+     *
+     * @param taskList List of the things user needs to do.
+     * @param ui       Interface that interacts with the user.
+     * @param storage  Stores the user input in a file.
+     * @return Response of the redone command.
+     * @throws DukeException If there is IOException when reading or writing from text file.
+     */
+    public String redo(TaskList taskList, Ui ui, Storage storage) throws DukeException {
+        Command command = redoCommands.peekLast();
+        if (command == null) {
+            return "There is nothing to redo.";
+        }
+
+        String response = command.execute(taskList, ui, storage);
+        redoCommands.removeLast();
+        redoBytes -= command.getSizeEstimate();
+        undoBytes = push(undoCommands, undoBytes, command.getInverse());
+        return "Redone! " + response;
+    }
+
+    /**
+     * Forgets every change, such as when tasks were changed by another program and task numbers moved.
+     */
+    public void clear() {
+        undoCommands.clear();
+        redoCommands.clear();
+        undoBytes = 0;
+        redoBytes = 0;
+    }
+
+    /**
+     * Returns the number of changes that can be undone.
+     *
+     * @return Number of changes in the undo history.
+     */
+    public int countUndoable() {
+        return undoCommands.size();
+    }
+
+    /**
+     * Returns the number of changes that can be redone.
+     *
+     * @return Number of changes in the redo history.
+     */
+    public int countRedoable() {
+        return redoCommands.size();
+    }
+
+    /**
+     * Adds a command to the end of a history, forgetting the oldest commands until the history is within bounds.
+     *
+     * @return Number of bytes taken by the history afterwards.
+     */
+    private long push(ArrayDeque<Command> history, long bytes, Command command) {
+        if (command == null) {
+            return bytes;
+        }
+        history.addLast(command);
+        bytes += command.getSizeEstimate();
+
+        while (!history.isEmpty() && (history.size() > depth || bytes > byteBudget)) {
+            bytes -= history.pollFirst().getSizeEstimate();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,293 @@
+package duke.component;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents an index of the words in task descriptions, for finding tasks by words that are mistyped.
+ * The words are kept in a BK-tree, where the child of a word at edge d is a word at edit distance d from it,
+ * so a search within distance k only visits the children at edges d - k to d + k. Each word keeps the
+ * sorted ids of the tasks that have it.
+ * The 'WordIndex' class supports operators (i) adding and removing the words of a task,
+ * (ii) counting the words in use and
+ * (iii) finding the tasks with words near every word of a keyword, with their distances.
+ */
+class WordIndex {
+
+    /**
+     * Distance that means the maximum distance is chosen from the length of each word.
+     */
+    static final int AUTOMATIC_DISTANCE = -1;
+
+    /**
+     * Node of every word that has been indexed.
+     */
+    private final Map<String, Node> nodes = new HashMap<>();
+
+    /**
+     * Root of the BK-tree, or null if no word has been indexed.
+     */
+    private Node root;
+
+    /**
+     * Adds the words of a task's description to the index.
+     *
+     * @param description Description of task.
+     * @param id          Id of task.
+     */
+    void add(String description, int id) {
+        for (String word : splitWords(description)) {
+            Node node = nodes.get(word);
+            if (node == null) {
+                node = new Node(word);
+                nodes.put(word, node);
+                insertNode(node);
+            }
+            node.addId(id);
+        }
+    }
+
+    /**
+     * Removes the words of a task's description from the index.
+     * A word no task has any more stays in the tree, but is not found again until a task has it.
+     *
+     * @param description Description of task.
+     * @param id          Id of task.
+     */
+    void remove(String description, int id) {
+        for (String word : splitWords(description)) {
+            Node node = nodes.get(word);
+            if (node != null) {
+                node.removeId(id);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of words that at least one task has.
+     *
+     * @return Number of words in use.
+     */
+    int countWords() {
+        return (int) nodes.values().stream().filter(node -> node.size > 0).count();
+    }
+
+    /**
+     * Returns the tasks that have, for every word of a keyword, a word within a maximum edit distance of it.
+     * Each task is given the sum of the smallest distances of its words to the words of the keyword.
+     *
+     * @param keyword     Words to look for.
+     * @param maxDistance Largest edit distance of a match, or AUTOMATIC_DISTANCE to choose it from each word.
+     * @return Sum of distances of each matching task, by task id.
+     */
+    Map<Integer, Integer> findIds(String keyword, int maxDistance) {
+        Map<Integer, Integer> distances = null;
+
+        for (String word : splitWords(keyword)) {
+            Map<Integer, Integer> previous = distances;
+            Map<Integer, Integer> wordDistances = new HashMap<>();
+            int wordMaxDistance = maxDistance == AUTOMATIC_DISTANCE ? getAutomaticDistance(word) : maxDistance;
+
+            forEachNear(word, wordMaxDistance, (node, distance) -> {
+                for (int i = 0; i < node.size; i++) {
+                    int id = node.ids[i];
+                    if (previous == null) {
+                        wordDistances.merge(id, distance, Math::min);
+                    } else if (previous.containsKey(id)) {
+                        wordDistances.merge(id, previous.get(id) + distance, Math::min);
+                    }
+                }
+            });
+            distances = wordDistances;
+        }
+
+        return distances == null ? Collections.emptyMap() : distances;
+    }
+
+    /**
+     * Returns the largest distance at which a word still matches: none for short words, where one typo
+     * already makes another word, and more for longer ones.
+     */
+    private static int getAutomaticDistance(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        } else if (word.length() <= 5) {
+            return 1;
+        }
+        return 2;
+    }
+
+    /**
+     * Returns the distinct words of a text, in lower case. Words are runs of letters and digits.
+     */
+    private static Set<String> splitWords(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        int start = -1;
+
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+
+        return words;
+    }
+
+    private void insertNode(Node node) {
+        if (root == null) {
+            root = node;
+            return;
+        }
+
+        Node parent = root;
+        while (true) {
+            int distance = getDistance(node.word, parent.word);
+
+            //Assert that words are only inserted once
+            assert distance > 0 : "Word is already in the tree";
+
+            Node child = parent.getChild(distance);
+            if (child == null) {
+                parent.setChild(distance, node);
+                return;
+            }
+            parent = child;
+        }
+    }
+
+    /**
+     * Calls back every word in use within a maximum distance of a word, with its distance.
+     */
+    private void forEachNear(String word, int maxDistance, NodeConsumer consumer) {
+        if (root == null) {
+            return;
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = getDistance(word, node.word);
+            if (distance <= maxDistance && node.size > 0) {
+                consumer.accept(node, distance);
+            }
+
+            //by the triangle inequality, nearer words are only below edges within maxDistance of distance
+            int last = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int edge = Math.max(1, distance - maxDistance); edge <= last; edge++) {
+                if (node.children[edge] != null) {
+                    pending.push(node.children[edge]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the Levenshtein distance between two words: the fewest insertions, deletions and
+     * substitutions of characters that turn one into the other.
+     */
+    static int getDistance(String first, String second) {
+        int[] previousRow = new int[second.length() + 1];
+        int[] row = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            row[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previousRow[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                row[j] = Math.min(substitution, Math.min(previousRow[j], row[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = row;
+            row = swap;
+        }
+
+        return previousRow[second.length()];
+    }
+
+    /**
+     * Represents a callback for a word found near the word searched for.
+     */
+    private interface NodeConsumer {
+        void accept(Node node, int distance);
+    }
+
+    /**
+     * Represents a word of the BK-tree and the tasks that have it.
+     */
+    private static class Node {
+
+        /**
+         * Word, in lower case.
+         */
+        private final String word;
+
+        /**
+         * Child at each edit distance from the word, or null.
+         */
+        private Node[] children = new Node[0];
+
+        /**
+         * Ids of the tasks that have the word, sorted, in the first 'size' elements.
+         */
+        private int[] ids = new int[2];
+
+        /**
+         * Number of tasks that have the word.
+         */
+        private int size = 0;
+
+        private Node(String word) {
+            this.word = word;
+        }
+
+        private Node getChild(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        private void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+
+        private void addId(int id) {
+            //ids of new tasks only grow, so they are almost always added at the end
+            int position = size == 0 || ids[size - 1] < id ? size : Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0 && position < size) {
+                return;
+            }
+            position = position < 0 ? -position - 1 : position;
+
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+
+        private void removeId(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        }
+    }
+}
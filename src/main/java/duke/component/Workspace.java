@@ -0,0 +1,119 @@
+package duke.component;
+
+/**
+ * Represents a named task list together with the text file it is stored in.
+ * Each workspace has its own statistics, undo history and reminders.
+ * The 'Workspace' class supports operators (i) getting the list, storage and undo history of the workspace,
+ * (ii) starting and stopping its reminders, and
+ * (iii) estimating the heap it takes.
+ */
+public class Workspace {
+
+    /**
+     * Approximate heap taken by a workspace without tasks.
+     */
+    private static final long BASE_HEAP_BYTES = 4096;
+
+    /**
+     * Name of the workspace.
+     */
+    private final String name;
+
+    /**
+     * Store and load tasks from text in text file.
+     */
+    private final Storage storage;
+
+    /**
+     * Task List of tasks.
+     */
+    private final TaskList taskList;
+
+    /**
+     * History of changes that can be undone and redone.
+     */
+    private final UndoHistory undoHistory = new UndoHistory();
+
+    /**
+     * Scheduler that reminds the user of the workspace's deadlines and events, while it is loaded.
+     */
+    private ReminderScheduler reminders;
+
+    /**
+     * Initialises a new Workspace.
+     *
+     * @param name     Name of the workspace.
+     * @param storage  Storage of the workspace's text file.
+     * @param taskList Tasks loaded from the text file.
+     */
+    public Workspace(String name, Storage storage, TaskList taskList) {
+        this.name = name;
+        this.storage = storage;
+        this.taskList = taskList;
+    }
+
+    /**
+     * Returns the name of the workspace.
+     *
+     * @return Name of the workspace.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the storage of the workspace's text file.
+     *
+     * @return Storage of the workspace.
+     */
+    public Storage getStorage() {
+        return storage;
+    }
+
+    /**
+     * Returns the tasks of the workspace.
+     *
+     * @return TaskList of the workspace.
+     */
+    public TaskList getTaskList() {
+        return taskList;
+    }
+
+    /**
+     * Returns the history of changes made to the workspace.
+     *
+     * @return UndoHistory of the workspace.
+     */
+    public UndoHistory getUndoHistory() {
+        return undoHistory;
+    }
+
+    /**
+     * Starts reminding the user of the workspace's deadlines and events.
+     *
+     * @param reminders Scheduler that delivers the reminders.
+     */
+    public void startReminders(ReminderScheduler reminders) {
+        this.reminders = reminders;
+        taskList.setReminderScheduler(reminders);
+        reminders.start();
+    }
+
+    /**
+     * Stops reminding the user of the workspace's deadlines and events.
+     */
+    public void stopReminders() {
+        if (reminders != null) {
+            reminders.stop();
+        }
+    }
+
+    /**
+     * Returns the approximate heap taken by the workspace.
+     *
+     * @return Approximate size in bytes.
+     */
+    public long estimateHeapBytes() {
+        return BASE_HEAP_BYTES + taskList.estimateHeapBytes();
+    }
+}
@@ -0,0 +1,379 @@
+package duke.component;
+
+import duke.command.Command;
+import duke.exception.DukeException;
+import duke.task.Task;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Represents the named task lists of a user, each stored in its own text file in one directory.
+ * A list is loaded the first time it is used. When the loaded lists take more than the heap budget,
+ * the lists that have been idle the longest are dropped from memory; every change is already written
+ * to the text file, so a dropped list is simply loaded again the next time it is used.
+ * The 'WorkspaceManager' class supports operators (i) getting and switching the current list,
+ * (ii) loading lists on first use,
+ * (iii) evicting the least recently used lists,
+ * (iv) delivering the reminders of every loaded list,
+ * (v) executing commands while following changes other programs make to the text files, and
+ * (vi) shipping the changes of the default list to followers, or keeping a read-only copy of a leader's list.
+ */
+public class WorkspaceManager {
+
+    /**
+     * Name of the list used at start up, stored in duke.txt.
+     */
+    public static final String DEFAULT_WORKSPACE = "duke";
+
+    /**
+     * Default heap budget of the loaded lists, in megabytes.
+     */
+    public static final long DEFAULT_HEAP_BUDGET_MB = 64;
+
+    /**
+     * Names that can be used as a file name on every platform.
+     */
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    /**
+     * Directory holding the text file of every list.
+     */
+    private final Path directory;
+
+    /**
+     * Maximum approximate heap taken by the loaded lists, in bytes.
+     */
+    private final long heapBudget;
+
+    /**
+     * How long before a task's date it is reminded of, in milliseconds.
+     */
+    private final long reminderLeadMillis;
+
+    /**
+     * User Interface that is told when a text file cannot be loaded.
+     */
+    private final Ui ui;
+
+    /**
+     * Loaded lists by name, from least to most recently used.
+     */
+    private final LinkedHashMap<String, Workspace> workspaces = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Receivers of the reminder messages of every list.
+     */
+    private final List<Consumer<String>> reminderListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Follower of changes made to the text files by other programs, or null if they are not followed.
+     */
+    private final FileFollower follower;
+
+    /**
+     * Leader that ships the changes of the default list to followers, or null if they are not shipped.
+     */
+    private ReplicationLeader replicationLeader;
+
+    /**
+     * Follower that keeps the default list a copy of a leader's list, or null if the list is not a copy.
+     */
+    private ReplicationFollower replicationFollower;
+
+    /**
+     * List that commands work on.
+     */
+    private Workspace current;
+
+    /**
+     * Initialises a new WorkspaceManager with the heap budget given in megabytes by the system property
+     * duke.workspace.heap, and the reminder lead given in minutes by duke.reminder.lead.
+     * Changes made to the text files by other programs are followed when duke.follow is true.
+     *
+     * @param directory Directory holding the text file of every list.
+     * @param ui        User Interface that is told when a text file cannot be loaded.
+     */
+    public WorkspaceManager(Path directory, Ui ui) {
+        this(directory, ui, Long.getLong("duke.workspace.heap", DEFAULT_HEAP_BUDGET_MB) << 20,
+                Long.getLong("duke.reminder.lead", 60) * 60 * 1000, Boolean.getBoolean("duke.follow"));
+    }
+
+    /**
+     * Initialises a new WorkspaceManager.
+     *
+     * @param directory          Directory holding the text file of every list.
+     * @param ui                 User Interface that is told when a text file cannot be loaded.
+     * @param heapBudget         Maximum approximate heap taken by the loaded lists, in bytes.
+     * @param reminderLeadMillis How long before a task's date it is reminded of, in milliseconds,
+     *                           or a negative number for no reminders.
+     */
+    public WorkspaceManager(Path directory, Ui ui, long heapBudget, long reminderLeadMillis) {
+        this(directory, ui, heapBudget, reminderLeadMillis, false);
+    }
+
+    /**
+     * Initialises a new WorkspaceManager.
+     *
+     * @param directory          Directory holding the text file of every list.
+     * @param ui                 User Interface that is told when a text file cannot be loaded.
+     * @param heapBudget         Maximum approximate heap taken by the loaded lists, in bytes.
+     * @param reminderLeadMillis How long before a task's date it is reminded of, in milliseconds,
+     *                           or a negative number for no reminders.
+     * @param isFollowing        Whether changes made to the text files by other programs are followed.
+     */
+    public WorkspaceManager(Path directory, Ui ui, long heapBudget, long reminderLeadMillis, boolean isFollowing) {
+        this.directory = directory;
+        this.ui = ui;
+        this.heapBudget = heapBudget;
+        this.reminderLeadMillis = reminderLeadMillis;
+        this.follower = isFollowing ? new FileFollower(directory) : null;
+    }
+
+    /**
+     * Executes a command on the current list. When text files are followed, the changes other programs made
+     * to them are applied first and reported before the response, and a text file written by the command
+     * is recognised as Duke's own.
+     *
+     * @param command Command to execute.
+     * @param ui      Interface that interacts with the user.
+     * @return Response of the command.
+     * @throws DukeException If the command fails.
+     */
+    public String execute(Command command, Ui ui) throws DukeException {
+        if (replicationFollower != null) {
+            return executeOnCopy(command, ui);
+        }
+        if (follower == null) {
+            return command.execute(this, ui);
+        }
+
+        String notices = follower.applyChanges();
+        Workspace workspace = getCurrent();
+        FileFollower.FileState before = follower.getState(workspace);
+        try {
+            return notices + command.execute(this, ui);
+        } finally {
+            follower.markWritten(workspace, before);
+        }
+    }
+
+    /**
+     * Executes a command that only reads the copy of a leader's list, while no change is being applied to it.
+     * A command that reads a snapshot of the list does not wait for the changes being applied.
+     */
+    private String executeOnCopy(Command command, Ui ui) throws DukeException {
+        if (!command.isReadOnly()) {
+            throw new DukeException(" OOPS!!! This list is a read-only copy, "
+                    + replicationFollower.getLag() + " changes behind its leader. Make changes on the leader.");
+        }
+        if (command.readsSnapshot()) {
+            return command.execute(this, ui);
+        }
+        Workspace workspace = getCurrent();
+        synchronized (workspace) {
+            return command.execute(this, ui);
+        }
+    }
+
+    /**
+     * Starts shipping every change of the default list to followers that connect to a local port.
+     *
+     * @param port Local port followers connect to, or 0 for any free port.
+     * @return Leader of the followers.
+     * @throws IOException If the port cannot be opened.
+     */
+    public ReplicationLeader lead(int port) throws IOException {
+        ReplicationLeader leader = new ReplicationLeader(port);
+        leader.lead(load(DEFAULT_WORKSPACE).getStorage());
+        replicationLeader = leader;
+        leader.start();
+        return leader;
+    }
+
+    /**
+     * Makes the default list a read-only copy of the list of a leader on a local port, and the current list.
+     * Changes are applied in the background; only commands that read the list can be executed.
+     *
+     * @param port Local port of the leader.
+     * @return Follower of the leader.
+     */
+    public ReplicationFollower followLeader(int port) {
+        current = load(DEFAULT_WORKSPACE);
+        ReplicationFollower replica = new ReplicationFollower(current, port);
+        replicationFollower = replica;
+        replica.start();
+        return replica;
+    }
+
+    /**
+     * Returns the list that commands work on, loading the default list if no list has been chosen.
+     *
+     * @return Current workspace.
+     */
+    public Workspace getCurrent() {
+        if (current == null) {
+            current = load(DEFAULT_WORKSPACE);
+            evictIdle(current);
+        }
+        return current;
+    }
+
+    /**
+     * Makes a list the one that commands work on, loading it if it is not in memory.
+     *
+     * @param name Name of the list.
+     * @return Workspace of the list.
+     * @throws DukeException If the name cannot be used as a file name.
+     */
+    public Workspace switchTo(String name) throws DukeException {
+        Workspace workspace = get(name);
+        current = workspace;
+        evictIdle(workspace);
+        return workspace;
+    }
+
+    /**
+     * Returns a list, loading it if it is not in memory.
+     *
+     * @param name Name of the list.
+     * @return Workspace of the list.
+     * @throws DukeException If the name cannot be used as a file name.
+     */
+    public Workspace get(String name) throws DukeException {
+        if (!isValidName(name)) {
+            throw new DukeException(" OOPS!!! A list name can only have letters, digits, '-' and '_'.");
+        }
+        Workspace workspace = load(name);
+        evictIdle(workspace);
+        return workspace;
+    }
+
+    /**
+     * Returns whether a name can be used as the file or directory name of a list on every platform.
+     *
+     * @param name Name of a list.
+     * @return true if the name has only letters, digits, '-' and '_'.
+     */
+    public static boolean isValidName(String name) {
+        return NAME_PATTERN.matcher(name).matches();
+    }
+
+    /**
+     * Returns whether a list is in memory.
+     *
+     * @param name Name of the list.
+     * @return true if the list is loaded.
+     */
+    public boolean isLoaded(String name) {
+        return workspaces.containsKey(name);
+    }
+
+    /**
+     * Returns the names of the lists in memory, from least to most recently used.
+     *
+     * @return Names of the loaded lists.
+     */
+    public List<String> getLoadedNames() {
+        return new ArrayList<>(workspaces.keySet());
+    }
+
+    /**
+     * Returns the approximate heap taken by the loaded lists.
+     *
+     * @return Approximate size in bytes.
+     */
+    public long estimateHeapBytes() {
+        long bytes = 0;
+        for (Workspace workspace : workspaces.values()) {
+            bytes += workspace.estimateHeapBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Registers a receiver of the reminder messages of every list, including lists loaded later.
+     * Reminders of lists other than the default list name the list they come from.
+     *
+     * @param listener Receiver of reminder messages.
+     */
+    public void addReminderListener(Consumer<String> listener) {
+        reminderListeners.add(listener);
+    }
+
+    private Workspace load(String name) {
+        Workspace workspace = workspaces.get(name);
+        if (workspace != null) {
+            return workspace;
+        }
+
+        Storage storage = new Storage(directory.resolve(name + ".txt").toString());
+        TaskList taskList;
+        try {
+            taskList = createTaskList(storage.load());
+        } catch (DukeException e) {
+            ui.showLoadingError();
+            taskList = createTaskList(new ArrayList<>());
+        }
+        workspace = new Workspace(name, storage, taskList);
+        workspaces.put(name, workspace);
+        if (replicationLeader != null && name.equals(DEFAULT_WORKSPACE)) {
+            replicationLeader.lead(storage);
+        }
+        if (follower != null && storage.isFollowable()) {
+            try {
+                follower.follow(workspace);
+            } catch (IOException e) {
+                System.out.println("Changes to " + name + ".txt by other programs cannot be followed");
+            }
+        }
+        if (reminderLeadMillis < 0) {
+            return workspace;
+        }
+
+        ReminderScheduler reminders = new ReminderScheduler(reminderLeadMillis);
+        String prefix = name.equals(DEFAULT_WORKSPACE) ? "" : "[" + name + "] ";
+        reminders.addListener(message -> reminderListeners.forEach(listener -> listener.accept(prefix + message)));
+        workspace.startReminders(reminders);
+        return workspace;
+    }
+
+    /**
+     * Returns a TaskList holding the loaded tasks.
+     * Uses the compact ColumnarTaskList when the system property duke.columnar is true.
+     */
+    private TaskList createTaskList(ArrayList<Task> loadedTasks) {
+        if (Boolean.getBoolean("duke.columnar")) {
+            return new ColumnarTaskList(loadedTasks);
+        }
+        return new TaskList(loadedTasks);
+    }
+
+    /**
+     * Drops the least recently used lists until the loaded lists fit the heap budget.
+     * The current list and the list just used are never dropped.
+     */
+    private void evictIdle(Workspace usedWorkspace) {
+        long bytes = estimateHeapBytes();
+        Iterator<Workspace> iterator = workspaces.values().iterator();
+        while (bytes > heapBudget && iterator.hasNext()) {
+            Workspace workspace = iterator.next();
+            if (workspace == current || workspace == usedWorkspace) {
+                continue;
+            }
+            workspace.stopReminders();
+            if (follower != null) {
+                follower.unfollow(workspace);
+            }
+            bytes -= workspace.estimateHeapBytes();
+            iterator.remove();
+        }
+    }
+}
@@ -3,18 +3,20 @@ package duke.exception;
 /**
  * Represents DukeException that is thrown by methods.
  * The 'DukeException' class extends Exception class.
+ * A DukeException is only ever shown to the user by its message, so no stack trace is captured,
+ * which makes creating and throwing one about as cheap as creating any other object.
  */
 public class DukeException extends Exception {
 
     /**
      * Creates a new instance of DukeException that
-     * follows the constructor in Exception class.
+     * follows the constructor in Exception class, without a stack trace.
      */
     public DukeException() {
-        super();
+        super(null, null, true, false);
     }
 
     public DukeException(String message){
-        super(message);
+        super(message, null, true, false);
     }
 }
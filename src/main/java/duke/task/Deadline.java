@@ -6,8 +6,8 @@ import java.util.Date;
 
 /**
  * Represents deadline task.
- * The 'Deadline' class supports operator (i) toString that
- * returns the string representation of task.
+ * The 'Deadline' class supports operator (i) render that
+ * renders the string representation of task.
  */
 public class Deadline extends Task {
 
@@ -54,10 +54,22 @@ public class Deadline extends Task {
     }
 
     /**
-     * Returns a String representation of task.
+     * Returns the date the task is due.
+     *
+     * @return Date the task is due, or null if it could not be parsed.
+     */
+    public Date getDeadline() {
+        return this.deadline;
+    }
+
+    /**
+     * Renders a String representation of task.
+     *
+     * @param out Builder the string representation is rendered into.
      */
-    public String toString() {
-        return "[D][" + getStatusIcon() + "] " + getDescription() + " (by: " + this.deadline + ")\n";
+    protected void render(StringBuilder out) {
+        out.append("[D][").append(getStatusIcon()).append("] ").append(getDescription())
+                .append(" (by: ").append(this.deadline).append(")\n");
     }
 }
 
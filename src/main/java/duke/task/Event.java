@@ -6,8 +6,8 @@ import java.util.Date;
 
 /**
  * Represents an event task.
- * The 'Deadline' class supports operators (i) toString that
- * returns the string representation of task.
+ * The 'Deadline' class supports operators (i) render that
+ * renders the string representation of task.
  */
 public class Event extends Task {
 
@@ -54,11 +54,21 @@ public class Event extends Task {
 
 
     /**
-     * Returns a String representation of task.
+     * Returns the date the event happens.
      *
-     * @return String representation of exception.
+     * @return Date the event happens, or null if it could not be parsed.
      */
-    public String toString() {
-        return "[E][" + getStatusIcon() + "] " + getDescription() + " (at: " + this.time + ")\n";
+    public Date getTime() {
+        return this.time;
+    }
+
+    /**
+     * Renders a String representation of task.
+     *
+     * @param out Builder the string representation is rendered into.
+     */
+    protected void render(StringBuilder out) {
+        out.append("[E][").append(getStatusIcon()).append("] ").append(getDescription())
+                .append(" (at: ").append(this.time).append(")\n");
     }
 }
@@ -0,0 +1,218 @@
+package duke.task;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Date;
+
+/**
+ * Represents the rule of a recurring task.
+ * A rule is "daily" or "weekly", repeating at the time of day of the first occurrence,
+ * or "cron" followed by the five fields minute, hour, day of month, month and day of week.
+ * Cron fields accept *, numbers, ranges such as 1-5, steps such as *&#47;15 and lists of these.
+ * As in cron, when both the day of month and the day of week are restricted, a day matches either one.
+ * The 'Recurrence' class supports operators (i) parsing a rule and
+ * (ii) finding the first occurrence at or after a date.
+ */
+public class Recurrence {
+
+    /**
+     * Number of days between occurrences of a daily or weekly rule, or 0 for a cron rule.
+     */
+    private final int stepDays;
+
+    private final BitSet minutes;
+    private final BitSet hours;
+    private final BitSet daysOfMonth;
+    private final BitSet months;
+    private final BitSet daysOfWeek;
+
+    /**
+     * Whether the day of month and the day of week fields are restricted, that is, do not start with *.
+     */
+    private final boolean isDayOfMonthRestricted;
+    private final boolean isDayOfWeekRestricted;
+
+    /**
+     * Text of the rule, as written by the user.
+     */
+    private final String rule;
+
+    private Recurrence(String rule, int stepDays, String[] cronFields) {
+        this.rule = rule;
+        this.stepDays = stepDays;
+        if (cronFields == null) {
+            this.minutes = null;
+            this.hours = null;
+            this.daysOfMonth = null;
+            this.months = null;
+            this.daysOfWeek = null;
+            this.isDayOfMonthRestricted = false;
+            this.isDayOfWeekRestricted = false;
+        } else {
+            this.minutes = parseField(cronFields[0], 0, 59);
+            this.hours = parseField(cronFields[1], 0, 23);
+            this.daysOfMonth = parseField(cronFields[2], 1, 31);
+            this.months = parseField(cronFields[3], 1, 12);
+            this.daysOfWeek = parseField(cronFields[4], 0, 7);
+            this.isDayOfMonthRestricted = !cronFields[2].startsWith("*");
+            this.isDayOfWeekRestricted = !cronFields[4].startsWith("*");
+
+            //cron accepts both 0 and 7 for Sunday
+            if (daysOfWeek.get(7)) {
+                daysOfWeek.set(0);
+            }
+        }
+    }
+
+    /**
+     * Returns the Recurrence described by a rule.
+     *
+     * @param rule "daily", "weekly" or "cron" followed by five cron fields.
+     * @return Recurrence of the rule.
+     * @throws IllegalArgumentException If the rule cannot be understood.
+     */
+    public static Recurrence parse(String rule) {
+        String trimmedRule = rule.trim();
+        String[] words = trimmedRule.split("\\s+");
+
+        switch (words[0]) {
+        case "daily":
+            return new Recurrence(trimmedRule, 1, null);
+        case "weekly":
+            return new Recurrence(trimmedRule, 7, null);
+        case "cron":
+            if (words.length != 6) {
+                throw new IllegalArgumentException("A cron rule needs 5 fields: " + rule);
+            }
+            String[] cronFields = new String[5];
+            System.arraycopy(words, 1, cronFields, 0, 5);
+            return new Recurrence(trimmedRule, 0, cronFields);
+        default:
+            throw new IllegalArgumentException("Unknown rule: " + rule);
+        }
+    }
+
+    /**
+     * Returns the first occurrence of a series at or after a date.
+     * Only the days up to the occurrence are looked at, so the series is never expanded in full.
+     *
+     * @param start Date of the first occurrence of the series.
+     * @param from  Earliest date of the occurrence, inclusive.
+     * @param until Latest date to look at, inclusive.
+     * @return Date of the occurrence, or null if there is none up to until.
+     */
+    public Date next(Date start, Date from, Date until) {
+        ZoneId zone = ZoneId.systemDefault();
+        ZonedDateTime first = Instant.ofEpochMilli(start.getTime()).atZone(zone).truncatedTo(ChronoUnit.MINUTES);
+        ZonedDateTime earliest = Instant.ofEpochMilli(Math.max(from.getTime(), start.getTime())).atZone(zone);
+
+        ZonedDateTime occurrence = stepDays > 0 ? nextStep(first, earliest) : nextCron(earliest, until);
+        if (occurrence == null || occurrence.toInstant().toEpochMilli() > until.getTime()) {
+            return null;
+        }
+        return Date.from(occurrence.toInstant());
+    }
+
+    private ZonedDateTime nextStep(ZonedDateTime first, ZonedDateTime earliest) {
+        //jump straight to the period containing earliest, then step past it if needed
+        long daysBetween = ChronoUnit.DAYS.between(first.toLocalDate(), earliest.toLocalDate());
+        long steps = Math.max(0, daysBetween / stepDays);
+        ZonedDateTime occurrence = first.plusDays(steps * stepDays);
+
+        while (occurrence.isBefore(earliest)) {
+            occurrence = occurrence.plusDays(stepDays);
+        }
+        return occurrence;
+    }
+
+    private ZonedDateTime nextCron(ZonedDateTime earliest, Date until) {
+        ZoneId zone = earliest.getZone();
+        LocalDate lastDay = Instant.ofEpochMilli(until.getTime()).atZone(zone).toLocalDate();
+        LocalDateTime earliestMinute = earliest.toLocalDateTime().truncatedTo(ChronoUnit.MINUTES);
+        if (earliestMinute.isBefore(earliest.toLocalDateTime())) {
+            earliestMinute = earliestMinute.plusMinutes(1);
+        }
+
+        for (LocalDate day = earliestMinute.toLocalDate(); !day.isAfter(lastDay); day = day.plusDays(1)) {
+            if (!matchesDay(day)) {
+                continue;
+            }
+            for (int hour = hours.nextSetBit(0); hour >= 0; hour = hours.nextSetBit(hour + 1)) {
+                for (int minute = minutes.nextSetBit(0); minute >= 0; minute = minutes.nextSetBit(minute + 1)) {
+                    LocalDateTime candidate = LocalDateTime.of(day, LocalTime.of(hour, minute));
+                    if (!candidate.isBefore(earliestMinute)) {
+                        return candidate.atZone(zone);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean matchesDay(LocalDate day) {
+        //cron uses 0 for Sunday, DayOfWeek uses 7
+        int dayOfWeek = day.getDayOfWeek() == DayOfWeek.SUNDAY ? 0 : day.getDayOfWeek().getValue();
+        if (!months.get(day.getMonthValue())) {
+            return false;
+        }
+
+        //like cron, "0 9 1 * 1" is the first of the month and every Monday, not only Mondays that are the first
+        boolean matchesDayOfMonth = daysOfMonth.get(day.getDayOfMonth());
+        boolean matchesDayOfWeek = daysOfWeek.get(dayOfWeek);
+        if (isDayOfMonthRestricted && isDayOfWeekRestricted) {
+            return matchesDayOfMonth || matchesDayOfWeek;
+        }
+        return matchesDayOfMonth && matchesDayOfWeek;
+    }
+
+    private static BitSet parseField(String field, int min, int max) {
+        BitSet values = new BitSet(max + 1);
+
+        for (String part : field.split(",")) {
+            int step = 1;
+            String range = part;
+            int slash = part.indexOf('/');
+            if (slash >= 0) {
+                step = Integer.parseInt(part.substring(slash + 1));
+                range = part.substring(0, slash);
+            }
+
+            int low;
+            int high;
+            if (range.equals("*")) {
+                low = min;
+                high = max;
+            } else if (range.contains("-")) {
+                low = Integer.parseInt(range.substring(0, range.indexOf('-')));
+                high = Integer.parseInt(range.substring(range.indexOf('-') + 1));
+            } else {
+                low = Integer.parseInt(range);
+                high = slash >= 0 ? max : low;
+            }
+
+            if (low < min || high > max || low > high || step < 1) {
+                throw new IllegalArgumentException("Cron field out of range: " + field);
+            }
+            for (int value = low; value <= high; value += step) {
+                values.set(value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns the rule as written by the user.
+     *
+     * @return Text of the rule.
+     */
+    public String toString() {
+        return rule;
+    }
+}
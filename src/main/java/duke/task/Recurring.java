@@ -0,0 +1,229 @@
+package duke.task;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Represents a recurring task.
+ * The task is one rule record; its occurrences are only worked out for the dates a query asks about,
+ * and completed occurrences are kept as a set of dates instead of separate tasks.
+ * The 'Recurring' class supports operators (i) listing occurrences in a window,
+ * (ii) marking one occurrence as done,
+ * (iii) copy that also copies the dates of the completed occurrences, and
+ * (iv) render that renders the string representation of task.
+ */
+public class Recurring extends Task {
+
+    /**
+     * Maximum number of occurrences of one task returned by a single query.
+     */
+    public static final int MAX_OCCURRENCES = 1000;
+
+    /**
+     * Date of the first occurrence.
+     */
+    private Date start;
+
+    /**
+     * Rule that gives the dates of the occurrences.
+     */
+    private Recurrence recurrence;
+
+    /**
+     * Dates of the completed occurrences, in epoch milliseconds.
+     */
+    private TreeSet<Long> doneOccurrences = new TreeSet<>();
+
+    /**
+     * Initialises a new instance of Recurring task.
+     * Used for when user inputs recurring task to the chatbot.
+     *
+     * @param description Description of task
+     * @param start       Date of the first occurrence
+     * @param recurrence  Rule that gives the dates of the occurrences
+     */
+    public Recurring(String description, Date start, Recurrence recurrence) {
+        super(description);
+        this.start = start;
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Initialises a new instance of Recurring task.
+     * Used for loading the tasks form text file to TaskList.
+     *
+     * @param isDone          0 or 1 representation of whether the whole series is done
+     * @param description     Description of task
+     * @param start           Date of the first occurrence
+     * @param rule            Rule that gives the dates of the occurrences
+     * @param doneOccurrences Comma separated epoch minutes of the completed occurrences
+     */
+    public Recurring(String isDone, String description, String start, String rule, String doneOccurrences) {
+        super(isDone, description);
+        this.recurrence = Recurrence.parse(rule);
+
+        try {
+            this.start = new SimpleDateFormat("EEE MMM dd HH:mm:ss Z yyyy").parse(start.trim());
+        } catch (ParseException e) {
+            System.out.println(e.getMessage());
+        }
+
+        for (String minutes : doneOccurrences.trim().split(",")) {
+            if (!minutes.isEmpty()) {
+                this.doneOccurrences.add(Long.parseLong(minutes) * 60_000);
+            }
+        }
+    }
+
+    /**
+     * Returns the date of the first occurrence.
+     *
+     * @return Date of the first occurrence.
+     */
+    public Date getStart() {
+        return this.start;
+    }
+
+    /**
+     * Returns the rule that gives the dates of the occurrences.
+     *
+     * @return Rule of the task.
+     */
+    public Recurrence getRecurrence() {
+        return this.recurrence;
+    }
+
+    /**
+     * Returns the completed occurrences as comma separated epoch minutes, as stored in the text file.
+     *
+     * @return Compact representation of completed occurrences.
+     */
+    public String getDoneOccurrencesText() {
+        StringBuilder result = new StringBuilder();
+        for (long occurrence : doneOccurrences) {
+            if (result.length() > 0) {
+                result.append(',');
+            }
+            result.append(occurrence / 60_000);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Returns the completed occurrences.
+     *
+     * @return Dates of the completed occurrences in order.
+     */
+    public List<Date> getDoneOccurrences() {
+        List<Date> occurrences = new ArrayList<>();
+        for (long occurrence : doneOccurrences) {
+            occurrences.add(new Date(occurrence));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the occurrences in a window, at most MAX_OCCURRENCES of them.
+     *
+     * @param from Earliest date, inclusive.
+     * @param to   Latest date, inclusive.
+     * @return Dates of the occurrences in order.
+     */
+    public List<Date> getOccurrencesBetween(Date from, Date to) {
+        List<Date> occurrences = new ArrayList<>();
+        if (start == null) {
+            return occurrences;
+        }
+
+        Date occurrence = recurrence.next(start, from, to);
+        while (occurrence != null && occurrences.size() < MAX_OCCURRENCES) {
+            occurrences.add(occurrence);
+            occurrence = recurrence.next(start, new Date(occurrence.getTime() + 60_000), to);
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the first occurrence at or after a date that is not done.
+     *
+     * @param from  Earliest date, inclusive.
+     * @param until Latest date to look at, inclusive.
+     * @return Date of the occurrence, or null if there is none up to until.
+     */
+    public Date getNextPendingOccurrence(Date from, Date until) {
+        if (start == null || isDone) {
+            return null;
+        }
+
+        Date occurrence = recurrence.next(start, from, until);
+        while (occurrence != null && isOccurrenceDone(occurrence)) {
+            occurrence = recurrence.next(start, new Date(occurrence.getTime() + 60_000), until);
+        }
+        return occurrence;
+    }
+
+    /**
+     * Returns whether an occurrence is done.
+     *
+     * @param occurrence Date of the occurrence.
+     * @return true if the occurrence, or the whole series, is done.
+     */
+    public boolean isOccurrenceDone(Date occurrence) {
+        return isDone || doneOccurrences.contains(occurrence.getTime());
+    }
+
+    /**
+     * Returns a copy of task whose occurrences can be marked without changing this task.
+     *
+     * @return Copy of task.
+     */
+    @Override
+    public Recurring copy() {
+        Recurring copy = (Recurring) super.copy();
+        copy.doneOccurrences = new TreeSet<>(doneOccurrences);
+        return copy;
+    }
+
+    /**
+     * Marks one occurrence as done.
+     *
+     * @param occurrence Date of the occurrence.
+     */
+    public void markOccurrenceDone(Date occurrence) {
+        doneOccurrences.add(occurrence.getTime());
+    }
+
+    /**
+     * Marks one occurrence as not done.
+     *
+     * @param occurrence Date of the occurrence.
+     */
+    public void markOccurrenceNotDone(Date occurrence) {
+        doneOccurrences.remove(occurrence.getTime());
+    }
+
+    /**
+     * Returns a String representation of one occurrence of the task.
+     *
+     * @param occurrence Date of the occurrence.
+     * @return String representation of the occurrence.
+     */
+    public String toOccurrenceString(Date occurrence) {
+        return "[R][" + (isOccurrenceDone(occurrence) ? "v" : "x") + "] " + getDescription()
+                + " (on: " + occurrence + ")\n";
+    }
+
+    /**
+     * Renders a String representation of task. Done occurrences are not part of it.
+     *
+     * @param out Builder the string representation is rendered into.
+     */
+    protected void render(StringBuilder out) {
+        out.append("[R][").append(getStatusIcon()).append("] ").append(getDescription())
+                .append(" (").append(this.recurrence).append(" from: ").append(this.start).append(")\n");
+    }
+}
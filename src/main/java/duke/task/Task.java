@@ -1,11 +1,15 @@
 package duke.task;
 
+import java.io.IOException;
+
 /**
  * Represents a task.
  * The  abstract 'Task' class supports operator (i) toString that
- * returns the string representation of task.
+ * returns the string representation of task, which is rendered once and kept until the task changes, and
+ * (ii) appending the string representation of task to a listing without copying it, and
+ * (iii) copy that returns a separate task to change while a snapshot of the list keeps this one.
  */
-public abstract class Task {
+public abstract class Task implements Cloneable {
     /**
      * Description of task.
      */
@@ -16,6 +20,11 @@ public abstract class Task {
      */
     protected boolean isDone;
 
+    /**
+     * String representation of task, or null until it is first needed or after the task changes.
+     */
+    private String rendering;
+
     static final int NOT_DONE = 1;
     static final int DONE = 0;
 
@@ -67,16 +76,86 @@ public abstract class Task {
         return (this.isDone ? "v" : "x"); // "\u2713" : "\u2718"); //return tick or X symbols
     }
 
+    /**
+     * Returns whether task is done.
+     *
+     * @return true if task is done.
+     */
+    public boolean isDone() {
+        return this.isDone;
+    }
+
     /**
      * Marks task as done.
      */
     public void markAsDone() {
         isDone = true;
+        rendering = null;
+    }
+
+    /**
+     * Marks task as not done.
+     */
+    public void markAsNotDone() {
+        isDone = false;
+        rendering = null;
+    }
+
+    /**
+     * Returns a copy of task that can be marked without changing this task.
+     * The description and dates are shared, as they never change.
+     *
+     * @return Copy of task.
+     */
+    public Task copy() {
+        try {
+            return (Task) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError("Task is Cloneable", e);
+        }
     }
 
     /**
      * Returns a string represenation of task.
+     * It is rendered the first time and reused until the task is marked as done or not done.
+     *
+     * @return String representation of task.
+     */
+    public String toString() {
+        String row = rendering;
+        if (row == null) {
+            StringBuilder builder = new StringBuilder(getDescription().length() + 48);
+            render(builder);
+            row = builder.toString();
+            rendering = row;
+        }
+        return row;
+    }
+
+    /**
+     * Appends the string representation of task to a listing.
+     *
+     * @param out Listing the task is appended to.
+     */
+    public void appendTo(StringBuilder out) {
+        out.append(toString());
+    }
+
+    /**
+     * Appends the string representation of task to a listing that is written as it goes, such as a file.
+     *
+     * @param out Listing the task is appended to.
+     * @throws IOException If the listing cannot be written.
+     */
+    public void appendTo(Appendable out) throws IOException {
+        out.append(toString());
+    }
+
+    /**
+     * Renders the string representation of task, ending with a new line.
+     *
+     * @param out Builder the string representation is rendered into.
      */
-    public abstract String toString();
+    protected abstract void render(StringBuilder out);
 }
 
@@ -2,8 +2,8 @@ package duke.task;
 
 /**
  * Represents todo task.
- * The 'Todo' class supports operator (i) toString that
- * returns the string representation of task.
+ * The 'Todo' class supports operator (i) render that
+ * renders the string representation of task.
  */
 public class Todo extends Task {
 
@@ -29,9 +29,11 @@ public class Todo extends Task {
     }
 
     /**
-     * Returns a String representation of task.
+     * Renders a String representation of task.
+     *
+     * @param out Builder the string representation is rendered into.
      */
-    public String toString() {
-        return "[T][" + getStatusIcon() + "] " + getDescription() + "\n";
+    protected void render(StringBuilder out) {
+        out.append("[T][").append(getStatusIcon()).append("] ").append(getDescription()).append('\n');
     }
 }
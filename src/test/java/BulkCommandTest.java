@@ -0,0 +1,129 @@
+import duke.command.Command;
+import duke.component.Parser;
+import duke.component.Storage;
+import duke.component.TaskList;
+import duke.exception.DukeException;
+import duke.task.Todo;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for BulkDoneCommand and BulkDeleteCommand class.
+ * The 'BulkCommandTest' class supports the following operators
+ * (i) Checking that a range of tasks is marked as done in the list and the file,
+ * (ii) Checking that undoing a delete of a list of tasks puts them back at their positions,
+ * (iii) Checking that a task number outside the list is rejected before anything changes, and
+ * (iv) Checking that a huge range is rejected without being expanded, and that ranges out of order are merged.
+ */
+public class BulkCommandTest {
+
+    /**
+     * Returns a storage backed by a new temporary file, with a task list of the given number of todos.
+     *
+     * @param taskList List the todos are added to.
+     * @param numTasks Number of todos.
+     * @return Storage of the todos.
+     * @throws IOException   If the temporary file cannot be created.
+     * @throws DukeException If the todos cannot be written.
+     */
+    private Storage createStorage(TaskList taskList, int numTasks) throws IOException, DukeException {
+        File file = File.createTempFile("duke", ".txt");
+        file.deleteOnExit();
+        Storage storage = new Storage(file.getPath());
+        Parser parser = new Parser();
+        for (int i = 1; i <= numTasks; i++) {
+            parser.parse("todo task " + i).execute(taskList, null, storage);
+        }
+        return storage;
+    }
+
+    /**
+     * Asserts that 'done 2-4' marks the three tasks, and that reloading the file gives the same marks.
+     *
+     * @throws Exception If the command cannot be parsed, executed or the file read.
+     */
+    @Test
+    public void execute_doneRange_tasksMarkedInListAndFile() throws Exception {
+        TaskList taskList = new TaskList();
+        Storage storage = createStorage(taskList, 5);
+
+        new Parser().parse("done 2-4").execute(taskList, null, storage);
+        TaskList reloaded = new TaskList(storage.load());
+
+        for (int i = 1; i <= 5; i++) {
+            boolean isMarked = i >= 2 && i <= 4;
+            assertEquals(isMarked, taskList.isTaskDone(i));
+            assertEquals(isMarked, reloaded.isTaskDone(i));
+        }
+    }
+
+    /**
+     * Asserts that 'delete 1,3-4' removes the tasks, and its inverse puts them back in order.
+     *
+     * @throws Exception If the command cannot be parsed or executed.
+     */
+    @Test
+    public void getInverse_deleteList_tasksRestoredAtPositions() throws Exception {
+        TaskList taskList = new TaskList();
+        Storage storage = createStorage(taskList, 5);
+
+        Command delete = new Parser().parse("delete 1,3-4");
+        delete.execute(taskList, null, storage);
+        assertEquals(2, taskList.size());
+        assertTrue(taskList.getTask(1).toString().contains("task 2"));
+
+        delete.getInverse().execute(taskList, null, storage);
+        TaskList reloaded = new TaskList(storage.load());
+        for (int i = 1; i <= 5; i++) {
+            assertTrue(taskList.getTask(i).toString().contains("task " + i));
+            assertTrue(reloaded.getTask(i).toString().contains("task " + i));
+        }
+    }
+
+    /**
+     * Asserts that a range running past the end of the list is rejected and no task is marked.
+     *
+     * @throws Exception If the tasks cannot be added.
+     */
+    @Test
+    public void execute_rangePastEnd_exceptionThrownAndNothingMarked() throws Exception {
+        TaskList taskList = new TaskList();
+        Storage storage = createStorage(taskList, 3);
+        taskList.addTask(new Todo("unsaved"));
+
+        assertThrows(DukeException.class, () -> new Parser().parse("done 2-9").execute(taskList, null, storage));
+        for (int i = 1; i <= 4; i++) {
+            assertFalse(taskList.isTaskDone(i));
+        }
+    }
+
+    /**
+     * Asserts that a range running to the largest number is rejected against the list instead of being
+     * expanded, and that overlapping ranges given out of order mark each task once.
+     *
+     * @throws Exception If the tasks cannot be added.
+     */
+    @Test
+    public void execute_hugeAndOverlappingRanges_checkedBeforeExpanding() throws Exception {
+        TaskList taskList = new TaskList();
+        Storage storage = createStorage(taskList, 4);
+
+        DukeException e = assertThrows(DukeException.class,
+                () -> new Parser().parse("delete 2-2147483647").execute(taskList, null, storage));
+        String response = new Parser().parse("done 3-4,1-2,2").execute(taskList, null, storage);
+
+        assertEquals(" OOPS!!! There is no task 5 in your list.", e.getMessage());
+        assertEquals(4, taskList.size());
+        assertTrue(response.startsWith("Nice! I've marked 4 tasks as done:"));
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(taskList.isTaskDone(i));
+        }
+    }
+}
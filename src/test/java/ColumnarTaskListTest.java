@@ -0,0 +1,104 @@
+import duke.component.ColumnarTaskList;
+import duke.component.TaskList;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Recurrence;
+import duke.task.Recurring;
+import duke.task.Todo;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Represent a Test class for ColumnarTaskList class.
+ * The 'ColumnarTaskListTest' class supports the following operators
+ * (i) Checking that tasks read back from the columns match the tasks added,
+ * (ii) Checking that deleting a task shifts the later tasks and their done state,
+ * (iii) Checking that the columns behave the same as the default TaskList, and
+ * (iv) Checking that recurring tasks stay in place while the removed ones are compacted away.
+ */
+public class ColumnarTaskListTest {
+
+    /**
+     * Asserts that the string representation of every task read back from the columns is
+     * the same as the task that was added.
+     */
+    @Test
+    public void getTask_addedTasks_sameString() {
+        Date date = new Date(933523200000L);
+        TaskList taskList = new ColumnarTaskList();
+        taskList.addTask(new Todo("read book"));
+        taskList.addTask(new Deadline("return book", date));
+        taskList.addTask(new Event("project meeting", date));
+
+        assertEquals(new Todo("read book").toString(), taskList.getTask(1).toString());
+        assertEquals(new Deadline("return book", date).toString(), taskList.getTask(2).toString());
+        assertEquals(new Event("project meeting", date).toString(), taskList.getTask(3).toString());
+    }
+
+    /**
+     * Asserts that deleting a task moves every later task, and whether it is done, down by one.
+     */
+    @Test
+    public void deleteTask_acrossBitsetWords_doneStateShifted() {
+        TaskList taskList = new ColumnarTaskList();
+        for (int i = 0; i < 130; i++) {
+            taskList.addTask(new Todo("task " + i));
+        }
+        taskList.markTaskDone(66);
+        taskList.markTaskDone(130);
+
+        assertEquals("[T][x] task 0\n", taskList.deleteTask(1).toString());
+
+        assertEquals(129, taskList.size());
+        assertEquals("[T][v] task 65\n", taskList.getTask(65).toString());
+        assertEquals("[T][x] task 66\n", taskList.getTask(66).toString());
+        assertEquals("[T][v] task 129\n", taskList.getTask(129).toString());
+    }
+
+    /**
+     * Asserts that find returns the same results as the default TaskList.
+     */
+    @Test
+    public void findTask_sameTasks_sameResult() {
+        TaskList defaultList = new TaskList();
+        TaskList columnarList = new ColumnarTaskList();
+        for (String description : new String[] {"read book", "return book", "buy milk"}) {
+            defaultList.addTask(new Todo(description));
+            columnarList.addTask(new Todo(description));
+        }
+
+        assertEquals(defaultList.findTask("book"), columnarList.findTask("book"));
+    }
+
+    /**
+     * Asserts that deleting most recurring tasks, one at a time and several at once, keeps every other
+     * task at its position, and that marking a remaining recurring task marks the right one.
+     */
+    @Test
+    public void deleteTask_mostRecurringTasks_remainingTasksInPlace() {
+        Date date = new Date(933523200000L);
+        TaskList taskList = new ColumnarTaskList();
+        for (int i = 0; i < 20; i++) {
+            taskList.addTask(new Recurring("recur " + i, date, Recurrence.parse("daily")));
+            taskList.addTask(new Todo("todo " + i));
+        }
+
+        for (int i = 0; i < 8; i++) {
+            taskList.deleteTask(i + 1);
+        }
+        taskList.deleteTasks(new int[] {9, 11, 13, 15});
+        taskList.markTaskDone(13);
+
+        assertEquals(28, taskList.size());
+        assertEquals("todo 0", taskList.getTask(1).getDescription());
+        assertEquals("todo 11", taskList.getTask(12).getDescription());
+        assertEquals(new Recurring("recur 12", date, Recurrence.parse("daily")).toString().replace("[x]", "[v]"),
+                taskList.getTask(13).toString());
+        assertEquals("[R][x] recur 13", taskList.getTask(15).toString().substring(0, 15));
+        assertEquals("recur 19", taskList.getTask(27).getDescription());
+        assertEquals("todo 19", taskList.getTask(28).getDescription());
+    }
+}
@@ -0,0 +1,85 @@
+import duke.component.Console;
+import duke.component.Duke;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for Console class.
+ * The 'ConsoleTest' class supports the following operators
+ * (i) Checking that piped commands are answered in order and reading stops at bye,
+ * (ii) Checking that quiet mode only reports the commands that fail, with their line number, and
+ * (iii) Checking that a task number outside the list fails only its own line.
+ */
+public class ConsoleTest {
+
+    /**
+     * Asserts that every command before bye is answered, and the command after it is not read.
+     *
+     * @throws Exception If the temporary directory cannot be created or the commands cannot run.
+     */
+    @Test
+    public void run_commandsAfterBye_notExecuted() throws Exception {
+        Path directory = Files.createTempDirectory("duke");
+        StringWriter out = new StringWriter();
+        StringWriter err = new StringWriter();
+        String input = "todo read book\n\nlist\nbye\ntodo never added\n";
+
+        int numFailed = new Console(new Duke(directory), new BufferedReader(new StringReader(input)),
+                out, err, false).run();
+
+        assertEquals(0, numFailed);
+        assertTrue(out.toString().contains("1 . [T][x] read book"));
+        assertTrue(out.toString().endsWith("Bye. Hope to see you again soon!\n"));
+        assertFalse(out.toString().contains("never added"));
+    }
+
+    /**
+     * Asserts that in quiet mode nothing is written for valid commands, and a failed one is reported once.
+     *
+     * @throws Exception If the temporary directory cannot be created or the commands cannot run.
+     */
+    @Test
+    public void run_quietWithInvalidCommand_onlyFailureReported() throws Exception {
+        Path directory = Files.createTempDirectory("duke");
+        StringWriter out = new StringWriter();
+        StringWriter err = new StringWriter();
+        String input = "todo read book\nlist\nblah\n";
+
+        int numFailed = new Console(new Duke(directory), new BufferedReader(new StringReader(input)),
+                out, err, true).run();
+
+        assertEquals(1, numFailed);
+        assertEquals("", out.toString());
+        assertTrue(err.toString().startsWith("line 3: OOPS!!!"));
+    }
+
+    /**
+     * Asserts that 'done 0' and 'done 9' are counted as failed lines, and the command after them still runs.
+     *
+     * @throws Exception If the temporary directory cannot be created or the commands cannot run.
+     */
+    @Test
+    public void run_taskNumOutOfRange_failureCountedAndRunContinues() throws Exception {
+        Path directory = Files.createTempDirectory("duke");
+        StringWriter out = new StringWriter();
+        StringWriter err = new StringWriter();
+        String input = "todo a\ndone 0\ndone 9\ntodo b\nbye\n";
+
+        int numFailed = new Console(new Duke(directory), new BufferedReader(new StringReader(input)),
+                out, err, true).run();
+
+        assertEquals(2, numFailed);
+        assertEquals("line 2: OOPS!!! There is no task 0 in your list.\n"
+                + "line 3: OOPS!!! There is no task 9 in your list.\n", err.toString());
+        assertTrue(Files.readString(directory.resolve("duke.txt")).contains("Number of tasks not completed: 2"));
+    }
+}
@@ -0,0 +1,98 @@
+import duke.component.DescriptionPool;
+import duke.component.Parser;
+import duke.component.Storage;
+import duke.component.TaskList;
+import duke.exception.DukeException;
+import duke.task.Task;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for DescriptionPool class.
+ * The 'DescriptionPoolTest' class supports the following operators
+ * (i) Checking that equal descriptions are shared and counted as memory saved,
+ * (ii) Checking that the pool never holds more descriptions than its capacity, and
+ * (iii) Checking that repeated descriptions written as dictionary references are loaded back.
+ */
+public class DescriptionPoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Asserts that interning equal descriptions returns the first one, and that every share is counted.
+     */
+    @Test
+    public void intern_equalDescriptions_sameStringReturned() {
+        DescriptionPool pool = new DescriptionPool();
+        String first = pool.intern(new String("read book"));
+
+        String second = pool.intern(new String("read book"));
+        String third = pool.intern(new String("read book"));
+
+        assertSame(first, second);
+        assertSame(first, third);
+        assertEquals(1, pool.size());
+        assertTrue(pool.contains("read book"));
+        assertEquals(2 * (40 + "read book".length()), pool.getBytesSaved());
+    }
+
+    /**
+     * Asserts that a full pool stops adding descriptions, but still returns them.
+     */
+    @Test
+    public void intern_moreDescriptionsThanCapacity_sizeBounded() {
+        DescriptionPool pool = new DescriptionPool(16);
+        List<String> descriptions = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            String description = "task " + i;
+            descriptions.add(description);
+            assertEquals(description, pool.intern(description));
+        }
+
+        assertTrue(pool.size() <= 16);
+        assertFalse(descriptions.stream().allMatch(pool::contains));
+        assertEquals(0, pool.getBytesSaved());
+    }
+
+    /**
+     * Asserts that a repeated description is written once to the dictionary file, referenced by id,
+     * and loaded back, while a description that starts with '@' is kept as it is.
+     *
+     * @throws Exception If the text files cannot be written or read.
+     */
+    @Test
+    public void load_dictionaryReferences_descriptionsRestored() throws Exception {
+        Path file = tempDir.resolve("duke.txt");
+        Storage storage = new Storage(file.toString(), true);
+        TaskList taskList = new TaskList();
+        Parser parser = new Parser();
+        for (String input : new String[] {"todo read book", "todo read book", "todo @home", "todo read book"}) {
+            parser.parse(input).execute(taskList, null, storage);
+        }
+
+        List<String> dictionary = Files.readAllLines(tempDir.resolve("duke.txt.dict"), StandardCharsets.UTF_8);
+        String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        ArrayList<Task> tasks = new Storage(file.toString(), true).load();
+
+        assertEquals(List.of("read book"), dictionary);
+        assertTrue(text.contains("| @0|#") && text.contains("| @@home|#"));
+        assertEquals(4, tasks.size());
+        assertEquals("read book", tasks.get(0).getDescription());
+        assertEquals("read book", tasks.get(1).getDescription());
+        assertEquals("@home", tasks.get(2).getDescription());
+        assertSame(tasks.get(1).getDescription(), tasks.get(3).getDescription());
+    }
+}
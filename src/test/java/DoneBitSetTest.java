@@ -0,0 +1,91 @@
+import duke.component.DoneBitSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for DoneBitSet class.
+ * The 'DoneBitSetTest' class supports the following operators
+ * (i) Checking that rank and select agree across several words,
+ * (ii) Checking that removing a bit shifts the later bits,
+ * (iii) Checking that inserting a bit shifts the later bits back, and
+ * (iv) Checking that scanning finds the next done and not done tasks.
+ */
+public class DoneBitSetTest {
+
+    /**
+     * Asserts that rank counts the done tasks before a position and select finds them again.
+     */
+    @Test
+    public void rankAndSelect_everyThirdDone_consistent() {
+        DoneBitSet bitSet = new DoneBitSet();
+        for (int i = 0; i < 200; i++) {
+            bitSet.add(i % 3 == 0);
+        }
+
+        assertEquals(67, bitSet.countDone());
+        assertEquals(22, bitSet.rank(64));
+        for (int n = 0; n < 67; n++) {
+            assertEquals(n * 3, bitSet.select(n));
+            assertEquals(n, bitSet.rank(n * 3));
+        }
+        assertEquals(-1, bitSet.select(67));
+    }
+
+    /**
+     * Asserts that removing a bit moves the bits after it, including across words, down by one.
+     */
+    @Test
+    public void remove_acrossWords_laterBitsShifted() {
+        DoneBitSet bitSet = new DoneBitSet();
+        for (int i = 0; i < 130; i++) {
+            bitSet.add(i == 64 || i == 129);
+        }
+
+        assertFalse(bitSet.remove(0));
+
+        assertEquals(129, bitSet.size());
+        assertTrue(bitSet.get(63));
+        assertTrue(bitSet.get(128));
+        assertEquals(2, bitSet.countDone());
+    }
+
+    /**
+     * Asserts that inserting a bit at a word boundary moves the later bits up by one, carrying across words.
+     */
+    @Test
+    public void insert_acrossWords_laterBitsShifted() {
+        DoneBitSet bitSet = new DoneBitSet();
+        for (int i = 0; i < 130; i++) {
+            bitSet.add(i % 2 == 1);
+        }
+
+        bitSet.insert(64, true);
+
+        assertEquals(131, bitSet.size());
+        assertTrue(bitSet.get(63));
+        assertTrue(bitSet.get(64));
+        assertFalse(bitSet.get(65));
+        assertTrue(bitSet.get(130));
+        assertEquals(66, bitSet.countDone());
+        assertEquals(64, bitSet.select(32));
+    }
+
+    /**
+     * Asserts that the next done and not done positions are found from a starting position.
+     */
+    @Test
+    public void nextDoneAndNotDone_mixedBits_positionsFound() {
+        DoneBitSet bitSet = new DoneBitSet();
+        for (int i = 0; i < 100; i++) {
+            bitSet.add(i >= 70);
+        }
+
+        assertEquals(70, bitSet.nextDone(0));
+        assertEquals(69, bitSet.nextNotDone(69));
+        assertEquals(-1, bitSet.nextNotDone(70));
+        assertEquals(-1, bitSet.nextDone(100));
+    }
+}
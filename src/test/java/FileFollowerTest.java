@@ -0,0 +1,98 @@
+import duke.component.Parser;
+import duke.component.Storage;
+import duke.component.Ui;
+import duke.component.WorkspaceManager;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for FileFollower class.
+ * The 'FileFollowerTest' class supports the following operators
+ * (i) Checking that records appended by another program are added to the list before the next command,
+ * (ii) Checking that a task marked by another program is marked in the list, and
+ * (iii) Checking that a file written by Duke's own command is not reported as changed.
+ */
+public class FileFollowerTest {
+
+    /**
+     * How long to wait for the background thread to notice a change, in milliseconds.
+     */
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    /**
+     * Returns the response to 'list' once it reports a change, or the last response after the timeout.
+     */
+    private String listUntilChanged(WorkspaceManager workspaces) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        String response;
+        do {
+            Thread.sleep(100);
+            response = workspaces.execute(new Parser().parse("list"), null);
+        } while (!response.contains("changed by another program") && System.currentTimeMillis() < deadline);
+        return response;
+    }
+
+    /**
+     * Asserts that a task appended to duke.txt by a second Storage shows up in the list and the statistics.
+     *
+     * @throws Exception If the temporary directory cannot be created or a command fails.
+     */
+    @Test
+    public void execute_recordAppendedByOtherProgram_taskAdded() throws Exception {
+        Path directory = Files.createTempDirectory("duke");
+        WorkspaceManager workspaces = new WorkspaceManager(directory, new Ui(), 64L << 20, -1, true);
+        workspaces.execute(new Parser().parse("todo read book"), null);
+
+        new Storage(directory.resolve("duke.txt").toString()).appendToFile("T", null, "write report");
+        String response = listUntilChanged(workspaces);
+
+        assertTrue(response.contains("1 task added"));
+        assertTrue(response.contains("2 . [T][x] write report"));
+        assertEquals(2, workspaces.getCurrent().getStorage().getStatistics().getNumUncompleted());
+    }
+
+    /**
+     * Asserts that a task marked as done in duke.txt by a second Storage is marked in the list.
+     *
+     * @throws Exception If the temporary directory cannot be created or a command fails.
+     */
+    @Test
+    public void execute_taskMarkedByOtherProgram_taskMarked() throws Exception {
+        Path directory = Files.createTempDirectory("duke");
+        WorkspaceManager workspaces = new WorkspaceManager(directory, new Ui(), 64L << 20, -1, true);
+        workspaces.execute(new Parser().parse("todo read book"), null);
+        workspaces.execute(new Parser().parse("todo write report"), null);
+
+        new Storage(directory.resolve("duke.txt").toString()).updateText(2, true);
+        listUntilChanged(workspaces);
+
+        assertFalse(workspaces.getCurrent().getTaskList().isTaskDone(1));
+        assertTrue(workspaces.getCurrent().getTaskList().isTaskDone(2));
+        assertEquals(1, workspaces.getCurrent().getStorage().getStatistics().getNumCompleted());
+    }
+
+    /**
+     * Asserts that after Duke marks a task itself, no change by another program is reported.
+     *
+     * @throws Exception If the temporary directory cannot be created or a command fails.
+     */
+    @Test
+    public void execute_ownWrite_notReportedAsChanged() throws Exception {
+        Path directory = Files.createTempDirectory("duke");
+        WorkspaceManager workspaces = new WorkspaceManager(directory, new Ui(), 64L << 20, -1, true);
+        workspaces.execute(new Parser().parse("todo read book"), null);
+        workspaces.execute(new Parser().parse("done 1"), null);
+
+        Thread.sleep(500);
+        String response = workspaces.execute(new Parser().parse("list"), null);
+
+        assertFalse(response.contains("changed by another program"));
+        assertEquals(1, workspaces.getCurrent().getTaskList().size());
+    }
+}
@@ -0,0 +1,65 @@
+import duke.component.Parser;
+import duke.component.TaskList;
+import duke.exception.DukeException;
+import duke.task.Todo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Represent a Test class for FindCommand class.
+ * The 'FindCommandTest' class supports the following operators
+ * (i) Checking that a mistyped keyword finds the tasks with close words, nearest first,
+ * (ii) Checking that the fuzzy find follows tasks that are added and deleted, and
+ * (iii) Checking that a fuzzy find with a distance that is too large is rejected.
+ */
+public class FindCommandTest {
+
+    /**
+     * Asserts that 'reprot' finds the words within two edits of it, nearest first, but no other words.
+     *
+     * @throws Exception If the command cannot be parsed.
+     */
+    @Test
+    public void execute_mistypedKeyword_closeTasksByDistance() throws Exception {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Todo("read book"));
+        taskList.addTask(new Todo("write reprt"));
+        taskList.addTask(new Todo("send Report to boss"));
+
+        String result = new Parser().parse("find~ reprot").execute(taskList, null, null);
+
+        assertEquals("Here are the closest matching tasks in your list:\n"
+                + "\n 2 . " + taskList.getTask(2)
+                + "\n 3 . " + taskList.getTask(3), result);
+    }
+
+    /**
+     * Asserts that tasks added and deleted after the first fuzzy find are found with their new task numbers.
+     */
+    @Test
+    public void findTaskFuzzy_tasksAddedAndDeleted_indexUpToDate() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Todo("team meeting"));
+        taskList.addTask(new Todo("buy milk"));
+        assertEquals(List.of(1), taskList.findTaskFuzzy("meetng", -1));
+
+        taskList.deleteTask(1);
+        taskList.addTask(new Todo("metng with client"));
+        taskList.insertTask(1, new Todo("meeting notes"));
+
+        assertEquals(List.of(1, 3), taskList.findTaskFuzzy("meetng", 1));
+        assertEquals(List.of(), taskList.findTaskFuzzy("team", 1));
+    }
+
+    /**
+     * Asserts that a distance above the largest allowed is rejected.
+     */
+    @Test
+    public void parse_distanceTooLarge_exceptionThrown() {
+        assertThrows(DukeException.class, () -> new Parser().parse("find~9 report"));
+    }
+}
@@ -0,0 +1,74 @@
+import duke.component.Parser;
+import duke.component.TaskList;
+import duke.exception.DukeException;
+import duke.task.Deadline;
+import duke.task.Todo;
+import org.junit.jupiter.api.Test;
+
+import java.text.SimpleDateFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Represent a Test class for ListCommand class.
+ * The 'ListCommandTest' class supports the following operators
+ * (i) Checking that the nearest pending tasks are listed first with their task numbers,
+ * (ii) Checking that the tasks are sorted on their description from the largest, and
+ * (iii) Checking that a list option without a value is rejected.
+ */
+public class ListCommandTest {
+
+    /**
+     * Asserts that the top pending tasks by due date are listed, earliest first, skipping done tasks.
+     *
+     * @throws Exception If the command or a date cannot be parsed.
+     */
+    @Test
+    public void execute_pendingTopByDue_nearestTasksListed() throws Exception {
+        TaskList taskList = createTaskList();
+
+        String result = new Parser().parse("list pending sort due top 2").execute(taskList, null, null);
+
+        assertEquals("Here are the top 2 pending tasks in your list, sorted by due:\n"
+                + "\n 4 . " + taskList.getTask(4)
+                + "\n 1 . " + taskList.getTask(1), result);
+    }
+
+    /**
+     * Asserts that every task is listed in descending order of description.
+     *
+     * @throws Exception If the command or a date cannot be parsed.
+     */
+    @Test
+    public void execute_sortDescendingText_allTasksInOrder() throws Exception {
+        TaskList taskList = createTaskList();
+
+        String result = new Parser().parse("list sort -text").execute(taskList, null, null);
+
+        assertEquals("Here are the tasks in your list, sorted by -text:\n"
+                + "\n 3 . " + taskList.getTask(3)
+                + "\n 1 . " + taskList.getTask(1)
+                + "\n 4 . " + taskList.getTask(4)
+                + "\n 2 . " + taskList.getTask(2), result);
+    }
+
+    /**
+     * Asserts that 'top' without a number of tasks is rejected.
+     */
+    @Test
+    public void parse_topWithoutValue_exceptionThrown() {
+        assertThrows(DukeException.class, () -> new Parser().parse("list sort due top"));
+    }
+
+    private TaskList createTaskList() throws Exception {
+        SimpleDateFormat format = new SimpleDateFormat("dd/MM/yyyy");
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Deadline("pay rent", format.parse("20/11/2026")));
+        taskList.addTask(new Todo("buy milk"));
+        taskList.addTask(new Deadline("submit report", format.parse("05/10/2026")));
+        taskList.addTask(new Deadline("file taxes", format.parse("01/10/2026")));
+        taskList.markTaskDone(3);
+        return taskList;
+    }
+}
@@ -0,0 +1,74 @@
+import duke.component.ParseResult;
+import duke.component.Parser;
+import duke.exception.DukeException;
+
+import java.util.Random;
+
+/**
+ * Represents a benchmark for parsing inputs that are mostly invalid, as sent by untrusted clients.
+ * The 'ParserBenchmark' class supports the following operators
+ * (i) building a mix of inputs with a given share of invalid ones,
+ * (ii) timing parse, catching the DukeException of every invalid input, and
+ * (iii) timing tryParse, which returns the error instead of throwing it.
+ *
+ * <p>Run with: java -cp build/classes/java/main:build/classes/java/test ParserBenchmark [inputs] [invalidPercent],
+ * or with gradle parserBenchmark.
+ */
+public class ParserBenchmark {
+
+    private static final String[] VALID = {
+        "todo read book", "deadline return book /by 01/10/2026 1800", "event meeting /at 02/10/2026 0900",
+        "done 3", "delete 7", "find book", "due 01/10/2026 05/10/2026", "upcoming 5", "list sort due top 3",
+        "done 1,4,9-20"
+    };
+
+    private static final String[] INVALID = {
+        "blah", "todo", "deadline read book", "event meeting", "done", "done two", "delete x",
+        "due 32/13/2026 tomorrow", "upcoming soon", "list top many", "done 1-x", "delete 99999999999", "recur"
+    };
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional number of inputs and optional percentage of invalid inputs.
+     */
+    public static void main(String[] args) {
+        int numInputs = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int invalidPercent = args.length > 1 ? Integer.parseInt(args[1]) : 90;
+
+        Random random = new Random(1);
+        String[] inputs = new String[numInputs];
+        for (int i = 0; i < numInputs; i++) {
+            String[] pool = random.nextInt(100) < invalidPercent ? INVALID : VALID;
+            inputs[i] = pool[random.nextInt(pool.length)];
+        }
+
+        Parser parser = new Parser();
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            int numErrors = 0;
+            for (String input : inputs) {
+                try {
+                    parser.parse(input);
+                } catch (DukeException e) {
+                    numErrors++;
+                }
+            }
+            long parseNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int numInvalid = 0;
+            for (String input : inputs) {
+                ParseResult result = parser.tryParse(input);
+                if (!result.isValid()) {
+                    numInvalid++;
+                }
+            }
+            long tryParseNanos = System.nanoTime() - start;
+
+            assert numErrors == numInvalid : "parse and tryParse disagree on which inputs are invalid";
+            System.out.printf("%d inputs, %d invalid: parse %d ns per input, tryParse %d ns per input%n",
+                    numInputs, numInvalid, parseNanos / numInputs, tryParseNanos / numInputs);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+import duke.command.DoneCommand;
+import duke.component.ParseResult;
+import duke.component.Parser;
+import duke.component.TaskList;
+import duke.exception.DukeException;
+import duke.exception.EmptyDescException;
+import duke.exception.InvalidArgumentException;
+import duke.task.Todo;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for Parser class.
+ * The 'ParserTest' class supports the following operators
+ * (i) Checking that an invalid input is returned as an error instead of being thrown,
+ * (ii) Checking that a task number that is not a number is reported as an invalid argument,
+ * (iii) Checking that a task number outside the list is reported as a DukeException, and
+ * (iv) Checking that the errors thrown by parse carry no stack trace.
+ */
+public class ParserTest {
+
+    /**
+     * Asserts that tryParse returns the error of unknown and incomplete inputs, and the command of a valid one.
+     *
+     * @throws DukeException If the valid input is not parsed.
+     */
+    @Test
+    public void tryParse_invalidInputs_errorReturned() throws DukeException {
+        Parser parser = new Parser();
+
+        ParseResult unknown = parser.tryParse("blah");
+        ParseResult empty = parser.tryParse("deadline read book");
+        ParseResult valid = parser.tryParse("done 2");
+
+        assertFalse(unknown.isValid());
+        assertEquals(" OOPS!!! I'm sorry, but I don't know what that means :-(", unknown.getErrorMessage());
+        assertEquals(" OOPS!!! The description of a deadline cannot be empty.", empty.getErrorMessage());
+        assertTrue(valid.isValid());
+        assertTrue(valid.getCommand() instanceof DoneCommand);
+    }
+
+    /**
+     * Asserts that task numbers that are not numbers, or are missing, are rejected with a DukeException.
+     */
+    @Test
+    public void parse_taskNumNotNumber_invalidArgumentThrown() {
+        Parser parser = new Parser();
+
+        assertThrows(InvalidArgumentException.class, () -> parser.parse("done two"));
+        assertThrows(InvalidArgumentException.class, () -> parser.parse("delete 99999999999"));
+        assertThrows(EmptyDescException.class, () -> parser.parse("delete "));
+        assertThrows(InvalidArgumentException.class, () -> parser.parse("upcoming soon"));
+    }
+
+    /**
+     * Asserts that task numbers below 1 are rejected by the parser, and numbers past the end of the list
+     * by the commands, both as a DukeException.
+     */
+    @Test
+    public void parse_taskNumOutOfRange_dukeExceptionThrown() {
+        Parser parser = new Parser();
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Todo("read book"));
+
+        DukeException zero = assertThrows(DukeException.class, () -> parser.parse("done 0"));
+        assertThrows(DukeException.class, () -> parser.parse("delete -3"));
+        DukeException past = assertThrows(DukeException.class,
+                () -> parser.parse("done 99").execute(taskList, null, null));
+        assertThrows(DukeException.class, () -> parser.parse("delete 2").execute(taskList, null, null));
+
+        assertEquals(" OOPS!!! There is no task 0 in your list.", zero.getMessage());
+        assertEquals(" OOPS!!! There is no task 99 in your list.", past.getMessage());
+        assertEquals(1, taskList.size());
+    }
+
+    /**
+     * Asserts that the exception thrown for an invalid input has no stack trace.
+     */
+    @Test
+    public void parse_invalidInput_exceptionWithoutStackTrace() {
+        DukeException e = assertThrows(DukeException.class, () -> new Parser().parse("todo"));
+
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals(" OOPS!!! The description of a todo cannot be empty.", e.getMessage());
+    }
+}
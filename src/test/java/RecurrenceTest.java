@@ -0,0 +1,98 @@
+import duke.task.Recurrence;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Represent a Test class for Recurrence class.
+ * The 'RecurrenceTest' class supports the following operators
+ * (i) Checking that daily and weekly rules step from the time of the first occurrence,
+ * (ii) Checking that cron steps, ranges and lists pick the right minutes and days,
+ * (iii) Checking that Sunday is both 0 and 7, and that day of month and day of week match either one, and
+ * (iv) Checking that rules that cannot be understood are rejected.
+ */
+public class RecurrenceTest {
+
+    /**
+     * Asserts that daily and weekly rules keep the time of the first occurrence, and stop at until.
+     */
+    @Test
+    public void next_dailyAndWeekly_stepFromStart() {
+        Date start = date(2026, 1, 5, 9, 30);
+
+        Recurrence daily = Recurrence.parse("daily");
+        Recurrence weekly = Recurrence.parse(" weekly ");
+
+        assertEquals(start, daily.next(start, date(2026, 1, 1, 0, 0), date(2026, 12, 31, 0, 0)));
+        assertEquals(date(2026, 3, 2, 9, 30), daily.next(start, date(2026, 3, 2, 9, 30), date(2026, 12, 31, 0, 0)));
+        assertEquals(date(2026, 3, 3, 9, 30), daily.next(start, date(2026, 3, 2, 9, 31), date(2026, 12, 31, 0, 0)));
+        assertEquals(date(2026, 1, 12, 9, 30), weekly.next(start, date(2026, 1, 6, 0, 0), date(2026, 12, 31, 0, 0)));
+        assertNull(weekly.next(start, date(2026, 1, 6, 0, 0), date(2026, 1, 12, 9, 29)));
+        assertEquals("weekly", weekly.toString());
+    }
+
+    /**
+     * Asserts that cron steps, ranges and lists give the matching minutes in order.
+     */
+    @Test
+    public void next_cronStepsAndRanges_matchingMinutes() {
+        Date start = date(2026, 1, 1, 0, 0);
+        Date until = date(2026, 12, 31, 0, 0);
+
+        Recurrence quarterHours = Recurrence.parse("cron */15 9-10 * * *");
+        Recurrence weekdays = Recurrence.parse("cron 30 7 * * 1-5");
+        Recurrence list = Recurrence.parse("cron 0 8,20 10-20/5 * *");
+
+        assertEquals(date(2026, 1, 1, 9, 0), quarterHours.next(start, start, until));
+        assertEquals(date(2026, 1, 1, 9, 45), quarterHours.next(start, date(2026, 1, 1, 9, 31), until));
+        assertEquals(date(2026, 1, 2, 9, 0), quarterHours.next(start, date(2026, 1, 1, 10, 46), until));
+        //1 January 2026 is a Thursday, so the 3rd and 4th are the weekend
+        assertEquals(date(2026, 1, 5, 7, 30), weekdays.next(start, date(2026, 1, 2, 7, 31), until));
+        assertEquals(date(2026, 1, 10, 8, 0), list.next(start, start, until));
+        assertEquals(date(2026, 1, 10, 20, 0), list.next(start, date(2026, 1, 10, 8, 1), until));
+        assertEquals(date(2026, 1, 15, 8, 0), list.next(start, date(2026, 1, 10, 20, 1), until));
+    }
+
+    /**
+     * Asserts that 0 and 7 both mean Sunday, and that a rule restricting the day of month and the day of week
+     * matches the days that match either, as cron does.
+     */
+    @Test
+    public void next_cronDayFields_cronSemantics() {
+        Date start = date(2026, 1, 1, 0, 0);
+        Date until = date(2026, 12, 31, 0, 0);
+
+        Recurrence sundayAsZero = Recurrence.parse("cron 0 9 * * 0");
+        Recurrence sundayAsSeven = Recurrence.parse("cron 0 9 * * 7");
+        Recurrence firstOrMonday = Recurrence.parse("cron 0 9 1 * 1");
+        Recurrence firstOfMonth = Recurrence.parse("cron 0 9 1 * *");
+
+        assertEquals(date(2026, 1, 4, 9, 0), sundayAsZero.next(start, start, until));
+        assertEquals(date(2026, 1, 4, 9, 0), sundayAsSeven.next(start, start, until));
+        assertEquals(date(2026, 1, 1, 9, 0), firstOrMonday.next(start, start, until));
+        assertEquals(date(2026, 1, 5, 9, 0), firstOrMonday.next(start, date(2026, 1, 2, 0, 0), until));
+        assertEquals(date(2026, 2, 1, 9, 0), firstOfMonth.next(start, date(2026, 1, 2, 0, 0), until));
+    }
+
+    /**
+     * Asserts that unknown rules, missing cron fields and values out of range are rejected.
+     */
+    @Test
+    public void parse_invalidRule_exceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.parse("monthly"));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.parse("cron 0 9 * *"));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.parse("cron 60 9 * * *"));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.parse("cron 0 9 * * 8"));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.parse("cron */0 9 * * *"));
+    }
+
+    private static Date date(int year, int month, int day, int hour, int minute) {
+        return Date.from(LocalDateTime.of(year, month, day, hour, minute).atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
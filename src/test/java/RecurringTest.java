@@ -0,0 +1,99 @@
+import duke.component.Storage;
+import duke.task.Recurrence;
+import duke.task.Recurring;
+import duke.task.Task;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for Recurring class.
+ * The 'RecurringTest' class supports the following operators
+ * (i) Checking that the occurrences in a window are listed in order, at most MAX_OCCURRENCES of them,
+ * (ii) Checking that done occurrences are skipped when looking for the next pending one, and
+ * (iii) Checking that done occurrences are kept in the text file and loaded back.
+ */
+public class RecurringTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Asserts that a window lists every occurrence in it, and that a window longer than MAX_OCCURRENCES
+     * occurrences is cut off.
+     */
+    @Test
+    public void getOccurrencesBetween_window_occurrencesInOrder() {
+        Recurring daily = new Recurring("stand up", date(2026, 1, 1, 9, 0), Recurrence.parse("daily"));
+        Recurring minutely = new Recurring("ping", date(2026, 1, 1, 0, 0), Recurrence.parse("cron * * * * *"));
+
+        List<Date> week = daily.getOccurrencesBetween(date(2026, 1, 3, 0, 0), date(2026, 1, 9, 9, 0));
+        List<Date> capped = minutely.getOccurrencesBetween(date(2026, 1, 1, 0, 0), date(2026, 1, 31, 0, 0));
+
+        assertEquals(7, week.size());
+        assertEquals(date(2026, 1, 3, 9, 0), week.get(0));
+        assertEquals(date(2026, 1, 9, 9, 0), week.get(6));
+        assertEquals(Recurring.MAX_OCCURRENCES, capped.size());
+        assertEquals(date(2026, 1, 1, 16, 39), capped.get(Recurring.MAX_OCCURRENCES - 1));
+    }
+
+    /**
+     * Asserts that the next pending occurrence skips the done ones, and comes back once they are not done.
+     */
+    @Test
+    public void getNextPendingOccurrence_doneOccurrences_skipped() {
+        Recurring weekly = new Recurring("review", date(2026, 1, 5, 10, 0), Recurrence.parse("weekly"));
+        Date from = date(2026, 1, 1, 0, 0);
+        Date until = date(2026, 12, 31, 0, 0);
+
+        weekly.markOccurrenceDone(date(2026, 1, 5, 10, 0));
+        weekly.markOccurrenceDone(date(2026, 1, 12, 10, 0));
+        Date afterDone = weekly.getNextPendingOccurrence(from, until);
+        weekly.markOccurrenceNotDone(date(2026, 1, 5, 10, 0));
+
+        assertEquals(date(2026, 1, 19, 10, 0), afterDone);
+        assertEquals(date(2026, 1, 5, 10, 0), weekly.getNextPendingOccurrence(from, until));
+        assertTrue(weekly.isOccurrenceDone(date(2026, 1, 12, 10, 0)));
+        assertFalse(weekly.isDone());
+    }
+
+    /**
+     * Asserts that the done occurrences written to the text file are loaded back with the task.
+     *
+     * @throws Exception If the text file cannot be written or read.
+     */
+    @Test
+    public void load_doneOccurrences_keptInTextFile() throws Exception {
+        String file = tempDir.resolve("duke.txt").toString();
+        Storage storage = new Storage(file);
+        Date start = date(2026, 1, 1, 7, 30);
+        storage.appendToFile("R", start, "run", Recurrence.parse("cron 30 7 * * 1-5"));
+        Recurring task = new Recurring("run", start, Recurrence.parse("cron 30 7 * * 1-5"));
+        task.markOccurrenceDone(date(2026, 1, 1, 7, 30));
+        task.markOccurrenceDone(date(2026, 1, 5, 7, 30));
+        storage.updateRecurring(1, task);
+
+        ArrayList<Task> tasks = new Storage(file).load();
+
+        Recurring loaded = (Recurring) tasks.get(0);
+        assertEquals(1, tasks.size());
+        assertEquals("run", loaded.getDescription());
+        assertEquals("cron 30 7 * * 1-5", loaded.getRecurrence().toString());
+        assertEquals(List.of(date(2026, 1, 1, 7, 30), date(2026, 1, 5, 7, 30)), loaded.getDoneOccurrences());
+        assertEquals(date(2026, 1, 2, 7, 30), loaded.getNextPendingOccurrence(start, date(2026, 1, 31, 0, 0)));
+    }
+
+    private static Date date(int year, int month, int day, int hour, int minute) {
+        return Date.from(LocalDateTime.of(year, month, day, hour, minute).atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
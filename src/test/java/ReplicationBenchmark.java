@@ -0,0 +1,132 @@
+import duke.component.Parser;
+import duke.component.ReplicationLeader;
+import duke.component.Storage;
+import duke.component.Ui;
+import duke.component.WorkspaceManager;
+import duke.task.Todo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Represents a benchmark for a follower Duke that keeps a hot-standby copy of a leader's list in another process.
+ * The 'ReplicationBenchmark' class supports the following operators
+ * (i) timing how long a new follower process takes to copy a large list from a snapshot,
+ * (ii) timing commands on the leader while a follower is attached, and how long the follower takes to catch up,
+ * and (iii) timing a follower that restarts after missing changes.
+ *
+ * <p>Run with: java -cp build/classes/java/main:build/classes/java/test ReplicationBenchmark [tasks] [commands],
+ * or with gradle replicationBenchmark.
+ */
+public class ReplicationBenchmark {
+
+    private static final long TIMEOUT_MILLIS = 60_000;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional number of tasks in the list and optional number of commands run on the leader.
+     * @throws Exception If a list cannot be written or the follower process cannot be started.
+     */
+    public static void main(String[] args) throws Exception {
+        int numTasks = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int numCommands = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        Path leaderDirectory = Files.createTempDirectory("duke-leader");
+        Path followerDirectory = Files.createTempDirectory("duke-follower");
+
+        try (Storage.Appender appender = new Storage(leaderDirectory.resolve("duke.txt").toString()).openAppender()) {
+            for (int i = 0; i < numTasks; i++) {
+                appender.append(new Todo("task " + i));
+            }
+        }
+        WorkspaceManager leader = new WorkspaceManager(leaderDirectory, new Ui(), Long.MAX_VALUE, -1);
+        ReplicationLeader replicationLeader = leader.lead(0);
+
+        long start = System.nanoTime();
+        Process follower = startFollower(followerDirectory, replicationLeader.getPort());
+        waitUntilCaughtUp(leaderDirectory, followerDirectory);
+        System.out.printf("snapshot of %d tasks copied in %d ms (including JVM start)%n",
+                numTasks, (System.nanoTime() - start) / 1_000_000);
+
+        start = System.nanoTime();
+        runCommands(leader, numCommands, new Random(1));
+        long leaderNanos = System.nanoTime() - start;
+        waitUntilCaughtUp(leaderDirectory, followerDirectory);
+        System.out.printf("%d commands on the leader took %d ms; follower caught up %d ms after the first%n",
+                numCommands, leaderNanos / 1_000_000, (System.nanoTime() - start) / 1_000_000);
+
+        follower.destroy();
+        follower.waitFor();
+        runCommands(leader, numCommands, new Random(2));
+        start = System.nanoTime();
+        follower = startFollower(followerDirectory, replicationLeader.getPort());
+        waitUntilCaughtUp(leaderDirectory, followerDirectory);
+        System.out.printf("restarted follower caught up with %d missed commands in %d ms (including JVM start)%n",
+                numCommands, (System.nanoTime() - start) / 1_000_000);
+
+        follower.getOutputStream().close();
+        follower.waitFor();
+        replicationLeader.stop();
+    }
+
+    private static Process startFollower(Path directory, int port) throws IOException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        return new ProcessBuilder(java, "-Dduke.replication.follow=" + port,
+                "-cp", System.getProperty("java.class.path"), "duke.component.Console", "-q")
+                .directory(directory.toFile())
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+
+    private static void runCommands(WorkspaceManager workspaces, int numCommands, Random random) throws Exception {
+        Parser parser = new Parser();
+        for (int i = 0; i < numCommands; i++) {
+            int size = workspaces.getCurrent().getTaskList().size();
+            String input;
+            switch (random.nextInt(3)) {
+            case 0:
+                input = "todo new task " + i;
+                break;
+            case 1:
+                input = "done " + (1 + random.nextInt(size));
+                break;
+            default:
+                input = "delete " + (1 + random.nextInt(size));
+                break;
+            }
+            workspaces.execute(parser.parse(input), null);
+        }
+    }
+
+    /**
+     * Waits until the statistics lines of the follower's text file are those of the leader's.
+     */
+    private static void waitUntilCaughtUp(Path leaderDirectory, Path followerDirectory) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        List<String> expected = readStatistics(leaderDirectory);
+        while (!expected.equals(readStatistics(followerDirectory))) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Follower did not catch up with " + expected);
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static List<String> readStatistics(Path directory) throws IOException {
+        Path path = directory.resolve("duke.txt");
+        if (!Files.exists(path)) {
+            return List.of();
+        }
+        try (Stream<String> lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            return lines.limit(2).collect(Collectors.toList());
+        }
+    }
+}
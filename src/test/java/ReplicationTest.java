@@ -0,0 +1,133 @@
+import duke.component.Parser;
+import duke.component.ReplicationFollower;
+import duke.component.ReplicationLeader;
+import duke.component.Storage;
+import duke.component.Ui;
+import duke.component.WorkspaceManager;
+import duke.exception.DukeException;
+import duke.task.Deadline;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for ReplicationLeader and ReplicationFollower classes.
+ * The 'ReplicationTest' class supports the following operators
+ * (i) Checking that commands executed on the leader are applied to the follower's list and text file,
+ * (ii) Checking that a follower starting after the leader copies the whole list from a snapshot, and
+ * (iii) Checking that the follower only executes commands that read its list.
+ */
+public class ReplicationTest {
+
+    /**
+     * How long to wait for the follower to apply the changes, in milliseconds.
+     */
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    /**
+     * Waits until the follower has applied every change the leader shipped, or the timeout passes.
+     */
+    private void waitUntilCaughtUp(ReplicationLeader leader, ReplicationFollower follower) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (follower.getAppliedSequence() != leader.getLastSequence() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * Asserts that added, marked and deleted tasks on the leader are the same on the follower and in its text file.
+     *
+     * @throws Exception If the temporary directories cannot be created or a command fails.
+     */
+    @Test
+    public void execute_commandsOnLeader_appliedToFollower() throws Exception {
+        Path leaderDirectory = Files.createTempDirectory("duke");
+        Path followerDirectory = Files.createTempDirectory("duke");
+        WorkspaceManager leaderLists = new WorkspaceManager(leaderDirectory, new Ui(), 64L << 20, -1);
+        WorkspaceManager followerLists = new WorkspaceManager(followerDirectory, new Ui(), 64L << 20, -1);
+        ReplicationLeader leader = leaderLists.lead(0);
+        ReplicationFollower follower = followerLists.followLeader(leader.getPort());
+
+        leaderLists.execute(new Parser().parse("todo read book"), null);
+        leaderLists.execute(new Parser().parse("todo write report"), null);
+        leaderLists.execute(new Parser().parse("todo return book"), null);
+        leaderLists.execute(new Parser().parse("done 3"), null);
+        leaderLists.execute(new Parser().parse("delete 1"), null);
+        waitUntilCaughtUp(leader, follower);
+
+        assertEquals(leader.getLastSequence(), follower.getAppliedSequence());
+        assertEquals(0, follower.getLag());
+        assertEquals(2, followerLists.getCurrent().getTaskList().size());
+        assertFalse(followerLists.getCurrent().getTaskList().isTaskDone(1));
+        assertTrue(followerLists.getCurrent().getTaskList().isTaskDone(2));
+        assertEquals(1, followerLists.getCurrent().getStorage().getStatistics().getNumCompleted());
+        assertEquals(2, new Storage(followerDirectory.resolve("duke.txt").toString()).load().size());
+        follower.stop();
+        leader.stop();
+    }
+
+    /**
+     * Asserts that a follower started after tasks were added copies them, and then follows later changes.
+     *
+     * @throws Exception If the temporary directories cannot be created or a command fails.
+     */
+    @Test
+    public void followLeader_existingList_copiedFromSnapshot() throws Exception {
+        Path leaderDirectory = Files.createTempDirectory("duke");
+        Path followerDirectory = Files.createTempDirectory("duke");
+        WorkspaceManager leaderLists = new WorkspaceManager(leaderDirectory, new Ui(), 64L << 20, -1);
+        WorkspaceManager followerLists = new WorkspaceManager(followerDirectory, new Ui(), 64L << 20, -1);
+        ReplicationLeader leader = leaderLists.lead(0);
+        leaderLists.execute(new Parser().parse("todo read book"), null);
+        leaderLists.execute(new Parser().parse("deadline submit report /by 20/10/2026 1800"), null);
+        leaderLists.execute(new Parser().parse("done 1"), null);
+
+        ReplicationFollower follower = followerLists.followLeader(leader.getPort());
+        waitUntilCaughtUp(leader, follower);
+        leaderLists.execute(new Parser().parse("todo return book"), null);
+        waitUntilCaughtUp(leader, follower);
+
+        assertEquals(3, followerLists.getCurrent().getTaskList().size());
+        assertTrue(followerLists.getCurrent().getTaskList().isTaskDone(1));
+        //a deadline goes through the same record parsing as the rest of the snapshot
+        Deadline deadline = (Deadline) followerLists.getCurrent().getTaskList().getTask(2);
+        assertEquals("submit report", deadline.getDescription().trim());
+        assertEquals(((Deadline) leaderLists.getCurrent().getTaskList().getTask(2)).getDeadline(),
+                deadline.getDeadline());
+        assertTrue(followerLists.getCurrent().getTaskList().getTask(3).toString().contains("return book"));
+        assertEquals(2, followerLists.getCurrent().getStorage().getStatistics().getNumUncompleted());
+        follower.stop();
+        leader.stop();
+    }
+
+    /**
+     * Asserts that the follower refuses to add a task, while it still lists its copy.
+     *
+     * @throws Exception If the temporary directories cannot be created or a command fails.
+     */
+    @Test
+    public void execute_changeOnFollower_exceptionThrown() throws Exception {
+        Path leaderDirectory = Files.createTempDirectory("duke");
+        Path followerDirectory = Files.createTempDirectory("duke");
+        WorkspaceManager leaderLists = new WorkspaceManager(leaderDirectory, new Ui(), 64L << 20, -1);
+        WorkspaceManager followerLists = new WorkspaceManager(followerDirectory, new Ui(), 64L << 20, -1);
+        ReplicationLeader leader = leaderLists.lead(0);
+        ReplicationFollower follower = followerLists.followLeader(leader.getPort());
+        leaderLists.execute(new Parser().parse("todo read book"), null);
+        waitUntilCaughtUp(leader, follower);
+
+        DukeException exception = assertThrows(DukeException.class,
+                () -> followerLists.execute(new Parser().parse("todo write report"), null));
+        assertTrue(exception.getMessage().contains("read-only copy"));
+        assertTrue(followerLists.execute(new Parser().parse("list"), null).contains("read book"));
+        assertEquals(1, followerLists.getCurrent().getTaskList().size());
+        follower.stop();
+        leader.stop();
+    }
+}
@@ -0,0 +1,73 @@
+import duke.component.Parser;
+import duke.component.ResultCache;
+import duke.component.TaskList;
+import duke.task.Todo;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for ResultCache class.
+ * The 'ResultCacheTest' class supports the following operators
+ * (i) Checking that a repeated find is answered from the cache until the list changes,
+ * (ii) Checking that the least recently used response is forgotten first, and
+ * (iii) Checking that a response larger than the budget is not kept.
+ */
+public class ResultCacheTest {
+
+    /**
+     * Asserts that a repeated find hits the cache, and that marking a task as done makes it compute again.
+     *
+     * @throws Exception If the command cannot be parsed or executed.
+     */
+    @Test
+    public void getCachedResult_listChanged_computedAgain() throws Exception {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Todo("write report"));
+        Parser parser = new Parser();
+
+        String first = parser.parse("find report").execute(taskList, null, null);
+        String second = parser.parse("find report").execute(taskList, null, null);
+        taskList.markTaskDone(1);
+        String third = parser.parse("find report").execute(taskList, null, null);
+
+        assertEquals(first, second);
+        assertTrue(third.contains("[T][v] write report"));
+        assertEquals(1, taskList.getResultCache().getHits());
+        assertEquals(2, taskList.getResultCache().getMisses());
+    }
+
+    /**
+     * Asserts that with room for two responses, the one not used for longest is computed again.
+     */
+    @Test
+    public void get_moreQueriesThanEntries_leastRecentlyUsedForgotten() {
+        ResultCache cache = new ResultCache(2, 1000);
+        AtomicInteger computed = new AtomicInteger();
+
+        cache.get("a", 0, () -> "a" + computed.incrementAndGet());
+        cache.get("b", 0, () -> "b" + computed.incrementAndGet());
+        cache.get("a", 0, () -> "a" + computed.incrementAndGet());
+        cache.get("c", 0, () -> "c" + computed.incrementAndGet());
+
+        assertEquals("a1", cache.get("a", 0, () -> "a" + computed.incrementAndGet()));
+        assertEquals("b4", cache.get("b", 0, () -> "b" + computed.incrementAndGet()));
+    }
+
+    /**
+     * Asserts that a response with more characters than the budget is computed every time.
+     */
+    @Test
+    public void get_responseOverBudget_notKept() {
+        ResultCache cache = new ResultCache(8, 4);
+
+        cache.get("list", 0, () -> "too long");
+        cache.get("list", 0, () -> "too long");
+
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.estimateHeapBytes());
+    }
+}
@@ -0,0 +1,99 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents a benchmark for the cold start of Duke in the console.
+ * The 'StartupBenchmark' class supports the following operators
+ * (i) starting a new JVM on the console jar, with and without a class-data sharing archive, and
+ * (ii) timing how long it takes from starting the JVM to reading the response to the first command.
+ *
+ * <p>Run with: java -cp build/classes/java/test StartupBenchmark build/libs/duke-cli-2.0.jar
+ * [build/duke-cli.jsa] [rounds], or with gradle startupBenchmark.
+ */
+public class StartupBenchmark {
+
+    private static final int WARMUP_ROUNDS = 2;
+
+    /**
+     * Response to the command sent, whose arrival ends the measurement.
+     */
+    private static final String RESPONSE = "Bye. Hope to see you again soon!";
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Console jar, optional class-data sharing archive and optional number of rounds.
+     * @throws IOException          If a JVM cannot be started or its output read.
+     * @throws InterruptedException If interrupted while waiting for a JVM to exit.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String jar = Paths.get(args[0]).toAbsolutePath().toString();
+        String archive = args.length > 1 ? Paths.get(args[1]).toAbsolutePath().toString() : null;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Path directory = Files.createTempDirectory("duke-startup");
+
+        try {
+            report("default", directory, rounds, java, "-jar", jar);
+            report("C1 only", directory, rounds, java, "-XX:TieredStopAtLevel=1", "-jar", jar);
+            if (archive != null) {
+                report("AppCDS", directory, rounds, java, "-XX:SharedArchiveFile=" + archive, "-jar", jar);
+                report("AppCDS, C1 only", directory, rounds, java, "-XX:SharedArchiveFile=" + archive,
+                        "-XX:TieredStopAtLevel=1", "-jar", jar);
+            }
+        } finally {
+            Files.deleteIfExists(directory.resolve("duke.txt"));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static void report(String name, Path directory, int rounds, String... command)
+            throws IOException, InterruptedException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            timeFirstResponse(directory, command);
+        }
+
+        List<Long> nanos = new ArrayList<>();
+        for (int i = 0; i < rounds; i++) {
+            nanos.add(timeFirstResponse(directory, command));
+        }
+        Collections.sort(nanos);
+        System.out.printf("%-16s median %4d ms  best %4d ms%n",
+                name, nanos.get(rounds / 2) / 1_000_000, nanos.get(0) / 1_000_000);
+    }
+
+    private static long timeFirstResponse(Path directory, String... command)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(directory.toFile())
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+
+        try (OutputStream in = process.getOutputStream();
+                BufferedReader out = new BufferedReader(
+                        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            in.write("bye\n".getBytes(StandardCharsets.UTF_8));
+            in.flush();
+
+            String line;
+            while ((line = out.readLine()) != null) {
+                if (line.equals(RESPONSE)) {
+                    long elapsed = System.nanoTime() - start;
+                    process.waitFor();
+                    return elapsed;
+                }
+            }
+        }
+        throw new IllegalStateException("Duke exited with " + process.waitFor() + " before responding");
+    }
+}
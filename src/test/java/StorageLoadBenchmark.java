@@ -0,0 +1,98 @@
+import duke.component.Storage;
+import duke.exception.DukeException;
+import duke.task.Task;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Represents a benchmark for loading large text files in Storage.
+ * The 'StorageLoadBenchmark' class supports the following operators
+ * (i) generating a text file with a given number of tasks and
+ * (ii) timing Storage.load with an increasing number of worker threads.
+ *
+ * <p>Run with: java -cp build/classes/java/main:build/classes/java/test StorageLoadBenchmark [numTasks]
+ */
+public class StorageLoadBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional number of tasks in the generated file.
+     * @throws IOException   If the generated file cannot be written.
+     * @throws DukeException If the generated file cannot be loaded.
+     */
+    public static void main(String[] args) throws IOException, DukeException {
+        int numTasks = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        Path file = Files.createTempFile("duke-benchmark", ".txt");
+
+        try {
+            writeTasks(file, numTasks);
+            Storage storage = new Storage(file.toString());
+            System.out.printf("%d tasks, %d MB%n", numTasks, Files.size(file) >> 20);
+
+            long singleThreadNanos = 0;
+            int cores = Runtime.getRuntime().availableProcessors();
+            for (int threads = 1; threads <= cores; threads *= 2) {
+                long nanos = timeLoad(storage, new ForkJoinPool(threads), numTasks);
+                if (threads == 1) {
+                    singleThreadNanos = nanos;
+                }
+                System.out.printf("threads=%-3d %6d ms  speedup %.2fx%n",
+                        threads, nanos / 1_000_000, (double) singleThreadNanos / nanos);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long timeLoad(Storage storage, ForkJoinPool pool, int numTasks) throws DukeException {
+        try {
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                storage.load(pool);
+            }
+
+            long best = Long.MAX_VALUE;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                ArrayList<Task> tasks = storage.load(pool);
+                best = Math.min(best, System.nanoTime() - start);
+
+                if (tasks.size() != numTasks) {
+                    throw new IllegalStateException("Loaded " + tasks.size() + " tasks instead of " + numTasks);
+                }
+            }
+            return best;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void writeTasks(Path file, int numTasks) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("Number of tasks completed: 0\n");
+            writer.write("Number of tasks not completed: " + numTasks + "\n");
+            for (int i = 0; i < numTasks; i++) {
+                switch (i % 3) {
+                case 0:
+                    writer.write("T | 1 | read book " + i + "\n");
+                    break;
+                case 1:
+                    writer.write("D | 1 | return book " + i + " | Mon Aug 02 00:00:00 SGT 1999\n");
+                    break;
+                default:
+                    writer.write("E | 1 | project meeting " + i + " | Tue Aug 03 14:00:00 SGT 1999\n");
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+import duke.component.Storage;
+import duke.exception.DukeException;
+import duke.task.Task;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for Storage class.
+ * The 'StorageTest' class supports the following operators
+ * (i) Checking that a small text file is loaded in order,
+ * (ii) Checking that a text file large enough to be parsed in parallel
+ * is loaded in order,
+ * (iii) Checking that a text file copied into compressed blocks is loaded in order,
+ * (iv) Checking that changes to compressed blocks are kept when loaded again,
+ * (v) Checking that a record torn by a crash is skipped and cut from text file, and
+ * (vi) Checking that a compressed file torn by a crash falls back to its last intact index.
+ */
+public class StorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Asserts that the tasks of a small text file are loaded in file order.
+     *
+     * @throws IOException   If the text file cannot be written.
+     * @throws DukeException If the text file cannot be loaded.
+     */
+    @Test
+    public void load_smallFile_tasksInOrder() throws IOException, DukeException {
+        Path file = writeTodos(3);
+
+        ArrayList<Task> tasks = new Storage(file.toString()).load();
+
+        assertEquals(3, tasks.size());
+        assertEquals("[T][x] task 0\n", tasks.get(0).toString());
+        assertEquals("[T][v] task 1\n", tasks.get(1).toString());
+        assertEquals("[T][x] task 2\n", tasks.get(2).toString());
+    }
+
+    /**
+     * Asserts that the tasks of a file split into many chunks are stitched back in file order.
+     *
+     * @throws IOException   If the text file cannot be written.
+     * @throws DukeException If the text file cannot be loaded.
+     */
+    @Test
+    public void load_largeFile_tasksInOrder() throws IOException, DukeException {
+        int numTasks = 200_000;
+        Path file = writeTodos(numTasks);
+
+        ArrayList<Task> tasks = new Storage(file.toString()).load(new ForkJoinPool(4));
+
+        assertEquals(numTasks, tasks.size());
+        for (int i = 0; i < numTasks; i++) {
+            assertEquals("task " + i, tasks.get(i).getDescription());
+        }
+    }
+
+    /**
+     * Asserts that the tasks of a text file copied into many compressed blocks are loaded in file order.
+     *
+     * @throws IOException   If the text file cannot be written.
+     * @throws DukeException If the compressed file cannot be loaded.
+     */
+    @Test
+    public void load_compressedLargeFile_tasksInOrder() throws IOException, DukeException {
+        int numTasks = 200_000;
+        Path file = writeTodos(numTasks);
+
+        ArrayList<Task> tasks = new Storage(file.toString(), false, true).load(new ForkJoinPool(4));
+
+        assertEquals(numTasks, tasks.size());
+        for (int i = 0; i < numTasks; i++) {
+            assertEquals("task " + i, tasks.get(i).getDescription());
+        }
+        assertTrue(Files.size(tempDir.resolve("duke.txt.dz")) < Files.size(file) / 4);
+    }
+
+    /**
+     * Asserts that marking, deleting and adding tasks in compressed blocks is seen by a new Storage.
+     *
+     * @throws IOException   If the text file cannot be written.
+     * @throws DukeException If the compressed file cannot be read or written.
+     */
+    @Test
+    public void updateText_compressedFile_changesLoaded() throws IOException, DukeException {
+        Path file = writeTodos(50_000);
+        Storage storage = new Storage(file.toString(), false, true);
+        storage.load();
+
+        storage.updateText(40_001);
+        storage.deleteText(1);
+        storage.appendToFile("T", null, "new task");
+        storage.getStatistics().incrementCompleted();
+        storage.updateStatistics();
+
+        Storage reloaded = new Storage(file.toString(), false, true);
+        ArrayList<Task> tasks = reloaded.load();
+        assertEquals(50_000, tasks.size());
+        assertEquals("task 1", tasks.get(0).getDescription());
+        assertEquals("[T][v] task 40000\n", tasks.get(39_999).toString());
+        assertEquals("new task", tasks.get(49_999).getDescription());
+        assertEquals(25_001, reloaded.getStatistics().getNumCompleted());
+    }
+
+    /**
+     * Asserts that a half-written last line is skipped, and that text file is repaired so later tasks
+     * are appended after the intact records.
+     *
+     * @throws IOException   If the text file cannot be written.
+     * @throws DukeException If the text file cannot be loaded.
+     */
+    @Test
+    public void load_tornLastRecord_recordSkippedAndFileRepaired() throws IOException, DukeException {
+        Path file = writeTodos(3);
+        new Storage(file.toString()).load();
+        Files.writeString(file, "T | 1 | half writ", StandardOpenOption.APPEND);
+
+        Storage storage = new Storage(file.toString());
+        assertEquals(3, storage.load().size());
+        storage.appendToFile("T", null, "new task");
+
+        ArrayList<Task> tasks = new Storage(file.toString()).load();
+        assertEquals(4, tasks.size());
+        assertEquals("new task", tasks.get(3).getDescription());
+        assertEquals(1, storage.getStatistics().getNumCompleted());
+    }
+
+    /**
+     * Asserts that cutting the end off a compressed file loses only the last change.
+     *
+     * @throws IOException   If the compressed file cannot be written.
+     * @throws DukeException If the compressed file cannot be loaded.
+     */
+    @Test
+    public void load_tornCompressedFile_lastIntactIndexUsed() throws IOException, DukeException {
+        Path file = writeTodos(1_000);
+        Storage storage = new Storage(file.toString(), false, true);
+        storage.load();
+        storage.deleteText(1);
+
+        Path blockFile = tempDir.resolve("duke.txt.dz");
+        byte[] bytes = Files.readAllBytes(blockFile);
+        Files.write(blockFile, Arrays.copyOf(bytes, bytes.length - 5));
+
+        ArrayList<Task> tasks = new Storage(file.toString(), false, true).load();
+        assertEquals(1_000, tasks.size());
+        assertEquals("task 0", tasks.get(0).getDescription());
+    }
+
+    private Path writeTodos(int numTasks) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("Number of tasks completed: 0");
+        lines.add("Number of tasks not completed: 0");
+        for (int i = 0; i < numTasks; i++) {
+            lines.add("T | " + (i % 2 == 0 ? 1 : 0) + " | task " + i);
+        }
+
+        Path file = tempDir.resolve("duke.txt");
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,95 @@
+import duke.component.TaskFormat;
+import duke.exception.DukeException;
+import duke.task.Deadline;
+import duke.task.Recurrence;
+import duke.task.Recurring;
+import duke.task.Task;
+import duke.task.Todo;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Represent a Test class for TaskFormat class.
+ * The 'TaskFormatTest' class supports the following operators
+ * (i) Checking that tasks survive a round trip through CSV and JSON Lines,
+ * (ii) Checking that header lines are skipped,
+ * (iii) Checking that descriptions which cannot be stored in the text file are rejected, and
+ * (iv) Checking that deadlines, events and recurring tasks without a date are rejected.
+ */
+public class TaskFormatTest {
+
+    /**
+     * Asserts that a done todo with commas and quotes in its description is read back unchanged from CSV.
+     *
+     * @throws IOException   If the line cannot be written.
+     * @throws DukeException If the line cannot be read.
+     */
+    @Test
+    public void readWrite_csvQuotedDescription_sameTask() throws IOException, DukeException {
+        Task todo = new Todo("read \"Dune\", then review");
+        todo.markAsDone();
+
+        StringBuilder line = new StringBuilder();
+        TaskFormat.CSV.write(line, todo);
+        Task result = TaskFormat.CSV.read(line.toString().trim());
+
+        assertEquals(todo.toString(), result.toString());
+    }
+
+    /**
+     * Asserts that a deadline and a recurring task with a completed occurrence are read back from JSON Lines.
+     *
+     * @throws IOException   If the line cannot be written.
+     * @throws DukeException If the line cannot be read.
+     */
+    @Test
+    public void readWrite_jsonLinesDatedTasks_sameTasks() throws IOException, DukeException {
+        Date date = new Date(1_790_000_000_000L);
+        Task deadline = new Deadline("submit \\ report", date);
+        Recurring recurring = new Recurring("standup", date, Recurrence.parse("daily"));
+        recurring.markOccurrenceDone(new Date(date.getTime() + 86_400_000L));
+
+        StringBuilder lines = new StringBuilder();
+        TaskFormat.JSON_LINES.write(lines, deadline);
+        TaskFormat.JSON_LINES.write(lines, recurring);
+        String[] written = lines.toString().split("\n");
+
+        assertEquals(deadline.toString(), TaskFormat.JSON_LINES.read(written[0]).toString());
+        Recurring result = (Recurring) TaskFormat.JSON_LINES.read(written[1]);
+        assertEquals(recurring.toString(), result.toString());
+        assertEquals(recurring.getDoneOccurrencesText(), result.getDoneOccurrencesText());
+    }
+
+    /**
+     * Asserts that the CSV header is skipped and a description with '|' is rejected.
+     *
+     * @throws DukeException If the header cannot be read.
+     */
+    @Test
+    public void read_headerAndPipe_skippedAndRejected() throws DukeException {
+        assertNull(TaskFormat.CSV.read("type,done,description,date,rule,doneOccurrences"));
+        assertThrows(DukeException.class, () -> TaskFormat.CSV.read("T,false,a | b,,,"));
+    }
+
+    /**
+     * Asserts that dated tasks with an empty date are rejected, in both formats, instead of being imported
+     * without a date.
+     */
+    @Test
+    public void read_datedTaskWithoutDate_exceptionThrown() {
+        DukeException deadline = assertThrows(DukeException.class,
+                () -> TaskFormat.CSV.read("D,false,read book,,,"));
+        assertThrows(DukeException.class, () -> TaskFormat.CSV.read("E,false,party,,,"));
+        assertThrows(DukeException.class, () -> TaskFormat.CSV.read("R,false,gym,,daily,"));
+        assertThrows(DukeException.class,
+                () -> TaskFormat.JSON_LINES.read("{\"type\":\"D\",\"done\":false,\"description\":\"read book\"}"));
+
+        assertEquals(" OOPS!!! The date of a deadline cannot be empty.", deadline.getMessage());
+    }
+}
@@ -0,0 +1,69 @@
+import duke.component.ColumnarTaskList;
+import duke.component.TaskList;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.Todo;
+
+import java.util.Date;
+
+/**
+ * Represents a benchmark for the heap used by a TaskList.
+ * The 'TaskListMemoryBenchmark' class supports the following operators
+ * (i) filling the default TaskList and ColumnarTaskList with the same tasks and
+ * (ii) reporting the heap retained per million tasks by each.
+ *
+ * <p>Run with: java -Xmx4g -cp build/classes/java/main:build/classes/java/test TaskListMemoryBenchmark [numTasks]
+ */
+public class TaskListMemoryBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional number of tasks to add to each TaskList.
+     */
+    public static void main(String[] args) {
+        int numTasks = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        long defaultBytes = measure(new TaskList(), numTasks);
+        long columnarBytes = measure(new ColumnarTaskList(), numTasks);
+
+        double millions = numTasks / 1_000_000.0;
+        System.out.printf("TaskList          %6d MB per million tasks%n", (long) (defaultBytes / millions) >> 20);
+        System.out.printf("ColumnarTaskList  %6d MB per million tasks%n", (long) (columnarBytes / millions) >> 20);
+        System.out.printf("reduction         %.1fx%n", (double) defaultBytes / columnarBytes);
+    }
+
+    private static long measure(TaskList taskList, int numTasks) {
+        long before = usedHeap();
+        for (int i = 0; i < numTasks; i++) {
+            taskList.addTask(createTask(i));
+        }
+        long after = usedHeap();
+
+        //keep the list reachable until the heap is measured
+        if (taskList.size() != numTasks) {
+            throw new IllegalStateException("Added " + taskList.size() + " tasks instead of " + numTasks);
+        }
+        return after - before;
+    }
+
+    private static Task createTask(int i) {
+        switch (i % 3) {
+        case 0:
+            return new Todo("read book " + i);
+        case 1:
+            return new Deadline("return book " + i, new Date(i * 60_000L));
+        default:
+            return new Event("project meeting " + i, new Date(i * 60_000L));
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
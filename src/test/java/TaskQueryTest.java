@@ -0,0 +1,75 @@
+import duke.component.TaskList;
+import duke.component.TaskQuery;
+import duke.exception.DukeException;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Todo;
+import org.junit.jupiter.api.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Represent a Test class for TaskQuery class.
+ * The 'TaskQueryTest' class supports the following operators
+ * (i) Checking that type, done, due and text terms are combined and sorted by due date,
+ * (ii) Checking that a limit keeps the first tasks of a sort that is not the list order, and
+ * (iii) Checking that an unknown term is rejected.
+ */
+public class TaskQueryTest {
+
+    /**
+     * Asserts that only pending deadlines due before the date with the text match, earliest first.
+     *
+     * @throws Exception If the query or a date cannot be parsed.
+     */
+    @Test
+    public void run_combinedTerms_matchingTasksByDueDate() throws Exception {
+        TaskList taskList = createTaskList();
+
+        List<Integer> taskNums = TaskQuery.compile("type:D done:false due<2026-12-01 text:\"report\" sort:due")
+                .run(taskList);
+
+        assertEquals(List.of(4, 1), taskNums);
+    }
+
+    /**
+     * Asserts that a limit returns the first tasks in descending order of text.
+     *
+     * @throws Exception If the query or a date cannot be parsed.
+     */
+    @Test
+    public void run_sortWithLimit_firstTasksInOrder() throws Exception {
+        TaskList taskList = createTaskList();
+
+        TaskQuery query = TaskQuery.compile("sort:-text limit:2 show:num,text");
+        List<Integer> taskNums = query.run(taskList);
+
+        assertEquals(List.of(3, 2), taskNums);
+        assertEquals("3 | weekly report", query.project(3, taskList.getTask(3)));
+    }
+
+    /**
+     * Asserts that a term the query language does not have is rejected.
+     */
+    @Test
+    public void compile_unknownTerm_exceptionThrown() {
+        assertThrows(DukeException.class, () -> TaskQuery.compile("size:big"));
+    }
+
+    private TaskList createTaskList() throws Exception {
+        SimpleDateFormat format = new SimpleDateFormat("dd/MM/yyyy");
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Deadline("monthly report", format.parse("20/11/2026")));
+        taskList.addTask(new Event("report party", format.parse("01/11/2026")));
+        taskList.addTask(new Todo("weekly report"));
+        taskList.addTask(new Deadline("annual report", format.parse("05/10/2026")));
+        taskList.addTask(new Deadline("late report", format.parse("05/12/2026")));
+        taskList.addTask(new Deadline("done report", format.parse("01/10/2026")));
+        taskList.markTaskDone(6);
+        return taskList;
+    }
+}
@@ -0,0 +1,98 @@
+import duke.component.TaskList;
+import duke.component.TaskSnapshot;
+import duke.task.Task;
+import duke.task.Todo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Represents a benchmark for snapshots of a large TaskList.
+ * The 'TaskSnapshotBenchmark' class supports the following operators
+ * (i) timing a snapshot against copying every task out of the list,
+ * (ii) timing add, done and delete with and without a reader that keeps taking and iterating snapshots, and
+ * (iii) reporting how many whole snapshots the reader iterated meanwhile.
+ *
+ * <p>Run with: java -cp build/classes/java/main:build/classes/java/test TaskSnapshotBenchmark [tasks] [commands],
+ * or with gradle taskSnapshotBenchmark.
+ */
+public class TaskSnapshotBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional number of tasks in the list and optional number of changes made to it.
+     * @throws InterruptedException If the benchmark is interrupted while waiting for the reader.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int numTasks = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int numChanges = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < numTasks; i++) {
+            taskList.addTask(new Todo("task " + i));
+        }
+
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            List<Task> copy = new ArrayList<>(taskList.size());
+            for (int taskNum = 1; taskNum <= taskList.size(); taskNum++) {
+                copy.add(taskList.getTask(taskNum));
+            }
+            long copyNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            TaskSnapshot snapshot = taskList.snapshot();
+            long snapshotNanos = System.nanoTime() - start;
+            System.out.printf("copy of %d tasks %d us, snapshot %d us%n",
+                    copy.size(), copyNanos / 1000, snapshotNanos / 1000);
+            assert snapshot.size() == copy.size() : "Snapshot does not hold every task";
+        }
+
+        long alone = runChanges(taskList, numChanges, new Random(1));
+        System.out.printf("%d changes alone: %d ms%n", numChanges, alone / 1_000_000);
+
+        long[] iterated = new long[1];
+        Thread reader = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                int numDone = 0;
+                for (Task task : taskList.snapshot().getTasks()) {
+                    numDone += task.isDone() ? 1 : 0;
+                }
+                assert numDone >= 0 : "Snapshot cannot be iterated";
+                iterated[0]++;
+            }
+        });
+        reader.start();
+        long withReader = runChanges(taskList, numChanges, new Random(2));
+        reader.interrupt();
+        reader.join();
+        System.out.printf("%d changes with a reader: %d ms, while it iterated %d whole snapshots%n",
+                numChanges, withReader / 1_000_000, iterated[0]);
+    }
+
+    /**
+     * Adds, marks and deletes tasks at random, and returns the time taken in nanoseconds.
+     */
+    private static long runChanges(TaskList taskList, int numChanges, Random random) {
+        long start = System.nanoTime();
+        for (int i = 0; i < numChanges; i++) {
+            int taskNum = 1 + random.nextInt(taskList.size());
+            switch (i % 3) {
+            case 0:
+                taskList.addTask(new Todo("new task " + i));
+                break;
+            case 1:
+                if (!taskList.isTaskDone(taskNum)) {
+                    taskList.markTaskDone(taskNum);
+                }
+                break;
+            default:
+                taskList.deleteTask(taskNum);
+                break;
+            }
+        }
+        return System.nanoTime() - start;
+    }
+}
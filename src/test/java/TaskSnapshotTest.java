@@ -0,0 +1,117 @@
+import duke.component.ColumnarTaskList;
+import duke.component.TaskList;
+import duke.component.TaskSnapshot;
+import duke.task.Recurrence;
+import duke.task.Recurring;
+import duke.task.Task;
+import duke.task.Todo;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for TaskSnapshot class.
+ * The 'TaskSnapshotTest' class supports the following operators
+ * (i) Checking that a snapshot keeps its tasks while the list is added to, marked and deleted from,
+ * (ii) Checking that a snapshot of a columnar list keeps its tasks as well, and
+ * (iii) Checking that snapshots read on another thread are always of one whole change.
+ */
+public class TaskSnapshotTest {
+
+    /**
+     * Asserts that adding, marking and deleting tasks, and marking an occurrence, leave an earlier snapshot as it was.
+     *
+     * @throws Exception If the rule of the recurring task cannot be parsed.
+     */
+    @Test
+    public void snapshot_listChangedAfterwards_snapshotUnchanged() throws Exception {
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 200; i++) {
+            taskList.addTask(new Todo("task " + i));
+        }
+        Date start = new Date(1_790_000_000_000L);
+        taskList.addTask(new Recurring("standup", start, Recurrence.parse("daily")));
+
+        TaskSnapshot snapshot = taskList.snapshot();
+        taskList.markTaskDone(1);
+        taskList.deleteTasks(new int[] {2, 100, 150});
+        taskList.insertTask(1, new Todo("first"));
+        taskList.addTask(new Todo("last"));
+        Recurring marked = taskList.markOccurrenceDone(199, start);
+
+        assertEquals(201, snapshot.size());
+        assertEquals(0, snapshot.countDone());
+        assertFalse(snapshot.getTask(1).isDone());
+        assertEquals("task 1", snapshot.getTask(2).getDescription());
+        assertFalse(((Recurring) snapshot.getTask(201)).isOccurrenceDone(start));
+        assertTrue(marked.isOccurrenceDone(start));
+        assertTrue(taskList.getTask(2).isDone());
+        assertEquals(200, taskList.size());
+    }
+
+    /**
+     * Asserts that a snapshot of a columnar list is unchanged by later marks and deletes.
+     */
+    @Test
+    public void snapshot_columnarListChangedAfterwards_snapshotUnchanged() {
+        TaskList taskList = new ColumnarTaskList();
+        taskList.addTask(new Todo("read book"));
+        taskList.addTask(new Todo("write report"));
+
+        TaskSnapshot snapshot = taskList.snapshot();
+        taskList.markTaskDone(2);
+        taskList.deleteTask(1);
+
+        assertEquals(2, snapshot.size());
+        assertEquals("read book", snapshot.getTask(1).getDescription());
+        assertFalse(snapshot.getTask(2).isDone());
+    }
+
+    /**
+     * Asserts that while one thread adds, marks and deletes tasks, every snapshot taken on another thread
+     * holds exactly as many done tasks as it counts, and as many tasks as the version says were added.
+     *
+     * @throws InterruptedException If the test is interrupted while waiting for the reader.
+     */
+    @Test
+    public void snapshot_takenWhileListChanged_eachSnapshotConsistent() throws InterruptedException {
+        TaskList taskList = new TaskList();
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                TaskSnapshot snapshot = taskList.snapshot();
+                int numDone = 0;
+                for (Task task : snapshot.getTasks()) {
+                    numDone += task.isDone() ? 1 : 0;
+                }
+                //each round adds two tasks, marks one and deletes one, in four versions
+                int round = (int) (snapshot.getVersion() / 4);
+                int step = (int) (snapshot.getVersion() % 4);
+                int expectedSize = round + (step == 0 ? 0 : step == 1 ? 1 : 2);
+                if (numDone != snapshot.countDone() || snapshot.size() != expectedSize) {
+                    failure.compareAndSet(null, "version " + snapshot.getVersion() + " has " + snapshot.size()
+                            + " tasks and " + numDone + " done, counted " + snapshot.countDone());
+                }
+            }
+        });
+        reader.start();
+
+        for (int i = 0; i < 20_000; i++) {
+            taskList.addTask(new Todo("task " + i));
+            taskList.addTask(new Todo("spare " + i));
+            taskList.markTaskDone(i + 1);
+            taskList.deleteTask(i + 2);
+        }
+        reader.interrupt();
+        reader.join();
+
+        assertNull(failure.get());
+        assertEquals(20_000, taskList.countDone());
+    }
+}
@@ -0,0 +1,109 @@
+import duke.component.TenantEngine;
+import duke.exception.DukeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for TenantEngine class.
+ * The 'TenantEngineTest' class supports the following operators
+ * (i) Checking that tenants have separate lists and text files in their shard directories,
+ * (ii) Checking that the inputs of one tenant are executed in the order they were submitted,
+ * (iii) Checking that a tenant id that is not a safe directory name is rejected, and
+ * (iv) Checking that idle tenants are dropped from memory past the engine's budget and reloaded on use.
+ */
+public class TenantEngineTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Asserts that each tenant only sees its own tasks, stored under its own shard directory.
+     */
+    @Test
+    public void submit_twoTenants_isolatedLists() {
+        try (TenantEngine engine = new TenantEngine(tempDir, 4, 2, 64L << 20)) {
+            engine.submit("alice", "todo alice task");
+            engine.submit("bob", "todo bob task");
+            String aliceList = engine.submit("alice", "list").join();
+            String bobList = engine.submit("bob", "list").join();
+
+            assertTrue(aliceList.contains("alice task") && !aliceList.contains("bob task"));
+            assertTrue(bobList.contains("bob task") && !bobList.contains("alice task"));
+            assertTrue(Files.exists(engine.getTenantDirectory("alice").resolve("duke.txt")));
+            assertEquals(tempDir, engine.getTenantDirectory("bob").getParent().getParent());
+            assertEquals(2, engine.countTenants());
+        }
+    }
+
+    /**
+     * Asserts that many inputs of one tenant, interleaved with another tenant's, keep their order.
+     *
+     * @throws Exception If the text file cannot be read.
+     */
+    @Test
+    public void submit_manyInputs_executedInOrder() throws Exception {
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        try (TenantEngine engine = new TenantEngine(tempDir, 4, 4, 64L << 20)) {
+            for (int i = 0; i < 100; i++) {
+                responses.add(engine.submit("alice", "todo task " + i));
+                responses.add(engine.submit("bob", "todo other " + i));
+            }
+            CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0])).join();
+
+            List<String> lines = Files.readAllLines(engine.getTenantDirectory("alice").resolve("duke.txt"),
+                    StandardCharsets.UTF_8);
+            assertEquals(102, lines.size());
+            for (int i = 0; i < 100; i++) {
+                assertTrue(lines.get(i + 2).startsWith("T | 1 | task " + i + "|#"));
+            }
+            assertTrue(lines.get(1).startsWith("Number of tasks not completed: 100|#"));
+        }
+    }
+
+    /**
+     * Asserts that loading more tenants than the engine's heap budget holds drops the least recently used
+     * ones, and that a dropped tenant gets back its tasks and its current list with its next input.
+     */
+    @Test
+    public void submit_moreTenantsThanBudget_idleTenantsEvicted() {
+        //each tenant takes a little more than 4 KB, so about three of them fit
+        try (TenantEngine engine = new TenantEngine(tempDir, 4, 2, 64L << 20, 15_000)) {
+            engine.submit("tenant-0", "switch work").join();
+            for (int i = 0; i < 10; i++) {
+                engine.submit("tenant-" + i, "todo task of tenant " + i).join();
+            }
+
+            assertEquals(10, engine.countTenants());
+            assertTrue(engine.countLoadedTenants() <= 3);
+
+            String list = engine.submit("tenant-0", "list").join();
+            assertTrue(list.contains("task of tenant 0"));
+            assertTrue(Files.exists(engine.getTenantDirectory("tenant-0").resolve("work.txt")));
+            assertTrue(engine.countLoadedTenants() <= 3);
+        }
+    }
+
+    /**
+     * Asserts that a tenant id that could escape the root directory is rejected.
+     */
+    @Test
+    public void submit_pathTenantId_exceptionThrown() {
+        try (TenantEngine engine = new TenantEngine(tempDir, 4, 1, 64L << 20)) {
+            CompletionException e = assertThrows(CompletionException.class,
+                    () -> engine.submit("../alice", "list").join());
+            assertTrue(e.getCause() instanceof DukeException);
+        }
+    }
+}
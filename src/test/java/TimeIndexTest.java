@@ -0,0 +1,114 @@
+import duke.command.DueCommand;
+import duke.command.UpcomingCommand;
+import duke.component.TaskList;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Todo;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for the time index of TaskList, and the due and upcoming commands that read it.
+ * The 'TimeIndexTest' class supports the following operators
+ * (i) Checking that a range includes the tasks at both of its ends,
+ * (ii) Checking that tasks due at the same time are listed in list order,
+ * (iii) Checking that tasks leave the index when they are marked as done or deleted, and
+ * (iv) Checking that upcoming lists at most the number of tasks asked for.
+ */
+public class TimeIndexTest {
+
+    /**
+     * Asserts that tasks due exactly at the start or the end of a range are in it, and others are not.
+     */
+    @Test
+    public void getTaskNumsDueBetween_rangeEnds_inclusive() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Deadline("before", date(2026, 3, 1, 8, 59)));
+        taskList.addTask(new Deadline("at start", date(2026, 3, 1, 9, 0)));
+        taskList.addTask(new Todo("no date"));
+        taskList.addTask(new Event("at end", date(2026, 3, 2, 9, 0)));
+        taskList.addTask(new Event("after", date(2026, 3, 2, 9, 1)));
+
+        List<Integer> taskNums = taskList.getTaskNumsDueBetween(date(2026, 3, 1, 9, 0), date(2026, 3, 2, 9, 0));
+        String response = new DueCommand(date(2026, 3, 1, 9, 0), date(2026, 3, 2, 9, 0))
+                .execute(taskList, null, null);
+
+        assertEquals(List.of(2, 4), taskNums);
+        assertTrue(response.contains("at start") && response.contains("at end"));
+        assertTrue(!response.contains("before") && !response.contains("after") && !response.contains("no date"));
+        assertEquals(List.of(), taskList.getTaskNumsDueBetween(date(2026, 3, 2, 9, 0), date(2026, 3, 1, 9, 0)));
+    }
+
+    /**
+     * Asserts that tasks due at the same time are listed in list order, also after one is put back
+     * in front of the others.
+     */
+    @Test
+    public void getTaskNumsDueBetween_sameTime_listOrder() {
+        Date time = date(2026, 3, 1, 9, 0);
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Deadline("first", time));
+        taskList.addTask(new Event("second", time));
+        taskList.addTask(new Deadline("earlier", date(2026, 2, 1, 9, 0)));
+        taskList.insertTask(1, new Deadline("inserted", time));
+
+        List<Integer> taskNums = taskList.getTaskNumsDueBetween(time, time);
+        String response = new DueCommand(time, time).execute(taskList, null, null);
+
+        assertEquals(List.of(1, 2, 3), taskNums);
+        assertTrue(response.indexOf("inserted") < response.indexOf("first"));
+        assertTrue(response.indexOf("first") < response.indexOf("second"));
+        assertEquals(List.of(4, 1, 2, 3), taskList.getUpcomingTaskNums(date(2026, 1, 1, 0, 0), 10));
+    }
+
+    /**
+     * Asserts that tasks marked as done or deleted are no longer due, and that the task numbers of the
+     * remaining tasks follow the deletion.
+     */
+    @Test
+    public void getTaskNumsDueBetween_doneAndDeleted_removed() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Deadline("done", date(2026, 3, 1, 9, 0)));
+        taskList.addTask(new Deadline("deleted", date(2026, 3, 2, 9, 0)));
+        taskList.addTask(new Deadline("pending", date(2026, 3, 3, 9, 0)));
+
+        taskList.markTaskDone(1);
+        taskList.deleteTask(2);
+        List<Integer> afterChanges = taskList.getTaskNumsDueBetween(date(2026, 1, 1, 0, 0), date(2026, 12, 31, 0, 0));
+        taskList.markTaskNotDone(1);
+
+        assertEquals(List.of(2), afterChanges);
+        assertEquals(List.of(1, 2), taskList.getTaskNumsDueBetween(date(2026, 1, 1, 0, 0), date(2026, 12, 31, 0, 0)));
+    }
+
+    /**
+     * Asserts that upcoming lists the first pending tasks after now, at most as many as asked for.
+     */
+    @Test
+    public void upcoming_limit_firstTasksListed() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Deadline("past", date(2000, 1, 1, 9, 0)));
+        for (int i = 5; i >= 1; i--) {
+            taskList.addTask(new Deadline("future " + i, date(2099, 1, i, 9, 0)));
+        }
+
+        String two = new UpcomingCommand(2).execute(taskList, null, null);
+        String all = new UpcomingCommand(10).execute(taskList, null, null);
+
+        assertTrue(two.startsWith("Here are your next 2 tasks:"));
+        assertTrue(two.indexOf("future 1") < two.indexOf("future 2") && !two.contains("future 3"));
+        assertTrue(all.startsWith("Here are your next 5 tasks:") && !all.contains("past"));
+        assertEquals(List.of(6, 5, 4), taskList.getUpcomingTaskNums(date(2026, 1, 1, 0, 0), 3));
+    }
+
+    private static Date date(int year, int month, int day, int hour, int minute) {
+        return Date.from(LocalDateTime.of(year, month, day, hour, minute).atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,74 @@
+import duke.component.TimingWheel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for TimingWheel class.
+ * The 'TimingWheelTest' class supports the following operators
+ * (i) Checking that timeouts in every level expire on their tick,
+ * (ii) Checking that a cancelled timeout never expires, and
+ * (iii) Checking that timeouts beyond the span of the wheel still expire on their tick.
+ */
+public class TimingWheelTest {
+
+    /**
+     * Asserts that timeouts placed in different levels expire exactly on their tick, in order.
+     */
+    @Test
+    public void advanceTo_timeoutsInEveryLevel_expireOnTheirTick() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1000);
+        long[] expiryTicks = {1001, 1063, 1064, 5000, 1000 + 64 * 64 * 64 + 7};
+        for (long expiryTick : expiryTicks) {
+            wheel.schedule(expiryTick, expiryTick);
+        }
+
+        for (long expiryTick : expiryTicks) {
+            List<Long> expired = new ArrayList<>();
+            wheel.advanceTo(expiryTick - 1, expired::add);
+            assertTrue(expired.isEmpty());
+
+            wheel.advanceTo(expiryTick, expired::add);
+            assertEquals(List.of(expiryTick), expired);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    /**
+     * Asserts that a cancelled timeout is not passed back, and cannot be cancelled twice.
+     */
+    @Test
+    public void cancel_scheduledTimeout_neverExpires() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        TimingWheel.Timeout<String> timeout = wheel.schedule(100, "cancelled");
+        wheel.schedule(100, "kept");
+
+        assertTrue(wheel.cancel(timeout));
+        assertFalse(wheel.cancel(timeout));
+
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(200, expired::add);
+        assertEquals(List.of("kept"), expired);
+    }
+
+    /**
+     * Asserts that a timeout later than the span of the wheel waits and expires on its tick.
+     */
+    @Test
+    public void advanceTo_timeoutBeyondSpan_expiresOnItsTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        long expiryTick = (1L << 24) + 12345;
+        wheel.schedule(expiryTick, "far");
+
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(expiryTick - 1, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.advanceTo(expiryTick, expired::add);
+        assertEquals(List.of("far"), expired);
+    }
+}
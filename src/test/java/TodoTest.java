@@ -1,7 +1,10 @@
 import duke.task.Todo;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringWriter;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -12,7 +15,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * (ii) Checking that a todo object can be instantiated correctly
  * with the description of task, and whether it is done
  * (iii) Checking that the string representation of each
- * object is correct.
+ * object is correct, and
+ * (iv) Checking that the kept string representation follows the task being marked.
  */
 public class TodoTest {
 
@@ -73,4 +77,24 @@ public class TodoTest {
     public void testToString_objectWithIsNotDone_string() {
         assertEquals("[T][x] read book\n", new Todo("1", "read book").toString());
     }
-}
\ No newline at end of file
+
+    /**
+     * Asserts that the string representation is reused until the Todo object is marked as done,
+     * and that it is rendered again after that, also when appended to a listing.
+     *
+     * @throws Exception If the listing cannot be written.
+     */
+    @Test
+    public void testToString_markedAsDone_renderedAgain() throws Exception {
+        Todo todo = new Todo("read book");
+        String first = todo.toString();
+        assertSame(first, todo.toString());
+
+        todo.markAsDone();
+        StringWriter listing = new StringWriter();
+        todo.appendTo(listing);
+
+        assertEquals("[T][v] read book\n", listing.toString());
+        assertSame(todo.toString(), todo.toString());
+    }
+}
@@ -0,0 +1,158 @@
+import duke.component.Parser;
+import duke.component.Storage;
+import duke.component.TaskList;
+import duke.component.UndoHistory;
+import duke.command.Command;
+import duke.exception.DukeException;
+import duke.task.Task;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for UndoHistory class.
+ * The 'UndoHistoryTest' class supports the following operators
+ * (i) Checking that undoing a delete puts the task back in the list and text file,
+ * (ii) Checking that redo applies an undone change again,
+ * (iii) Checking that the history forgets the oldest change beyond its depth,
+ * (iv) Checking that a change whose inverse fails stays in the history, and
+ * (v) Checking that reversing a "done" twice counts the task as not done only once.
+ */
+public class UndoHistoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Asserts that undoing a delete restores the task at its position, in memory and on disk.
+     *
+     * @throws IOException   If the text file cannot be read.
+     * @throws DukeException If a command fails.
+     */
+    @Test
+    public void undo_delete_taskRestoredAtPosition() throws IOException, DukeException {
+        Path file = tempDir.resolve("duke.txt");
+        Storage storage = new Storage(file.toString());
+        TaskList taskList = new TaskList(storage.load());
+        UndoHistory history = new UndoHistory(10, 1 << 20);
+
+        run("todo first", taskList, storage, history);
+        run("todo second", taskList, storage, history);
+        run("todo third", taskList, storage, history);
+        String fileBeforeDelete = Files.readString(file, StandardCharsets.UTF_8);
+
+        run("delete 2", taskList, storage, history);
+        history.undo(taskList, null, storage);
+
+        assertEquals(3, taskList.size());
+        assertEquals("[T][x] second\n", taskList.getTask(2).toString());
+        assertEquals(fileBeforeDelete, Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Asserts that redo marks a task as done again after its "done" was undone.
+     *
+     * @throws DukeException If a command fails.
+     */
+    @Test
+    public void redo_undoneDone_taskDoneAgain() throws DukeException {
+        Storage storage = new Storage(tempDir.resolve("duke.txt").toString());
+        TaskList taskList = new TaskList(storage.load());
+        UndoHistory history = new UndoHistory(10, 1 << 20);
+
+        run("todo read book", taskList, storage, history);
+        run("done 1", taskList, storage, history);
+        history.undo(taskList, null, storage);
+        assertFalse(taskList.isTaskDone(1));
+
+        history.redo(taskList, null, storage);
+        assertTrue(taskList.isTaskDone(1));
+        assertEquals(0, history.countRedoable());
+    }
+
+    /**
+     * Asserts that only the latest changes up to the depth of the history can be undone.
+     *
+     * @throws DukeException If a command fails.
+     */
+    @Test
+    public void record_beyondDepth_oldestForgotten() throws DukeException {
+        Storage storage = new Storage(tempDir.resolve("duke.txt").toString());
+        TaskList taskList = new TaskList(storage.load());
+        UndoHistory history = new UndoHistory(2, 1 << 20);
+
+        run("todo a", taskList, storage, history);
+        run("todo b", taskList, storage, history);
+        run("todo c", taskList, storage, history);
+        assertEquals(2, history.countUndoable());
+
+        history.undo(taskList, null, storage);
+        history.undo(taskList, null, storage);
+        assertEquals("There is nothing to undo.", history.undo(taskList, null, storage));
+        assertEquals(1, taskList.size());
+    }
+
+    /**
+     * Asserts that a change whose inverse fails can still be undone afterwards, and is not redoable meanwhile.
+     *
+     * @throws DukeException If a command fails.
+     */
+    @Test
+    public void undo_failingInverse_changeKept() throws DukeException {
+        Storage storage = new Storage(tempDir.resolve("duke.txt").toString());
+        TaskList taskList = new TaskList(storage.load());
+        UndoHistory history = new UndoHistory(10, 1 << 20);
+        run("todo a", taskList, storage, history);
+
+        //the added task is gone from the list, so deleting it again fails
+        Task added = taskList.deleteTask(1);
+        assertThrows(DukeException.class, () -> history.undo(taskList, null, storage));
+        assertEquals(1, history.countUndoable());
+        assertEquals(0, history.countRedoable());
+
+        taskList.addTask(added);
+        history.undo(taskList, null, storage);
+        assertEquals(0, taskList.size());
+        assertEquals(0, history.countUndoable());
+        assertEquals(1, history.countRedoable());
+    }
+
+    /**
+     * Asserts that executing the inverse of a "done" a second time, as a retried undo does, leaves the
+     * statistics as the first execution did.
+     *
+     * @throws DukeException If a command fails.
+     */
+    @Test
+    public void execute_notDoneTwice_statisticsChangedOnce() throws DukeException {
+        Storage storage = new Storage(tempDir.resolve("duke.txt").toString());
+        TaskList taskList = new TaskList(storage.load());
+        UndoHistory history = new UndoHistory(10, 1 << 20);
+        run("todo read book", taskList, storage, history);
+        Command done = new Parser().parse("done 1");
+        done.execute(taskList, null, storage);
+
+        Command inverse = done.getInverse();
+        inverse.execute(taskList, null, storage);
+        inverse.execute(taskList, null, storage);
+
+        assertFalse(taskList.isTaskDone(1));
+        assertEquals(0, storage.getStatistics().getNumCompleted());
+        assertEquals(1, storage.getStatistics().getNumUncompleted());
+    }
+
+    private void run(String input, TaskList taskList, Storage storage, UndoHistory history) throws DukeException {
+        Command command = new Parser().parse(input);
+        command.execute(taskList, null, storage);
+        history.record(command);
+    }
+}
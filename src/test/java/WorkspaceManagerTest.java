@@ -0,0 +1,83 @@
+import duke.component.Parser;
+import duke.component.Ui;
+import duke.component.WorkspaceManager;
+import duke.exception.DukeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Represent a Test class for WorkspaceManager class.
+ * The 'WorkspaceManagerTest' class supports the following operators
+ * (i) Checking that each list is stored in its own file with its own statistics,
+ * (ii) Checking that idle lists are evicted and loaded again from their file, and
+ * (iii) Checking that names which are not safe file names are rejected.
+ */
+public class WorkspaceManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Asserts that tasks added after switching go to the new list's file and statistics only.
+     *
+     * @throws Exception If a command fails or a file cannot be read.
+     */
+    @Test
+    public void switchTo_newList_separateFileAndStatistics() throws Exception {
+        WorkspaceManager workspaces = new WorkspaceManager(tempDir, new Ui(), 64L << 20, 0);
+
+        run("todo home task", workspaces);
+        run("switch work", workspaces);
+        run("todo work task", workspaces);
+        run("todo another work task", workspaces);
+
+        assertEquals("work", workspaces.getCurrent().getName());
+        assertEquals(2, workspaces.getCurrent().getStorage().getStatistics().getNumUncompleted());
+        assertEquals(1, workspaces.get("duke").getStorage().getStatistics().getNumUncompleted());
+        assertTrue(Files.readString(tempDir.resolve("work.txt")).contains("another work task"));
+        assertFalse(Files.readString(tempDir.resolve("duke.txt")).contains("work task"));
+    }
+
+    /**
+     * Asserts that with a budget too small for two lists, the idle list is dropped and later reloaded.
+     *
+     * @throws Exception If a command fails.
+     */
+    @Test
+    public void switchTo_overBudget_idleListEvictedAndReloaded() throws Exception {
+        WorkspaceManager workspaces = new WorkspaceManager(tempDir, new Ui(), 1, 0);
+
+        run("todo home task", workspaces);
+        run("switch work", workspaces);
+
+        assertEquals(List.of("work"), workspaces.getLoadedNames());
+        assertFalse(workspaces.isLoaded("duke"));
+
+        run("switch duke", workspaces);
+        assertEquals(1, workspaces.getCurrent().getTaskList().size());
+        assertEquals(List.of("duke"), workspaces.getLoadedNames());
+    }
+
+    /**
+     * Asserts that a list name that could escape the directory is rejected.
+     */
+    @Test
+    public void switchTo_pathName_exceptionThrown() {
+        WorkspaceManager workspaces = new WorkspaceManager(tempDir, new Ui(), 64L << 20, 0);
+
+        assertThrows(DukeException.class, () -> workspaces.switchTo("../duke"));
+    }
+
+    private void run(String input, WorkspaceManager workspaces) throws DukeException {
+        new Parser().parse(input).execute(workspaces, null);
+    }
+}